@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.common;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apache.fineract.accounting.closure.domain.GLClosure;
+import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
+import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant scoped index of the reference data used for every journal entry leg: product (and payment type / charge
+ * specific) to GL account mappings, financial activity accounts and the latest branch closures.
+ *
+ * Only ids are kept. The {@link GLAccount} and {@link GLClosure} entities are resolved by id, so every transaction works
+ * on its own managed instances, served from the persistence context after the first lookup.
+ */
+@Component
+public class AccountingMappingCache {
+
+    private final ProductToGLAccountMappingRepository accountMappingRepository;
+    private final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
+    private final GLAccountRepository glAccountRepository;
+    private final GLClosureRepository closureRepository;
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<TenantIndex> indexes;
+
+    public AccountingMappingCache(final ProductToGLAccountMappingRepository accountMappingRepository,
+            final FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository,
+            final GLAccountRepository glAccountRepository, final GLClosureRepository closureRepository,
+            final FineractProperties fineractProperties) {
+        this.accountMappingRepository = accountMappingRepository;
+        this.financialActivityAccountRepository = financialActivityAccountRepository;
+        this.glAccountRepository = glAccountRepository;
+        this.closureRepository = closureRepository;
+        this.fineractProperties = fineractProperties;
+        this.indexes = new TenantScopedCache<>(this::isEnabled,
+                () -> this.fineractProperties.getAccounting().getMappingCache().getTimeToLiveSeconds(), TenantIndex::new);
+    }
+
+    public GLAccount getCoreProductAccount(final Long productId, final int productType, final int financialAccountType) {
+        return resolveAccount(List.of("core", productId, productType, financialAccountType), () -> accountOf(
+                this.accountMappingRepository.findCoreProductToFinAccountMapping(productId, productType, financialAccountType)));
+    }
+
+    public GLAccount getPaymentTypeSpecificProductAccount(final Long productId, final int productType, final int financialAccountType,
+            final Long paymentTypeId) {
+        return resolveAccount(Arrays.asList("paymentType", productId, productType, financialAccountType, paymentTypeId),
+                () -> accountOf(this.accountMappingRepository.findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(
+                        productId, productType, financialAccountType, paymentTypeId)));
+    }
+
+    public GLAccount getChargeSpecificProductAccount(final Long productId, final int productType, final int financialAccountType,
+            final Long chargeId) {
+        return resolveAccount(Arrays.asList("charge", productId, productType, financialAccountType, chargeId),
+                () -> accountOf(this.accountMappingRepository.findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(productId,
+                        productType, financialAccountType, chargeId)));
+    }
+
+    public GLAccount getFinancialActivityAccount(final int financialActivityType) {
+        return resolveAccount(List.of("financialActivity", financialActivityType), () -> this.financialActivityAccountRepository
+                .findByFinancialActivityTypeWithNotFoundDetection(financialActivityType).getGlAccount());
+    }
+
+    /**
+     * Returns the account linked to a charge, the supplier is only invoked (and may throw) on a cache miss.
+     */
+    public GLAccount getChargeAccount(final Long chargeId, final Supplier<GLAccount> chargeAccountSupplier) {
+        return resolveAccount(List.of("chargeAccount", chargeId), chargeAccountSupplier);
+    }
+
+    public GLClosure getLatestClosureByBranch(final Long officeId) {
+        if (!this.indexes.isActive()) {
+            return this.closureRepository.getLatestGLClosureByBranch(officeId);
+        }
+        final Map<Long, Optional<Long>> closureIds = this.indexes.get().closureIds;
+        final Optional<Long> closureId = closureIds.get(officeId);
+        if (closureId == null) {
+            final GLClosure closure = this.closureRepository.getLatestGLClosureByBranch(officeId);
+            closureIds.put(officeId, Optional.ofNullable(closure).map(GLClosure::getId));
+            return closure;
+        }
+        return closureId.flatMap(this.closureRepository::findById).orElse(null);
+    }
+
+    public void evict() {
+        this.indexes.evict();
+    }
+
+    private GLAccount resolveAccount(final List<Object> key, final Supplier<GLAccount> loader) {
+        if (!this.indexes.isActive()) {
+            return loader.get();
+        }
+        final Map<List<Object>, Optional<Long>> accountIds = this.indexes.get().accountIds;
+        Optional<Long> accountId = accountIds.get(key);
+        if (accountId == null) {
+            final GLAccount account = loader.get();
+            accountIds.put(key, Optional.ofNullable(account).map(GLAccount::getId));
+            return account;
+        }
+        return accountId.flatMap(this.glAccountRepository::findById).orElse(null);
+    }
+
+    private boolean isEnabled() {
+        final FineractProperties.FineractAccountingProperties accounting = this.fineractProperties.getAccounting();
+        return accounting != null && accounting.getMappingCache() != null && accounting.getMappingCache().isEnabled();
+    }
+
+    private static GLAccount accountOf(final ProductToGLAccountMapping mapping) {
+        return mapping == null ? null : mapping.getGlAccount();
+    }
+
+    private static final class TenantIndex {
+
+        private final Map<List<Object>, Optional<Long>> accountIds = new ConcurrentHashMap<>();
+        private final Map<Long, Optional<Long>> closureIds = new ConcurrentHashMap<>();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.fineract.accounting.provisioning.service;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.function.Consumer;
 import org.apache.fineract.accounting.provisioning.data.LoanProductProvisioningEntryData;
 import org.apache.fineract.accounting.provisioning.data.ProvisioningEntryData;
 import org.apache.fineract.infrastructure.core.service.Page;
@@ -29,6 +30,15 @@ public interface ProvisioningEntriesReadPlatformService {
 
     Collection<LoanProductProvisioningEntryData> retrieveLoanProductsProvisioningData(LocalDate date);
 
+    /**
+     * Streams the provisioning data of the active loans with an id greater than fromLoanId and not greater than
+     * toLoanId to the consumer, one row per loan and matching criteria definition, without collecting the rows.
+     */
+    void retrieveLoanProductsProvisioningData(LocalDate date, Long fromLoanId, Long toLoanId,
+            Consumer<LoanProductProvisioningEntryData> consumer);
+
+    Long retrieveMaxActiveLoanId();
+
     ProvisioningEntryData retrieveProvisioningEntryData(Long entryId);
 
     Page<ProvisioningEntryData> retrieveAllProvisioningEntries(Integer offset, Integer limit);
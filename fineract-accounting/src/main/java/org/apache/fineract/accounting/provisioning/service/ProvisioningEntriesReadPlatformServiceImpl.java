@@ -26,6 +26,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.provisioning.data.LoanProductProvisioningEntryData;
@@ -51,10 +52,24 @@ public class ProvisioningEntriesReadPlatformServiceImpl implements ProvisioningE
 
     @Override
     public Collection<LoanProductProvisioningEntryData> retrieveLoanProductsProvisioningData(LocalDate date) {
+        final List<LoanProductProvisioningEntryData> entries = new ArrayList<>();
+        retrieveLoanProductsProvisioningData(date, 0L, Long.MAX_VALUE, entries::add);
+        return entries;
+    }
+
+    @Override
+    public void retrieveLoanProductsProvisioningData(LocalDate date, Long fromLoanId, Long toLoanId,
+            Consumer<LoanProductProvisioningEntryData> consumer) {
         String formattedDate = DateUtils.DEFAULT_DATE_FORMATTER.format(date);
         LoanProductProvisioningEntryMapper mapper = new LoanProductProvisioningEntryMapper(sqlGenerator);
         final String sql = mapper.schema();
-        return this.jdbcTemplate.query(sql, mapper, formattedDate, formattedDate, formattedDate);
+        this.jdbcTemplate.query(sql, (ResultSet rs) -> consumer.accept(mapper.mapRow(rs, rs.getRow())), formattedDate, fromLoanId,
+                toLoanId, formattedDate, formattedDate);
+    }
+
+    @Override
+    public Long retrieveMaxActiveLoanId() {
+        return this.jdbcTemplate.queryForObject("select max(id) from m_loan where loan_status_id = 300", Long.class);
     }
 
     private static final class LoanProductProvisioningEntryMapper implements RowMapper<LoanProductProvisioningEntryData> {
@@ -62,20 +77,23 @@ public class ProvisioningEntriesReadPlatformServiceImpl implements ProvisioningE
         private final StringBuilder sqlQuery;
 
         private LoanProductProvisioningEntryMapper(DatabaseSpecificSQLGenerator sqlGenerator) {
+            // the oldest unpaid installment of every loan in the id range is aggregated once in a derived table instead of
+            // a correlated subquery per schedule row
             sqlQuery = new StringBuilder().append(
                     "select (CASE WHEN loan.loan_type_enum=1 THEN mclient.office_id ELSE mgroup.office_id END) as office_id, loan.loan_type_enum, pcd.criteria_id as criteriaid, loan.product_id,loan.currency_code,")
                     .append("GREATEST(" + sqlGenerator.dateDiff("?", "sch.duedate")
                             + ", 0) as numberofdaysoverdue,sch.duedate, pcd.category_id, pcd.provision_percentage,")
-                    .append("loan.total_outstanding_derived as outstandingbalance, pcd.liability_account, pcd.expense_account from m_loan_repayment_schedule sch")
-                    .append(" LEFT JOIN m_loan loan on sch.loan_id = loan.id")
+                    .append("loan.total_outstanding_derived as outstandingbalance, pcd.liability_account, pcd.expense_account from ")
+                    .append("(select sch1.loan_id, MIN(sch1.duedate) as duedate from m_loan_repayment_schedule sch1 ")
+                    .append("where sch1.completed_derived=false and sch1.loan_id > ? and sch1.loan_id <= ? group by sch1.loan_id) sch")
+                    .append(" JOIN m_loan loan on sch.loan_id = loan.id")
                     .append(" JOIN m_loanproduct_provisioning_mapping lpm on lpm.product_id = loan.product_id")
                     .append(" JOIN m_provisioning_criteria_definition pcd on pcd.criteria_id = lpm.criteria_id and ")
                     .append("(pcd.min_age <= GREATEST(" + sqlGenerator.dateDiff("?", "sch.duedate") + ",0) and GREATEST("
                             + sqlGenerator.dateDiff("?", "sch.duedate") + ",0) <= pcd.max_age) and pcd.criteria_id is not null ")
                     .append("LEFT JOIN m_client mclient ON mclient.id = loan.client_id ")
                     .append("LEFT JOIN m_group mgroup ON mgroup.id = loan.group_id ")
-                    .append("where loan.loan_status_id=300 and sch.duedate = ")
-                    .append("(select MIN(sch1.duedate) from m_loan_repayment_schedule sch1 where sch1.loan_id=loan.id and sch1.completed_derived=false)");
+                    .append("where loan.loan_status_id=300");
         }
 
         @Override
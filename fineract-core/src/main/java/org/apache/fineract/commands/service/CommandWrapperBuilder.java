@@ -3189,6 +3189,14 @@ public class CommandWrapperBuilder {
         return this;
     }
 
+    public CommandWrapperBuilder updateHotAccount(final Long accountId) {
+        this.actionName = "UPDATEHOTACCOUNT";
+        this.entityName = "SAVINGSACCOUNT";
+        this.entityId = accountId;
+        this.href = "/savingsaccounts/" + accountId + "?command=updateHotAccount";
+        return this;
+    }
+
     public CommandWrapperBuilder createEntityDatatableChecks(final String json) {
         this.actionName = "CREATE";
         this.entityName = "ENTITY_DATATABLE_CHECK";
@@ -42,6 +42,7 @@ import org.apache.fineract.commands.provider.CommandHandlerProvider;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.PerformanceInstrumentation;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
@@ -50,6 +51,7 @@ import org.apache.fineract.infrastructure.core.exception.IdempotentCommandProces
 import org.apache.fineract.infrastructure.core.exception.IdempotentCommandProcessUnderProcessingException;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.core.serialization.ParsedJsonContextHolder;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.hooks.event.HookEvent;
@@ -76,6 +78,7 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final CommandHandlerProvider commandHandlerProvider;
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final CommandSourceService commandSourceService;
+    private final PerformanceInstrumentation performanceInstrumentation;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -124,10 +127,12 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         setIdempotencyKeyStoreFlag(true);
 
         final CommandProcessingResult result;
+        final PerformanceInstrumentation.Sample sample = performanceInstrumentation.start();
         try {
-            result = commandSourceService.processCommand(findCommandHandler(wrapper), command, commandSource, user, isApprovedByChecker,
-                    isMakerChecker);
+            result = processCommandWithParsedJson(wrapper, command, commandSource, user, isApprovedByChecker, isMakerChecker);
+            stopCommandSample(sample, wrapper, "success");
         } catch (Throwable t) { // NOSONAR
+            stopCommandSample(sample, wrapper, "failure");
             RuntimeException mappable = ErrorHandler.getMappable(t);
             ErrorInfo errorInfo = commandSourceService.generateErrorInfo(mappable);
             Integer statusCode = errorInfo.getStatusCode();
@@ -158,6 +163,23 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         return result;
     }
 
+    private CommandProcessingResult processCommandWithParsedJson(CommandWrapper wrapper, JsonCommand command, CommandSource commandSource,
+            AppUser user, boolean isApprovedByChecker, boolean isMakerChecker) {
+        // validators and handlers re-parse command.json(); let them share the tree parsed when the command was created
+        final ParsedJsonContextHolder.ParsedJson previousParsedJson = ParsedJsonContextHolder.bind(command.json(), command.parsedJson());
+        try {
+            return commandSourceService.processCommand(findCommandHandler(wrapper), command, commandSource, user, isApprovedByChecker,
+                    isMakerChecker);
+        } finally {
+            ParsedJsonContextHolder.restore(previousParsedJson);
+        }
+    }
+
+    private void stopCommandSample(PerformanceInstrumentation.Sample sample, CommandWrapper wrapper, String outcome) {
+        performanceInstrumentation.stop(sample, "fineract.command", "command " + wrapper.entityName() + " " + wrapper.actionName(),
+                "entity", String.valueOf(wrapper.entityName()), "action", String.valueOf(wrapper.actionName()), "outcome", outcome);
+    }
+
     private void storeCommandIdInContext(CommandSource savedCommandSource) {
         if (savedCommandSource.getId() == null) {
             throw new IllegalStateException("Command source not saved");
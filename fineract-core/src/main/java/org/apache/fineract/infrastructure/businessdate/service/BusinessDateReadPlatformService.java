@@ -31,4 +31,12 @@ public interface BusinessDateReadPlatformService {
     BusinessDateData findByType(String type);
 
     HashMap<BusinessDateType, LocalDate> getBusinessDates();
+
+    /**
+     * Same as {@link #getBusinessDates()}, but served from a per-tenant in-memory snapshot when the request context
+     * cache is enabled. Meant for request bootstrapping, where the business dates are read on every API call.
+     */
+    HashMap<BusinessDateType, LocalDate> getBusinessDatesSnapshot();
+
+    void evictBusinessDatesSnapshot();
 }
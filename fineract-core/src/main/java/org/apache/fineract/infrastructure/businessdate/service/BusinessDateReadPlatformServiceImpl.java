@@ -19,10 +19,11 @@
 package org.apache.fineract.infrastructure.businessdate.service;
 
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.businessdate.data.BusinessDateData;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDate;
@@ -30,18 +31,31 @@ import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateReposi
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.businessdate.exception.BusinessDateNotFoundException;
 import org.apache.fineract.infrastructure.businessdate.mapper.BusinessDateMapper;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class BusinessDateReadPlatformServiceImpl implements BusinessDateReadPlatformService {
 
     private final BusinessDateRepository repository;
     private final BusinessDateMapper mapper;
     private final ConfigurationDomainService configurationDomainService;
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<BusinessDatesSnapshot> snapshots;
+
+    public BusinessDateReadPlatformServiceImpl(final BusinessDateRepository repository, final BusinessDateMapper mapper,
+            final ConfigurationDomainService configurationDomainService, final FineractProperties fineractProperties) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.configurationDomainService = configurationDomainService;
+        this.fineractProperties = fineractProperties;
+        this.snapshots = new TenantScopedCache<>(this::isSnapshotEnabled,
+                () -> this.fineractProperties.getRequestContextCache().getTimeToLiveSeconds(), BusinessDatesSnapshot::new);
+    }
 
     @Override
     public List<BusinessDateData> findAll() {
@@ -80,4 +94,49 @@ public class BusinessDateReadPlatformServiceImpl implements BusinessDateReadPlat
         }
         return businessDateMap;
     }
+
+    @Override
+    public HashMap<BusinessDateType, LocalDate> getBusinessDatesSnapshot() {
+        if (!snapshots.isActive()) {
+            return getBusinessDates();
+        }
+        BusinessDatesSnapshot snapshot = snapshots.get();
+        Map<BusinessDateType, LocalDate> storedDates = snapshot.storedDates;
+        if (storedDates == null) {
+            storedDates = loadStoredDates();
+            snapshot.storedDates = storedDates;
+        }
+
+        HashMap<BusinessDateType, LocalDate> businessDateMap = new HashMap<>();
+        LocalDate tenantDate = DateUtils.getLocalDateOfTenant();
+        businessDateMap.put(BusinessDateType.BUSINESS_DATE, tenantDate);
+        businessDateMap.put(BusinessDateType.COB_DATE, tenantDate);
+        businessDateMap.putAll(storedDates);
+        return businessDateMap;
+    }
+
+    @Override
+    public void evictBusinessDatesSnapshot() {
+        snapshots.evict();
+    }
+
+    private boolean isSnapshotEnabled() {
+        FineractProperties.FineractRequestContextCacheProperties cacheProperties = fineractProperties.getRequestContextCache();
+        return cacheProperties != null && cacheProperties.isEnabled();
+    }
+
+    private Map<BusinessDateType, LocalDate> loadStoredDates() {
+        Map<BusinessDateType, LocalDate> storedDates = new EnumMap<>(BusinessDateType.class);
+        if (configurationDomainService.isBusinessDateEnabled()) {
+            for (BusinessDateData businessDateData : findAll()) {
+                storedDates.put(BusinessDateType.valueOf(businessDateData.getType()), businessDateData.getDate());
+            }
+        }
+        return storedDates;
+    }
+
+    private static final class BusinessDatesSnapshot {
+
+        private volatile Map<BusinessDateType, LocalDate> storedDates;
+    }
 }
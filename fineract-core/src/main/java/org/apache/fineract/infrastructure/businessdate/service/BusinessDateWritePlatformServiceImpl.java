@@ -53,6 +53,7 @@ public class BusinessDateWritePlatformServiceImpl implements BusinessDateWritePl
     private final BusinessDateDataParserAndValidator dataValidator;
     private final BusinessDateRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final BusinessDateReadPlatformService businessDateReadPlatformService;
 
     @Override
     public CommandProcessingResult updateBusinessDate(@NotNull final JsonCommand command) {
@@ -76,6 +77,9 @@ public class BusinessDateWritePlatformServiceImpl implements BusinessDateWritePl
         if (isCOBDateAdjustmentEnabled && BusinessDateType.BUSINESS_DATE.name().equals(data.getType())) {
             updateOrCreateBusinessDate(BusinessDateType.COB_DATE.getName(), data.getDate().minus(1, ChronoUnit.DAYS), changes);
         }
+        if (!changes.isEmpty()) {
+            businessDateReadPlatformService.evictBusinessDatesSnapshot();
+        }
     }
 
     @Override
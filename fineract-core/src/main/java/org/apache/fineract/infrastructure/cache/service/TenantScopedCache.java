@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory cache of one value per tenant, typically an index of reference data which is read on hot paths and
+ * changed rarely.
+ *
+ * The owner evicts the current tenant's value from the write services of the cached data. The eviction is repeated
+ * after the transaction completes, because the value could be reloaded with the old data before the transaction
+ * commits. There is no cross-node invalidation, so values also expire after the time to live (a time to live of 0
+ * disables reuse). Caches built on this class must therefore be opt-in and must only hand out immutable data.
+ *
+ * @param <T>
+ *            the type of the per tenant value
+ */
+public final class TenantScopedCache<T> {
+
+    private final BooleanSupplier enabled;
+    private final LongSupplier timeToLiveSeconds;
+    private final Supplier<T> factory;
+    private final LongSupplier clock;
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    public TenantScopedCache(BooleanSupplier enabled, LongSupplier timeToLiveSeconds, Supplier<T> factory) {
+        this(enabled, timeToLiveSeconds, factory, System::currentTimeMillis);
+    }
+
+    public TenantScopedCache(BooleanSupplier enabled, LongSupplier timeToLiveSeconds, Supplier<T> factory, LongSupplier clock) {
+        this.enabled = enabled;
+        this.timeToLiveSeconds = timeToLiveSeconds;
+        this.factory = factory;
+        this.clock = clock;
+    }
+
+    /**
+     * True if the cache is switched on and a tenant is bound to the current thread.
+     */
+    public boolean isActive() {
+        return isEnabled() && ThreadLocalContextUtil.getTenant() != null;
+    }
+
+    public boolean isEnabled() {
+        return enabled.getAsBoolean();
+    }
+
+    /**
+     * Returns the value of the current tenant, a new value is created when there is none or it expired.
+     */
+    public T get() {
+        return get(ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+    }
+
+    /**
+     * Returns the value of the given tenant, a new value is created when there is none or it expired.
+     */
+    public T get(String tenantIdentifier) {
+        final long now = clock.getAsLong();
+        final long ttlMillis = timeToLiveSeconds.getAsLong() * 1000L;
+        return entries.compute(tenantIdentifier,
+                (tenant, entry) -> entry == null || now - entry.createdAt() >= ttlMillis ? new Entry<>(factory.get(), now) : entry)
+                .value();
+    }
+
+    /**
+     * Drops the value of the current tenant, now and once more after the transaction completes.
+     */
+    public void evict() {
+        evictCurrentTenant(entries::remove);
+    }
+
+    /**
+     * Applies a partial eviction to the value of the current tenant, now and once more after the transaction completes.
+     */
+    public void evict(Consumer<T> eviction) {
+        evictCurrentTenant(tenantIdentifier -> {
+            final Entry<T> entry = entries.get(tenantIdentifier);
+            if (entry != null) {
+                eviction.accept(entry.value());
+            }
+        });
+    }
+
+    /**
+     * Drops the value of the given tenant.
+     */
+    public void evict(String tenantIdentifier) {
+        entries.remove(tenantIdentifier);
+    }
+
+    private void evictCurrentTenant(Consumer<String> eviction) {
+        if (ThreadLocalContextUtil.getTenant() == null) {
+            return;
+        }
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        eviction.accept(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private record Entry<T>(T value, long createdAt) {
+    }
+}
@@ -78,6 +78,22 @@ public class FineractProperties {
 
     private FineractSqlValidationProperties sqlValidation;
 
+    private FineractRequestContextCacheProperties requestContextCache;
+
+    private FineractAccountingProperties accounting;
+
+    private FineractDatatableProperties datatable;
+
+    private FineractSearchProperties search;
+
+    private FineractHolidayProperties holiday;
+
+    private FineractSmsCampaignProperties smsCampaign;
+
+    private FineractCampaignProperties campaign;
+
+    private FineractInstrumentationProperties instrumentation;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -102,6 +118,18 @@ public class FineractProperties {
         private String readOnlyName;
 
         private FineractConfigProperties config;
+        private FineractTenantUpgradeProperties upgrade;
+    }
+
+    /**
+     * Configuration properties of the tenant schema upgrades performed at startup
+     */
+    @Getter
+    @Setter
+    public static class FineractTenantUpgradeProperties {
+
+        private int parallelism = 1;
+        private boolean skipIfCurrent;
     }
 
     /**
@@ -340,6 +368,7 @@ public class FineractProperties {
         private List<String> mimeWhitelist;
         private FineractContentFilesystemProperties filesystem;
         private FineractContentS3Properties s3;
+        private FineractContentImageRenditionCacheProperties imageRenditionCache;
     }
 
     @Getter
@@ -360,6 +389,15 @@ public class FineractProperties {
         private String secretKey;
     }
 
+    @Getter
+    @Setter
+    public static class FineractContentImageRenditionCacheProperties {
+
+        private boolean enabled;
+        private String directory;
+        private int maxAgeHours;
+    }
+
     @Getter
     @Setter
     public static class FineractReportProperties {
@@ -403,6 +441,17 @@ public class FineractProperties {
     public static class FineractJpaProperties {
 
         private boolean statementLoggingEnabled;
+        private FineractJpaSharedCacheProperties sharedCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractJpaSharedCacheProperties {
+
+        private boolean enabled;
+        private List<String> entities;
+        private long expiryMillis;
+        private long invalidationPollMillis;
     }
 
     @Getter
@@ -445,6 +494,7 @@ public class FineractProperties {
     public static class UserNotificationSystemProperties {
 
         private boolean enabled;
+        private int unreadCacheTimeToLiveSeconds;
     }
 
     @Getter
@@ -490,6 +540,15 @@ public class FineractProperties {
     public static class FineractSecurityBasicAuth {
 
         private boolean enabled;
+        private FineractSecurityBasicAuthCredentialCache credentialCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSecurityBasicAuthCredentialCache {
+
+        private boolean enabled;
+        private int timeToLiveSeconds;
     }
 
     @Getter
@@ -523,6 +582,15 @@ public class FineractProperties {
         private int resetPeriodSec;
     }
 
+    @Getter
+    @Setter
+    public static class FineractInstrumentationProperties {
+
+        private boolean enabled;
+        private long slowThresholdMillis;
+        private boolean responseHeaderEnabled;
+    }
+
     @Getter
     @Setter
     public static class FineractModulesProperties {
@@ -569,4 +637,104 @@ public class FineractProperties {
         private String name;
         private String pattern;
     }
+
+    @Getter
+    @Setter
+    public static class FineractRequestContextCacheProperties {
+
+        private boolean enabled;
+        private int timeToLiveSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingProperties {
+
+        private FineractAccountingMappingCacheProperties mappingCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingMappingCacheProperties {
+
+        private boolean enabled;
+        private int timeToLiveSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractDatatableProperties {
+
+        private FineractDatatableSchemaCacheProperties schemaCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractDatatableSchemaCacheProperties {
+
+        private boolean enabled;
+        private int timeToLiveSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private FineractSearchIndexProperties index;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchIndexProperties {
+
+        private boolean enabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHolidayProperties {
+
+        private FineractHolidayCalendarCacheProperties calendarCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHolidayCalendarCacheProperties {
+
+        private boolean enabled;
+        private int timeToLiveSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSmsCampaignProperties {
+
+        private FineractSmsCampaignTriggerCacheProperties triggerCache;
+        private boolean asyncTriggeredMessages;
+        private FineractSmsCampaignGatewayProperties gateway;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSmsCampaignTriggerCacheProperties {
+
+        private boolean enabled;
+        private int timeToLiveSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSmsCampaignGatewayProperties {
+
+        private int batchSize;
+        private int maxMessagesPerSecond;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCampaignProperties {
+
+        private int scheduledChunkSize;
+        private int scheduledFetchSize;
+    }
 }
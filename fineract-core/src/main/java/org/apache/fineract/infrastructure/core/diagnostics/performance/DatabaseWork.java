@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Counts the SQL statements executed by the current thread and the time spent executing them.
+ *
+ * The counters only grow, a unit of work takes a {@link #current()} snapshot when it starts and subtracts it from the
+ * snapshot taken when it ends, so nested units of work (a command inside a request, a business step inside a job step)
+ * need no bookkeeping of their own.
+ */
+public final class DatabaseWork {
+
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate",
+            "executeBatch", "executeLargeBatch");
+
+    private DatabaseWork() {}
+
+    public static Snapshot current() {
+        Counters counters = COUNTERS.get();
+        return new Snapshot(counters.statementCount, counters.nanos);
+    }
+
+    /**
+     * Returns a connection counting the statements executed through it on the thread executing them.
+     */
+    public static Connection instrument(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(DatabaseWork.class.getClassLoader(), new Class<?>[] { Connection.class },
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class && !"toString".equals(method.getName());
+    }
+
+    private static Object invokeIdentityMethod(Object proxy, Method method, Object[] args) {
+        return "equals".equals(method.getName()) ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    public record Snapshot(long statementCount, long nanos) {
+
+        public Snapshot since(Snapshot start) {
+            return new Snapshot(statementCount - start.statementCount, nanos - start.nanos);
+        }
+    }
+
+    private static final class Counters {
+
+        private long statementCount;
+        private long nanos;
+    }
+
+    private record ConnectionHandler(Connection connection) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return invokeIdentityMethod(proxy, method, args);
+            }
+            Object result = DatabaseWork.invoke(connection, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // createStatement, prepareStatement and prepareCall declare the exact statement interface to proxy
+                return Proxy.newProxyInstance(DatabaseWork.class.getClassLoader(), new Class<?>[] { method.getReturnType() },
+                        new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return invokeIdentityMethod(proxy, method, args);
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return DatabaseWork.invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return DatabaseWork.invoke(statement, method, args);
+            } finally {
+                Counters counters = COUNTERS.get();
+                counters.statementCount++;
+                counters.nanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
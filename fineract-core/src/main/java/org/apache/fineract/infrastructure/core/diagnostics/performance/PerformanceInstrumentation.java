@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the duration and the database work of commands, business steps, job steps and API requests.
+ *
+ * Every unit of work is published as a timer named after it, a <code>.sql.statements</code> summary with the number of
+ * SQL statements executed and a <code>.sql</code> timer with the time spent executing them. Units of work slower than
+ * <code>fineract.instrumentation.slow-threshold-millis</code> are logged along with their database work. Nothing is
+ * recorded unless <code>fineract.instrumentation.enabled</code> is set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PerformanceInstrumentation {
+
+    public static final String SQL_STATEMENTS_HEADER = "Fineract-Sql-Statements";
+
+    private final FineractProperties fineractProperties;
+    private final MeterRegistry meterRegistry;
+
+    public boolean isEnabled() {
+        return fineractProperties.getInstrumentation() != null && fineractProperties.getInstrumentation().isEnabled();
+    }
+
+    /**
+     * Whether API responses carry the number of SQL statements executed for them in a
+     * <code>{@value #SQL_STATEMENTS_HEADER}</code> header, used by the query budgets of the integration tests.
+     */
+    public boolean isResponseHeaderEnabled() {
+        return isEnabled() && fineractProperties.getInstrumentation().isResponseHeaderEnabled();
+    }
+
+    /**
+     * Starts measuring a unit of work on the current thread, returns <code>null</code> when instrumentation is off.
+     */
+    public Sample start() {
+        return isEnabled() ? new Sample(System.nanoTime(), DatabaseWork.current()) : null;
+    }
+
+    /**
+     * Records the unit of work started with the given sample, <code>tags</code> are key value pairs.
+     */
+    public void stop(Sample sample, String name, String description, String... tags) {
+        if (sample == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - sample.startNanos();
+        DatabaseWork.Snapshot work = DatabaseWork.current().since(sample.work());
+        Tags meterTags = Tags.of(tags);
+        Timer.builder(name).tags(meterTags).register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder(name + ".sql.statements").tags(meterTags).register(meterRegistry).record(work.statementCount());
+        Timer.builder(name + ".sql").tags(meterTags).register(meterRegistry).record(work.nanos(), TimeUnit.NANOSECONDS);
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        if (millis >= fineractProperties.getInstrumentation().getSlowThresholdMillis()) {
+            log.warn("Slow {} took {} ms, executed {} SQL statements in {} ms", description, millis, work.statementCount(),
+                    TimeUnit.NANOSECONDS.toMillis(work.nanos()));
+        }
+    }
+
+    /**
+     * Returns the number of SQL statements the current thread executed since the given sample was started.
+     */
+    public long statementCountSince(Sample sample) {
+        return DatabaseWork.current().since(sample.work()).statementCount();
+    }
+
+    public record Sample(long startNanos, DatabaseWork.Snapshot work) {}
+}
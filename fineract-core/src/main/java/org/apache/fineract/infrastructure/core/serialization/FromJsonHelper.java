@@ -86,18 +86,12 @@ public class FromJsonHelper {
             throw new InvalidJsonException();
         }
 
-        final Map<String, Object> requestMap = this.gsonConverter.fromJson(json, typeOfMap);
-
-        final List<String> unsupportedParameterList = new ArrayList<>();
-        for (final String providedParameter : requestMap.keySet()) {
-            if (!supportedParams.contains(providedParameter)) {
-                unsupportedParameterList.add(providedParameter);
-            }
-        }
-
-        if (!unsupportedParameterList.isEmpty()) {
-            throw new UnsupportedParameterException(unsupportedParameterList);
+        // walk the top level keys of the (possibly already parsed) tree instead of binding the body to a map
+        final JsonElement element = parse(json);
+        if (element == null || !element.isJsonObject()) {
+            throw new InvalidJsonException();
         }
+        checkForUnsupportedParameters(element.getAsJsonObject(), supportedParams);
     }
 
     public void checkForUnsupportedParameters(final JsonObject object, final Collection<String> supportedParams) {
@@ -146,11 +140,12 @@ public class FromJsonHelper {
 
     public JsonElement parse(final String json) {
 
-        JsonElement parsedElement = null;
-        if (StringUtils.isNotBlank(json)) {
-            parsedElement = JsonParser.parseString(json);
+        final JsonElement boundElement = ParsedJsonContextHolder.lookup(json);
+        if (boundElement != null) {
+            // callers may modify the returned tree, e.g. when adapting a command, so the bound tree is never handed out
+            return boundElement.deepCopy();
         }
-        return parsedElement;
+        return StringUtils.isNotBlank(json) ? JsonParser.parseString(json) : null;
     }
 
     public boolean parameterExists(final String parameterName, final JsonElement element) {
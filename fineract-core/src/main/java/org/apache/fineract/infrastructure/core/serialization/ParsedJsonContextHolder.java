@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.serialization;
+
+import com.google.gson.JsonElement;
+import org.springframework.core.NamedThreadLocal;
+
+/**
+ * Holds the already parsed body of the command being processed on the current thread, so validators and handlers calling
+ * {@link FromJsonHelper#parse(String)} with the command JSON get a copy of the tree instead of parsing the same request
+ * again.
+ */
+public final class ParsedJsonContextHolder {
+
+    private ParsedJsonContextHolder() {}
+
+    private static final ThreadLocal<ParsedJson> parsedJson = new NamedThreadLocal<>("parsedJson");
+
+    /**
+     * Binds the parsed tree of the given JSON to the current thread.
+     *
+     * @param json
+     *            the raw command JSON, matched by identity on lookup
+     * @param element
+     *            the parsed tree of the JSON
+     * @return the previous binding, to be passed to {@link #restore(ParsedJson)} once the command finished
+     */
+    public static ParsedJson bind(String json, JsonElement element) {
+        ParsedJson previous = parsedJson.get();
+        if (json == null || element == null) {
+            parsedJson.remove();
+        } else {
+            parsedJson.set(new ParsedJson(json, element));
+        }
+        return previous;
+    }
+
+    /**
+     * Restores the binding that was active before {@link #bind(String, JsonElement)}.
+     *
+     * @param previous
+     *            the binding returned by {@link #bind(String, JsonElement)}, can be null
+     */
+    public static void restore(ParsedJson previous) {
+        if (previous == null) {
+            parsedJson.remove();
+        } else {
+            parsedJson.set(previous);
+        }
+    }
+
+    /**
+     * Returns the bound tree if the given JSON is the very same string instance that was bound. The tree is shared and must
+     * not be modified.
+     *
+     * @return the parsed tree, can be null
+     */
+    public static JsonElement lookup(String json) {
+        ParsedJson current = parsedJson.get();
+        return current != null && current.json() == json ? current.element() : null;
+    }
+
+    public record ParsedJson(String json, JsonElement element) {
+    }
+}
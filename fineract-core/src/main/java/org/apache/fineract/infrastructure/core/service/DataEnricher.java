@@ -18,9 +18,19 @@
  */
 package org.apache.fineract.infrastructure.core.service;
 
+import java.util.List;
+
 public interface DataEnricher<T> {
 
     boolean isDataTypeSupported(Class<T> dataType);
 
     void enrich(T data);
+
+    /**
+     * Enriches several objects of the supported type at once. Enrichers that can load what they need for the whole
+     * batch with one query should override it, by default every object is enriched on its own.
+     */
+    default void enrichAll(List<T> data) {
+        data.forEach(this::enrich);
+    }
 }
@@ -42,4 +42,22 @@ public class DataEnricherProcessor {
         }
         return source;
     }
+
+    /**
+     * Enriches the given objects, every enricher is called once with all of the objects it supports.
+     */
+    public <T> List<T> enrichAll(List<T> sources) {
+        for (DataEnricher enhancer : enhancers) {
+            List<Object> supported = new ArrayList<>();
+            for (T source : sources) {
+                if (enhancer.isDataTypeSupported(source.getClass())) {
+                    supported.add(source);
+                }
+            }
+            if (!supported.isEmpty()) {
+                enhancer.enrichAll(supported);
+            }
+        }
+        return sources;
+    }
 }
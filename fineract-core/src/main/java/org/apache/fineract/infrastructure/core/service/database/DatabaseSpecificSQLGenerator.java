@@ -180,6 +180,20 @@ public class DatabaseSpecificSQLGenerator {
         }
     }
 
+    /**
+     * Clause locking the selected rows in share mode: share locks of concurrent transactions do not wait for each other,
+     * only for an exclusive lock of the same rows.
+     */
+    public String forShare() {
+        if (databaseTypeResolver.isMySQL()) {
+            return "LOCK IN SHARE MODE";
+        } else if (databaseTypeResolver.isPostgreSQL()) {
+            return "FOR SHARE";
+        } else {
+            throw new IllegalStateException("Database type is not supported for share locks " + databaseTypeResolver.databaseType());
+        }
+    }
+
     public String currentSchema() {
         if (databaseTypeResolver.isMySQL()) {
             return "SCHEMA()";
@@ -21,6 +21,8 @@ package org.apache.fineract.infrastructure.core.service.database;
 import java.sql.Connection;
 import java.sql.SQLException;
 import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.DatabaseWork;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.AbstractDataSource;
@@ -42,10 +44,12 @@ public class RoutingDataSource extends AbstractDataSource {
 
     @Autowired
     private RoutingDataSourceServiceFactory dataSourceServiceFactory;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Override
     public Connection getConnection() throws SQLException {
-        return determineTargetDataSource().getConnection();
+        return instrument(determineTargetDataSource().getConnection());
     }
 
     public DataSource determineTargetDataSource() {
@@ -54,6 +58,13 @@ public class RoutingDataSource extends AbstractDataSource {
 
     @Override
     public Connection getConnection(final String username, final String password) throws SQLException {
-        return determineTargetDataSource().getConnection(username, password);
+        return instrument(determineTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection instrument(Connection connection) {
+        if (fineractProperties.getInstrumentation() != null && fineractProperties.getInstrumentation().isEnabled()) {
+            return DatabaseWork.instrument(connection);
+        }
+        return connection;
     }
 }
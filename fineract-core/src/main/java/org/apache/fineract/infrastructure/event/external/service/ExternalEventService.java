@@ -22,7 +22,6 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +37,7 @@ import org.apache.fineract.infrastructure.event.external.service.idempotency.Ext
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSnapshotCache;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -54,6 +54,7 @@ public class ExternalEventService {
     private final ByteBufferConverter byteBufferConverter;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
+    private final BusinessEventSnapshotCache snapshotCache;
 
     private EntityManager entityManager;
 
@@ -80,13 +81,12 @@ public class ExternalEventService {
     }
 
     private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
-        List<BulkMessageItemV1> messages = new ArrayList<>();
-        List<BusinessEvent<?>> events = bulkBusinessEvent.get();
-        for (int i = 0; i < events.size(); i++) {
-            BusinessEvent<?> event = events.get(i);
-            int id = i + 1;
-            BulkMessageItemV1 message = bulkMessageItemFactory.createBulkMessageItem(id, event);
-            messages.add(message);
+        List<BulkMessageItemV1> messages;
+        snapshotCache.open();
+        try {
+            messages = bulkMessageItemFactory.createBulkMessageItems(bulkBusinessEvent.get());
+        } finally {
+            snapshotCache.close();
         }
         String idempotencyKey = idempotencyKeyGenerator.generate(bulkBusinessEvent);
         BulkMessagePayloadV1 avroDto = new BulkMessagePayloadV1(messages);
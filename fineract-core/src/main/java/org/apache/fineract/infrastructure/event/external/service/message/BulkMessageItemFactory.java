@@ -20,6 +20,8 @@ package org.apache.fineract.infrastructure.event.external.service.message;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.avro.generator.ByteBufferSerializable;
@@ -41,6 +43,31 @@ public class BulkMessageItemFactory {
     public BulkMessageItemV1 createBulkMessageItem(int id, BusinessEvent<?> event) throws IOException {
         BusinessEventSerializer eventSerializer = serializerFactory.create(event);
         ByteBufferSerializable avroDto = dataEnricherProcessor.enrich(eventSerializer.toAvroDTO(event));
+        return createBulkMessageItem(id, event, eventSerializer, avroDto);
+    }
+
+    /**
+     * Creates the items of a bulk message, the serialized events are enriched together so enrichers can look up their
+     * data for all items at once.
+     */
+    public List<BulkMessageItemV1> createBulkMessageItems(List<BusinessEvent<?>> events) throws IOException {
+        List<BusinessEventSerializer> eventSerializers = new ArrayList<>(events.size());
+        List<ByteBufferSerializable> avroDtos = new ArrayList<>(events.size());
+        for (BusinessEvent<?> event : events) {
+            BusinessEventSerializer eventSerializer = serializerFactory.create(event);
+            eventSerializers.add(eventSerializer);
+            avroDtos.add(eventSerializer.toAvroDTO(event));
+        }
+        dataEnricherProcessor.enrichAll(avroDtos);
+        List<BulkMessageItemV1> messages = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            messages.add(createBulkMessageItem(i + 1, events.get(i), eventSerializers.get(i), avroDtos.get(i)));
+        }
+        return messages;
+    }
+
+    private BulkMessageItemV1 createBulkMessageItem(int id, BusinessEvent<?> event, BusinessEventSerializer eventSerializer,
+            ByteBufferSerializable avroDto) throws IOException {
         ByteBuffer buffer = avroDto.toByteBuffer();
         byte[] serializedContent = byteBufferConverter.convert(buffer);
         String type = event.getType();
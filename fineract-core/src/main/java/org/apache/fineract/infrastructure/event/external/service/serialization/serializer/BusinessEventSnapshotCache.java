@@ -0,0 +1,53 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.serialization.serializer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Memoizes the snapshots serializers build of an aggregate while the events of one bulk message are serialized.
+ *
+ * The items of a bulk message are serialized right after a single flush and nothing is written in between, so every
+ * event of the same aggregate sees the same state. Outside of such a scope every lookup goes to the loader.
+ */
+@Component
+public class BusinessEventSnapshotCache {
+
+    private final ThreadLocal<Map<Object, Object>> snapshots = new ThreadLocal<>();
+
+    public void open() {
+        snapshots.set(new HashMap<>());
+    }
+
+    public void close() {
+        snapshots.remove();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Supplier<T> loader) {
+        final Map<Object, Object> currentSnapshots = snapshots.get();
+        if (currentSnapshots == null) {
+            return loader.get();
+        }
+        return (T) currentSnapshots.computeIfAbsent(key, k -> loader.get());
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+
+/**
+ * Immutable holiday and working day calendar of an office: the active holidays sorted by their start date and the days
+ * of the week the working days rule allows.
+ *
+ * The working days recurrence rule is evaluated once per day of the week instead of once per checked date, and
+ * holidays are looked up with a binary search. Answers are the same as the ones of {@link HolidayUtil} and
+ * {@link WorkingDaysUtil} for the same holidays and working days.
+ */
+public final class HolidayCalendar {
+
+    private static final LocalDate FIRST_MONDAY = LocalDate.of(2024, 1, 1);
+
+    private final List<Holiday> holidays;
+    private final LocalDate[] latestToDates;
+    private final WorkingDays workingDays;
+    private final Set<DayOfWeek> workingDaysOfWeek;
+
+    public HolidayCalendar(final List<Holiday> holidays, final WorkingDays workingDays) {
+        this(holidays, workingDays, resolveWorkingDaysOfWeek(workingDays));
+    }
+
+    private HolidayCalendar(final List<Holiday> holidays, final WorkingDays workingDays, final Set<DayOfWeek> workingDaysOfWeek) {
+        final List<Holiday> sortedHolidays = new ArrayList<>(holidays);
+        sortedHolidays.sort(Comparator.comparing(Holiday::getFromDate));
+        this.holidays = Collections.unmodifiableList(sortedHolidays);
+        this.latestToDates = new LocalDate[sortedHolidays.size()];
+        LocalDate latestToDate = null;
+        for (int i = 0; i < sortedHolidays.size(); i++) {
+            final LocalDate toDate = sortedHolidays.get(i).getToDate();
+            latestToDate = latestToDate == null || DateUtils.isAfter(toDate, latestToDate) ? toDate : latestToDate;
+            this.latestToDates[i] = latestToDate;
+        }
+        this.workingDays = workingDays;
+        this.workingDaysOfWeek = workingDaysOfWeek;
+    }
+
+    /**
+     * Returns the calendar restricted to the holidays which start or end on or after the given date, the same holidays
+     * the office holiday lookup of the repository returns for that date.
+     */
+    public HolidayCalendar from(final LocalDate date) {
+        final List<Holiday> holidaysFrom = this.holidays.stream()
+                .filter(holiday -> !DateUtils.isBefore(holiday.getFromDate(), date) || !DateUtils.isBefore(holiday.getToDate(), date))
+                .toList();
+        if (holidaysFrom.size() == this.holidays.size()) {
+            return this;
+        }
+        return new HolidayCalendar(holidaysFrom, this.workingDays, this.workingDaysOfWeek);
+    }
+
+    /**
+     * Returns a calendar with the same working days and the given holidays.
+     */
+    public HolidayCalendar withHolidays(final List<Holiday> holidays) {
+        return new HolidayCalendar(holidays, this.workingDays, this.workingDaysOfWeek);
+    }
+
+    public List<Holiday> getHolidays() {
+        return this.holidays;
+    }
+
+    public WorkingDays getWorkingDays() {
+        return this.workingDays;
+    }
+
+    public boolean isHoliday(final LocalDate date) {
+        return getApplicableHoliday(date) != null;
+    }
+
+    /**
+     * Returns a holiday covering the given date or null, among overlapping holidays the one starting last.
+     */
+    public Holiday getApplicableHoliday(final LocalDate date) {
+        int low = 0;
+        int high = this.holidays.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (DateUtils.isAfter(this.holidays.get(middle).getFromDate(), date)) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        for (int i = high; i >= 0 && !DateUtils.isBefore(this.latestToDates[i], date); i--) {
+            final Holiday holiday = this.holidays.get(i);
+            if (HolidayUtil.isHoliday(date, holiday)) {
+                return holiday;
+            }
+        }
+        return null;
+    }
+
+    public boolean isWorkingDay(final LocalDate date) {
+        if (this.workingDaysOfWeek == null) {
+            return WorkingDaysUtil.isWorkingDay(this.workingDays, date);
+        }
+        return this.workingDaysOfWeek.contains(date.getDayOfWeek());
+    }
+
+    public boolean isNonWorkingDay(final LocalDate date) {
+        return !isWorkingDay(date);
+    }
+
+    /**
+     * Returns the given date if it is a working day and not a holiday, otherwise the next date which is. The date is
+     * returned unchanged if the working days rule has no working day at all.
+     */
+    public LocalDate getNextWorkingDay(final LocalDate date) {
+        if (this.workingDaysOfWeek != null && this.workingDaysOfWeek.isEmpty()) {
+            return date;
+        }
+        LocalDate nextWorkingDay = date;
+        while (true) {
+            final Holiday holiday = getApplicableHoliday(nextWorkingDay);
+            if (holiday != null) {
+                nextWorkingDay = holiday.getToDate().plusDays(1);
+            } else if (isNonWorkingDay(nextWorkingDay)) {
+                nextWorkingDay = nextWorkingDay.plusDays(1);
+            } else {
+                return nextWorkingDay;
+            }
+        }
+    }
+
+    /**
+     * Same as {@link WorkingDaysUtil#getOffSetDateIfNonWorkingDay(LocalDate, LocalDate, WorkingDays)}.
+     */
+    public LocalDate getOffSetDateIfNonWorkingDay(final LocalDate date, final LocalDate nextMeetingDate) {
+        if (this.workingDaysOfWeek == null || this.workingDaysOfWeek.isEmpty() || isWorkingDay(date)) {
+            return WorkingDaysUtil.getOffSetDateIfNonWorkingDay(date, nextMeetingDate, this.workingDays);
+        }
+        final RepaymentRescheduleType rescheduleType = WorkingDaysUtil.getRepaymentRescheduleType(this.workingDays);
+        LocalDate offSetDate = date;
+        switch (rescheduleType) {
+            case MOVE_TO_NEXT_WORKING_DAY:
+                while (isNonWorkingDay(offSetDate)) {
+                    offSetDate = offSetDate.plusDays(1);
+                }
+                return offSetDate;
+            case MOVE_TO_NEXT_REPAYMENT_MEETING_DAY:
+                return nextMeetingDate;
+            case MOVE_TO_PREVIOUS_WORKING_DAY:
+                while (isNonWorkingDay(offSetDate)) {
+                    offSetDate = offSetDate.minusDays(1);
+                }
+                return offSetDate;
+            default:
+                return date;
+        }
+    }
+
+    private static Set<DayOfWeek> resolveWorkingDaysOfWeek(final WorkingDays workingDays) {
+        if (workingDays == null) {
+            return null;
+        }
+        // the working days rule is a weekly recurrence, whether a date matches only depends on its day of the week
+        final Set<DayOfWeek> daysOfWeek = EnumSet.noneOf(DayOfWeek.class);
+        for (int i = 0; i < 7; i++) {
+            final LocalDate date = FIRST_MONDAY.plusDays(i);
+            if (WorkingDaysUtil.isWorkingDay(workingDays, date)) {
+                daysOfWeek.add(date.getDayOfWeek());
+            }
+        }
+        return daysOfWeek;
+    }
+}
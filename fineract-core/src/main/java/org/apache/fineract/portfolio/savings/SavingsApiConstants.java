@@ -142,6 +142,7 @@ public class SavingsApiConstants {
     public static final String onHoldFundsParamName = "onHoldFunds";
     public static final String savingsAmountOnHold = "savingsAmountOnHold";
     public static final String withHoldTaxParamName = "withHoldTax";
+    public static final String hotAccountParamName = "hotAccount";
     public static final String taxGroupIdParamName = "taxGroupId";
 
     // transaction parameters
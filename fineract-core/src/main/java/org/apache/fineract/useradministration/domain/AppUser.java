@@ -28,6 +28,7 @@ import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -119,6 +120,9 @@ public class AppUser extends AbstractPersistableCustom implements PlatformUser {
     @Column(name = "cannot_change_password", nullable = true)
     private Boolean cannotChangePassword;
 
+    @Transient
+    private transient volatile CompiledPermissions compiledPermissions;
+
     public static AppUser fromJson(final Office userOffice, final Staff linkedStaff, final Set<Role> allRoles,
             final Collection<Client> clients, final JsonCommand command) {
 
@@ -218,6 +222,7 @@ public class AppUser extends AbstractPersistableCustom implements PlatformUser {
         if (!allRoles.isEmpty()) {
             this.roles.clear();
             this.roles = allRoles;
+            this.compiledPermissions = null;
         }
     }
 
@@ -362,6 +367,7 @@ public class AppUser extends AbstractPersistableCustom implements PlatformUser {
         this.firstTimeLoginRemaining = true;
         this.username = getId() + "_DELETED_" + this.username;
         this.roles.clear();
+        this.compiledPermissions = null;
     }
 
     public boolean isDeleted() {
@@ -379,18 +385,20 @@ public class AppUser extends AbstractPersistableCustom implements PlatformUser {
 
     @Override
     public Collection<GrantedAuthority> getAuthorities() {
-        return populateGrantedAuthorities();
+        return getCompiledPermissions().getAuthorities();
     }
 
-    private List<GrantedAuthority> populateGrantedAuthorities() {
-        final List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-        for (final Role role : this.roles) {
-            final Collection<Permission> permissions = role.getPermissions();
-            for (final Permission permission : permissions) {
-                grantedAuthorities.add(new SimpleGrantedAuthority(permission.getCode()));
-            }
+    /**
+     * Returns the effective permissions of this user, compiled on first use. Role and permission changes evict the
+     * cached users, so a compiled set lives as long as the loaded entity.
+     */
+    private CompiledPermissions getCompiledPermissions() {
+        CompiledPermissions compiled = this.compiledPermissions;
+        if (compiled == null) {
+            compiled = CompiledPermissions.compile(this.roles);
+            this.compiledPermissions = compiled;
         }
-        return grantedAuthorities;
+        return compiled;
     }
 
     @Override
@@ -539,14 +547,7 @@ public class AppUser extends AbstractPersistableCustom implements PlatformUser {
      * @return whether the user has the specified permission
      */
     public boolean hasSpecificPermissionTo(final String permissionCode) {
-        boolean hasPermission = false;
-        for (final Role role : this.roles) {
-            if (role.hasPermissionTo(permissionCode)) {
-                hasPermission = true;
-                break;
-            }
-        }
-        return hasPermission;
+        return getCompiledPermissions().hasSpecific(permissionCode);
     }
 
     public void validateHasReadPermission(final String resourceType) {
@@ -581,27 +582,7 @@ public class AppUser extends AbstractPersistableCustom implements PlatformUser {
     }
 
     private boolean hasPermissionTo(final String permissionCode) {
-        boolean hasPermission = hasAllFunctionsPermission();
-        if (!hasPermission) {
-            for (final Role role : this.roles) {
-                if (role.hasPermissionTo(permissionCode)) {
-                    hasPermission = true;
-                    break;
-                }
-            }
-        }
-        return hasPermission;
-    }
-
-    private boolean hasAllFunctionsPermission() {
-        boolean match = false;
-        for (final Role role : this.roles) {
-            if (role.hasPermissionTo("ALL_FUNCTIONS")) {
-                match = true;
-                break;
-            }
-        }
-        return match;
+        return getCompiledPermissions().has(permissionCode);
     }
 
     public boolean hasIdOf(final Long userId) {
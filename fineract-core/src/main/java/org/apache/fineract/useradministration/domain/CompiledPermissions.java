@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.useradministration.domain;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Immutable, pre-computed view of the effective permissions of a user.
+ *
+ * Permission codes of all roles are folded into a {@link BitSet} over the {@link PermissionCodeRegistry}, so a
+ * permission check is a single bit lookup instead of a scan over every role and permission.
+ */
+public final class CompiledPermissions {
+
+    private static final String ALL_FUNCTIONS = "ALL_FUNCTIONS";
+
+    private final BitSet permissionBits;
+    private final boolean allFunctions;
+    private final List<GrantedAuthority> authorities;
+
+    private CompiledPermissions(final BitSet permissionBits, final List<GrantedAuthority> authorities) {
+        this.permissionBits = permissionBits;
+        this.allFunctions = hasSpecific(ALL_FUNCTIONS);
+        this.authorities = authorities;
+    }
+
+    public static CompiledPermissions compile(final Collection<Role> roles) {
+        final BitSet permissionBits = new BitSet();
+        final List<GrantedAuthority> authorities = new ArrayList<>();
+        if (roles != null) {
+            for (final Role role : roles) {
+                for (final Permission permission : role.getPermissions()) {
+                    permissionBits.set(PermissionCodeRegistry.intern(permission.getCode()));
+                    authorities.add(new SimpleGrantedAuthority(permission.getCode()));
+                }
+            }
+        }
+        return new CompiledPermissions(permissionBits, Collections.unmodifiableList(authorities));
+    }
+
+    /**
+     * Checks the permission, treating ALL_FUNCTIONS as a grant of every permission.
+     */
+    public boolean has(final String permissionCode) {
+        return allFunctions || hasSpecific(permissionCode);
+    }
+
+    /**
+     * Checks whether the permission was granted explicitly by one of the roles.
+     */
+    public boolean hasSpecific(final String permissionCode) {
+        final int index = PermissionCodeRegistry.indexOf(permissionCode);
+        return index != PermissionCodeRegistry.UNKNOWN && permissionBits.get(index);
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+}
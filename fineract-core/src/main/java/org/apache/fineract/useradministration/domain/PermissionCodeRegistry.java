@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.useradministration.domain;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns permission codes into stable, dense indexes so permission sets can be represented as bitsets.
+ *
+ * Permission codes are compared case-insensitively (see {@link Permission#hasCode(String)}), so codes are normalised
+ * to upper case before interning. The registry only grows; the number of distinct permission codes is bounded by the
+ * m_permission table.
+ */
+public final class PermissionCodeRegistry {
+
+    public static final int UNKNOWN = -1;
+
+    private static final Map<String, Integer> INDEXES = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private PermissionCodeRegistry() {}
+
+    public static int intern(final String permissionCode) {
+        return INDEXES.computeIfAbsent(normalise(permissionCode), code -> NEXT_INDEX.getAndIncrement());
+    }
+
+    public static int indexOf(final String permissionCode) {
+        if (permissionCode == null) {
+            return UNKNOWN;
+        }
+        final Integer index = INDEXES.get(normalise(permissionCode));
+        return index == null ? UNKNOWN : index;
+    }
+
+    private static String normalise(final String permissionCode) {
+        return permissionCode.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TenantScopedCacheTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private boolean enabled = true;
+    private final TenantScopedCache<Map<String, String>> underTest = new TenantScopedCache<>(() -> enabled, () -> 60,
+            ConcurrentHashMap::new, clock::get);
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testValueIsReusedWithinTheTimeToLive() {
+        // given
+        Map<String, String> value = underTest.get();
+
+        // when
+        clock.addAndGet(59_999L);
+
+        // then
+        assertSame(value, underTest.get());
+    }
+
+    @Test
+    void testValueExpiresAfterTheTimeToLive() {
+        // given
+        Map<String, String> value = underTest.get();
+
+        // when
+        clock.addAndGet(60_000L);
+
+        // then
+        assertNotSame(value, underTest.get());
+    }
+
+    @Test
+    void testValuesAreSeparatedByTenant() {
+        // given
+        Map<String, String> defaultValue = underTest.get();
+
+        // when
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+
+        // then
+        assertNotSame(defaultValue, underTest.get());
+        assertSame(defaultValue, underTest.get("default"));
+    }
+
+    @Test
+    void testEvictionIsRepeatedAfterTheTransactionCompletes() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.get().put("key", "old");
+
+        // when
+        underTest.evict();
+        Map<String, String> reloadedBeforeCommit = underTest.get();
+        reloadedBeforeCommit.put("key", "old");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertEquals(1, synchronizations.size());
+        assertNotSame(reloadedBeforeCommit, underTest.get());
+        assertTrue(underTest.get().isEmpty());
+    }
+
+    @Test
+    void testPartialEviction() {
+        // given
+        underTest.get().put("kept", "value");
+        underTest.get().put("dropped", "value");
+
+        // when
+        underTest.evict(value -> value.remove("dropped"));
+
+        // then
+        assertEquals(Map.of("kept", "value"), underTest.get());
+    }
+
+    @Test
+    void testIsActiveNeedsTheFlagAndATenant() {
+        assertTrue(underTest.isActive());
+        ThreadLocalContextUtil.reset();
+        assertFalse(underTest.isActive());
+        enabled = false;
+        assertFalse(underTest.isEnabled());
+    }
+}
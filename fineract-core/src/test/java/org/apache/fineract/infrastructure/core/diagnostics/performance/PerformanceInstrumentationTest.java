@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PerformanceInstrumentationTest {
+
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PerformanceInstrumentation underTest;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        FineractProperties.FineractInstrumentationProperties instrumentation = new FineractProperties.FineractInstrumentationProperties();
+        instrumentation.setEnabled(true);
+        instrumentation.setSlowThresholdMillis(60_000);
+        fineractProperties.setInstrumentation(instrumentation);
+        underTest = new PerformanceInstrumentation(fineractProperties, meterRegistry);
+        when(connection.prepareStatement("select 1")).thenReturn(preparedStatement);
+    }
+
+    @Test
+    void testStatementsOfUnitOfWorkAreRecorded() throws SQLException {
+        // given
+        Connection instrumented = DatabaseWork.instrument(connection);
+        instrumented.prepareStatement("select 1").executeQuery();
+
+        // when
+        PerformanceInstrumentation.Sample sample = underTest.start();
+        PreparedStatement statement = instrumented.prepareStatement("select 1");
+        statement.setLong(1, 1L);
+        statement.executeQuery();
+        statement.executeQuery();
+        underTest.stop(sample, "fineract.command", "command LOAN REPAYMENT", "entity", "LOAN", "action", "REPAYMENT");
+
+        // then
+        assertEquals(1, meterRegistry.get("fineract.command").tag("entity", "LOAN").timer().count());
+        assertEquals(2.0, meterRegistry.get("fineract.command.sql.statements").tag("action", "REPAYMENT").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("fineract.command.sql").timer().count());
+        verify(preparedStatement).setLong(1, 1L);
+    }
+
+    @Test
+    void testStatementCountIsReportedOnlyWhenResponseHeaderIsEnabled() throws SQLException {
+        // given
+        Connection instrumented = DatabaseWork.instrument(connection);
+        PerformanceInstrumentation.Sample sample = underTest.start();
+
+        // when
+        instrumented.prepareStatement("select 1").executeQuery();
+
+        // then
+        assertFalse(underTest.isResponseHeaderEnabled());
+        fineractProperties.getInstrumentation().setResponseHeaderEnabled(true);
+        assertTrue(underTest.isResponseHeaderEnabled());
+        assertEquals(1, underTest.statementCountSince(sample));
+    }
+
+    @Test
+    void testNothingIsRecordedWhenDisabled() {
+        // given
+        fineractProperties.getInstrumentation().setEnabled(false);
+
+        // when
+        PerformanceInstrumentation.Sample sample = underTest.start();
+        underTest.stop(sample, "fineract.command", "command LOAN REPAYMENT");
+
+        // then
+        assertNull(sample);
+        assertEquals(0, meterRegistry.getMeters().size());
+    }
+}
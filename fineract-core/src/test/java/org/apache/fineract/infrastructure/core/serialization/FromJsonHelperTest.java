@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.exception.InvalidJsonException;
+import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FromJsonHelperTest {
+
+    private static final Type TYPE_OF_MAP = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final String REPAYMENT = "{\"transactionDate\":\"19 October 2026\",\"transactionAmount\":100,"
+            + "\"locale\":\"en\",\"dateFormat\":\"dd MMMM yyyy\"}";
+
+    private final FromJsonHelper fromJsonHelper = new FromJsonHelper();
+
+    @AfterEach
+    void tearDown() {
+        ParsedJsonContextHolder.restore(null);
+    }
+
+    @Test
+    void testParseCopiesTheBoundTreeOfTheSameJson() {
+        // given
+        JsonElement parsed = JsonParser.parseString(REPAYMENT);
+        ParsedJsonContextHolder.bind(REPAYMENT, parsed);
+
+        // when
+        JsonElement element = fromJsonHelper.parse(REPAYMENT);
+
+        // then
+        assertEquals(parsed, element);
+        assertNotSame(parsed, element);
+    }
+
+    @Test
+    void testParseIgnoresTheBoundTreeOfAnotherJson() {
+        // given
+        ParsedJsonContextHolder.bind(REPAYMENT, JsonParser.parseString(REPAYMENT));
+        String copy = new StringBuilder(REPAYMENT).toString();
+
+        // when
+        JsonElement element = fromJsonHelper.parse(copy);
+
+        // then
+        assertNotSame(ParsedJsonContextHolder.lookup(REPAYMENT), element);
+        assertEquals(JsonParser.parseString(REPAYMENT), element);
+    }
+
+    @Test
+    void testRestoreBringsBackThePreviousBinding() {
+        // given
+        JsonElement outer = JsonParser.parseString(REPAYMENT);
+        ParsedJsonContextHolder.ParsedJson previous = ParsedJsonContextHolder.bind(REPAYMENT, outer);
+        String inner = "{\"note\":\"inner\"}";
+
+        // when
+        ParsedJsonContextHolder.ParsedJson beforeInner = ParsedJsonContextHolder.bind(inner, JsonParser.parseString(inner));
+        ParsedJsonContextHolder.restore(beforeInner);
+
+        // then
+        assertSame(outer, ParsedJsonContextHolder.lookup(REPAYMENT));
+        ParsedJsonContextHolder.restore(previous);
+        assertNull(ParsedJsonContextHolder.lookup(REPAYMENT));
+    }
+
+    @Test
+    void testChangesToTheParsedTreeDoNotReachTheBoundTree() {
+        // given
+        JsonElement parsed = JsonParser.parseString(REPAYMENT);
+        ParsedJsonContextHolder.bind(REPAYMENT, parsed);
+
+        // when
+        fromJsonHelper.parse(REPAYMENT).getAsJsonObject().addProperty("transactionAmount", 50);
+
+        // then
+        assertEquals(100, parsed.getAsJsonObject().get("transactionAmount").getAsInt());
+        assertEquals(100, fromJsonHelper.parse(REPAYMENT).getAsJsonObject().get("transactionAmount").getAsInt());
+    }
+
+    @Test
+    void testUnsupportedParametersAreReportedFromTheParsedTree() {
+        // given
+        Set<String> supported = Set.of("transactionDate", "transactionAmount", "locale");
+
+        // when
+        UnsupportedParameterException exception = assertThrows(UnsupportedParameterException.class,
+                () -> fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, REPAYMENT, supported));
+
+        // then
+        assertEquals(List.of("dateFormat"), exception.getUnsupportedParameters());
+    }
+
+    @Test
+    void testSupportedParametersPass() {
+        // given
+        Set<String> supported = Set.of("transactionDate", "transactionAmount", "locale", "dateFormat");
+
+        // when / then
+        fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, REPAYMENT, supported);
+    }
+
+    @Test
+    void testBlankOrNonObjectBodyIsInvalidJson() {
+        // given
+        Set<String> supported = Set.of("note");
+
+        // when / then
+        assertThrows(InvalidJsonException.class, () -> fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, " ", supported));
+        assertThrows(InvalidJsonException.class, () -> fromJsonHelper.checkForUnsupportedParameters(TYPE_OF_MAP, "[]", supported));
+    }
+}
@@ -61,4 +61,16 @@ public class DatabaseSpecificSQLGeneratorTest {
         String countQuery = databaseSpecificSQLGenerator.countQueryResult(sql);
         Assertions.assertEquals("SELECT COUNT(*) FROM (SELECT 1 FROM test_table WHERE asd=2) AS temp", countQuery);
     }
+
+    @Test
+    public void testForShareOnMySQL() {
+        Mockito.when(databaseTypeResolver.isMySQL()).thenReturn(true);
+        Assertions.assertEquals("LOCK IN SHARE MODE", databaseSpecificSQLGenerator.forShare());
+    }
+
+    @Test
+    public void testForShareOnPostgreSQL() {
+        Mockito.when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        Assertions.assertEquals("FOR SHARE", databaseSpecificSQLGenerator.forShare());
+    }
 }
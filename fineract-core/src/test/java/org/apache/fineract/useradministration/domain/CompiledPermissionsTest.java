@@ -0,0 +1,66 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.useradministration.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CompiledPermissionsTest {
+
+    @Test
+    void testPermissionsOfAllRolesAreCompiled() {
+        Role loanOfficer = new Role("Loan Officer", "");
+        loanOfficer.updatePermission(new Permission("portfolio", "LOAN", "READ"), true);
+        Role cashier = new Role("Cashier", "");
+        cashier.updatePermission(new Permission("portfolio", "LOAN", "REPAYMENT"), true);
+
+        CompiledPermissions permissions = CompiledPermissions.compile(List.of(loanOfficer, cashier));
+
+        assertTrue(permissions.has("READ_LOAN"));
+        assertTrue(permissions.has("repayment_loan"));
+        assertTrue(permissions.hasSpecific("REPAYMENT_LOAN"));
+        assertFalse(permissions.has("CREATE_LOAN"));
+        assertFalse(permissions.has("NEVER_INTERNED_PERMISSION_CODE"));
+        assertEquals(2, permissions.getAuthorities().size());
+    }
+
+    @Test
+    void testAllFunctionsGrantsEverythingButNotSpecifically() {
+        Role superUser = new Role("Super user", "");
+        superUser.updatePermission(new Permission("special", "FUNCTIONS", "ALL"), true);
+
+        CompiledPermissions permissions = CompiledPermissions.compile(List.of(superUser));
+
+        assertTrue(permissions.has("CREATE_LOAN"));
+        assertTrue(permissions.hasSpecific("ALL_FUNCTIONS"));
+        assertFalse(permissions.hasSpecific("CREATE_LOAN"));
+    }
+
+    @Test
+    void testNoRolesHasNoPermissions() {
+        CompiledPermissions permissions = CompiledPermissions.compile(List.of());
+
+        assertFalse(permissions.has("READ_LOAN"));
+        assertTrue(permissions.getAuthorities().isEmpty());
+    }
+}
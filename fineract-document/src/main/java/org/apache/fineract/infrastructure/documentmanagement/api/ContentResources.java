@@ -18,11 +18,18 @@
  */
 package org.apache.fineract.infrastructure.documentmanagement.api;
 
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.ResponseBuilder;
+import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,26 +43,137 @@ final class ContentResources {
 
     private static final Logger LOG = LoggerFactory.getLogger(ContentResources.class);
 
+    private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
     private ContentResources() {}
 
     static Response fileDataToResponse(FileData fileData, String fileName, String dispositionType) {
+        return fileDataToResponse(fileData, fileName, dispositionType, null, null);
+    }
+
+    static Response fileDataToResponse(FileData fileData, String dispositionType) {
+        return fileDataToResponse(fileData, fileData.name(), dispositionType);
+    }
+
+    static Response fileDataToResponse(FileData fileData, String dispositionType, String range, String ifNoneMatch) {
+        return fileDataToResponse(fileData, fileData.name(), dispositionType, range, ifNoneMatch);
+    }
+
+    /**
+     * Streams the content of the file to the client, the stream is only opened when JAX-RS writes the body and closed
+     * right after. A single byte range (RFC 7233) is answered with 206 when the size of the content is known, other
+     * ranges get the full content. When the content repository knows the version of the file an ETag is sent and a
+     * matching If-None-Match is answered with 304. Content that is missing or can not be read is answered with 404.
+     */
+    static Response fileDataToResponse(FileData fileData, String fileName, String dispositionType, String range, String ifNoneMatch) {
+        if (!fileData.isReadable()) {
+            LOG.warn("Content of {} is missing or not readable", fileName);
+            return Response.status(Status.NOT_FOUND).build();
+        }
+        final String eTag = eTag(fileData, "");
+        if (eTag != null && matches(ifNoneMatch, eTag)) {
+            return Response.notModified().header("ETag", eTag).build();
+        }
+
+        final ByteSource byteSource = fileData.getByteSource();
+        final Long size = byteSource.sizeIfKnown().orNull();
         ResponseBuilder response;
-        try {
-            ByteSource byteSource = fileData.getByteSource();
-            // TODO Where is this InputStream closed?! It needs to be AFTER it's read by JAX-RS.. how to do that?
-            InputStream is = byteSource.openBufferedStream();
-            response = Response.ok(is);
-            response.header("Content-Disposition", dispositionType + "; filename=\"" + fileName + "\"");
-            response.header("Content-Length", byteSource.sizeIfKnown().or(-1L));
-            response.header("Content-Type", fileData.contentType());
-        } catch (IOException e) {
-            LOG.error("resizedImage.getByteSource().openBufferedStream() failed", e);
-            response = Response.serverError();
+        if (size != null && range != null) {
+            final long[] bounds = parseRange(range, size);
+            if (bounds == null) {
+                response = Response.ok(stream(byteSource));
+                response.header("Content-Length", size);
+            } else if (bounds.length == 0) {
+                return Response.status(Status.REQUESTED_RANGE_NOT_SATISFIABLE).header("Content-Range", "bytes */" + size).build();
+            } else {
+                final long length = bounds[1] - bounds[0] + 1;
+                response = Response.status(Status.PARTIAL_CONTENT).entity(stream(byteSource.slice(bounds[0], length)));
+                response.header("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/" + size);
+                response.header("Content-Length", length);
+            }
+        } else {
+            response = Response.ok(stream(byteSource));
+            response.header("Content-Length", size == null ? -1L : size);
+        }
+        if (size != null) {
+            response.header("Accept-Ranges", "bytes");
+        }
+        if (eTag != null) {
+            response.header("ETag", eTag);
         }
+        response.header("Content-Disposition", dispositionType + "; filename=\"" + fileName + "\"");
+        response.header("Content-Type", fileData.contentType());
         return response.build();
     }
 
-    static Response fileDataToResponse(FileData fileData, String dispositionType) {
-        return fileDataToResponse(fileData, fileData.name(), dispositionType);
+    /**
+     * Strong entity tag of the given representation of the file, or null when the version of the file is not known.
+     */
+    static String eTag(FileData fileData, String representation) {
+        final String version = fileData.version();
+        if (version == null) {
+            return null;
+        }
+        return "\"" + Hashing.sha256().hashString(version + representation, StandardCharsets.UTF_8) + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            final String trimmed = StringUtils.removeStart(candidate.trim(), "W/");
+            if ("*".equals(trimmed) || eTag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first and last byte of a single satisfiable range, an empty array when the range can not be
+     * satisfied and null when the header is not a single byte range and should be ignored.
+     */
+    private static long[] parseRange(String range, long size) {
+        final Matcher matcher = SINGLE_BYTE_RANGE.matcher(range.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            final long first;
+            final long last;
+            if (matcher.group(1).isEmpty()) {
+                final long suffixLength = Long.parseLong(matcher.group(2));
+                if (suffixLength == 0) {
+                    return new long[0];
+                }
+                first = Math.max(0, size - suffixLength);
+                last = size - 1;
+            } else {
+                first = Long.parseLong(matcher.group(1));
+                last = matcher.group(2).isEmpty() ? size - 1 : Math.min(Long.parseLong(matcher.group(2)), size - 1);
+            }
+            if (first >= size) {
+                return new long[0];
+            }
+            if (first > last) {
+                // last byte before the first one is syntactically invalid, which means the header is ignored
+                return null;
+            }
+            return new long[] { first, last };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static StreamingOutput stream(ByteSource byteSource) {
+        return output -> {
+            try (InputStream is = byteSource.openStream()) {
+                is.transferTo(output);
+            } catch (IOException e) {
+                LOG.error("Streaming file content failed", e);
+                throw e;
+            }
+        };
     }
 }
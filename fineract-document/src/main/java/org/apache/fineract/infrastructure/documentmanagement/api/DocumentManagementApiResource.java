@@ -205,11 +205,13 @@ public class DocumentManagementApiResource {
     @ApiResponses({ @ApiResponse(responseCode = "200", description = "Not Shown: The corresponding Binary file") })
     public Response downloadFile(@PathParam("entityType") @Parameter(description = "entityType") final String entityType,
             @PathParam("entityId") @Parameter(description = "entityId") final Long entityId,
-            @PathParam("documentId") @Parameter(description = "documentId") final Long documentId) {
+            @PathParam("documentId") @Parameter(description = "documentId") final Long documentId,
+            @HeaderParam("Range") @Parameter(hidden = true) final String range,
+            @HeaderParam("If-None-Match") @Parameter(hidden = true) final String ifNoneMatch) {
 
         this.context.authenticatedUser().validateHasReadPermission(SYSTEM_ENTITY_TYPE);
         final FileData fileData = this.documentReadPlatformService.retrieveFileData(entityType, entityId, documentId);
-        return ContentResources.fileDataToResponse(fileData, "attachment");
+        return ContentResources.fileDataToResponse(fileData, "attachment", range, ifNoneMatch);
     }
 
     @DELETE
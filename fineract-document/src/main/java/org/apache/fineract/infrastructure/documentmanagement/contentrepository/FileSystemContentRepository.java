@@ -107,7 +107,8 @@ public class FileSystemContentRepository implements ContentRepository {
         String sanitizedPath = pathSanitizer.sanitize(documentData.fileLocation());
 
         final File file = new File(sanitizedPath);
-        return new FileData(Files.asByteSource(file), documentData.fileName(), documentData.contentType());
+        return new FileData(Files.asByteSource(file), documentData.fileName(), documentData.contentType(), () -> version(file),
+                () -> isReadable(file));
     }
 
     @Override
@@ -115,7 +116,19 @@ public class FileSystemContentRepository implements ContentRepository {
         String sanitizedPath = pathSanitizer.sanitize(imageData.location());
 
         final File file = new File(sanitizedPath);
-        return new FileData(Files.asByteSource(file), imageData.getEntityDisplayName(), imageData.contentType().getValue());
+        return new FileData(Files.asByteSource(file), imageData.getEntityDisplayName(), imageData.contentType().getValue(),
+                () -> version(file), () -> isReadable(file));
+    }
+
+    private static boolean isReadable(final File file) {
+        return file.isFile() && file.canRead();
+    }
+
+    /**
+     * Files are replaced in place, so the modification time and size tell apart the contents stored at one path.
+     */
+    private static String version(final File file) {
+        return file.getPath() + ":" + file.lastModified() + ":" + file.length();
     }
 
     @Override
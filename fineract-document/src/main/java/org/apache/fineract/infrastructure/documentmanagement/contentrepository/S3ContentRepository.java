@@ -18,7 +18,6 @@
  */
 package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
 
-import com.google.common.io.ByteSource;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
@@ -45,7 +44,6 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 @Slf4j
@@ -103,26 +101,18 @@ public class S3ContentRepository implements ContentRepository {
 
     @Override
     public FileData fetchFile(final DocumentData documentData) throws DocumentNotFoundException {
-        return new FileData(new ByteSource() {
-
-            @Override
-            public InputStream openStream() throws IOException {
-                return s3Client.getObject(GetObjectRequest.builder().bucket(fineractProperties.getContent().getS3().getBucketName())
-                        .key(documentData.fileLocation()).build(), ResponseTransformer.toBytes()).asInputStream();
-            }
-        }, documentData.fileName(), documentData.contentType());
+        final S3ObjectByteSource byteSource = objectByteSource(documentData.fileLocation());
+        return new FileData(byteSource, documentData.fileName(), documentData.contentType(), byteSource::version);
     }
 
     @Override
     public FileData fetchImage(final ImageData imageData) {
-        return new FileData(new ByteSource() {
+        final S3ObjectByteSource byteSource = objectByteSource(imageData.location());
+        return new FileData(byteSource, imageData.getEntityDisplayName(), imageData.contentType().getValue(), byteSource::version);
+    }
 
-            @Override
-            public InputStream openStream() throws IOException {
-                return s3Client.getObject(GetObjectRequest.builder().bucket(fineractProperties.getContent().getS3().getBucketName())
-                        .key(imageData.location()).build(), ResponseTransformer.toBytes()).asInputStream();
-            }
-        }, imageData.getEntityDisplayName(), imageData.contentType().getValue());
+    private S3ObjectByteSource objectByteSource(final String key) {
+        return new S3ObjectByteSource(s3Client, fineractProperties.getContent().getS3().getBucketName(), key);
     }
 
     @Override
@@ -0,0 +1,89 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.contentrepository;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.io.ByteSource;
+import java.io.InputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Streams an S3 object straight from the response instead of reading it into memory first. Slices are fetched with
+ * ranged requests, size and ETag come from a single HEAD request made when first needed.
+ */
+final class S3ObjectByteSource extends ByteSource {
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String key;
+    private final Supplier<HeadObjectResponse> head;
+
+    S3ObjectByteSource(final S3Client s3Client, final String bucketName, final String key) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.head = Suppliers.memoize(() -> s3Client.headObject(builder -> builder.bucket(bucketName).key(key)));
+    }
+
+    @Override
+    public InputStream openStream() {
+        return this.s3Client.getObject(GetObjectRequest.builder().bucket(this.bucketName).key(this.key).build());
+    }
+
+    @Override
+    public Optional<Long> sizeIfKnown() {
+        return Optional.of(this.head.get().contentLength());
+    }
+
+    @Override
+    public ByteSource slice(final long offset, final long length) {
+        Preconditions.checkArgument(offset >= 0, "offset (%s) may not be negative", offset);
+        Preconditions.checkArgument(length >= 0, "length (%s) may not be negative", length);
+        final long size = sizeIfKnown().get();
+        if (length == 0 || offset >= size) {
+            return ByteSource.empty();
+        }
+        final long lastByte = Math.min(size, offset + length) - 1;
+        return new ByteSource() {
+
+            @Override
+            public InputStream openStream() {
+                return s3Client.getObject(
+                        GetObjectRequest.builder().bucket(bucketName).key(key).range("bytes=" + offset + "-" + lastByte).build());
+            }
+
+            @Override
+            public Optional<Long> sizeIfKnown() {
+                return Optional.of(lastByte - offset + 1);
+            }
+        };
+    }
+
+    /**
+     * The key and the ETag of the object, which changes whenever the object is replaced with different content.
+     */
+    String version() {
+        return this.key + ":" + this.head.get().eTag();
+    }
+}
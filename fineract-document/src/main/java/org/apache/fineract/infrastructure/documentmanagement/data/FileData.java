@@ -19,17 +19,32 @@
 package org.apache.fineract.infrastructure.documentmanagement.data;
 
 import com.google.common.io.ByteSource;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public class FileData {
 
     private final String fileName;
     private final String contentType;
     private final ByteSource byteSource;
+    private final Supplier<String> version;
+    private final BooleanSupplier readable;
 
     public FileData(final ByteSource byteSource, final String fileName, final String contentType) {
+        this(byteSource, fileName, contentType, null);
+    }
+
+    public FileData(final ByteSource byteSource, final String fileName, final String contentType, final Supplier<String> version) {
+        this(byteSource, fileName, contentType, version, null);
+    }
+
+    public FileData(final ByteSource byteSource, final String fileName, final String contentType, final Supplier<String> version,
+            final BooleanSupplier readable) {
         this.fileName = fileName;
         this.contentType = contentType;
         this.byteSource = byteSource;
+        this.version = version;
+        this.readable = readable;
     }
 
     public String contentType() {
@@ -43,4 +58,20 @@ public class FileData {
     public ByteSource getByteSource() {
         return this.byteSource;
     }
+
+    /**
+     * Identifies the stored content: it differs between two files and changes whenever the content of the file does.
+     * Null when the content repository cannot tell.
+     */
+    public String version() {
+        return this.version == null ? null : this.version.get();
+    }
+
+    /**
+     * Tells whether the content can be read without opening it. Content whose repository can not check that up front
+     * is assumed to be readable.
+     */
+    public boolean isReadable() {
+        return this.readable == null || this.readable.getAsBoolean();
+    }
 }
@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.data;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSource;
+import com.google.common.io.MoreFiles;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentImageRenditionCacheProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the resized renditions of images on the local disk, so an image is decoded and scaled once per size instead of
+ * on every request.
+ *
+ * Renditions are addressed by the tenant, the version of the original image and the requested size, so replacing an
+ * image never serves a stale rendition. Renditions not read for longer than the configured maximum age are removed.
+ * Images whose version the content repository can not tell are resized on every request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageRenditionCache {
+
+    private static final long SWEEP_INTERVAL_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final ImageResizer imageResizer;
+    private final FineractProperties fineractProperties;
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    public FileData resize(final FileData image, final Integer maxWidth, final Integer maxHeight) {
+        final FineractContentImageRenditionCacheProperties properties = fineractProperties.getContent().getImageRenditionCache();
+        if (properties == null || !properties.isEnabled() || maxWidth == null) {
+            return imageResizer.resize(image, maxWidth, maxHeight);
+        }
+        final String version = image.version();
+        if (version == null) {
+            return imageResizer.resize(image, maxWidth, maxHeight);
+        }
+
+        final String key = Hashing.sha256().hashString(
+                ThreadLocalContextUtil.getTenant().getTenantIdentifier() + "\n" + version + "\n" + maxWidth + "\n" + maxHeight,
+                StandardCharsets.UTF_8).toString();
+        final Path directory = Paths.get(properties.getDirectory());
+        final Path rendition = directory.resolve(key);
+        if (Files.isRegularFile(rendition)) {
+            touch(rendition);
+            return rendition(rendition, image, key);
+        }
+
+        final byte[] content;
+        try {
+            content = imageResizer.resize(image, maxWidth, maxHeight).getByteSource().read();
+        } catch (IOException e) {
+            log.warn("Reading image {} failed, returning original image: {}", image.name(), e.getMessage(), e);
+            return image;
+        }
+        try {
+            Files.createDirectories(directory);
+            final Path temp = Files.createTempFile(directory, key, ".tmp");
+            try {
+                Files.write(temp, content);
+                Files.move(temp, rendition, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            sweep(directory, properties.getMaxAgeHours());
+            return rendition(rendition, image, key);
+        } catch (IOException e) {
+            log.warn("Storing rendition of image {} in {} failed: {}", image.name(), directory, e.getMessage());
+            return new FileData(ByteSource.wrap(content), image.name(), image.contentType(), () -> key);
+        }
+    }
+
+    private static FileData rendition(final Path rendition, final FileData image, final String key) {
+        return new FileData(MoreFiles.asByteSource(rendition), image.name(), image.contentType(), () -> key,
+                () -> Files.isReadable(rendition));
+    }
+
+    private static void touch(final Path rendition) {
+        try {
+            Files.setLastModifiedTime(rendition, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Unable to touch image rendition {}", rendition, e);
+        }
+    }
+
+    private void sweep(final Path directory, final int maxAgeHours) {
+        final long now = System.currentTimeMillis();
+        final long last = lastSweep.get();
+        if (maxAgeHours <= 0 || now - last < SWEEP_INTERVAL_MILLIS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        final long oldest = now - Duration.ofHours(maxAgeHours).toMillis();
+        try (Stream<Path> renditions = Files.list(directory)) {
+            renditions.map(Path::toFile).filter(File::isFile).filter(file -> file.lastModified() < oldest).forEach(file -> {
+                if (!file.delete()) {
+                    log.debug("Unable to delete expired image rendition {}", file);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Removing expired image renditions from {} failed: {}", directory, e.getMessage());
+        }
+    }
+}
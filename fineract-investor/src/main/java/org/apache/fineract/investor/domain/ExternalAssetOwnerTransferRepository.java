@@ -19,6 +19,7 @@
 package org.apache.fineract.investor.domain;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -44,6 +45,9 @@ public interface ExternalAssetOwnerTransferRepository
     @Query("select m.ownerTransfer from ExternalAssetOwnerTransferLoanMapping m inner join fetch m.ownerTransfer o where m.loanId = :loanId")
     Optional<ExternalAssetOwnerTransfer> findActiveByLoanId(@Param("loanId") Long loanId);
 
+    @Query("select m.ownerTransfer from ExternalAssetOwnerTransferLoanMapping m inner join fetch m.ownerTransfer o where m.loanId in :loanIds")
+    List<ExternalAssetOwnerTransfer> findActiveByLoanIds(@Param("loanIds") Collection<Long> loanIds);
+
     @Query("select m.ownerTransfer.owner from ExternalAssetOwnerTransferLoanMapping m where m.loanId = :loanId")
     Optional<ExternalAssetOwner> findActiveOwnerByLoanId(@Param("loanId") Long loanId);
 
@@ -18,20 +18,23 @@
  */
 package org.apache.fineract.investor.enricher;
 
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.service.DataEnricher;
 import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.AvroDateTimeMapper;
 import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.ExternalIdMapper;
-import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.service.ActiveExternalAssetOwnerTransferCache;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class LoanAccountDataV1Enricher implements DataEnricher<LoanAccountDataV1> {
 
-    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+    private final ActiveExternalAssetOwnerTransferCache activeTransferCache;
     private final ExternalIdMapper externalIdMapper;
     private final AvroDateTimeMapper avroDateTimeMapper;
 
@@ -42,14 +45,28 @@ public class LoanAccountDataV1Enricher implements DataEnricher<LoanAccountDataV1
 
     @Override
     public void enrich(LoanAccountDataV1 data) {
-        externalAssetOwnerTransferRepository.findActiveByLoanId(data.getId()).ifPresent(transfer -> {
-            ExternalId transferOwnerExternalId = transfer.getOwner().getExternalId();
-            data.setExternalOwnerId(externalIdMapper.mapExternalId(transferOwnerExternalId));
-            data.setSettlementDate(avroDateTimeMapper.mapLocalDate(transfer.getSettlementDate()));
-            data.setPurchasePriceRatio(transfer.getPurchasePriceRatio());
-            if (data.getCharges() != null) {
-                data.getCharges().forEach(charge -> charge.setExternalOwnerId(externalIdMapper.mapExternalId(transferOwnerExternalId)));
+        activeTransferCache.findActiveTransfer(data.getId()).ifPresent(transfer -> enrich(data, transfer));
+    }
+
+    @Override
+    public void enrichAll(List<LoanAccountDataV1> data) {
+        Map<Long, ExternalAssetOwnerTransfer> transfers = activeTransferCache
+                .findActiveTransfers(data.stream().map(LoanAccountDataV1::getId).toList());
+        for (LoanAccountDataV1 loanAccountData : data) {
+            ExternalAssetOwnerTransfer transfer = transfers.get(loanAccountData.getId());
+            if (transfer != null) {
+                enrich(loanAccountData, transfer);
             }
-        });
+        }
+    }
+
+    private void enrich(LoanAccountDataV1 data, ExternalAssetOwnerTransfer transfer) {
+        ExternalId transferOwnerExternalId = transfer.getOwner().getExternalId();
+        data.setExternalOwnerId(externalIdMapper.mapExternalId(transferOwnerExternalId));
+        data.setSettlementDate(avroDateTimeMapper.mapLocalDate(transfer.getSettlementDate()));
+        data.setPurchasePriceRatio(transfer.getPurchasePriceRatio());
+        if (data.getCharges() != null) {
+            data.getCharges().forEach(charge -> charge.setExternalOwnerId(externalIdMapper.mapExternalId(transferOwnerExternalId)));
+        }
     }
 }
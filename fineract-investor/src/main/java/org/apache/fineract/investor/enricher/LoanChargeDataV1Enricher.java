@@ -18,18 +18,21 @@
  */
 package org.apache.fineract.investor.enricher;
 
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.avro.loan.v1.LoanChargeDataV1;
 import org.apache.fineract.infrastructure.core.service.DataEnricher;
 import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.support.ExternalIdMapper;
-import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.service.ActiveExternalAssetOwnerTransferCache;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class LoanChargeDataV1Enricher implements DataEnricher<LoanChargeDataV1> {
 
-    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+    private final ActiveExternalAssetOwnerTransferCache activeTransferCache;
     private final ExternalIdMapper externalIdMapper;
 
     @Override
@@ -39,7 +42,19 @@ public class LoanChargeDataV1Enricher implements DataEnricher<LoanChargeDataV1>
 
     @Override
     public void enrich(LoanChargeDataV1 data) {
-        externalAssetOwnerTransferRepository.findActiveOwnerByLoanId(data.getLoanId())
-                .ifPresent(owner -> data.setExternalOwnerId(externalIdMapper.mapExternalId(owner.getExternalId())));
+        activeTransferCache.findActiveTransfer(data.getLoanId())
+                .ifPresent(transfer -> data.setExternalOwnerId(externalIdMapper.mapExternalId(transfer.getOwner().getExternalId())));
+    }
+
+    @Override
+    public void enrichAll(List<LoanChargeDataV1> data) {
+        Map<Long, ExternalAssetOwnerTransfer> transfers = activeTransferCache
+                .findActiveTransfers(data.stream().map(LoanChargeDataV1::getLoanId).toList());
+        for (LoanChargeDataV1 chargeData : data) {
+            ExternalAssetOwnerTransfer transfer = transfers.get(chargeData.getLoanId());
+            if (transfer != null) {
+                chargeData.setExternalOwnerId(externalIdMapper.mapExternalId(transfer.getOwner().getExternalId()));
+            }
+        }
     }
 }
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Looks up the active owner transfer of loans and remembers the result until the current transaction completes, so
+ * the external events of a loan do not query the same owner again and again.
+ *
+ * Code changing the active transfer of a loan has to {@link #evict(Long)} it. Without an active transaction nothing is
+ * remembered.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveExternalAssetOwnerTransferCache {
+
+    private final ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    public Optional<ExternalAssetOwnerTransfer> findActiveTransfer(final Long loanId) {
+        return Optional.ofNullable(findActiveTransfers(Set.of(loanId)).get(loanId));
+    }
+
+    /**
+     * Returns the active transfers of the given loans keyed by loan id, loans without an active transfer are missing
+     * from the result. Loans not looked up yet in the current transaction are loaded with a single query.
+     */
+    public Map<Long, ExternalAssetOwnerTransfer> findActiveTransfers(final Collection<Long> loanIds) {
+        final Map<Long, Optional<ExternalAssetOwnerTransfer>> transfers = currentTransfers();
+        final Set<Long> missingLoanIds = new LinkedHashSet<>();
+        for (Long loanId : loanIds) {
+            if (loanId != null && !transfers.containsKey(loanId)) {
+                missingLoanIds.add(loanId);
+            }
+        }
+        if (!missingLoanIds.isEmpty()) {
+            missingLoanIds.forEach(loanId -> transfers.put(loanId, Optional.empty()));
+            externalAssetOwnerTransferRepository.findActiveByLoanIds(missingLoanIds)
+                    .forEach(transfer -> transfers.put(transfer.getLoanId(), Optional.of(transfer)));
+        }
+        final Map<Long, ExternalAssetOwnerTransfer> result = new HashMap<>();
+        loanIds.stream().filter(Objects::nonNull).forEach(loanId -> transfers.get(loanId).ifPresent(t -> result.put(loanId, t)));
+        return result;
+    }
+
+    public void evict(final Long loanId) {
+        final TransferHolder holder = currentHolder();
+        if (holder != null) {
+            holder.transfers.remove(loanId);
+        }
+    }
+
+    private Map<Long, Optional<ExternalAssetOwnerTransfer>> currentTransfers() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+        TransferHolder holder = currentHolder();
+        if (holder == null) {
+            holder = new TransferHolder();
+            TransactionSynchronizationManager.bindResource(this, holder);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ActiveExternalAssetOwnerTransferCache.this);
+                }
+            });
+        }
+        return holder.transfers;
+    }
+
+    private TransferHolder currentHolder() {
+        return (TransferHolder) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private static final class TransferHolder {
+
+        private final Map<Long, Optional<ExternalAssetOwnerTransfer>> transfers = new HashMap<>();
+    }
+}
@@ -51,6 +51,7 @@ import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferLoanMapping
 import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
 import org.apache.fineract.investor.domain.LoanOwnershipTransferBusinessEvent;
 import org.apache.fineract.investor.service.AccountingService;
+import org.apache.fineract.investor.service.ActiveExternalAssetOwnerTransferCache;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanSummary;
 import org.jetbrains.annotations.NotNull;
@@ -77,6 +78,8 @@ public class LoanAccountOwnerTransferBusinessStepTest {
 
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private ActiveExternalAssetOwnerTransferCache activeTransferCache;
 
     @Mock
     private AccountingService accountingService;
@@ -88,7 +91,7 @@ public class LoanAccountOwnerTransferBusinessStepTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, actualDate)));
         underTest = new LoanAccountOwnerTransferBusinessStep(externalAssetOwnerTransferRepository,
-                externalAssetOwnerTransferLoanMappingRepository, accountingService, businessEventNotifierService);
+                externalAssetOwnerTransferLoanMappingRepository, accountingService, businessEventNotifierService, activeTransferCache);
     }
 
     @AfterEach
@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.investor.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransfer;
+import org.apache.fineract.investor.domain.ExternalAssetOwnerTransferRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ActiveExternalAssetOwnerTransferCacheTest {
+
+    @Mock
+    private ExternalAssetOwnerTransferRepository externalAssetOwnerTransferRepository;
+
+    private ActiveExternalAssetOwnerTransferCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ActiveExternalAssetOwnerTransferCache(externalAssetOwnerTransferRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(underTest);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testTransfersAreLoadedOncePerTransaction() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        ExternalAssetOwnerTransfer transfer = transfer(1L);
+        when(externalAssetOwnerTransferRepository.findActiveByLoanIds(anyCollection())).thenReturn(List.of(transfer));
+
+        // when
+        Map<Long, ExternalAssetOwnerTransfer> transfers = underTest.findActiveTransfers(List.of(1L, 2L));
+        underTest.findActiveTransfer(1L);
+        underTest.findActiveTransfer(2L);
+
+        // then
+        assertEquals(Map.of(1L, transfer), transfers);
+        assertTrue(underTest.findActiveTransfer(2L).isEmpty());
+        verify(externalAssetOwnerTransferRepository, times(1)).findActiveByLoanIds(anyCollection());
+    }
+
+    @Test
+    void testEvictedLoanIsLoadedAgain() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        when(externalAssetOwnerTransferRepository.findActiveByLoanIds(anyCollection())).thenReturn(List.of());
+        underTest.findActiveTransfer(1L);
+
+        // when
+        underTest.evict(1L);
+        underTest.findActiveTransfer(1L);
+
+        // then
+        verify(externalAssetOwnerTransferRepository, times(2)).findActiveByLoanIds(Set.of(1L));
+    }
+
+    @Test
+    void testNothingIsRememberedWithoutTransaction() {
+        // given
+        when(externalAssetOwnerTransferRepository.findActiveByLoanIds(anyCollection())).thenReturn(List.of());
+
+        // when
+        underTest.findActiveTransfer(1L);
+        underTest.findActiveTransfer(1L);
+
+        // then
+        verify(externalAssetOwnerTransferRepository, times(2)).findActiveByLoanIds(anyCollection());
+    }
+
+    private ExternalAssetOwnerTransfer transfer(Long loanId) {
+        ExternalAssetOwnerTransfer transfer = mock(ExternalAssetOwnerTransfer.class);
+        when(transfer.getLoanId()).thenReturn(loanId);
+        return transfer;
+    }
+}
@@ -566,6 +566,10 @@ public class LoanTransaction extends AbstractAuditableWithUTCDateTimeCustom {
         return this.reversed;
     }
 
+    public LocalDate getReversedOnDate() {
+        return this.reversedOnDate;
+    }
+
     public boolean isNotReversed() {
         return !isReversed();
     }
@@ -71,7 +71,9 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
     public ChangedTransactionDetail reprocessLoanTransactions(final LocalDate disbursementDate,
             final List<LoanTransaction> transactionsPostDisbursement, final MonetaryCurrency currency,
             final List<LoanRepaymentScheduleInstallment> installments, final Set<LoanCharge> charges) {
-
+        // Always a full replay from disbursement: no installment, charge or overpayment state is kept between replays, and
+        // charge payments are allocated ahead of the date ordered transactions, so resuming at a later date is not exact.
+        // LoanTransactionReplayEquivalenceTest compares replays against loans booked in date order.
         if (charges != null) {
             for (final LoanCharge loanCharge : charges) {
                 if (!loanCharge.isDueAtDisbursement()) {
@@ -153,12 +155,15 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
         }
 
         MoneyHolder overpaymentHolder = new MoneyHolder(Money.zero(currency));
+        // only refunds (reverse order) and credit transactions (additional installment) change the order of installments
+        boolean installmentsSortedByDueDate = false;
         for (final LoanTransaction loanTransaction : transactionsToBeProcessed) {
             // TODO: analyze and remove this
-            if (!loanTransaction.getTypeOf().equals(LoanTransactionType.REFUND_FOR_ACTIVE_LOAN)) {
+            if (!loanTransaction.getTypeOf().equals(LoanTransactionType.REFUND_FOR_ACTIVE_LOAN) && !installmentsSortedByDueDate) {
                 final Comparator<LoanRepaymentScheduleInstallment> byDate = Comparator
                         .comparing(LoanRepaymentScheduleInstallment::getDueDate);
                 installments.sort(byDate);
+                installmentsSortedByDueDate = true;
             }
 
             if (loanTransaction.isRepaymentLikeType() || loanTransaction.isInterestWaiver() || loanTransaction.isRecoveryRepayment()) {
@@ -195,13 +200,16 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
             } else if (loanTransaction.isRefundForActiveLoan()) {
                 loanTransaction.resetDerivedComponents();
                 handleRefund(loanTransaction, currency, installments, charges);
+                installmentsSortedByDueDate = false;
             } else if (loanTransaction.isCreditBalanceRefund()) {
                 recalculateCreditTransaction(changedTransactionDetail, loanTransaction, currency, installments, transactionsToBeProcessed,
                         overpaymentHolder);
+                installmentsSortedByDueDate = false;
             } else if (loanTransaction.isChargeback()) {
                 recalculateCreditTransaction(changedTransactionDetail, loanTransaction, currency, installments, transactionsToBeProcessed,
                         overpaymentHolder);
                 reprocessChargebackTransactionRelation(changedTransactionDetail, transactionsToBeProcessed);
+                installmentsSortedByDueDate = false;
             } else if (loanTransaction.isChargeOff()) {
                 recalculateChargeOffTransaction(changedTransactionDetail, loanTransaction, currency, installments);
             }
@@ -604,18 +612,20 @@ public abstract class AbstractLoanRepaymentScheduleTransactionProcessor implemen
         List<LoanTransactionToRepaymentScheduleMapping> transactionMappings = new ArrayList<>();
 
         for (final LoanRepaymentScheduleInstallment currentInstallment : installments) {
-            if (transactionAmountUnprocessed.isGreaterThanZero()) {
-                if (currentInstallment.isNotFullyPaidOff()) {
-                    if (isTransactionInAdvanceOfInstallment(installmentIndex, installments, transactionDate)) {
-                        transactionAmountUnprocessed = handleTransactionThatIsPaymentInAdvanceOfInstallment(currentInstallment,
-                                installments, loanTransaction, transactionAmountUnprocessed, transactionMappings, charges);
-                    } else if (isTransactionALateRepaymentOnInstallment(installmentIndex, installments, transactionDate)) {
-                        transactionAmountUnprocessed = handleTransactionThatIsALateRepaymentOfInstallment(currentInstallment, installments,
-                                loanTransaction, transactionAmountUnprocessed, transactionMappings, charges);
-                    } else {
-                        transactionAmountUnprocessed = handleTransactionThatIsOnTimePaymentOfInstallment(currentInstallment,
-                                loanTransaction, transactionAmountUnprocessed, transactionMappings, charges);
-                    }
+            if (!transactionAmountUnprocessed.isGreaterThanZero()) {
+                // nothing left to allocate, the remaining installments would not be touched
+                break;
+            }
+            if (currentInstallment.isNotFullyPaidOff()) {
+                if (isTransactionInAdvanceOfInstallment(installmentIndex, installments, transactionDate)) {
+                    transactionAmountUnprocessed = handleTransactionThatIsPaymentInAdvanceOfInstallment(currentInstallment, installments,
+                            loanTransaction, transactionAmountUnprocessed, transactionMappings, charges);
+                } else if (isTransactionALateRepaymentOnInstallment(installmentIndex, installments, transactionDate)) {
+                    transactionAmountUnprocessed = handleTransactionThatIsALateRepaymentOfInstallment(currentInstallment, installments,
+                            loanTransaction, transactionAmountUnprocessed, transactionMappings, charges);
+                } else {
+                    transactionAmountUnprocessed = handleTransactionThatIsOnTimePaymentOfInstallment(currentInstallment, loanTransaction,
+                            transactionAmountUnprocessed, transactionMappings, charges);
                 }
             }
 
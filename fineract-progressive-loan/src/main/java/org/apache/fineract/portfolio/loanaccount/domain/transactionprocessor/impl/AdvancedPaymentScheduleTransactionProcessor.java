@@ -144,6 +144,7 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
     @Override
     public ChangedTransactionDetail reprocessLoanTransactions(LocalDate disbursementDate, List<LoanTransaction> loanTransactions,
             MonetaryCurrency currency, List<LoanRepaymentScheduleInstallment> installments, Set<LoanCharge> charges) {
+        // Replays every transaction since disbursement, re-aged and N+1 installments are rebuilt on the way
         if (charges != null) {
             for (final LoanCharge loanCharge : charges) {
                 if (!loanCharge.isDueAtDisbursement()) {
@@ -568,10 +569,8 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
              * Check if the transaction amounts have changed or was there any transaction for the same date which was
              * reverse-replayed. If so, reverse the original transaction and update changedTransactionDetail accordingly
              */
-            boolean aTransactionWasAlreadyReplayedForTheSameDate = changedTransactionDetail.getNewTransactionMappings().values().stream()
-                    .anyMatch(lt -> lt.getTransactionDate().equals(loanTransaction.getTransactionDate()));
             if (LoanTransaction.transactionAmountsMatch(currency, loanTransaction, newLoanTransaction)
-                    && !aTransactionWasAlreadyReplayedForTheSameDate) {
+                    && !isTransactionReplayedOnDate(changedTransactionDetail, loanTransaction.getTransactionDate())) {
                 loanTransaction.updateLoanTransactionToRepaymentScheduleMappings(
                         newLoanTransaction.getLoanTransactionToRepaymentScheduleMappings());
             } else {
@@ -581,6 +580,11 @@ public class AdvancedPaymentScheduleTransactionProcessor extends AbstractLoanRep
         }
     }
 
+    private boolean isTransactionReplayedOnDate(ChangedTransactionDetail changedTransactionDetail, LocalDate transactionDate) {
+        return changedTransactionDetail.getNewTransactionMappings().values().stream()
+                .anyMatch(lt -> lt.getTransactionDate().equals(transactionDate));
+    }
+
     private void checkAndUpdateReplayedChargebackRelationWithReplayedTransaction(LoanTransaction loanTransaction,
             LoanTransaction newLoanTransaction, TransactionCtx ctx) {
         // if chargeback is getting reverse-replayed
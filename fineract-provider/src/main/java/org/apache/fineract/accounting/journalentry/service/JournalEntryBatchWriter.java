@@ -0,0 +1,214 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects system generated journal entries of the current transaction and writes them with a single JDBC batch
+ * insert instead of flushing every entry through JPA.
+ *
+ * A batch is bound to the transaction which opened it: entries are written when {@link #flush()} is called, at the
+ * latest right before the transaction commits, and dropped when it rolls back. Transactions started with
+ * REQUIRES_NEW do not see the batch of the suspended outer transaction. Batched entries are not visible to queries
+ * until they are flushed, so only postings which are not read back within the transaction should be batched. The loan
+ * COB flushes after every business step, so later steps see the entries and their external asset owner is resolved
+ * before an owner transfer step runs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JournalEntryBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO acc_gl_journal_entry (account_id, office_id, payment_details_id, "
+            + "currency_code, transaction_id, loan_transaction_id, savings_transaction_id, client_transaction_id, share_transaction_id, "
+            + "reversed, manual_entry, entry_date, type_enum, amount, description, entity_type_enum, entity_id, ref_num, "
+            + "submitted_on_date, created_by, created_on_utc, last_modified_by, last_modified_on_utc) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<Long> auditorAware;
+    private final BusinessEventNotifierService businessEventNotifierService;
+
+    /**
+     * Opens a batch for the current transaction, does nothing if one is already open or there is no transaction.
+     */
+    public void start() {
+        if (TransactionSynchronizationManager.isSynchronizationActive() && currentBatch().isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new PendingJournalEntries());
+        }
+    }
+
+    public boolean isActive() {
+        return currentBatch().isPresent();
+    }
+
+    /**
+     * Queues a new journal entry if a batch is open for the current transaction.
+     *
+     * @return false if the entry has to be persisted by the caller
+     */
+    public boolean add(final JournalEntry journalEntry) {
+        final Optional<PendingJournalEntries> batch = currentBatch();
+        if (batch.isEmpty() || !isBatchable(journalEntry)) {
+            return false;
+        }
+        batch.get().entries.add(journalEntry);
+        return true;
+    }
+
+    /**
+     * Writes the queued journal entries of the current transaction, the batch stays open.
+     */
+    public void flush() {
+        currentBatch().ifPresent(PendingJournalEntries::flush);
+    }
+
+    private boolean isBatchable(final JournalEntry journalEntry) {
+        return journalEntry.isNew() && !journalEntry.isManualEntry() && journalEntry.getReversalJournalEntry() == null
+                && journalEntry.getOffice().getId() != null && journalEntry.getGlAccount().getId() != null
+                && (journalEntry.getPaymentDetail() == null || journalEntry.getPaymentDetail().getId() != null);
+    }
+
+    private Optional<PendingJournalEntries> currentBatch() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        return TransactionSynchronizationManager.getSynchronizations().stream().filter(PendingJournalEntries.class::isInstance)
+                .map(PendingJournalEntries.class::cast).findFirst();
+    }
+
+    private void insert(final List<JournalEntry> journalEntries) {
+        final Long userId = auditorAware.getCurrentAuditor().orElse(null);
+        final OffsetDateTime auditDateTime = DateUtils.getAuditOffsetDateTime();
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }), new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                final JournalEntry journalEntry = journalEntries.get(i);
+                ps.setLong(1, journalEntry.getGlAccount().getId());
+                ps.setLong(2, journalEntry.getOffice().getId());
+                setLong(ps, 3, journalEntry.getPaymentDetail() == null ? null : journalEntry.getPaymentDetail().getId());
+                ps.setString(4, journalEntry.getCurrencyCode());
+                ps.setString(5, journalEntry.getTransactionId());
+                setLong(ps, 6, journalEntry.getLoanTransactionId());
+                setLong(ps, 7, journalEntry.getSavingsTransactionId());
+                setLong(ps, 8, journalEntry.getClientTransactionId());
+                setLong(ps, 9, journalEntry.getShareTransactionId());
+                ps.setBoolean(10, journalEntry.isReversed());
+                ps.setBoolean(11, journalEntry.isManualEntry());
+                ps.setObject(12, journalEntry.getTransactionDate());
+                ps.setInt(13, journalEntry.getType());
+                ps.setBigDecimal(14, journalEntry.getAmount());
+                ps.setString(15, journalEntry.getDescription());
+                if (journalEntry.getEntityType() == null) {
+                    ps.setNull(16, Types.INTEGER);
+                } else {
+                    ps.setInt(16, journalEntry.getEntityType());
+                }
+                setLong(ps, 17, journalEntry.getEntityId());
+                ps.setString(18, journalEntry.getReferenceNumber());
+                ps.setObject(19, journalEntry.getSubmittedOnDate());
+                setLong(ps, 20, userId);
+                ps.setObject(21, auditDateTime);
+                setLong(ps, 22, userId);
+                ps.setObject(23, auditDateTime);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return journalEntries.size();
+            }
+        }, keyHolder);
+
+        final List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != journalEntries.size()) {
+            throw new IllegalStateException(
+                    "Expected " + journalEntries.size() + " generated journal entry ids but the database returned " + keys.size());
+        }
+        for (int i = 0; i < journalEntries.size(); i++) {
+            final JournalEntry journalEntry = journalEntries.get(i);
+            journalEntry.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            journalEntry.setCreatedBy(userId);
+            journalEntry.setCreatedDate(auditDateTime);
+            journalEntry.setLastModifiedBy(userId);
+            journalEntry.setLastModifiedDate(auditDateTime);
+        }
+    }
+
+    private static void setLong(final PreparedStatement ps, final int index, final Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private final class PendingJournalEntries implements TransactionSynchronization {
+
+        private final List<JournalEntry> entries = new ArrayList<>();
+
+        private void flush() {
+            if (entries.isEmpty()) {
+                return;
+            }
+            final List<JournalEntry> journalEntries = new ArrayList<>(entries);
+            entries.clear();
+            insert(journalEntries);
+            log.debug("Inserted {} journal entries in a batch", journalEntries.size());
+            for (JournalEntry journalEntry : journalEntries) {
+                if (journalEntry.getLoanTransactionId() != null) {
+                    businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(journalEntry));
+                }
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            entries.clear();
+        }
+    }
+}
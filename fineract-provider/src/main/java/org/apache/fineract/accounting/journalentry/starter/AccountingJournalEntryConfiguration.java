@@ -19,6 +19,7 @@
 package org.apache.fineract.accounting.journalentry.starter;
 
 import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
+import org.apache.fineract.accounting.common.AccountingMappingCache;
 import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
 import org.apache.fineract.accounting.glaccount.service.GLAccountReadPlatformService;
@@ -29,11 +30,11 @@ import org.apache.fineract.accounting.journalentry.service.AccountingProcessorFo
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorForSharesFactory;
 import org.apache.fineract.accounting.journalentry.service.AccountingProcessorHelper;
 import org.apache.fineract.accounting.journalentry.service.CashBasedAccountingProcessorForClientTransactions;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryReadPlatformServiceImpl;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformServiceJpaRepositoryImpl;
-import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
 import org.apache.fineract.accounting.rule.domain.AccountingRuleRepository;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
@@ -61,17 +62,15 @@ public class AccountingJournalEntryConfiguration {
     @Bean
     @ConditionalOnMissingBean(AccountingProcessorHelper.class)
     public AccountingProcessorHelper accountingProcessorHelper(JournalEntryRepository glJournalEntryRepository,
-            ProductToGLAccountMappingRepository accountMappingRepository,
-            FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository, GLClosureRepository closureRepository,
             GLAccountRepository glAccountRepository, OfficeRepository officeRepository, LoanTransactionRepository loanTransactionRepository,
             ClientTransactionRepository clientTransactionRepository,
             SavingsAccountTransactionRepository savingsAccountTransactionRepository,
             AccountTransfersReadPlatformService accountTransfersReadPlatformService, ChargeRepositoryWrapper chargeRepositoryWrapper,
-            BusinessEventNotifierService businessEventNotifierService) {
-        return new AccountingProcessorHelper(glJournalEntryRepository, accountMappingRepository, financialActivityAccountRepository,
-                closureRepository, glAccountRepository, officeRepository, loanTransactionRepository, clientTransactionRepository,
-                savingsAccountTransactionRepository, accountTransfersReadPlatformService, chargeRepositoryWrapper,
-                businessEventNotifierService);
+            BusinessEventNotifierService businessEventNotifierService, AccountingMappingCache accountingMappingCache,
+            JournalEntryBatchWriter journalEntryBatchWriter) {
+        return new AccountingProcessorHelper(glJournalEntryRepository, glAccountRepository, officeRepository, loanTransactionRepository,
+                clientTransactionRepository, savingsAccountTransactionRepository, accountTransfersReadPlatformService,
+                chargeRepositoryWrapper, businessEventNotifierService, accountingMappingCache, journalEntryBatchWriter);
     }
 
     @Bean
@@ -19,14 +19,18 @@
 package org.apache.fineract.accounting.provisioning.service;
 
 import com.google.gson.JsonObject;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.glaccount.domain.GLAccount;
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.accounting.producttoaccountmapping.domain.PortfolioProductType;
 import org.apache.fineract.accounting.provisioning.data.LoanProductProvisioningEntryData;
@@ -64,6 +68,8 @@ import org.springframework.orm.jpa.JpaSystemException;
 @Slf4j
 public class ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl implements ProvisioningEntriesWritePlatformService {
 
+    private static final long LOAN_PARTITION_SIZE = 10000L;
+
     private final ProvisioningEntriesReadPlatformService provisioningEntriesReadPlatformService;
     private final ProvisioningCriteriaReadPlatformService provisioningCriteriaReadPlatformService;
     private final LoanProductRepository loanProductRepository;
@@ -75,6 +81,7 @@ public class ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl implements
     private final JournalEntryWritePlatformService journalEntryWritePlatformService;
     private final ProvisioningEntriesDefinitionJsonDeserializer fromApiJsonDeserializer;
     private final FromJsonHelper fromApiJsonHelper;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
 
     @Override
     public CommandProcessingResult createProvisioningJournalEntries(Long provisioningEntryId, JsonCommand command) {
@@ -100,7 +107,9 @@ public class ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl implements
         }
 
         this.provisioningEntryRepository.saveAndFlush(requestedEntry);
+        this.journalEntryBatchWriter.start();
         this.journalEntryWritePlatformService.createProvisioningJournalEntries(requestedEntry);
+        this.journalEntryBatchWriter.flush();
     }
 
     private void validateForCreateJournalEntry(ProvisioningEntryData existingEntry, ProvisioningEntry requested) {
@@ -174,32 +183,52 @@ public class ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl implements
         return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(requestedEntry.getId()).build();
     }
 
+    /**
+     * Streams the provisioning data of the active loans in id ranges of {@link #LOAN_PARTITION_SIZE} and sums up the
+     * reserved amounts per entry right away, so only one amount per distinct entry is kept in memory instead of a row
+     * per loan.
+     */
     private Collection<LoanProductProvisioningEntry> generateLoanProvisioningEntry(ProvisioningEntry parent, LocalDate date) {
-        Collection<LoanProductProvisioningEntryData> entries = this.provisioningEntriesReadPlatformService
-                .retrieveLoanProductsProvisioningData(date);
-        Map<Integer, LoanProductProvisioningEntry> provisioningEntries = new HashMap<>();
-        for (LoanProductProvisioningEntryData data : entries) {
-            LoanProduct loanProduct = this.loanProductRepository.findById(data.getProductId()).orElseThrow();
-            Office office = this.officeRepositoryWrapper.findOneWithNotFoundDetection(data.getOfficeId());
-            ProvisioningCategory provisioningCategory = provisioningCategoryRepository.findById(data.getCategoryId()).orElse(null);
-            GLAccount liabilityAccount = glAccountRepository.findById(data.getLiablityAccount()).orElseThrow();
-            GLAccount expenseAccount = glAccountRepository.findById(data.getExpenseAccount()).orElseThrow();
-            MonetaryCurrency currency = loanProduct.getPrincipalAmount().getCurrency();
-            Money money = Money.of(currency, data.getBalance());
-            Money amountToReserve = money.percentageOf(data.getPercentage(), MoneyHelper.getRoundingMode());
-            Long criteraId = data.getCriteriaId();
+        Map<ProvisioningEntryKey, BigDecimal> reservedAmounts = new LinkedHashMap<>();
+        Map<Long, MonetaryCurrency> currencies = new HashMap<>();
+        Long maxLoanId = this.provisioningEntriesReadPlatformService.retrieveMaxActiveLoanId();
+        for (long fromLoanId = 0; maxLoanId != null && fromLoanId < maxLoanId; fromLoanId += LOAN_PARTITION_SIZE) {
+            this.provisioningEntriesReadPlatformService.retrieveLoanProductsProvisioningData(date, fromLoanId,
+                    fromLoanId + LOAN_PARTITION_SIZE, data -> {
+                        MonetaryCurrency currency = currencies.computeIfAbsent(data.getProductId(), this::getProductCurrency);
+                        Money amountToReserve = Money.of(currency, data.getBalance()).percentageOf(data.getPercentage(),
+                                MoneyHelper.getRoundingMode());
+                        reservedAmounts.merge(ProvisioningEntryKey.of(data), amountToReserve.getAmount(), BigDecimal::add);
+                    });
+        }
+        Collection<LoanProductProvisioningEntry> provisioningEntries = new ArrayList<>(reservedAmounts.size());
+        for (Map.Entry<ProvisioningEntryKey, BigDecimal> reservedAmount : reservedAmounts.entrySet()) {
+            ProvisioningEntryKey key = reservedAmount.getKey();
+            LoanProduct loanProduct = this.loanProductRepository.findById(key.productId()).orElseThrow();
+            Office office = this.officeRepositoryWrapper.findOneWithNotFoundDetection(key.officeId());
+            ProvisioningCategory provisioningCategory = provisioningCategoryRepository.findById(key.categoryId()).orElse(null);
+            GLAccount liabilityAccount = glAccountRepository.findById(key.liabilityAccountId()).orElseThrow();
+            GLAccount expenseAccount = glAccountRepository.findById(key.expenseAccountId()).orElseThrow();
             LoanProductProvisioningEntry entry = new LoanProductProvisioningEntry().setLoanProduct(loanProduct).setOffice(office)
-                    .setCurrencyCode(data.getCurrencyCode()).setProvisioningCategory(provisioningCategory)
-                    .setOverdueInDays(data.getOverdueInDays()).setReservedAmount(amountToReserve.getAmount())
-                    .setLiabilityAccount(liabilityAccount).setExpenseAccount(expenseAccount).setCriteriaId(criteraId);
+                    .setCurrencyCode(key.currencyCode()).setProvisioningCategory(provisioningCategory)
+                    .setOverdueInDays(key.overdueInDays()).setReservedAmount(reservedAmount.getValue())
+                    .setLiabilityAccount(liabilityAccount).setExpenseAccount(expenseAccount).setCriteriaId(key.criteriaId());
             entry.setEntry(parent);
-            if (!provisioningEntries.containsKey(entry.partialHashCode())) {
-                provisioningEntries.put(entry.partialHashCode(), entry);
-            } else {
-                LoanProductProvisioningEntry entry1 = provisioningEntries.get(entry.partialHashCode());
-                entry1.setReservedAmount(entry1.getReservedAmount().add(entry.getReservedAmount()));
-            }
+            provisioningEntries.add(entry);
+        }
+        return provisioningEntries;
+    }
+
+    private MonetaryCurrency getProductCurrency(Long productId) {
+        return this.loanProductRepository.findById(productId).orElseThrow().getPrincipalAmount().getCurrency();
+    }
+
+    private record ProvisioningEntryKey(Long officeId, Long productId, String currencyCode, Long categoryId, Long overdueInDays,
+            Long criteriaId, Long liabilityAccountId, Long expenseAccountId) {
+
+        private static ProvisioningEntryKey of(LoanProductProvisioningEntryData data) {
+            return new ProvisioningEntryKey(data.getOfficeId(), data.getProductId(), data.getCurrencyCode(), data.getCategoryId(),
+                    data.getOverdueInDays(), data.getCriteriaId(), data.getLiablityAccount(), data.getExpenseAccount());
         }
-        return provisioningEntries.values();
     }
 }
@@ -19,6 +19,7 @@
 package org.apache.fineract.accounting.provisioning.starter;
 
 import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
 import org.apache.fineract.accounting.provisioning.domain.ProvisioningEntryRepository;
 import org.apache.fineract.accounting.provisioning.serialization.ProvisioningEntriesDefinitionJsonDeserializer;
@@ -59,11 +60,12 @@ public class AccountingProvisioningConfiguration {
             GLAccountRepository glAccountRepository, OfficeRepositoryWrapper officeRepositoryWrapper,
             ProvisioningCategoryRepository provisioningCategoryRepository, PlatformSecurityContext platformSecurityContext,
             ProvisioningEntryRepository provisioningEntryRepository, JournalEntryWritePlatformService journalEntryWritePlatformService,
-            ProvisioningEntriesDefinitionJsonDeserializer fromApiJsonDeserializer, FromJsonHelper fromApiJsonHelper) {
+            ProvisioningEntriesDefinitionJsonDeserializer fromApiJsonDeserializer, FromJsonHelper fromApiJsonHelper,
+            JournalEntryBatchWriter journalEntryBatchWriter) {
         return new ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl(provisioningEntriesReadPlatformService,
                 provisioningCriteriaReadPlatformService, loanProductRepository, glAccountRepository, officeRepositoryWrapper,
                 provisioningCategoryRepository, platformSecurityContext, provisioningEntryRepository, journalEntryWritePlatformService,
-                fromApiJsonDeserializer, fromApiJsonHelper) {};
+                fromApiJsonDeserializer, fromApiJsonHelper, journalEntryBatchWriter) {};
     }
 
 }
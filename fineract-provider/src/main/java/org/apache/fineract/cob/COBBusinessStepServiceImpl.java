@@ -26,12 +26,14 @@ import java.util.Set;
 import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.domain.BatchBusinessStep;
 import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
 import org.apache.fineract.cob.exceptions.BusinessStepException;
 import org.apache.fineract.cob.service.ReloaderService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.PerformanceInstrumentation;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -53,6 +55,8 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
     private final ConfigurationDomainService configurationDomainService;
 
     private final ReloaderService reloaderService;
+    private final PerformanceInstrumentation performanceInstrumentation;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
 
     @SuppressWarnings({ "unchecked" })
     @Override
@@ -72,7 +76,17 @@ public class COBBusinessStepServiceImpl implements COBBusinessStepService {
                     ThreadLocalContextUtil.setActionContext(ActionContext.COB);
                     COBBusinessStep<S> businessStepBean = (COBBusinessStep<S>) applicationContext.getBean(businessStep);
                     item = reloaderService.reload(item);
-                    item = businessStepBean.execute(item);
+                    PerformanceInstrumentation.Sample sample = performanceInstrumentation.start();
+                    try {
+                        item = businessStepBean.execute(item);
+                        // later steps (e.g. the owner transfer) must see the journal entries of this step and their
+                        // external asset owner is resolved right away
+                        journalEntryBatchWriter.flush();
+                    } finally {
+                        String stepName = businessStepBean.getEnumStyledName();
+                        performanceInstrumentation.stop(sample, "fineract.cob.business.step", "business step " + stepName, "step",
+                                stepName);
+                    }
                 } catch (Exception e) {
                     throw new BusinessStepException("Error happened during business step execution", e);
                 } finally {
@@ -29,6 +29,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -44,6 +45,7 @@ import org.springframework.batch.item.ItemProcessor;
 public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, Loan> {
 
     private final COBBusinessStepService cobBusinessStepService;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
 
     @Setter(AccessLevel.PROTECTED)
     private ExecutionContext executionContext;
@@ -58,6 +60,8 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
         }
         TreeMap<Long, String> businessStepMap = getBusinessStepMap(businessSteps);
 
+        // journal entries of each business step are inserted together when the step completes
+        journalEntryBatchWriter.start();
         Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item);
         alreadyProcessedLoan.setLastClosedBusinessDate(businessDate);
         return alreadyProcessedLoan;
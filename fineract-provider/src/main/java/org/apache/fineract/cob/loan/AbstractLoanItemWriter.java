@@ -21,6 +21,7 @@ package org.apache.fineract.cob.loan;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.domain.LockOwner;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -33,10 +34,12 @@ import org.springframework.batch.item.data.RepositoryItemWriter;
 public abstract class AbstractLoanItemWriter extends RepositoryItemWriter<Loan> {
 
     private final LoanLockingService loanLockingService;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
 
     @Override
     public void write(@NotNull Chunk<? extends Loan> items) throws Exception {
         if (!items.isEmpty()) {
+            journalEntryBatchWriter.flush();
             super.write(items);
             List<Long> loanIds = items.getItems().stream().map(AbstractPersistableCustom::getId).toList();
             loanLockingService.deleteByLoanIdInAndLockOwner(loanIds, getLockOwner());
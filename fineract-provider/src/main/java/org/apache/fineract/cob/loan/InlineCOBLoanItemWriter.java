@@ -18,12 +18,13 @@
  */
 package org.apache.fineract.cob.loan;
 
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.domain.LockOwner;
 
 public class InlineCOBLoanItemWriter extends AbstractLoanItemWriter {
 
-    public InlineCOBLoanItemWriter(LoanLockingService loanLockingService) {
-        super(loanLockingService);
+    public InlineCOBLoanItemWriter(LoanLockingService loanLockingService, JournalEntryBatchWriter journalEntryBatchWriter) {
+        super(loanLockingService, journalEntryBatchWriter);
     }
 
     @Override
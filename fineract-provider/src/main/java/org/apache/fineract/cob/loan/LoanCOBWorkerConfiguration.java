@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.cob.loan;
 
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.InitialisationTasklet;
@@ -83,6 +84,8 @@ public class LoanCOBWorkerConfiguration {
 
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
+    @Autowired
+    private JournalEntryBatchWriter journalEntryBatchWriter;
 
     @Bean(name = LoanCOBConstant.LOAN_COB_WORKER_STEP)
     public Step loanCOBWorkerStep() {
@@ -183,13 +186,13 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemProcessor cobWorkerItemProcessor() {
-        return new LoanItemProcessor(cobBusinessStepService);
+        return new LoanItemProcessor(cobBusinessStepService, journalEntryBatchWriter);
     }
 
     @Bean
     @StepScope
     public LoanItemWriter cobWorkerItemWriter() {
-        LoanItemWriter repositoryItemWriter = new LoanItemWriter(loanLockingService);
+        LoanItemWriter repositoryItemWriter = new LoanItemWriter(loanLockingService, journalEntryBatchWriter);
         repositoryItemWriter.setRepository(loanRepository);
         return repositoryItemWriter;
     }
@@ -18,14 +18,15 @@
  */
 package org.apache.fineract.cob.loan;
 
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.BeforeStep;
 
 public class LoanItemProcessor extends AbstractLoanItemProcessor {
 
-    public LoanItemProcessor(COBBusinessStepService cobBusinessStepService) {
-        super(cobBusinessStepService);
+    public LoanItemProcessor(COBBusinessStepService cobBusinessStepService, JournalEntryBatchWriter journalEntryBatchWriter) {
+        super(cobBusinessStepService, journalEntryBatchWriter);
     }
 
     @BeforeStep
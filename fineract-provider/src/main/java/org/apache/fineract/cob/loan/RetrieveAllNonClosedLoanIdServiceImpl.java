@@ -77,6 +77,11 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return loanRepository.findAllNonClosedLoansBehindOrNullByLoanIds(businessDate, loanIds);
     }
 
+    @Override
+    public List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindOrUpToDate(LocalDate businessDate, List<Long> loanIds) {
+        return loanRepository.findAllNonClosedLoansBehindOrUpToDateByLoanIds(businessDate, loanIds);
+    }
+
     @Override
     public List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsOldestCobProcessed(LocalDate businessDate) {
         return loanRepository.findOldestCOBProcessedLoan(businessDate);
@@ -34,6 +34,12 @@ public interface RetrieveLoanIdService {
 
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDateOrNull(LocalDate businessDate, List<Long> loanIds);
 
+    /**
+     * Returns the non closed loans behind the given date together with the loans already closed on or after the date,
+     * regardless of their status.
+     */
+    List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindOrUpToDate(LocalDate businessDate, List<Long> loanIds);
+
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsOldestCobProcessed(LocalDate businessDate);
 
     List<Long> retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(LoanCOBParameter loanCOBParameter, boolean isCatchUp);
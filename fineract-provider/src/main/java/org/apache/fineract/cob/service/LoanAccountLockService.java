@@ -27,5 +27,7 @@ public interface LoanAccountLockService {
 
     boolean isLoanHardLocked(Long loanId);
 
+    List<Long> findHardLockedLoanIds(List<Long> loanIds);
+
     void updateCobAndRemoveLocks();
 }
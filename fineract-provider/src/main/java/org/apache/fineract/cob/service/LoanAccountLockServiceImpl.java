@@ -49,6 +49,11 @@ public class LoanAccountLockServiceImpl implements LoanAccountLockService {
                 || loanAccountLockRepository.existsByLoanIdAndLockOwner(loanId, LockOwner.LOAN_INLINE_COB_PROCESSING);
     }
 
+    @Override
+    public List<Long> findHardLockedLoanIds(List<Long> loanIds) {
+        return loanAccountLockRepository.findHardLockedLoanIds(loanIds);
+    }
+
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateCobAndRemoveLocks() {
@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
+import org.apache.fineract.cob.loan.RetrieveLoanIdService;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant scoped in-memory view of the COB state of loans for the checks run before every loan write.
+ *
+ * It remembers the last closed business date of loans which were found to be closed for the current COB date or later.
+ * The last closed business date of a loan only ever moves forward, and COB only locks loans which are not yet closed
+ * for the COB date, so such loans are neither behind nor hard locked and are answered without touching the database.
+ * Every other loan is checked against the database with a single query per check, which keeps the view consistent
+ * with locks placed by other nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoanCOBStateCache {
+
+    private static final int MAX_LOANS_PER_TENANT = 500_000;
+
+    private final LoanAccountLockService loanAccountLockService;
+    private final RetrieveLoanIdService retrieveLoanIdService;
+    private final FineractProperties fineractProperties;
+
+    private final Map<String, Map<Long, LocalDate>> lastClosedBusinessDatesByTenant = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the first of the given loans which is hard locked by COB, or null when none of them is.
+     */
+    public Long findFirstHardLockedLoanId(final List<Long> loanIds) {
+        final List<Long> unknownLoanIds = unknownLoanIds(loanIds, currentCobDate());
+        if (unknownLoanIds.isEmpty()) {
+            return null;
+        }
+        final Set<Long> lockedLoanIds = new HashSet<>();
+        partitions(unknownLoanIds).forEach(partition -> lockedLoanIds.addAll(loanAccountLockService.findHardLockedLoanIds(partition)));
+        return unknownLoanIds.stream().filter(lockedLoanIds::contains).findFirst().orElse(null);
+    }
+
+    /**
+     * Tells whether any of the given loans is not closed for the current COB date yet.
+     */
+    public boolean isAnyLoanBehind(final List<Long> loanIds) {
+        final LocalDate cobDate = currentCobDate();
+        final List<Long> unknownLoanIds = unknownLoanIds(loanIds, cobDate);
+        if (unknownLoanIds.isEmpty()) {
+            return false;
+        }
+        final Map<Long, LocalDate> lastClosedBusinessDates = currentLastClosedBusinessDates();
+        boolean behind = false;
+        for (List<Long> partition : partitions(unknownLoanIds)) {
+            for (LoanIdAndLastClosedBusinessDate loan : retrieveLoanIdService.retrieveLoanIdsBehindOrUpToDate(cobDate, partition)) {
+                if (DateUtils.isBefore(loan.getLastClosedBusinessDate(), cobDate)) {
+                    behind = true;
+                } else {
+                    lastClosedBusinessDates.put(loan.getId(), loan.getLastClosedBusinessDate());
+                }
+            }
+        }
+        return behind;
+    }
+
+    /**
+     * Forgets what is known about the loan, for code which moves its last closed business date backwards or locks it
+     * while it is closed for the COB date.
+     */
+    public void evict(final Long loanId) {
+        final Map<Long, LocalDate> lastClosedBusinessDates = lastClosedBusinessDatesByTenant.get(tenantIdentifier());
+        if (lastClosedBusinessDates != null) {
+            lastClosedBusinessDates.remove(loanId);
+        }
+    }
+
+    private List<Long> unknownLoanIds(final List<Long> loanIds, final LocalDate cobDate) {
+        final Map<Long, LocalDate> lastClosedBusinessDates = currentLastClosedBusinessDates();
+        final List<Long> unknownLoanIds = new ArrayList<>();
+        for (Long loanId : loanIds) {
+            final LocalDate lastClosedBusinessDate = lastClosedBusinessDates.get(loanId);
+            if (lastClosedBusinessDate == null || DateUtils.isBefore(lastClosedBusinessDate, cobDate)) {
+                unknownLoanIds.add(loanId);
+            }
+        }
+        return unknownLoanIds;
+    }
+
+    private Map<Long, LocalDate> currentLastClosedBusinessDates() {
+        final Map<Long, LocalDate> lastClosedBusinessDates = lastClosedBusinessDatesByTenant.computeIfAbsent(tenantIdentifier(),
+                tenant -> new ConcurrentHashMap<>());
+        if (lastClosedBusinessDates.size() > MAX_LOANS_PER_TENANT) {
+            lastClosedBusinessDates.clear();
+        }
+        return lastClosedBusinessDates;
+    }
+
+    private List<List<Long>> partitions(final List<Long> loanIds) {
+        return Lists.partition(loanIds, fineractProperties.getQuery().getInClauseParameterSizeLimit());
+    }
+
+    private static LocalDate currentCobDate() {
+        return ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+    }
+
+    private static String tenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+}
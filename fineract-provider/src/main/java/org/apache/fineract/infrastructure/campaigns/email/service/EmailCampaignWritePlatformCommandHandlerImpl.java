@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.campaigns.email.data.EmailCampaignValidator;
@@ -51,6 +52,7 @@ import org.apache.fineract.infrastructure.campaigns.email.domain.EmailMessageRep
 import org.apache.fineract.infrastructure.campaigns.email.exception.EmailCampaignMustBeClosedToBeDeletedException;
 import org.apache.fineract.infrastructure.campaigns.email.exception.EmailCampaignMustBeClosedToEditException;
 import org.apache.fineract.infrastructure.campaigns.email.exception.EmailCampaignNotFound;
+import org.apache.fineract.infrastructure.campaigns.helper.CampaignReportRunner;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.api.JsonQuery;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -68,11 +70,14 @@ import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingServi
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.portfolio.calendar.service.CalendarUtils;
 import org.apache.fineract.portfolio.client.domain.Client;
-import org.apache.fineract.portfolio.client.domain.ClientRepositoryWrapper;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -87,10 +92,11 @@ public class EmailCampaignWritePlatformCommandHandlerImpl implements EmailCampai
     private final EmailCampaignValidator emailCampaignValidator;
     private final ReportRepository reportRepository;
     private final EmailMessageRepository emailMessageRepository;
-    private final ClientRepositoryWrapper clientRepositoryWrapper;
     private final ReadReportingService readReportingService;
     private final GenericDataService genericDataService;
     private final FromJsonHelper fromJsonHelper;
+    private final CampaignReportRunner campaignReportRunner;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Transactional
     @Override
@@ -212,37 +218,57 @@ public class EmailCampaignWritePlatformCommandHandlerImpl implements EmailCampai
 
     }
 
-    private void insertDirectCampaignIntoEmailOutboundTable(final String emailParams, final String emailSubject,
-            final String messageTemplate, final String campaignName, final Long campaignId) {
+    private void insertDirectCampaignIntoEmailOutboundTable(final EmailCampaign emailCampaign) {
         try {
-            HashMap<String, String> campaignParams = new ObjectMapper().readValue(emailParams,
-                    new TypeReference<HashMap<String, String>>() {});
-
-            HashMap<String, String> queryParamForRunReport = new ObjectMapper().readValue(emailParams,
+            HashMap<String, String> queryParamForRunReport = new ObjectMapper().readValue(emailCampaign.getParamValue(),
                     new TypeReference<HashMap<String, String>>() {});
+            final Mustache template = compileTemplate(emailCampaign.getEmailMessage(), emailCampaign.getCampaignName());
+            this.campaignReportRunner.run(queryParamForRunReport.get("reportName"), queryParamForRunReport,
+                    rows -> insertPendingEmailMessages(emailCampaign, template, rows));
+        } catch (final IOException e) {
+            // TODO throw something here
+        }
 
-            List<HashMap<String, Object>> runReportObject = this.getRunReportByServiceImpl(campaignParams.get("reportName"),
-                    queryParamForRunReport);
+    }
 
-            if (runReportObject != null) {
-                for (HashMap<String, Object> entry : runReportObject) {
-                    String message = this.compileEmailTemplate(messageTemplate, campaignName, entry);
-                    Integer clientId = (Integer) entry.get("id");
-                    EmailCampaign emailCampaign = this.emailCampaignRepository.findById(campaignId).orElse(null);
-                    Client client = this.clientRepositoryWrapper.findOneWithNotFoundDetection(clientId.longValue());
-                    String emailAddress = client.emailAddress();
+    @Override
+    public void insertScheduledCampaignIntoEmailOutboundTable(final EmailCampaign emailCampaign) throws IOException {
+        HashMap<String, String> queryParamForRunReport = new ObjectMapper().readValue(emailCampaign.getParamValue(),
+                new TypeReference<HashMap<String, String>>() {});
+        final Mustache template = compileTemplate(emailCampaign.getEmailMessage(), emailCampaign.getCampaignName());
+        final int recipients = this.campaignReportRunner.runScheduled(CampaignReportRunner.EMAIL, emailCampaign.getId(),
+                emailCampaign.getNextTriggerDate(), queryParamForRunReport.get("reportName"), queryParamForRunReport,
+                rows -> insertPendingEmailMessages(emailCampaign, template, rows));
+        log.debug("Email campaign {} run for {} report rows", emailCampaign.getId(), recipients);
+    }
 
-                    if (emailAddress != null && isValidEmail(emailAddress)) {
-                        EmailMessage emailMessage = EmailMessage.pendingEmail(null, client, null, emailCampaign, emailSubject, message,
-                                emailAddress, campaignName);
-                        this.emailMessageRepository.save(emailMessage);
-                    }
-                }
+    /**
+     * Inserts the pending messages of a chunk of campaign report rows with a single JDBC batch, the email addresses of
+     * the clients are looked up with one query per chunk.
+     */
+    private void insertPendingEmailMessages(final EmailCampaign emailCampaign, final Mustache template,
+            final List<Map<String, Object>> rows) {
+        final Set<Long> clientIds = rows.stream().map(CampaignReportRunner::recipientId).collect(Collectors.toSet());
+        final Map<Long, String> emailAddresses = new HashMap<>();
+        this.namedParameterJdbcTemplate.query("select id, email_address from m_client where id in (:clientIds)",
+                Map.of("clientIds", clientIds),
+                (RowCallbackHandler) rs -> emailAddresses.put(rs.getLong("id"), rs.getString("email_address")));
+        final List<SqlParameterSource> batchArgs = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            final Long clientId = CampaignReportRunner.recipientId(row);
+            final String emailAddress = emailAddresses.get(clientId);
+            if (emailAddress != null && isValidEmail(emailAddress)) {
+                batchArgs.add(new MapSqlParameterSource().addValue("clientId", clientId).addValue("campaignId", emailCampaign.getId())
+                        .addValue("status", emailCampaign.getStatus()).addValue("emailSubject", emailCampaign.getEmailSubject())
+                        .addValue("message", renderTemplate(template, row)).addValue("emailAddress", emailAddress)
+                        .addValue("campaignName", emailCampaign.getCampaignName()));
             }
-        } catch (final IOException e) {
-            // TODO throw something here
         }
-
+        if (!batchArgs.isEmpty()) {
+            this.namedParameterJdbcTemplate.batchUpdate("insert into scheduled_email_messages_outbound (client_id, email_campaign_id, "
+                    + "status_enum, email_subject, message, email_address, campaign_name) values (:clientId, :campaignId, :status, "
+                    + ":emailSubject, :message, :emailAddress, :campaignName)", batchArgs.toArray(new SqlParameterSource[0]));
+        }
     }
 
     public static boolean isValidEmail(String email) {
@@ -280,8 +306,7 @@ public class EmailCampaignWritePlatformCommandHandlerImpl implements EmailCampai
         this.emailCampaignRepository.saveAndFlush(emailCampaign);
 
         if (emailCampaign.isDirect()) {
-            insertDirectCampaignIntoEmailOutboundTable(emailCampaign.getParamValue(), emailCampaign.getEmailSubject(),
-                    emailCampaign.getEmailMessage(), emailCampaign.getCampaignName(), emailCampaign.getId());
+            insertDirectCampaignIntoEmailOutboundTable(emailCampaign);
         } else if (emailCampaign.isSchedule()) {
             // if recurrence start date is in the past, calculate next trigger date, otherwise use recurrence start
             // date as next trigger date when activating
@@ -344,6 +369,18 @@ public class EmailCampaignWritePlatformCommandHandlerImpl implements EmailCampai
         return stringWriter.toString();
     }
 
+    private Mustache compileTemplate(final String textMessageTemplate, final String campaignName) {
+        final MustacheFactory mf = new DefaultMustacheFactory();
+        return mf.compile(new StringReader(textMessageTemplate), campaignName);
+    }
+
+    private String renderTemplate(final Mustache mustache, final Map<String, Object> emailParams) {
+        final StringWriter stringWriter = new StringWriter();
+        mustache.execute(stringWriter, emailParams);
+
+        return stringWriter.toString();
+    }
+
     @SuppressWarnings({ "unused", "rawtypes" })
     @Override
     public List<HashMap<String, Object>> getRunReportByServiceImpl(final String reportName, final Map<String, String> queryParams)
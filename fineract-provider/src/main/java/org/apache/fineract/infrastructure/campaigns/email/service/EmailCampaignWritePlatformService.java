@@ -50,4 +50,6 @@ public interface EmailCampaignWritePlatformService {
 
     void insertDirectCampaignIntoEmailOutboundTable(Loan loan, EmailCampaign emailCampaign, HashMap<String, String> campaignParams);
 
+    void insertScheduledCampaignIntoEmailOutboundTable(EmailCampaign emailCampaign) throws IOException;
+
 }
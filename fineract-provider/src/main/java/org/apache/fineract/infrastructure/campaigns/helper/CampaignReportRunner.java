@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.helper;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the report of an SMS or email campaign and hands its recipients to a writer in chunks, so neither the recipients
+ * nor their messages are ever held in memory all at once.
+ *
+ * The report rows are streamed ordered by their id column, the recipient. Rows of the same recipient always end up in
+ * the same chunk. Scheduled runs write every chunk in its own transaction together with a checkpoint of the last
+ * recipient id, so a run interrupted half way continues after the last committed chunk when it is started again for the
+ * same trigger date.
+ */
+@Slf4j
+@Component
+public class CampaignReportRunner {
+
+    public static final String SMS = "SMS";
+    public static final String EMAIL = "EMAIL";
+
+    private static final String REPORT_TYPE = "report";
+
+    private final ReadReportingService readReportingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public CampaignReportRunner(final ReadReportingService readReportingService, final JdbcTemplate jdbcTemplate,
+            final FineractProperties fineractProperties, final PlatformTransactionManager transactionManager) {
+        this.readReportingService = readReportingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fineractProperties = fineractProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Passes the recipients of the report to the writer within the current transaction and returns their number.
+     */
+    public int run(final String reportName, final Map<String, String> queryParams, final Consumer<List<Map<String, Object>>> writer) {
+        return stream(reportName, queryParams, 0L, writer);
+    }
+
+    /**
+     * Passes the recipients of a scheduled campaign run to the writer, one transaction per chunk, and returns their
+     * number. Recipients already written by an earlier attempt of the same trigger date are skipped.
+     */
+    public int runScheduled(final String campaignKind, final Long campaignId, final LocalDateTime triggerDate, final String reportName,
+            final Map<String, String> queryParams, final Consumer<List<Map<String, Object>>> writer) {
+        final LocalDateTime checkpointDate = triggerDate == null ? null : triggerDate.truncatedTo(ChronoUnit.SECONDS);
+        final Long fromId = retrieveCheckpoint(campaignKind, campaignId, checkpointDate);
+        if (fromId > 0) {
+            log.info("Resuming {} campaign {} of {} after recipient {}", campaignKind, campaignId, checkpointDate, fromId);
+        }
+        return stream(reportName, queryParams, fromId, chunk -> this.transactionTemplate.executeWithoutResult(status -> {
+            writer.accept(chunk);
+            saveCheckpoint(campaignKind, campaignId, checkpointDate, recipientId(chunk.get(chunk.size() - 1)));
+        }));
+    }
+
+    private int stream(final String reportName, final Map<String, String> queryParams, final Long fromId,
+            final Consumer<List<Map<String, Object>>> chunkWriter) {
+        final int chunkSize = Math.max(1, this.fineractProperties.getCampaign().getScheduledChunkSize());
+        final int fetchSize = Math.max(1, this.fineractProperties.getCampaign().getScheduledFetchSize());
+        final Chunk chunk = new Chunk(chunkSize);
+        this.readReportingService.retrieveResultSetForSmsEmailCampaign(reportName, REPORT_TYPE, queryParams, fromId, fetchSize, row -> {
+            if (!(row.get("id") instanceof Number)) {
+                log.warn("Skipping row without recipient id of campaign report {}", reportName);
+                return;
+            }
+            if (chunk.rows.size() >= chunkSize && recipientId(row) != recipientId(chunk.rows.get(chunk.rows.size() - 1))) {
+                chunk.flush(chunkWriter);
+            }
+            chunk.rows.add(row);
+        });
+        chunk.flush(chunkWriter);
+        return chunk.recipients;
+    }
+
+    private Long retrieveCheckpoint(final String campaignKind, final Long campaignId, final LocalDateTime triggerDate) {
+        final List<Long> lastRecipientIds = this.jdbcTemplate.query(
+                "select trigger_date, last_recipient_id from m_campaign_run_checkpoint where campaign_kind = ? and campaign_id = ?",
+                (rs, rowNum) -> Objects.equals(rs.getObject("trigger_date", LocalDateTime.class), triggerDate)
+                        ? rs.getLong("last_recipient_id")
+                        : 0L,
+                campaignKind, campaignId);
+        return lastRecipientIds.isEmpty() ? 0L : lastRecipientIds.get(0);
+    }
+
+    private void saveCheckpoint(final String campaignKind, final Long campaignId, final LocalDateTime triggerDate,
+            final long lastRecipientId) {
+        this.jdbcTemplate.update("delete from m_campaign_run_checkpoint where campaign_kind = ? and campaign_id = ?", campaignKind,
+                campaignId);
+        this.jdbcTemplate.update(
+                "insert into m_campaign_run_checkpoint (campaign_kind, campaign_id, trigger_date, last_recipient_id) values (?, ?, ?, ?)",
+                campaignKind, campaignId, triggerDate, lastRecipientId);
+    }
+
+    public static long recipientId(final Map<String, Object> row) {
+        return ((Number) row.get("id")).longValue();
+    }
+
+    private static final class Chunk {
+
+        private final List<Map<String, Object>> rows;
+        private int recipients;
+
+        private Chunk(final int chunkSize) {
+            this.rows = new ArrayList<>(chunkSize);
+        }
+
+        private void flush(final Consumer<List<Map<String, Object>>> chunkWriter) {
+            if (!this.rows.isEmpty()) {
+                chunkWriter.accept(List.copyOf(this.rows));
+                this.recipients += this.rows.size();
+                this.rows.clear();
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.fineract.infrastructure.campaigns.jobs.sendmessagetosmsgateway;
 
 import org.apache.fineract.infrastructure.campaigns.helper.SmsConfigUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.gcm.service.NotificationSenderService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
@@ -52,6 +53,8 @@ public class SendMessageToSmsGatewayConfig {
     @Autowired
     @Qualifier(TaskExecutorConstant.DEFAULT_TASK_EXECUTOR_BEAN_NAME)
     private ThreadPoolTaskExecutor taskExecutor;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     protected Step sendMessageToSmsGatewayStep() {
@@ -67,6 +70,7 @@ public class SendMessageToSmsGatewayConfig {
 
     @Bean
     public SendMessageToSmsGatewayTasklet sendMessageToSmsGatewayTasklet() {
-        return new SendMessageToSmsGatewayTasklet(smsMessageRepository, notificationSenderService, smsConfigUtils, taskExecutor);
+        return new SendMessageToSmsGatewayTasklet(smsMessageRepository, notificationSenderService, smsConfigUtils, taskExecutor,
+                fineractProperties, transactionManager);
     }
 }
@@ -25,12 +25,14 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.fineract.infrastructure.campaigns.helper.SmsConfigUtils;
 import org.apache.fineract.infrastructure.campaigns.sms.constants.SmsCampaignConstants;
 import org.apache.fineract.infrastructure.campaigns.sms.exception.ConnectionFailureException;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSmsCampaignGatewayProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.gcm.service.NotificationSenderService;
@@ -51,56 +53,66 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Hands the pending SMS messages over to the gateway in batches.
+ *
+ * Every batch is marked as sent in its own transaction before it is handed over, so a run that stops half way leaves
+ * only the messages not handed over yet pending. With a maximum rate configured the batches are spaced out so the
+ * gateway does not receive more messages per second than that.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public class SendMessageToSmsGatewayTasklet implements Tasklet {
 
     private final SmsMessageRepository smsMessageRepository;
     private final NotificationSenderService notificationSenderService;
     private final SmsConfigUtils smsConfigUtils;
     private final ThreadPoolTaskExecutor taskExecutor;
+    private final FineractProperties fineractProperties;
+    private final TransactionTemplate transactionTemplate;
     private final RestTemplate restTemplate = new RestTemplate();
 
+    public SendMessageToSmsGatewayTasklet(final SmsMessageRepository smsMessageRepository,
+            final NotificationSenderService notificationSenderService, final SmsConfigUtils smsConfigUtils,
+            final ThreadPoolTaskExecutor taskExecutor, final FineractProperties fineractProperties,
+            final PlatformTransactionManager transactionManager) {
+        this.smsMessageRepository = smsMessageRepository;
+        this.notificationSenderService = notificationSenderService;
+        this.smsConfigUtils = smsConfigUtils;
+        this.taskExecutor = taskExecutor;
+        this.fineractProperties = fineractProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        int pageLimit = 200;
+        final FineractSmsCampaignGatewayProperties gatewayProperties = fineractProperties.getSmsCampaign().getGateway();
+        int pageLimit = Math.max(1, gatewayProperties.getBatchSize());
         int page = 0;
         int totalRecords;
+        long handedOverMessages = 0;
+        final long startNanos = System.nanoTime();
         do {
-            PageRequest pageRequest = PageRequest.of(0, pageLimit);
-            org.springframework.data.domain.Page<SmsMessage> pendingMessages = smsMessageRepository
-                    .findByStatusType(SmsMessageStatusType.PENDING.getValue(), pageRequest);
-            List<SmsMessage> toSaveMessages = new ArrayList<>();
-            List<SmsMessage> toSendNotificationMessages = new ArrayList<>();
+            final Collection<SmsMessageApiQueueResourceData> apiQueueResourceDataCollection = new ArrayList<>();
+            final org.springframework.data.domain.Page<SmsMessage> pendingMessages;
             try {
-                if (!CollectionUtils.isEmpty(pendingMessages.getContent())) {
-                    final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
-                    Iterator<SmsMessage> pendingMessageIterator = pendingMessages.iterator();
-                    Collection<SmsMessageApiQueueResourceData> apiQueueResourceDataCollection = new ArrayList<>();
-                    while (pendingMessageIterator.hasNext()) {
-                        SmsMessage smsData = pendingMessageIterator.next();
-                        if (smsData.isNotification()) {
-                            smsData.setStatusType(SmsMessageStatusType.WAITING_FOR_DELIVERY_REPORT.getValue());
-                            toSendNotificationMessages.add(smsData);
-                        } else {
-                            SmsMessageApiQueueResourceData apiQueueResourceData = SmsMessageApiQueueResourceData.instance(smsData.getId(),
-                                    tenantIdentifier, null, null, smsData.getMobileNo(), smsData.getMessage(),
-                                    smsData.getSmsCampaign().getProviderId());
-                            apiQueueResourceDataCollection.add(apiQueueResourceData);
-                            smsData.setStatusType(SmsMessageStatusType.WAITING_FOR_DELIVERY_REPORT.getValue());
-                            toSaveMessages.add(smsData);
-                        }
-                    }
-                    if (!toSaveMessages.isEmpty()) {
-                        smsMessageRepository.saveAll(toSaveMessages);
-                        smsMessageRepository.flush();
-                        taskExecutor.execute(new SmsTask(ThreadLocalContextUtil.getTenant(), apiQueueResourceDataCollection));
-                    }
-                    if (!toSendNotificationMessages.isEmpty()) {
-                        notificationSenderService.sendNotification(toSendNotificationMessages);
-                    }
+                throttle(gatewayProperties.getMaxMessagesPerSecond(), handedOverMessages, startNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Sending SMS messages interrupted after {} messages, the remaining messages stay pending", handedOverMessages);
+                break;
+            }
+            try {
+                pendingMessages = transactionTemplate
+                        .execute(status -> markPendingMessagesAsSent(pageLimit, apiQueueResourceDataCollection));
+                if (!apiQueueResourceDataCollection.isEmpty()) {
+                    taskExecutor.execute(new SmsTask(ThreadLocalContextUtil.getTenant(), apiQueueResourceDataCollection));
+                    handedOverMessages += apiQueueResourceDataCollection.size();
                 }
             } catch (Exception e) {
                 throw new ConnectionFailureException(SmsCampaignConstants.SMS, e);
@@ -111,6 +123,62 @@ public class SendMessageToSmsGatewayTasklet implements Tasklet {
         return RepeatStatus.FINISHED;
     }
 
+    /**
+     * Marks the next batch of pending messages as sent, sends the notifications among them right away and collects the
+     * SMS messages to hand over to the gateway.
+     */
+    private org.springframework.data.domain.Page<SmsMessage> markPendingMessagesAsSent(final int pageLimit,
+            final Collection<SmsMessageApiQueueResourceData> apiQueueResourceDataCollection) {
+        PageRequest pageRequest = PageRequest.of(0, pageLimit);
+        org.springframework.data.domain.Page<SmsMessage> pendingMessages = smsMessageRepository
+                .findByStatusType(SmsMessageStatusType.PENDING.getValue(), pageRequest);
+        List<SmsMessage> toSaveMessages = new ArrayList<>();
+        List<SmsMessage> toSendNotificationMessages = new ArrayList<>();
+        if (!CollectionUtils.isEmpty(pendingMessages.getContent())) {
+            final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+            Iterator<SmsMessage> pendingMessageIterator = pendingMessages.iterator();
+            while (pendingMessageIterator.hasNext()) {
+                SmsMessage smsData = pendingMessageIterator.next();
+                if (smsData.isNotification()) {
+                    smsData.setStatusType(SmsMessageStatusType.WAITING_FOR_DELIVERY_REPORT.getValue());
+                    toSendNotificationMessages.add(smsData);
+                } else {
+                    SmsMessageApiQueueResourceData apiQueueResourceData = SmsMessageApiQueueResourceData.instance(smsData.getId(),
+                            tenantIdentifier, null, null, smsData.getMobileNo(), smsData.getMessage(),
+                            smsData.getSmsCampaign().getProviderId());
+                    apiQueueResourceDataCollection.add(apiQueueResourceData);
+                    smsData.setStatusType(SmsMessageStatusType.WAITING_FOR_DELIVERY_REPORT.getValue());
+                    toSaveMessages.add(smsData);
+                }
+            }
+            if (!toSaveMessages.isEmpty()) {
+                smsMessageRepository.saveAll(toSaveMessages);
+                smsMessageRepository.flush();
+            }
+            if (!toSendNotificationMessages.isEmpty()) {
+                notificationSenderService.sendNotification(toSendNotificationMessages);
+            }
+        }
+        return pendingMessages;
+    }
+
+    /**
+     * Waits until handing over more messages keeps the gateway within the maximum rate, counted from the start of the
+     * run. A maximum of zero or less means no limit. The wait happens before the next batch is marked as sent, so an
+     * interrupted wait leaves that batch pending.
+     */
+    private void throttle(final int maxMessagesPerSecond, final long handedOverMessages, final long startNanos)
+            throws InterruptedException {
+        if (maxMessagesPerSecond <= 0) {
+            return;
+        }
+        final long dueNanos = startNanos + TimeUnit.SECONDS.toNanos(handedOverMessages) / maxMessagesPerSecond;
+        final long waitNanos = dueNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
     class SmsTask implements Runnable, ApplicationListener<ContextClosedEvent> {
 
         private final FineractPlatformTenant tenant;
@@ -19,11 +19,9 @@
 package org.apache.fineract.infrastructure.campaigns.jobs.updateemailoutboundwithcampaignmessage;
 
 import org.apache.fineract.infrastructure.campaigns.email.domain.EmailCampaignRepository;
-import org.apache.fineract.infrastructure.campaigns.email.domain.EmailMessageRepository;
 import org.apache.fineract.infrastructure.campaigns.email.service.EmailCampaignReadPlatformService;
 import org.apache.fineract.infrastructure.campaigns.email.service.EmailCampaignWritePlatformService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
-import org.apache.fineract.portfolio.client.domain.ClientRepositoryWrapper;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -47,10 +45,6 @@ public class UpdateEmailOutboundWithCampaignMessageConfig {
     @Autowired
     private EmailCampaignRepository emailCampaignRepository;
     @Autowired
-    private ClientRepositoryWrapper clientRepositoryWrapper;
-    @Autowired
-    private EmailMessageRepository emailMessageRepository;
-    @Autowired
     private EmailCampaignWritePlatformService emailCampaignWritePlatformService;
 
     @Bean
@@ -68,6 +62,6 @@ public class UpdateEmailOutboundWithCampaignMessageConfig {
     @Bean
     public UpdateEmailOutboundWithCampaignMessageTasklet updateEmailOutboundWithCampaignMessageTasklet() {
         return new UpdateEmailOutboundWithCampaignMessageTasklet(emailCampaignReadPlatformService, emailCampaignRepository,
-                clientRepositoryWrapper, emailMessageRepository, emailCampaignWritePlatformService);
+                emailCampaignWritePlatformService);
     }
 }
@@ -56,7 +56,7 @@ public class UpdateSmsOutboundWithCampaignMessageTasklet implements Tasklet {
                 log.debug("tenant time {} trigger time {} {}", tenantDateNow, nextTriggerDate,
                         JobName.UPDATE_SMS_OUTBOUND_WITH_CAMPAIGN_MESSAGE.name());
                 if (DateUtils.isBefore(nextTriggerDate, tenantDateNow)) {
-                    smsCampaignWritePlatformService.insertDirectCampaignIntoSmsOutboundTable(smsCampaign);
+                    smsCampaignWritePlatformService.insertScheduledCampaignIntoSmsOutboundTable(smsCampaign);
                     updateTriggerDates(smsCampaign.getId());
                 }
             }
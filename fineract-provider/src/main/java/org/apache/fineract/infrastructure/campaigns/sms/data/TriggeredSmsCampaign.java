@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.sms.data;
+
+import com.github.mustachejava.Mustache;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Immutable view of an active triggered SMS campaign with its parameters parsed and its message template compiled, so
+ * generating a message neither parses JSON nor compiles the template again.
+ */
+@Getter
+public final class TriggeredSmsCampaign {
+
+    private final Long campaignId;
+    private final String campaignName;
+    private final Long providerId;
+    private final boolean notification;
+    private final Map<String, String> params;
+    private final Mustache template;
+
+    public TriggeredSmsCampaign(final Long campaignId, final String campaignName, final Long providerId, final boolean notification,
+            final Map<String, String> params, final Mustache template) {
+        this.campaignId = campaignId;
+        this.campaignName = campaignName;
+        this.providerId = providerId;
+        this.notification = notification;
+        this.params = Collections.unmodifiableMap(new LinkedHashMap<>(params));
+        this.template = template;
+    }
+
+    public String render(final Map<String, Object> smsParams) {
+        final StringWriter stringWriter = new StringWriter();
+        this.template.execute(stringWriter, smsParams);
+        return stringWriter.toString();
+    }
+}
@@ -24,6 +24,7 @@ import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -340,4 +341,12 @@ public class SmsCampaignValidator {
         return mobileNo != null;
     }
 
+    /**
+     * Returns the clients of the given ids that are valid recipients of the notification campaign, the batch counterpart
+     * of {@link #isValidNotificationOrSms(Client, SmsCampaign, Object)}.
+     */
+    public Set<Long> retrieveValidNotificationClientIds(Collection<Long> clientIds) {
+        return this.deviceRegistrationRepository.findClientIdsWithDeviceRegistration(clientIds);
+    }
+
 }
@@ -19,27 +19,18 @@
 
 package org.apache.fineract.infrastructure.campaigns.sms.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.infrastructure.campaigns.sms.constants.SmsCampaignTriggerType;
+import org.apache.fineract.infrastructure.campaigns.sms.data.TriggeredSmsCampaign;
 import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
 import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaignRepository;
-import org.apache.fineract.infrastructure.campaigns.sms.exception.SmsRuntimeException;
-import org.apache.fineract.infrastructure.campaigns.sms.serialization.SmsCampaignValidator;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.client.ClientActivateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.client.ClientRejectBusinessEvent;
@@ -51,12 +42,6 @@ import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsR
 import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsDepositBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsWithdrawalBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
-import org.apache.fineract.infrastructure.sms.domain.SmsMessage;
-import org.apache.fineract.infrastructure.sms.domain.SmsMessageRepository;
-import org.apache.fineract.infrastructure.sms.scheduler.SmsMessageScheduledJobService;
-import org.apache.fineract.organisation.office.domain.Office;
-import org.apache.fineract.organisation.office.domain.OfficeRepository;
-import org.apache.fineract.organisation.office.exception.OfficeNotFoundException;
 import org.apache.fineract.portfolio.client.domain.Client;
 import org.apache.fineract.portfolio.group.domain.Group;
 import org.apache.fineract.portfolio.group.domain.GroupRepository;
@@ -74,14 +59,12 @@ import org.springframework.stereotype.Service;
 public class SmsCampaignDomainServiceImpl implements SmsCampaignDomainService {
 
     private final SmsCampaignRepository smsCampaignRepository;
-    private final SmsMessageRepository smsMessageRepository;
-    private final OfficeRepository officeRepository;
     private final BusinessEventNotifierService businessEventNotifierService;
     private final SmsCampaignWritePlatformService smsCampaignWritePlatformCommandHandler;
     private final GroupRepository groupRepository;
 
-    private final SmsMessageScheduledJobService smsMessageScheduledJobService;
-    private final SmsCampaignValidator smsCampaignValidator;
+    private final SmsCampaignTriggerIndex smsCampaignTriggerIndex;
+    private final TriggeredSmsMessageGenerator triggeredSmsMessageGenerator;
 
     @PostConstruct
     public void addListeners() {
@@ -162,138 +145,57 @@ public class SmsCampaignDomainServiceImpl implements SmsCampaignDomainService {
     }
 
     private void sendSmsForLoanRepayment(LoanTransaction loanTransaction) {
-        List<SmsCampaign> smsCampaigns = retrieveSmsCampaigns("Loan Repayment");
-        if (smsCampaigns.size() > 0) {
-            for (SmsCampaign smsCampaign : smsCampaigns) {
-                try {
-                    Loan loan = loanTransaction.getLoan();
-                    final Set<Client> groupClients = new HashSet<>();
-                    if (loan.hasInvalidLoanType()) {
-                        throw new InvalidLoanTypeException("Loan Type cannot be Invalid for the Triggered Sms Campaign");
-                    }
-                    if (loan.isGroupLoan()) {
-                        Group group = this.groupRepository.findById(loan.getGroupId())
-                                .orElseThrow(() -> new GroupNotFoundException(loan.getGroupId()));
-                        groupClients.addAll(group.getClientMembers());
-                    } else {
-                        groupClients.add(loan.client());
-                    }
-                    HashMap<String, String> campaignParams = new ObjectMapper().readValue(smsCampaign.getParamValue(),
-                            new TypeReference<>() {
-
-                            });
-
-                    if (!groupClients.isEmpty()) {
-                        for (Client client : groupClients) {
-                            HashMap<String, Object> smsParams = processRepaymentDataForSms(loanTransaction, client);
-                            for (Map.Entry<String, String> entry : campaignParams.entrySet()) {
-                                String value = entry.getValue();
-                                String spvalue = null;
-                                boolean spkeycheck = smsParams.containsKey(entry.getKey());
-                                if (spkeycheck) {
-                                    spvalue = smsParams.get(entry.getKey()).toString();
-                                }
-                                if (spkeycheck && !(value.equals("-1") || spvalue.equals(value))) {
-                                    if (entry.getKey().equals("officeId")) {
-                                        Long officeId = Long.valueOf(value);
-                                        Office campaignOffice = this.officeRepository.findById(Long.valueOf(value))
-                                                .orElseThrow(() -> new OfficeNotFoundException(officeId));
-                                        if (campaignOffice.doesNotHaveAnOfficeInHierarchyWithId(client.getOffice().getId())) {
-                                            throw new SmsRuntimeException("error.msg.no.office", "Office not found for the id");
-                                        }
-                                    } else {
-                                        throw new SmsRuntimeException("error.msg.no.id.attribute", "Office Id attribute is notfound");
-                                    }
-                                }
-                            }
-                            String message = this.smsCampaignWritePlatformCommandHandler.compileSmsTemplate(smsCampaign.getMessage(),
-                                    smsCampaign.getCampaignName(), smsParams);
-                            Object mobileNo = smsParams.get("mobileNo");
-                            if (this.smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
-                                String mobileNumber = null;
-                                if (mobileNo != null) {
-                                    mobileNumber = mobileNo.toString();
-                                }
-                                SmsMessage smsMessage = SmsMessage.pendingSms(null, null, client, null, message, mobileNumber, smsCampaign,
-                                        smsCampaign.isNotification());
-                                Map<SmsCampaign, Collection<SmsMessage>> smsDataMap = new HashMap<>();
-                                smsDataMap.put(smsCampaign, Collections.singletonList(smsMessage));
-                                this.smsMessageScheduledJobService.sendTriggeredMessages(smsDataMap);
-                            }
-                        }
-                    }
-                } catch (final IOException e) {
-                    log.error("smsParams does not contain the key: ", e);
-                } catch (final RuntimeException e) {
-                    log.debug("Client Office Id and SMS Campaign Office id doesn't match ", e);
+        List<TriggeredSmsCampaign> smsCampaigns = this.smsCampaignTriggerIndex.getCampaigns("Loan Repayment");
+        if (smsCampaigns.isEmpty()) {
+            return;
+        }
+        try {
+            Loan loan = loanTransaction.getLoan();
+            if (loan.hasInvalidLoanType()) {
+                throw new InvalidLoanTypeException("Loan Type cannot be Invalid for the Triggered Sms Campaign");
+            }
+            final Set<Client> groupClients = new HashSet<>();
+            if (loan.isGroupLoan()) {
+                Group group = this.groupRepository.findById(loan.getGroupId())
+                        .orElseThrow(() -> new GroupNotFoundException(loan.getGroupId()));
+                groupClients.addAll(group.getClientMembers());
+            } else {
+                groupClients.add(loan.client());
+            }
+            for (Client client : groupClients) {
+                HashMap<String, Object> smsParams = processRepaymentDataForSms(loanTransaction, client);
+                for (TriggeredSmsCampaign smsCampaign : smsCampaigns) {
+                    this.triggeredSmsMessageGenerator.generate(smsCampaign, client.getId(), smsParams);
                 }
             }
+        } catch (final RuntimeException e) {
+            log.debug("SMS parameters of the loan repayment could not be collected ", e);
         }
     }
 
     private void sendSmsForSavingsTransaction(final SavingsAccountTransaction savingsTransaction, boolean isDeposit) {
         String campaignName = isDeposit ? "Savings Deposit" : "Savings Withdrawal";
-        List<SmsCampaign> smsCampaigns = retrieveSmsCampaigns(campaignName);
-        if (smsCampaigns.size() > 0) {
-            for (SmsCampaign smsCampaign : smsCampaigns) {
-                try {
-                    final SavingsAccount savingsAccount = savingsTransaction.getSavingsAccount();
-                    final Client client = savingsAccount.getClient();
-                    HashMap<String, String> campaignParams = new ObjectMapper().readValue(smsCampaign.getParamValue(),
-                            new TypeReference<>() {
-
-                            });
-                    HashMap<String, Object> smsParams = processSavingsTransactionDataForSms(savingsTransaction, client);
-                    for (Map.Entry<String, String> entry : campaignParams.entrySet()) {
-                        String value = entry.getValue();
-                        String spvalue = null;
-                        boolean spkeycheck = smsParams.containsKey(entry.getKey());
-                        if (spkeycheck) {
-                            spvalue = smsParams.get(entry.getKey()).toString();
-                        }
-                        if (spkeycheck && !(value.equals("-1") || spvalue.equals(value))) {
-                            if (entry.getKey().equals("officeId")) {
-                                Long officeId = Long.valueOf(value);
-                                Office campaignOffice = this.officeRepository.findById(officeId)
-                                        .orElseThrow(() -> new OfficeNotFoundException(officeId));
-                                if (campaignOffice.doesNotHaveAnOfficeInHierarchyWithId(client.getOffice().getId())) {
-                                    throw new SmsRuntimeException("error.msg.no.office", "Office not found for the id");
-                                }
-                            } else {
-                                throw new SmsRuntimeException("error.msg.no.id.attribute", "Office Id attribute is notfound");
-                            }
-                        }
-                    }
-                    String message = this.smsCampaignWritePlatformCommandHandler.compileSmsTemplate(smsCampaign.getMessage(),
-                            smsCampaign.getCampaignName(), smsParams);
-                    Object mobileNo = smsParams.get("mobileNo");
-                    if (this.smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
-                        String mobileNumber = null;
-                        if (mobileNo != null) {
-                            mobileNumber = mobileNo.toString();
-                        }
-                        SmsMessage smsMessage = SmsMessage.pendingSms(null, null, client, null, message, mobileNumber, smsCampaign,
-                                smsCampaign.isNotification());
-                        this.smsMessageRepository.save(smsMessage);
-                        Collection<SmsMessage> messages = new ArrayList<>();
-                        messages.add(smsMessage);
-                        Map<SmsCampaign, Collection<SmsMessage>> smsDataMap = new HashMap<>();
-                        smsDataMap.put(smsCampaign, messages);
-                        this.smsMessageScheduledJobService.sendTriggeredMessages(smsDataMap);
-                    }
-                } catch (final IOException e) {
-                    log.error("smsParams does not contain the key: ", e);
-                } catch (final RuntimeException e) {
-                    log.debug("Client Office Id and SMS Campaign Office id doesn't match ", e);
-                }
+        List<TriggeredSmsCampaign> smsCampaigns = this.smsCampaignTriggerIndex.getCampaigns(campaignName);
+        if (smsCampaigns.isEmpty()) {
+            return;
+        }
+        try {
+            final Client client = savingsTransaction.getSavingsAccount().getClient();
+            HashMap<String, Object> smsParams = processSavingsTransactionDataForSms(savingsTransaction, client);
+            for (TriggeredSmsCampaign smsCampaign : smsCampaigns) {
+                this.triggeredSmsMessageGenerator.generate(smsCampaign, client.getId(), smsParams);
             }
+        } catch (final RuntimeException e) {
+            log.debug("SMS parameters of the savings transaction could not be collected ", e);
         }
     }
 
     private List<SmsCampaign> retrieveSmsCampaigns(String paramValue) {
-        List<SmsCampaign> smsCampaigns = smsCampaignRepository.findActiveSmsCampaigns("%" + paramValue + "%",
-                SmsCampaignTriggerType.TRIGGERED.getValue());
-        return smsCampaigns;
+        List<TriggeredSmsCampaign> triggeredCampaigns = this.smsCampaignTriggerIndex.getCampaigns(paramValue);
+        if (triggeredCampaigns.isEmpty()) {
+            return List.of();
+        }
+        return smsCampaignRepository.findAllById(triggeredCampaigns.stream().map(TriggeredSmsCampaign::getCampaignId).toList());
     }
 
     private HashMap<String, Object> processRepaymentDataForSms(final LoanTransaction loanTransaction, Client groupClient) {
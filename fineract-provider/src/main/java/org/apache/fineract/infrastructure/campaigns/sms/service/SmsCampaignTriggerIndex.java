@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.sms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mustachejava.DefaultMustacheFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.campaigns.sms.constants.SmsCampaignStatus;
+import org.apache.fineract.infrastructure.campaigns.sms.constants.SmsCampaignTriggerType;
+import org.apache.fineract.infrastructure.campaigns.sms.data.TriggeredSmsCampaign;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaignRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant scoped index of the active triggered SMS campaigns by trigger, e.g. "Loan Repayment".
+ *
+ * A campaign belongs to every trigger its parameter value contains, the same match the repository lookup does with a
+ * LIKE pattern. The index is loaded with a single query per tenant and holds {@link TriggeredSmsCampaign} views with
+ * parsed parameters and compiled templates. Campaign changes evict the tenant's index.
+ */
+@Slf4j
+@Component
+public class SmsCampaignTriggerIndex {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, String>> PARAMS_TYPE = new TypeReference<>() {};
+
+    private final SmsCampaignRepository smsCampaignRepository;
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<TenantCampaigns> campaigns;
+
+    public SmsCampaignTriggerIndex(final SmsCampaignRepository smsCampaignRepository, final FineractProperties fineractProperties) {
+        this.smsCampaignRepository = smsCampaignRepository;
+        this.fineractProperties = fineractProperties;
+        this.campaigns = new TenantScopedCache<>(this::isEnabled,
+                () -> this.fineractProperties.getSmsCampaign().getTriggerCache().getTimeToLiveSeconds(), TenantCampaigns::new);
+    }
+
+    public List<TriggeredSmsCampaign> getCampaigns(final String trigger) {
+        if (!this.campaigns.isActive()) {
+            return toTriggeredCampaigns(this.smsCampaignRepository.findActiveSmsCampaigns("%" + trigger + "%",
+                    SmsCampaignTriggerType.TRIGGERED.getValue()));
+        }
+        final TenantCampaigns tenantCampaigns = this.campaigns.get();
+        final List<IndexEntry> entries = entriesOf(tenantCampaigns);
+        return tenantCampaigns.campaignsByTrigger.computeIfAbsent(trigger,
+                key -> entries.stream().filter(entry -> entry.paramValue().contains(key)).map(IndexEntry::campaign).toList());
+    }
+
+    public void evictAll() {
+        this.campaigns.evict();
+    }
+
+    private List<IndexEntry> entriesOf(final TenantCampaigns tenantCampaigns) {
+        List<IndexEntry> entries = tenantCampaigns.entries;
+        if (entries == null) {
+            entries = loadEntries();
+            tenantCampaigns.entries = entries;
+        }
+        return entries;
+    }
+
+    private List<IndexEntry> loadEntries() {
+        final List<IndexEntry> entries = new ArrayList<>();
+        for (SmsCampaign smsCampaign : this.smsCampaignRepository.findByTriggerTypeAndStatus(SmsCampaignTriggerType.TRIGGERED.getValue(),
+                SmsCampaignStatus.ACTIVE.getValue())) {
+            final TriggeredSmsCampaign campaign = toTriggeredCampaign(smsCampaign);
+            if (campaign != null) {
+                entries.add(new IndexEntry(smsCampaign.getParamValue(), campaign));
+            }
+        }
+        return entries;
+    }
+
+    private static List<TriggeredSmsCampaign> toTriggeredCampaigns(final Collection<SmsCampaign> smsCampaigns) {
+        final List<TriggeredSmsCampaign> triggeredCampaigns = new ArrayList<>();
+        for (SmsCampaign smsCampaign : smsCampaigns) {
+            final TriggeredSmsCampaign campaign = toTriggeredCampaign(smsCampaign);
+            if (campaign != null) {
+                triggeredCampaigns.add(campaign);
+            }
+        }
+        return triggeredCampaigns;
+    }
+
+    private static TriggeredSmsCampaign toTriggeredCampaign(final SmsCampaign smsCampaign) {
+        try {
+            final Map<String, String> params = OBJECT_MAPPER.readValue(smsCampaign.getParamValue(), PARAMS_TYPE);
+            return new TriggeredSmsCampaign(smsCampaign.getId(), smsCampaign.getCampaignName(), smsCampaign.getProviderId(),
+                    smsCampaign.isNotification(), params,
+                    new DefaultMustacheFactory().compile(new StringReader(smsCampaign.getMessage()), smsCampaign.getCampaignName()));
+        } catch (final JsonProcessingException | RuntimeException e) {
+            log.error("Parameters or message of SMS campaign {} could not be parsed", smsCampaign.getId(), e);
+            return null;
+        }
+    }
+
+    private boolean isEnabled() {
+        final FineractProperties.FineractSmsCampaignProperties smsCampaign = this.fineractProperties.getSmsCampaign();
+        return smsCampaign != null && smsCampaign.getTriggerCache() != null && smsCampaign.getTriggerCache().isEnabled();
+    }
+
+    private record IndexEntry(String paramValue, TriggeredSmsCampaign campaign) {
+    }
+
+    private static final class TenantCampaigns {
+
+        private final Map<String, List<TriggeredSmsCampaign>> campaignsByTrigger = new ConcurrentHashMap<>();
+        private volatile List<IndexEntry> entries;
+    }
+}
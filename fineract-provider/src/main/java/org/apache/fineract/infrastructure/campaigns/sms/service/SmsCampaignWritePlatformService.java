@@ -44,6 +44,8 @@ public interface SmsCampaignWritePlatformService {
 
     void insertDirectCampaignIntoSmsOutboundTable(SmsCampaign smsCampaign);
 
+    void insertScheduledCampaignIntoSmsOutboundTable(SmsCampaign smsCampaign);
+
     void insertDirectCampaignIntoSmsOutboundTable(Loan loan, SmsCampaign smsCampaign);
 
     String compileSmsTemplate(String textMessageTemplate, String campaignName, Map<String, Object> smsParams);
@@ -40,8 +40,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.campaigns.helper.CampaignReportRunner;
 import org.apache.fineract.infrastructure.campaigns.sms.data.CampaignPreviewData;
 import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
 import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaignRepository;
@@ -78,6 +80,7 @@ import org.apache.fineract.portfolio.loanaccount.exception.InvalidLoanTypeExcept
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -100,6 +103,9 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
     private final FromJsonHelper fromJsonHelper;
 
     private final SmsMessageScheduledJobService smsMessageScheduledJobService;
+    private final SmsCampaignTriggerIndex smsCampaignTriggerIndex;
+    private final CampaignReportRunner campaignReportRunner;
+    private final JdbcTemplate jdbcTemplate;
 
     @Transactional
     @Override
@@ -116,6 +122,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
                     "Recurrence start date cannot be the past date.", recurrenceStartDate);
         }
         this.smsCampaignRepository.saveAndFlush(smsCampaign);
+        this.smsCampaignTriggerIndex.evictAll();
 
         return new CommandProcessingResultBuilder().withCommandId(command.commandId()).withEntityId(smsCampaign.getId()).build();
     }
@@ -143,6 +150,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
 
             if (!changes.isEmpty()) {
                 this.smsCampaignRepository.saveAndFlush(smsCampaign);
+                this.smsCampaignTriggerIndex.evictAll();
             }
             return new CommandProcessingResultBuilder() //
                     .withCommandId(command.commandId()) //
@@ -173,6 +181,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
          */
         smsCampaign.delete();
         this.smsCampaignRepository.saveAndFlush(smsCampaign);
+        this.smsCampaignTriggerIndex.evictAll();
 
         return new CommandProcessingResultBuilder().withEntityId(smsCampaign.getId()).build();
 
@@ -181,36 +190,55 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
     @Override
     public void insertDirectCampaignIntoSmsOutboundTable(SmsCampaign smsCampaign) {
         try {
-            HashMap<String, String> campaignParams = new ObjectMapper().readValue(smsCampaign.getParamValue(), new TypeReference<>() {});
-
             HashMap<String, String> queryParamForRunReport = new ObjectMapper().readValue(smsCampaign.getParamValue(),
                     new TypeReference<>() {});
+            final Mustache template = compileTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName());
+            this.campaignReportRunner.run(queryParamForRunReport.get("reportName"), queryParamForRunReport,
+                    rows -> insertPendingSmsMessages(smsCampaign, template, rows));
+        } catch (final IOException e) {
+            log.error("Error occurred.", e);
+        }
+    }
 
-            List<HashMap<String, Object>> runReportObject = getRunReportByServiceImpl(campaignParams.get("reportName"),
-                    queryParamForRunReport);
-
-            if (runReportObject != null) {
-                for (HashMap<String, Object> entry : runReportObject) {
-                    String textMessage = compileSmsTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName(), entry);
-                    Integer clientId = (Integer) entry.get("id");
-                    Object mobileNo = entry.get("mobileNo");
-
-                    Client client = clientRepositoryWrapper.findOneWithNotFoundDetection(clientId.longValue());
-                    if (smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
-                        String mobileNumber = null;
-                        if (mobileNo != null) {
-                            mobileNumber = mobileNo.toString();
-                        }
-                        SmsMessage smsMessage = SmsMessage.pendingSms(null, null, client, null, textMessage, mobileNumber, smsCampaign,
-                                smsCampaign.isNotification());
-                        smsMessageRepository.save(smsMessage);
-                    }
-                }
-            }
+    @Override
+    public void insertScheduledCampaignIntoSmsOutboundTable(SmsCampaign smsCampaign) {
+        try {
+            HashMap<String, String> queryParamForRunReport = new ObjectMapper().readValue(smsCampaign.getParamValue(),
+                    new TypeReference<>() {});
+            final Mustache template = compileTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName());
+            final int recipients = this.campaignReportRunner.runScheduled(CampaignReportRunner.SMS, smsCampaign.getId(),
+                    smsCampaign.getNextTriggerDate(), queryParamForRunReport.get("reportName"), queryParamForRunReport,
+                    rows -> insertPendingSmsMessages(smsCampaign, template, rows));
+            log.debug("SMS campaign {} run for {} report rows", smsCampaign.getId(), recipients);
         } catch (final IOException e) {
             log.error("Error occurred.", e);
         }
+    }
 
+    /**
+     * Inserts the pending messages of a chunk of campaign report rows with a single JDBC batch.
+     */
+    private void insertPendingSmsMessages(final SmsCampaign smsCampaign, final Mustache template, final List<Map<String, Object>> rows) {
+        final Set<Long> notificationClientIds = smsCampaign.isNotification()
+                ? this.smsCampaignValidator.retrieveValidNotificationClientIds(
+                        rows.stream().map(CampaignReportRunner::recipientId).collect(Collectors.toSet()))
+                : Set.of();
+        final LocalDate submittedOnDate = DateUtils.getBusinessLocalDate();
+        final List<Object[]> batchArgs = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            final Long clientId = CampaignReportRunner.recipientId(row);
+            final Object mobileNo = row.get("mobileNo");
+            final boolean valid = smsCampaign.isNotification() ? notificationClientIds.contains(clientId) : mobileNo != null;
+            if (valid) {
+                batchArgs.add(new Object[] { clientId, smsCampaign.getId(), SmsMessageStatusType.PENDING.getValue(),
+                        mobileNo == null ? null : mobileNo.toString(), renderTemplate(template, row), submittedOnDate,
+                        smsCampaign.isNotification() });
+            }
+        }
+        if (!batchArgs.isEmpty()) {
+            this.jdbcTemplate.batchUpdate("insert into sms_messages_outbound (client_id, campaign_id, status_enum, mobile_no, message, "
+                    + "submittedon_date, is_notification) values (?, ?, ?, ?, ?, ?, ?)", batchArgs);
+        }
     }
 
     @Override
@@ -247,8 +275,9 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
                         queryParamForRunReport);
 
                 if (runReportObject != null && runReportObject.size() > 0) {
+                    final Mustache template = compileTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName());
                     for (HashMap<String, Object> entry : runReportObject) {
-                        String textMessage = this.compileSmsTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName(), entry);
+                        String textMessage = renderTemplate(template, entry);
                         Object mobileNo = entry.get("mobileNo");
 
                         if (this.smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
@@ -290,8 +319,9 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
                     queryParamForRunReport);
 
             if (runReportObject != null && runReportObject.size() > 0) {
+                final Mustache template = compileTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName());
                 for (HashMap<String, Object> entry : runReportObject) {
-                    String textMessage = this.compileSmsTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName(), entry);
+                    String textMessage = renderTemplate(template, entry);
                     Object mobileNo = entry.get("mobileNo");
 
                     if (this.smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
@@ -331,8 +361,9 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
                     queryParamForRunReport);
 
             if (runReportObject != null && runReportObject.size() > 0) {
+                final Mustache template = compileTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName());
                 for (HashMap<String, Object> entry : runReportObject) {
-                    String textMessage = this.compileSmsTemplate(smsCampaign.getMessage(), smsCampaign.getCampaignName(), entry);
+                    String textMessage = renderTemplate(template, entry);
                     Object mobileNo = entry.get("mobileNo");
 
                     if (this.smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
@@ -373,6 +404,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
         smsCampaign.activate(currentUser, fmt, activationDate);
 
         smsCampaignRepository.saveAndFlush(smsCampaign);
+        this.smsCampaignTriggerIndex.evictAll();
 
         if (smsCampaign.isDirect()) {
             insertDirectCampaignIntoSmsOutboundTable(smsCampaign);
@@ -416,6 +448,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
         smsCampaign.close(currentUser, fmt, closureDate);
 
         this.smsCampaignRepository.saveAndFlush(smsCampaign);
+        this.smsCampaignTriggerIndex.evictAll();
         // this.serviceui.sendMessagesToGateway();
 
         return new CommandProcessingResultBuilder() //
@@ -426,9 +459,15 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
 
     @Override
     public String compileSmsTemplate(final String textMessageTemplate, final String campaignName, final Map<String, Object> smsParams) {
+        return renderTemplate(compileTemplate(textMessageTemplate, campaignName), smsParams);
+    }
+
+    private Mustache compileTemplate(final String textMessageTemplate, final String campaignName) {
         final MustacheFactory mf = new DefaultMustacheFactory();
-        final Mustache mustache = mf.compile(new StringReader(textMessageTemplate), campaignName);
+        return mf.compile(new StringReader(textMessageTemplate), campaignName);
+    }
 
+    private String renderTemplate(final Mustache mustache, final Map<String, Object> smsParams) {
         final StringWriter stringWriter = new StringWriter();
         mustache.execute(stringWriter, smsParams);
 
@@ -539,6 +578,7 @@ public class SmsCampaignWritePlatformServiceJpaImpl implements SmsCampaignWriteP
             smsCampaign.setNextTriggerDate(nextTriggerDate);
         }
         this.smsCampaignRepository.saveAndFlush(smsCampaign);
+        this.smsCampaignTriggerIndex.evictAll();
 
         return new CommandProcessingResultBuilder().withEntityId(smsCampaign.getId()).build();
     }
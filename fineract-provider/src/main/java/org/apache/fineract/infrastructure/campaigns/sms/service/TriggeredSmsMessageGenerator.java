@@ -0,0 +1,225 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.sms.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.campaigns.sms.data.TriggeredSmsCampaign;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaignRepository;
+import org.apache.fineract.infrastructure.campaigns.sms.exception.SmsRuntimeException;
+import org.apache.fineract.infrastructure.campaigns.sms.serialization.SmsCampaignValidator;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.sms.domain.SmsMessage;
+import org.apache.fineract.infrastructure.sms.domain.SmsMessageRepository;
+import org.apache.fineract.infrastructure.sms.scheduler.SmsMessageScheduledJobService;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.domain.OfficeRepository;
+import org.apache.fineract.organisation.office.exception.OfficeNotFoundException;
+import org.apache.fineract.portfolio.client.domain.Client;
+import org.apache.fineract.portfolio.client.domain.ClientRepositoryWrapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates the messages of triggered SMS campaigns.
+ *
+ * The messages requested in a transaction are queued and generated on the task executor in a separate transaction after
+ * the commit, so loan repayments and savings transactions neither wait for the messages nor roll back when a message
+ * cannot be generated. When the task executor rejects the work, the messages are generated on the committing thread
+ * instead. Without an active transaction, or with asynchronous generation switched off, the messages are generated right
+ * away.
+ */
+@Slf4j
+@Component
+public class TriggeredSmsMessageGenerator {
+
+    private final SmsCampaignRepository smsCampaignRepository;
+    private final ClientRepositoryWrapper clientRepositoryWrapper;
+    private final OfficeRepository officeRepository;
+    private final SmsMessageRepository smsMessageRepository;
+    private final SmsMessageScheduledJobService smsMessageScheduledJobService;
+    private final SmsCampaignValidator smsCampaignValidator;
+    private final FineractProperties fineractProperties;
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public TriggeredSmsMessageGenerator(final SmsCampaignRepository smsCampaignRepository,
+            final ClientRepositoryWrapper clientRepositoryWrapper, final OfficeRepository officeRepository,
+            final SmsMessageRepository smsMessageRepository, final SmsMessageScheduledJobService smsMessageScheduledJobService,
+            final SmsCampaignValidator smsCampaignValidator, final FineractProperties fineractProperties,
+            @Qualifier(TaskExecutorConstant.DEFAULT_TASK_EXECUTOR_BEAN_NAME) final ThreadPoolTaskExecutor taskExecutor,
+            final PlatformTransactionManager transactionManager) {
+        this.smsCampaignRepository = smsCampaignRepository;
+        this.clientRepositoryWrapper = clientRepositoryWrapper;
+        this.officeRepository = officeRepository;
+        this.smsMessageRepository = smsMessageRepository;
+        this.smsMessageScheduledJobService = smsMessageScheduledJobService;
+        this.smsCampaignValidator = smsCampaignValidator;
+        this.fineractProperties = fineractProperties;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Requests the message of the campaign for the client, the SMS parameters must not refer to managed entities.
+     */
+    public void generate(final TriggeredSmsCampaign campaign, final Long clientId, final Map<String, Object> smsParams) {
+        final PendingMessage message = new PendingMessage(campaign, clientId, smsParams);
+        if (!isAsync() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            generateMessages(List.of(message));
+            return;
+        }
+        PendingMessages pending = (PendingMessages) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingMessages();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new GenerateAfterCommit(pending));
+        }
+        pending.messages.add(message);
+    }
+
+    private void generateMessages(final Collection<PendingMessage> messages) {
+        final Map<Long, Optional<SmsCampaign>> smsCampaigns = new HashMap<>();
+        final Map<SmsCampaign, Collection<SmsMessage>> smsMessagesByCampaign = new LinkedHashMap<>();
+        for (PendingMessage message : messages) {
+            try {
+                final Optional<SmsCampaign> smsCampaign = smsCampaigns.computeIfAbsent(message.campaign().getCampaignId(),
+                        this.smsCampaignRepository::findById);
+                if (smsCampaign.isPresent()) {
+                    createMessage(message, smsCampaign.get())
+                            .ifPresent(smsMessage -> smsMessagesByCampaign.computeIfAbsent(smsCampaign.get(), key -> new ArrayList<>())
+                                    .add(smsMessage));
+                }
+            } catch (final RuntimeException e) {
+                log.debug("Client Office Id and SMS Campaign Office id doesn't match ", e);
+            }
+        }
+        smsMessagesByCampaign.forEach((smsCampaign, smsMessages) -> {
+            final Map<SmsCampaign, Collection<SmsMessage>> smsDataMap = new HashMap<>();
+            smsDataMap.put(smsCampaign, smsMessages);
+            this.smsMessageScheduledJobService.sendTriggeredMessages(smsDataMap);
+        });
+    }
+
+    private Optional<SmsMessage> createMessage(final PendingMessage message, final SmsCampaign smsCampaign) {
+        final Client client = this.clientRepositoryWrapper.findOneWithNotFoundDetection(message.clientId());
+        validateCampaignParams(message.campaign(), message.smsParams(), client);
+        final Object mobileNo = message.smsParams().get("mobileNo");
+        if (!this.smsCampaignValidator.isValidNotificationOrSms(client, smsCampaign, mobileNo)) {
+            return Optional.empty();
+        }
+        final String mobileNumber = mobileNo != null ? mobileNo.toString() : null;
+        final SmsMessage smsMessage = SmsMessage.pendingSms(null, null, client, null, message.campaign().render(message.smsParams()),
+                mobileNumber, smsCampaign, smsCampaign.isNotification());
+        this.smsMessageRepository.save(smsMessage);
+        return Optional.of(smsMessage);
+    }
+
+    private void validateCampaignParams(final TriggeredSmsCampaign campaign, final Map<String, Object> smsParams, final Client client) {
+        for (Map.Entry<String, String> entry : campaign.getParams().entrySet()) {
+            final String value = entry.getValue();
+            final boolean spkeycheck = smsParams.containsKey(entry.getKey());
+            final String spvalue = spkeycheck ? smsParams.get(entry.getKey()).toString() : null;
+            if (spkeycheck && !(value.equals("-1") || spvalue.equals(value))) {
+                if (entry.getKey().equals("officeId")) {
+                    final Long officeId = Long.valueOf(value);
+                    final Office campaignOffice = this.officeRepository.findById(officeId)
+                            .orElseThrow(() -> new OfficeNotFoundException(officeId));
+                    if (campaignOffice.doesNotHaveAnOfficeInHierarchyWithId(client.getOffice().getId())) {
+                        throw new SmsRuntimeException("error.msg.no.office", "Office not found for the id");
+                    }
+                } else {
+                    throw new SmsRuntimeException("error.msg.no.id.attribute", "Office Id attribute is notfound");
+                }
+            }
+        }
+    }
+
+    private boolean isAsync() {
+        final FineractProperties.FineractSmsCampaignProperties smsCampaign = this.fineractProperties.getSmsCampaign();
+        return smsCampaign != null && smsCampaign.isAsyncTriggeredMessages();
+    }
+
+    private record PendingMessage(TriggeredSmsCampaign campaign, Long clientId, Map<String, Object> smsParams) {
+    }
+
+    private static final class PendingMessages {
+
+        private final List<PendingMessage> messages = new ArrayList<>();
+    }
+
+    private final class GenerateAfterCommit implements TransactionSynchronization {
+
+        private final PendingMessages pending;
+
+        private GenerateAfterCommit(final PendingMessages pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void afterCommit() {
+            final FineractContext context = ThreadLocalContextUtil.getContext();
+            final List<PendingMessage> messages = List.copyOf(this.pending.messages);
+            try {
+                taskExecutor.execute(() -> {
+                    ThreadLocalContextUtil.init(context);
+                    try {
+                        generateInNewTransaction(messages);
+                    } finally {
+                        ThreadLocalContextUtil.reset();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                log.warn("Triggered SMS messages were rejected by the task executor and are generated by the caller", e);
+                generateInNewTransaction(messages);
+            }
+        }
+
+        private void generateInNewTransaction(final List<PendingMessage> messages) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> generateMessages(messages));
+            } catch (RuntimeException e) {
+                log.error("Triggered SMS messages could not be generated", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TriggeredSmsMessageGenerator.this);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
 
     public static final String CONFIG_BY_NAME_CACHE_NAME = "configByName";
+    public static final String VERIFIED_CREDENTIALS_CACHE_NAME = "verifiedCredentials";
 
     @Bean
     public TransactionBoundCacheManager defaultCacheManager(JCacheCacheManager ehCacheManager) {
@@ -100,6 +101,9 @@ public class CacheConfig {
         if (cacheManager.getCache(CONFIG_BY_NAME_CACHE_NAME) == null) {
             cacheManager.createCache(CONFIG_BY_NAME_CACHE_NAME, defaultTemplate);
         }
+        if (cacheManager.getCache(VERIFIED_CREDENTIALS_CACHE_NAME) == null) {
+            cacheManager.createCache(VERIFIED_CREDENTIALS_CACHE_NAME, defaultTemplate);
+        }
 
         javax.cache.configuration.Configuration<Object, Object> accessTokenTemplate = Eh107Configuration.fromEhcacheCacheConfiguration(
                 CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(10000))
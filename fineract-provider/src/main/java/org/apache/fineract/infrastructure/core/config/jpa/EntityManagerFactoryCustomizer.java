@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.core.config.jpa;
 
+import jakarta.persistence.spi.PersistenceProvider;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
@@ -61,4 +62,16 @@ public interface EntityManagerFactoryCustomizer {
     default Set<PersistenceUnitPostProcessor> additionalPersistenceUnitPostProcessors() {
         return Collections.emptySet();
     }
+
+    /**
+     * Decorates the persistence provider creating the EntityManager factory, for example to create one EclipseLink session
+     * per tenant.
+     *
+     * @param persistenceProvider
+     *            the provider as decorated by the other customizers so far
+     * @return the decorated provider, or the given one when nothing needs to be decorated
+     */
+    default PersistenceProvider decoratePersistenceProvider(PersistenceProvider persistenceProvider) {
+        return persistenceProvider;
+    }
 }
@@ -19,6 +19,8 @@
 
 package org.apache.fineract.infrastructure.core.config.jpa;
 
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.spi.PersistenceProvider;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -80,8 +82,19 @@ public class JPAConfig extends JpaBaseConfiguration {
             PersistenceManagedTypes persistenceManagedTypes) {
         Map<String, Object> vendorProperties = getVendorProperties();
         String[] packagesToScan = getPackagesToScan();
-        return factoryBuilder.dataSource(getDataSource()).properties(vendorProperties).persistenceUnit("jpa-pu").packages(packagesToScan)
-                .jta(false).build();
+        LocalContainerEntityManagerFactoryBean factoryBean = factoryBuilder.dataSource(getDataSource()).properties(vendorProperties)
+                .persistenceUnit("jpa-pu").packages(packagesToScan).jta(false).build();
+        PersistenceProvider defaultProvider = new org.eclipse.persistence.jpa.PersistenceProvider();
+        PersistenceProvider persistenceProvider = defaultProvider;
+        for (EntityManagerFactoryCustomizer customizer : emFactoryCustomizers) {
+            persistenceProvider = customizer.decoratePersistenceProvider(persistenceProvider);
+        }
+        if (persistenceProvider != defaultProvider) {
+            factoryBean.setPersistenceProvider(persistenceProvider);
+            // a decorated provider need not create EclipseLink's own factory, so only the JPA interface may be proxied
+            factoryBean.setEntityManagerFactoryInterface(EntityManagerFactory.class);
+        }
+        return factoryBean;
     }
 
     @Override
@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import jakarta.persistence.spi.PersistenceProvider;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns on the EclipseLink shared cache for the read-mostly entities listed in
+ * <code>fineract.jpa.shared-cache.entities</code>.
+ *
+ * All tenants share one persistence unit, while the shared cache of an EclipseLink session is keyed by primary key
+ * only. The persistence provider is therefore decorated to create one session, and with it one shared cache, per tenant,
+ * see {@link TenantSessionEntityManagerFactory}. Changes made on other nodes are invalidated by
+ * {@link SharedEntityCacheInvalidator}.
+ */
+@Component
+@Conditional(SharedEntityCacheCondition.class)
+@RequiredArgsConstructor
+public class SharedEntityCacheCustomizer implements EntityManagerFactoryCustomizer {
+
+    private final FineractProperties fineractProperties;
+
+    @Override
+    public Map<String, Object> additionalVendorProperties() {
+        if (!isActive()) {
+            return Map.of();
+        }
+        Map<String, Object> vendorProperties = new HashMap<>();
+        getEntities().forEach(entity -> vendorProperties.put(PersistenceUnitProperties.CACHE_SHARED_ + entity, Boolean.TRUE.toString()));
+        return vendorProperties;
+    }
+
+    @Override
+    public PersistenceProvider decoratePersistenceProvider(PersistenceProvider persistenceProvider) {
+        return isActive() ? new TenantSessionPersistenceProvider(persistenceProvider) : persistenceProvider;
+    }
+
+    public boolean isActive() {
+        return !getEntities().isEmpty();
+    }
+
+    public List<String> getEntities() {
+        List<String> entities = fineractProperties.getJpa().getSharedCache().getEntities();
+        return entities == null ? List.of() : entities;
+    }
+}
@@ -0,0 +1,246 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.Session;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Propagates changes of the entities kept in the shared cache to the other nodes.
+ *
+ * Updates and deletes of a cached entity are recorded in the <code>m_shared_cache_invalidation</code> table of the
+ * tenant once the transaction has committed. Every <code>fineract.jpa.shared-cache.invalidation-poll-millis</code>, each
+ * node reads the records of the tenants it holds a session for and invalidates the entities changed by the other nodes.
+ * Records are read by two consecutive polls, so a record committed shortly after a higher id was read is not missed.
+ * An invalidation is lost if a node stops between the commit and the recording; the expiry of the cache still applies.
+ */
+@Slf4j
+@Component
+@Conditional(SharedEntityCacheCondition.class)
+@RequiredArgsConstructor
+public class SharedEntityCacheInvalidator implements InitializingBean, DisposableBean {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+    private static final String INSERT_SQL = "INSERT INTO m_shared_cache_invalidation (entity_name, entity_id, origin, created_on_utc) "
+            + "VALUES (?, ?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT id, entity_name, entity_id, origin FROM m_shared_cache_invalidation WHERE id > ? "
+            + "ORDER BY id";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SharedEntityCacheCustomizer sharedEntityCacheCustomizer;
+    private final FineractProperties fineractProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, PollState> pollStates = new ConcurrentHashMap<>();
+    private ScheduledExecutorService poller;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!sharedEntityCacheCustomizer.isActive()) {
+            return;
+        }
+        TenantSessionEntityManagerFactory tenantSessions = entityManagerFactory.unwrap(TenantSessionEntityManagerFactory.class);
+        tenantSessions.addSessionInitializer(this::register);
+        long pollMillis = fineractProperties.getJpa().getSharedCache().getInvalidationPollMillis();
+        if (pollMillis <= 0) {
+            log.warn("Shared entity cache invalidations are not polled, changes of other nodes are only seen once the cache expires");
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("shared-cache-invalidation-");
+        threadFactory.setDaemon(true);
+        poller = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        poller.scheduleWithFixedDelay(() -> poll(tenantSessions), pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    void register(String tenantIdentifier, Session session) {
+        Long lastId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM m_shared_cache_invalidation", Long.class);
+        long highestId = lastId == null ? 0L : lastId;
+        pollStates.put(tenantIdentifier,
+                new PollState(ThreadLocalContextUtil.getTenant(), highestId, highestId, System.currentTimeMillis()));
+        ChangeListener listener = new ChangeListener();
+        for (String entity : sharedEntityCacheCustomizer.getEntities()) {
+            ClassDescriptor descriptor = session.getDescriptorForAlias(entity);
+            if (descriptor != null) {
+                descriptor.getEventManager().addListener(listener);
+            }
+        }
+    }
+
+    void poll(TenantSessionEntityManagerFactory tenantSessions) {
+        for (String tenantIdentifier : tenantSessions.getTenantIdentifiers()) {
+            PollState state = pollStates.get(tenantIdentifier);
+            if (state == null) {
+                continue;
+            }
+            try {
+                ThreadLocalContextUtil.setTenant(state.tenant());
+                pollStates.put(tenantIdentifier, invalidateChangesOfOtherNodes(state, tenantSessions.getSession(tenantIdentifier)));
+            } catch (RuntimeException e) {
+                log.warn("Shared entity cache invalidations of tenant {} could not be read", tenantIdentifier, e);
+            } finally {
+                ThreadLocalContextUtil.reset();
+            }
+        }
+    }
+
+    PollState invalidateChangesOfOtherNodes(PollState state, Session session) {
+        long highestId = state.highestId();
+        List<Invalidation> invalidations = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Invalidation(rs.getLong("id"),
+                rs.getString("entity_name"), rs.getLong("entity_id"), rs.getString("origin")), state.readFromId());
+        for (Invalidation invalidation : invalidations) {
+            highestId = Math.max(highestId, invalidation.id());
+            if (origin.equals(invalidation.origin())) {
+                continue;
+            }
+            ClassDescriptor descriptor = session.getDescriptorForAlias(invalidation.entityName());
+            if (descriptor != null) {
+                session.getIdentityMapAccessor().invalidateObject(invalidation.entityId(), descriptor.getJavaClass());
+            }
+        }
+        long cleanedUpAt = state.cleanedUpAt();
+        if (System.currentTimeMillis() - cleanedUpAt >= RETENTION.toMillis()) {
+            jdbcTemplate.update("DELETE FROM m_shared_cache_invalidation WHERE created_on_utc < ?",
+                    DateUtils.getAuditLocalDateTime().minus(RETENTION));
+            cleanedUpAt = System.currentTimeMillis();
+        }
+        return new PollState(state.tenant(), state.highestId(), highestId, cleanedUpAt);
+    }
+
+    void recordChange(String entityName, Object entityId) {
+        if (!(entityId instanceof Number)) {
+            log.debug("Change of {} {} is not propagated, only numeric ids are", entityName, entityId);
+            return;
+        }
+        Change change = new Change(entityName, ((Number) entityId).longValue());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(change));
+            return;
+        }
+        PendingChanges pendingChanges = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pendingChanges == null) {
+            pendingChanges = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pendingChanges);
+            TransactionSynchronizationManager.registerSynchronization(pendingChanges);
+        }
+        pendingChanges.changes.add(change);
+    }
+
+    String getOrigin() {
+        return origin;
+    }
+
+    private void publish(Collection<Change> changes) {
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            rows.add(new Object[] { change.entityName(), change.entityId(), origin, DateUtils.getAuditLocalDateTime() });
+        }
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+        } catch (RuntimeException e) {
+            log.warn("Changes of {} could not be propagated to the shared entity caches of other nodes", changes, e);
+        }
+    }
+
+    record PollState(FineractPlatformTenant tenant, long readFromId, long highestId, long cleanedUpAt) {
+    }
+
+    private record Invalidation(long id, String entityName, long entityId, String origin) {
+    }
+
+    private record Change(String entityName, long entityId) {
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Change> changes = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            publish(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SharedEntityCacheInvalidator.this);
+        }
+    }
+
+    private final class ChangeListener extends DescriptorEventAdapter {
+
+        @Override
+        public void postUpdate(DescriptorEvent event) {
+            recordChange(event);
+        }
+
+        @Override
+        public void postDelete(DescriptorEvent event) {
+            recordChange(event);
+        }
+
+        private void recordChange(DescriptorEvent event) {
+            Object entityId = event.getDescriptor().getObjectBuilder().extractPrimaryKeyFromObject(event.getObject(),
+                    (AbstractSession) event.getSession());
+            SharedEntityCacheInvalidator.this.recordChange(event.getDescriptor().getAlias(), entityId);
+        }
+    }
+}
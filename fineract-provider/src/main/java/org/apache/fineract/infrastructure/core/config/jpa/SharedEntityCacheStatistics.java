@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies the configured expiry to the entities kept in the shared cache of each tenant and publishes how many of their
+ * lookups were answered from the cache as <code>fineract.jpa.shared.cache.hits</code> and
+ * <code>fineract.jpa.shared.cache.misses</code> per entity.
+ *
+ * Changes made through JPA on this node are merged into the shared cache on commit, and the write services of all the
+ * cached entities go through their repositories. Changes made on other nodes are invalidated by
+ * {@link SharedEntityCacheInvalidator}; the expiry only bounds how long an entity stays stale if an invalidation is lost.
+ */
+@Slf4j
+@Component
+@Conditional(SharedEntityCacheCondition.class)
+@RequiredArgsConstructor
+public class SharedEntityCacheStatistics implements InitializingBean {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SharedEntityCacheCustomizer sharedEntityCacheCustomizer;
+    private final FineractProperties fineractProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!sharedEntityCacheCustomizer.isActive()) {
+            return;
+        }
+        // the sessions of all tenants share the metadata of the persistence unit, so the default session knows the entities
+        Session defaultSession = entityManagerFactory.unwrap(Session.class);
+        Map<String, Lookups> lookups = new HashMap<>();
+        for (String entity : sharedEntityCacheCustomizer.getEntities()) {
+            if (defaultSession.getDescriptorForAlias(entity) == null) {
+                log.warn("Entity {} of fineract.jpa.shared-cache.entities is not known", entity);
+                continue;
+            }
+            Lookups entityLookups = new Lookups();
+            lookups.put(entity, entityLookups);
+            FunctionCounter.builder("fineract.jpa.shared.cache.hits", entityLookups.hits, LongAdder::doubleValue).tag("entity", entity)
+                    .description("Lookups of the entity answered from the cache").register(meterRegistry);
+            FunctionCounter.builder("fineract.jpa.shared.cache.misses", entityLookups.misses, LongAdder::doubleValue).tag("entity", entity)
+                    .description("Lookups of the entity that had to query the database").register(meterRegistry);
+        }
+        entityManagerFactory.unwrap(TenantSessionEntityManagerFactory.class)
+                .addSessionInitializer((tenantIdentifier, session) -> initialize(session, lookups));
+    }
+
+    private void initialize(Session session, Map<String, Lookups> lookups) {
+        long expiryMillis = fineractProperties.getJpa().getSharedCache().getExpiryMillis();
+        Map<Class<?>, Lookups> classLookups = new HashMap<>();
+        lookups.forEach((entity, entityLookups) -> {
+            ClassDescriptor descriptor = session.getDescriptorForAlias(entity);
+            if (expiryMillis > 0) {
+                descriptor.setCacheInvalidationPolicy(new TimeToLiveCacheInvalidationPolicy(expiryMillis));
+            }
+            classLookups.put(descriptor.getJavaClass(), entityLookups);
+        });
+        if (session.getProfiler() != null) {
+            log.info("EclipseLink profiler {} is configured, shared entity cache statistics are not collected",
+                    session.getProfiler().getClass().getSimpleName());
+            return;
+        }
+        session.setProfiler(new CacheLookupProfiler(Map.copyOf(classLookups)));
+    }
+
+    private static final class Lookups {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    @RequiredArgsConstructor
+    static final class CacheLookupProfiler extends SessionProfilerAdapter {
+
+        private final Map<Class<?>, Lookups> lookups;
+
+        @Override
+        public int getProfileWeight() {
+            return SessionProfiler.NORMAL;
+        }
+
+        @Override
+        public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+            Lookups entityLookups = query == null ? null : lookups.get(query.getReferenceClass());
+            if (entityLookups == null) {
+                return;
+            }
+            if (SessionProfiler.CacheHits.equals(operationName)) {
+                entityLookups.hits.increment();
+            } else if (SessionProfiler.CacheMisses.equals(operationName)) {
+                entityLookups.misses.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
+import jakarta.persistence.SynchronizationType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.metamodel.Metamodel;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * EntityManager factory keeping one EclipseLink session, and with it one shared cache, per tenant.
+ *
+ * All tenants share one persistence unit, while the shared cache of a session is keyed by primary key only. The
+ * EntityManagers of each tenant are therefore created by a factory of its own, which is created when the tenant first
+ * uses JPA on this node. Work without a tenant, such as reading the metamodel on startup, uses the default factory of
+ * the persistence unit.
+ */
+@Slf4j
+@SuppressWarnings("rawtypes")
+public final class TenantSessionEntityManagerFactory implements EntityManagerFactory {
+
+    private final EntityManagerFactory defaultFactory;
+    private final Function<String, EntityManagerFactory> tenantFactoryBuilder;
+    private final Map<String, EntityManagerFactory> tenantFactories = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, Session>> sessionInitializers = new CopyOnWriteArrayList<>();
+
+    public TenantSessionEntityManagerFactory(EntityManagerFactory defaultFactory,
+            Function<String, EntityManagerFactory> tenantFactoryBuilder) {
+        this.defaultFactory = defaultFactory;
+        this.tenantFactoryBuilder = tenantFactoryBuilder;
+    }
+
+    /**
+     * Registers work to be done on the session of each tenant when its factory is created, with the tenant bound to the
+     * thread. Initializers are registered on startup, before any tenant is served.
+     */
+    public void addSessionInitializer(BiConsumer<String, Session> initializer) {
+        sessionInitializers.add(initializer);
+    }
+
+    /**
+     * The tenants which have a session on this node.
+     */
+    public Set<String> getTenantIdentifiers() {
+        return Set.copyOf(tenantFactories.keySet());
+    }
+
+    /**
+     * The session of the given tenant, null when the tenant has not used JPA on this node.
+     */
+    public Session getSession(String tenantIdentifier) {
+        EntityManagerFactory factory = tenantFactories.get(tenantIdentifier);
+        return factory == null ? null : factory.unwrap(Session.class);
+    }
+
+    @Override
+    public EntityManager createEntityManager() {
+        return currentFactory().createEntityManager();
+    }
+
+    @Override
+    public EntityManager createEntityManager(Map map) {
+        return currentFactory().createEntityManager(map);
+    }
+
+    @Override
+    public EntityManager createEntityManager(SynchronizationType synchronizationType) {
+        return currentFactory().createEntityManager(synchronizationType);
+    }
+
+    @Override
+    public EntityManager createEntityManager(SynchronizationType synchronizationType, Map map) {
+        return currentFactory().createEntityManager(synchronizationType, map);
+    }
+
+    @Override
+    public CriteriaBuilder getCriteriaBuilder() {
+        return defaultFactory.getCriteriaBuilder();
+    }
+
+    @Override
+    public Metamodel getMetamodel() {
+        return defaultFactory.getMetamodel();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return defaultFactory.isOpen();
+    }
+
+    @Override
+    public void close() {
+        tenantFactories.values().forEach(EntityManagerFactory::close);
+        tenantFactories.clear();
+        defaultFactory.close();
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return defaultFactory.getProperties();
+    }
+
+    @Override
+    public Cache getCache() {
+        return currentFactory().getCache();
+    }
+
+    @Override
+    public PersistenceUnitUtil getPersistenceUnitUtil() {
+        return defaultFactory.getPersistenceUnitUtil();
+    }
+
+    @Override
+    public void addNamedQuery(String name, Query query) {
+        throw new UnsupportedOperationException("Named queries can not be added when each tenant has its own session");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) {
+        if (cls.isInstance(this)) {
+            return cls.cast(this);
+        }
+        return currentFactory().unwrap(cls);
+    }
+
+    @Override
+    public <T> void addNamedEntityGraph(String graphName, EntityGraph<T> entityGraph) {
+        throw new UnsupportedOperationException("Named entity graphs can not be added when each tenant has its own session");
+    }
+
+    private EntityManagerFactory currentFactory() {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        if (tenant == null) {
+            return defaultFactory;
+        }
+        return tenantFactories.computeIfAbsent(tenant.getTenantIdentifier(), this::createTenantFactory);
+    }
+
+    private EntityManagerFactory createTenantFactory(String tenantIdentifier) {
+        log.info("Creating the JPA session of tenant {}", tenantIdentifier);
+        EntityManagerFactory factory = tenantFactoryBuilder.apply(tenantIdentifier);
+        if (!sessionInitializers.isEmpty()) {
+            Session session = factory.unwrap(Session.class);
+            sessionInitializers.forEach(initializer -> initializer.accept(tenantIdentifier, session));
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.spi.PersistenceProvider;
+import jakarta.persistence.spi.PersistenceUnitInfo;
+import jakarta.persistence.spi.ProviderUtil;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+
+/**
+ * Creates a {@link TenantSessionEntityManagerFactory} for the persistence unit; the EclipseLink session of each tenant
+ * is named after the persistence unit and the tenant.
+ */
+@RequiredArgsConstructor
+@SuppressWarnings("rawtypes")
+final class TenantSessionPersistenceProvider implements PersistenceProvider {
+
+    private final PersistenceProvider delegate;
+
+    @Override
+    public EntityManagerFactory createEntityManagerFactory(String emName, Map map) {
+        return delegate.createEntityManagerFactory(emName, map);
+    }
+
+    @Override
+    public EntityManagerFactory createContainerEntityManagerFactory(PersistenceUnitInfo info, Map map) {
+        return new TenantSessionEntityManagerFactory(delegate.createContainerEntityManagerFactory(info, map),
+                tenantIdentifier -> delegate.createContainerEntityManagerFactory(info, tenantProperties(info, map, tenantIdentifier)));
+    }
+
+    @Override
+    public void generateSchema(PersistenceUnitInfo info, Map map) {
+        delegate.generateSchema(info, map);
+    }
+
+    @Override
+    public boolean generateSchema(String persistenceUnitName, Map map) {
+        return delegate.generateSchema(persistenceUnitName, map);
+    }
+
+    @Override
+    public ProviderUtil getProviderUtil() {
+        return delegate.getProviderUtil();
+    }
+
+    static Map<String, Object> tenantProperties(PersistenceUnitInfo info, Map<?, ?> properties, String tenantIdentifier) {
+        Map<String, Object> tenantProperties = new HashMap<>();
+        if (properties != null) {
+            properties.forEach((key, value) -> tenantProperties.put(String.valueOf(key), value));
+        }
+        tenantProperties.put(PersistenceUnitProperties.SESSION_NAME, info.getPersistenceUnitName() + "-" + tenantIdentifier);
+        return tenantProperties;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import lombok.RequiredArgsConstructor;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Records the duration and database work of every API resource method call as <code>fineract.api.request</code>, and
+ * adds the number of SQL statements to the response when the response header is enabled.
+ */
+@Component
+@Provider
+@RequiredArgsConstructor
+public class ResourceMethodInstrumentationListener implements ApplicationEventListener, ContainerResponseFilter {
+
+    private static final String SAMPLE_PROPERTY = ResourceMethodInstrumentationListener.class.getName() + ".sample";
+
+    private final PerformanceInstrumentation performanceInstrumentation;
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        // only requests are instrumented
+    }
+
+    @Override
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return performanceInstrumentation.isEnabled() ? new ResourceMethodListener() : null;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (requestContext.getProperty(SAMPLE_PROPERTY) instanceof PerformanceInstrumentation.Sample sample
+                && performanceInstrumentation.isResponseHeaderEnabled()) {
+            responseContext.getHeaders().putSingle(PerformanceInstrumentation.SQL_STATEMENTS_HEADER,
+                    String.valueOf(performanceInstrumentation.statementCountSince(sample)));
+        }
+    }
+
+    private final class ResourceMethodListener implements RequestEventListener {
+
+        private PerformanceInstrumentation.Sample sample;
+
+        @Override
+        public void onEvent(RequestEvent event) {
+            if (event.getType() == RequestEvent.Type.RESOURCE_METHOD_START) {
+                sample = performanceInstrumentation.start();
+                event.getContainerRequest().setProperty(SAMPLE_PROPERTY, sample);
+            } else if (event.getType() == RequestEvent.Type.FINISHED && sample != null) {
+                stop(event);
+            }
+        }
+
+        private void stop(RequestEvent event) {
+            ResourceMethod resourceMethod = event.getUriInfo().getMatchedResourceMethod();
+            if (resourceMethod == null) {
+                return;
+            }
+            String resource = ClassUtils.getUserClass(resourceMethod.getInvocable().getHandler().getHandlerClass()).getSimpleName();
+            String method = resourceMethod.getInvocable().getHandlingMethod().getName();
+            ContainerResponse response = event.getContainerResponse();
+            String status = response == null ? "500" : String.valueOf(response.getStatus());
+            performanceInstrumentation.stop(sample, "fineract.api.request",
+                    "request " + event.getContainerRequest().getMethod() + " " + event.getUriInfo().getPath(), "resource", resource,
+                    "method", method, "status", status);
+        }
+    }
+}
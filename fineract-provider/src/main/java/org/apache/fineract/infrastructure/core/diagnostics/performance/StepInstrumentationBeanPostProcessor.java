@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.diagnostics.performance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.step.AbstractStep;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers a listener on every job step recording its duration and database work as <code>fineract.job.step</code>.
+ *
+ * The database work is the one of the thread running the step, work done by partition or chunk worker threads is
+ * recorded by the business steps and commands they run.
+ */
+@Component
+@RequiredArgsConstructor
+public class StepInstrumentationBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<PerformanceInstrumentation> performanceInstrumentation;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof AbstractStep step) {
+            step.registerStepExecutionListener(new StepInstrumentationListener(step.getName()));
+        }
+        return bean;
+    }
+
+    @RequiredArgsConstructor
+    private final class StepInstrumentationListener implements StepExecutionListener {
+
+        private final String stepName;
+        private final Map<Long, PerformanceInstrumentation.Sample> samples = new ConcurrentHashMap<>();
+
+        @Override
+        public void beforeStep(StepExecution stepExecution) {
+            PerformanceInstrumentation.Sample sample = performanceInstrumentation.getObject().start();
+            if (sample != null && stepExecution.getId() != null) {
+                samples.put(stepExecution.getId(), sample);
+            }
+        }
+
+        @Override
+        public ExitStatus afterStep(StepExecution stepExecution) {
+            PerformanceInstrumentation.Sample sample = stepExecution.getId() == null ? null : samples.remove(stepExecution.getId());
+            performanceInstrumentation.getObject().stop(sample, "fineract.job.step", "job step " + stepName, "job",
+                    stepExecution.getJobExecution().getJobInstance().getJobName(), "step", stepName, "status",
+                    stepExecution.getExitStatus().getExitCode());
+            return stepExecution.getExitStatus();
+        }
+    }
+}
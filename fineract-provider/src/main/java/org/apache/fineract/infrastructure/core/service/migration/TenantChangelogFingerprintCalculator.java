@@ -0,0 +1,149 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenantConnection;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calculates a fingerprint of everything that decides what Liquibase applies to a tenant database: the master changelog,
+ * the tenant and module changelogs, the custom changelogs and the contexts Liquibase is run with. When the fingerprint
+ * stored for a tenant equals the one calculated for it by {@link #calculate(String, FineractPlatformTenant, DataSource)}, the
+ * tenant schema is up to date and Liquibase does not need to run.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantChangelogFingerprintCalculator {
+
+    private static final String[] CHANGELOG_LOCATIONS = { "classpath*:db/changelog/db.changelog-master.xml",
+            "classpath*:db/changelog/tenant/**/*.*", "classpath*:db/custom-changelog/**/*.*" };
+    private static final String[] CHANGELOG_ROOTS = { "db/changelog/", "db/custom-changelog/" };
+
+    private final ResourceLoader resourceLoader;
+    private final Environment environment;
+    private final DatabaseAwareMigrationContextProvider databaseAwareMigrationContextProvider;
+
+    private volatile String fingerprint;
+
+    public String calculate() {
+        String result = fingerprint;
+        if (result == null) {
+            result = digest();
+            fingerprint = result;
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the fingerprint of a tenant database: the changelog fingerprint combined with the connection of the tenant
+     * and the state of its DATABASECHANGELOG table. A tenant pointed at another database, or a database whose changelog
+     * table was changed by anything else than this upgrade, no longer matches the stored fingerprint.
+     *
+     * @param changelogFingerprint
+     *            the fingerprint returned by {@link #calculate()}
+     * @param tenant
+     *            the tenant whose database is fingerprinted
+     * @param tenantDataSource
+     *            the data source of the tenant database, which must already have a DATABASECHANGELOG table
+     */
+    public String calculate(String changelogFingerprint, FineractPlatformTenant tenant, DataSource tenantDataSource) {
+        FineractPlatformTenantConnection connection = tenant.getConnection();
+        String changelogState = new JdbcTemplate(tenantDataSource).queryForObject(
+                "SELECT COUNT(*), MAX(ORDEREXECUTED) FROM DATABASECHANGELOG", (rs, rowNum) -> rs.getLong(1) + ":" + rs.getLong(2));
+        MessageDigest digest = sha256();
+        for (String part : new String[] { changelogFingerprint, connection.getSchemaServer(), connection.getSchemaServerPort(),
+                connection.getSchemaName(), changelogState }) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String digest() {
+        MessageDigest digest = sha256();
+        digest.update(String.join(",", environment.getActiveProfiles()).getBytes(StandardCharsets.UTF_8));
+        digest.update(databaseAwareMigrationContextProvider.provide().getBytes(StandardCharsets.UTF_8));
+        for (Map.Entry<String, Resource> changelog : findChangelogs().entrySet()) {
+            digest.update(changelog.getKey().getBytes(StandardCharsets.UTF_8));
+            try (InputStream content = changelog.getValue().getInputStream()) {
+                digest.update(content.readAllBytes());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read changelog " + changelog.getKey(), e);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Changelogs keyed by their path relative to the changelog root, sorted so the fingerprint does not depend on the
+     * classpath order or on where the jars are located.
+     */
+    private Map<String, Resource> findChangelogs() {
+        ResourcePatternResolver resolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        Map<String, Resource> changelogs = new TreeMap<>();
+        try {
+            for (String location : CHANGELOG_LOCATIONS) {
+                for (Resource resource : resolver.getResources(location)) {
+                    if (resource.isReadable()) {
+                        changelogs.putIfAbsent(relativePath(resource.getURL().toString()), resource);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot resolve the tenant changelogs", e);
+        }
+        return changelogs;
+    }
+
+    private static String relativePath(String url) {
+        for (String root : CHANGELOG_ROOTS) {
+            int index = url.indexOf(root);
+            if (index >= 0) {
+                return url.substring(index);
+            }
+        }
+        return url;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
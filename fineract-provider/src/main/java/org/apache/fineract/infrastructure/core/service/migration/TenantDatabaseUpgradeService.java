@@ -21,10 +21,19 @@ package org.apache.fineract.infrastructure.core.service.migration;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import javax.sql.DataSource;
+import liquibase.Scope;
+import liquibase.ThreadLocalScopeManager;
 import liquibase.change.custom.CustomTaskChange;
 import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringLiquibase;
@@ -33,14 +42,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.boot.FineractProfiles;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.exception.MultiException;
 import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 /**
  * A service that picks up on tenants that are configured to auto-update their specific schema on application startup.
+ *
+ * Tenants are upgraded on a bounded pool of {@code fineract.tenant.upgrade.parallelism} threads. With
+ * {@code fineract.tenant.upgrade.skip-if-current} enabled, tenants whose stored fingerprint matches the changelogs of the
+ * running instance, their connection and the DATABASECHANGELOG table of their database are not handed to Liquibase.
  */
 @Service
 @Slf4j
@@ -52,6 +67,8 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
     private static final String TENANT_DB_CONTEXT = "tenant_db";
     private static final String CUSTOM_CHANGELOG_CONTEXT = "custom_changelog";
 
+    private static boolean threadLocalLiquibaseScopes;
+
     private final TenantDetailsService tenantDetailsService;
     @Qualifier("hikariTenantDataSource")
     private final DataSource tenantDataSource;
@@ -60,6 +77,8 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
     private final ExtendedSpringLiquibaseFactory liquibaseFactory;
     private final TenantDataSourceFactory tenantDataSourceFactory;
     private final Environment environment;
+    private final TenantChangelogFingerprintCalculator changelogFingerprintCalculator;
+    private final TenantSchemaFingerprintRepository schemaFingerprintRepository;
 
     // DO NOT REMOVE! Required for liquibase custom task initialization
     private final List<CustomTaskChange> customTaskChangesForDependencyInjection;
@@ -125,11 +144,92 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
         log.info("Upgrading all tenants");
         List<FineractPlatformTenant> tenants = tenantDetailsService.findAllTenants();
         if (isNotEmpty(tenants)) {
+            FineractProperties.FineractTenantUpgradeProperties upgradeProperties = getUpgradeProperties();
+            String fingerprint = upgradeProperties.isSkipIfCurrent() ? changelogFingerprintCalculator.calculate() : null;
+            int parallelism = Math.max(1, Math.min(upgradeProperties.getParallelism(), tenants.size()));
+            long start = System.nanoTime();
+            List<TenantUpgradeReport> reports = parallelism == 1 ? upgradeTenantsSequentially(tenants, fingerprint)
+                    : upgradeTenantsInParallel(tenants, fingerprint, parallelism);
+            logUpgradeReport(reports, parallelism, elapsedMillis(start));
+        }
+        log.info("Tenant upgrades have finished");
+    }
+
+    private FineractProperties.FineractTenantUpgradeProperties getUpgradeProperties() {
+        FineractProperties.FineractTenantProperties tenant = fineractProperties.getTenant();
+        if (tenant == null || tenant.getUpgrade() == null) {
+            return new FineractProperties.FineractTenantUpgradeProperties();
+        }
+        return tenant.getUpgrade();
+    }
+
+    private List<TenantUpgradeReport> upgradeTenantsSequentially(List<FineractPlatformTenant> tenants, String fingerprint)
+            throws LiquibaseException {
+        List<TenantUpgradeReport> reports = new ArrayList<>();
+        for (FineractPlatformTenant tenant : tenants) {
+            reports.add(upgradeIndividualTenant(tenant, fingerprint));
+        }
+        return reports;
+    }
+
+    /**
+     * Upgrades the tenants on a bounded pool. A failing tenant does not stop the upgrade of the others; the failures are
+     * rethrown once every tenant has finished.
+     */
+    private List<TenantUpgradeReport> upgradeTenantsInParallel(List<FineractPlatformTenant> tenants, String fingerprint, int parallelism)
+            throws LiquibaseException {
+        useThreadLocalLiquibaseScopes();
+        log.info("Upgrading {} tenants with a parallelism of {}", tenants.size(), parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("tenant-upgrade-"));
+        try {
+            List<Future<TenantUpgradeReport>> upgrades = new ArrayList<>();
             for (FineractPlatformTenant tenant : tenants) {
-                upgradeIndividualTenant(tenant);
+                upgrades.add(executor.submit(() -> upgradeIndividualTenant(tenant, fingerprint)));
             }
+            List<TenantUpgradeReport> reports = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<TenantUpgradeReport> upgrade : upgrades) {
+                try {
+                    reports.add(upgrade.get());
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the tenant upgrades", e);
+                }
+            }
+            rethrowFailures(failures);
+            return reports;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void rethrowFailures(List<Throwable> failures) throws LiquibaseException {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1) {
+            Throwable failure = failures.get(0);
+            if (failure instanceof LiquibaseException liquibaseException) {
+                throw liquibaseException;
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+        }
+        throw new RuntimeException("Upgrade failed for " + failures.size() + " tenants", new MultiException(failures));
+    }
+
+    /**
+     * Liquibase keeps its scope in a singleton by default, which is not safe when several tenants are upgraded at the
+     * same time.
+     */
+    private static synchronized void useThreadLocalLiquibaseScopes() {
+        if (!threadLocalLiquibaseScopes) {
+            Scope.setScopeManager(new ThreadLocalScopeManager());
+            threadLocalLiquibaseScopes = true;
         }
-        log.info("Tenant upgrades have finished");
     }
 
     /**
@@ -139,23 +239,63 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
      * migration (it was introduced as part of v4.21.0)
      *
      * @param tenant
+     * @param fingerprint
+     *            the changelog fingerprint of the running instance, null if up to date tenants must not be skipped
      * @throws LiquibaseException
      */
-    private void upgradeIndividualTenant(FineractPlatformTenant tenant) throws LiquibaseException {
-        log.info("Upgrade for tenant {} has started", tenant.getTenantIdentifier());
-        DataSource tenantDataSource = tenantDataSourceFactory.create(tenant);
+    private TenantUpgradeReport upgradeIndividualTenant(FineractPlatformTenant tenant, String fingerprint) throws LiquibaseException {
+        String tenantIdentifier = tenant.getTenantIdentifier();
+        long start = System.nanoTime();
+        try {
+            DataSource tenantDataSource = tenantDataSourceFactory.create(tenant);
+            if (fingerprint != null && isOnCurrentChangelogs(tenant, tenantDataSource, fingerprint)) {
+                log.info("Tenant {} is already on the current changelogs, skipping the upgrade", tenantIdentifier);
+                return new TenantUpgradeReport(tenantIdentifier, false, elapsedMillis(start));
+            }
+            log.info("Upgrade for tenant {} has started", tenantIdentifier);
+            if (databaseStateVerifier.isFirstLiquibaseMigration(tenantDataSource)) {
+                ExtendedSpringLiquibase liquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, INITIAL_SWITCH_CONTEXT,
+                        tenantIdentifier);
+                applyInitialLiquibase(tenantDataSource, liquibase, tenantIdentifier,
+                        (ds) -> !databaseStateVerifier.isTenantOnLatestUpgradableVersion(ds));
+            }
+            SpringLiquibase tenantLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, tenantIdentifier);
+            tenantLiquibase.afterPropertiesSet();
+            SpringLiquibase customChangelogLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT,
+                    CUSTOM_CHANGELOG_CONTEXT, tenantIdentifier);
+            customChangelogLiquibase.afterPropertiesSet();
+            if (fingerprint != null) {
+                schemaFingerprintRepository.saveFingerprint(tenantIdentifier,
+                        changelogFingerprintCalculator.calculate(fingerprint, tenant, tenantDataSource));
+            }
+        } catch (LiquibaseException | RuntimeException e) {
+            log.error("Upgrade for tenant {} has failed after {} ms", tenantIdentifier, elapsedMillis(start));
+            throw e;
+        }
+        long duration = elapsedMillis(start);
+        log.info("Upgrade for tenant {} has finished in {} ms", tenantIdentifier, duration);
+        return new TenantUpgradeReport(tenantIdentifier, true, duration);
+    }
+
+    private boolean isOnCurrentChangelogs(FineractPlatformTenant tenant, DataSource tenantDataSource, String fingerprint) {
         if (databaseStateVerifier.isFirstLiquibaseMigration(tenantDataSource)) {
-            ExtendedSpringLiquibase liquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, INITIAL_SWITCH_CONTEXT,
-                    tenant.getTenantIdentifier());
-            applyInitialLiquibase(tenantDataSource, liquibase, tenant.getTenantIdentifier(),
-                    (ds) -> !databaseStateVerifier.isTenantOnLatestUpgradableVersion(ds));
+            return false;
         }
-        SpringLiquibase tenantLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, tenant.getTenantIdentifier());
-        tenantLiquibase.afterPropertiesSet();
-        SpringLiquibase customChangelogLiquibase = liquibaseFactory.create(tenantDataSource, TENANT_DB_CONTEXT, CUSTOM_CHANGELOG_CONTEXT,
-                tenant.getTenantIdentifier());
-        customChangelogLiquibase.afterPropertiesSet();
-        log.info("Upgrade for tenant {} has finished", tenant.getTenantIdentifier());
+        String storedFingerprint = schemaFingerprintRepository.findFingerprint(tenant.getTenantIdentifier()).orElse(null);
+        return changelogFingerprintCalculator.calculate(fingerprint, tenant, tenantDataSource).equals(storedFingerprint);
+    }
+
+    private void logUpgradeReport(List<TenantUpgradeReport> reports, int parallelism, long totalMillis) {
+        long upgraded = reports.stream().filter(TenantUpgradeReport::upgraded).count();
+        log.info("Tenant upgrade report: {} upgraded, {} skipped as up to date, parallelism {}, total {} ms", upgraded,
+                reports.size() - upgraded, parallelism, totalMillis);
+        reports.stream().sorted(Comparator.comparingLong(TenantUpgradeReport::durationMillis).reversed())
+                .forEach(report -> log.info("- tenant {}: {} in {} ms", report.tenantIdentifier(),
+                        report.upgraded() ? "upgraded" : "skipped", report.durationMillis()));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     private void applyInitialLiquibase(DataSource dataSource, ExtendedSpringLiquibase liquibase, String id,
@@ -173,4 +313,7 @@ public class TenantDatabaseUpgradeService implements InitializingBean {
             liquibase.afterPropertiesSet();
         }
     }
+
+    private record TenantUpgradeReport(String tenantIdentifier, boolean upgraded, long durationMillis) {
+    }
 }
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.migration;
+
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps the changelog fingerprint each tenant database was last upgraded with in the tenant store.
+ */
+@Repository
+public class TenantSchemaFingerprintRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TenantSchemaFingerprintRepository(@Qualifier("hikariTenantDataSource") final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public Optional<String> findFingerprint(final String tenantIdentifier) {
+        final List<String> fingerprints = jdbcTemplate.queryForList(
+                "SELECT changelog_fingerprint FROM tenant_schema_fingerprint WHERE tenant_identifier = ?", String.class,
+                tenantIdentifier);
+        return fingerprints.stream().findFirst();
+    }
+
+    public void saveFingerprint(final String tenantIdentifier, final String fingerprint) {
+        final int updated = jdbcTemplate.update(
+                "UPDATE tenant_schema_fingerprint SET changelog_fingerprint = ?, upgraded_on = ? WHERE tenant_identifier = ?", fingerprint,
+                DateUtils.getLocalDateTimeOfSystem(), tenantIdentifier);
+        if (updated == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO tenant_schema_fingerprint (tenant_identifier, changelog_fingerprint, upgraded_on) VALUES (?, ?, ?)",
+                    tenantIdentifier, fingerprint, DateUtils.getLocalDateTimeOfSystem());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.IndexDetail;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant scoped registry of the datatable metadata read from the database catalog: column definitions (with the
+ * allowed values of code lookup columns) and index details. Datatable DDL evicts the affected table and code (value)
+ * changes evict the whole tenant.
+ */
+@Component
+public class DatatableSchemaRegistry {
+
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<TenantSchema> schemas;
+
+    public DatatableSchemaRegistry(final FineractProperties fineractProperties) {
+        this.fineractProperties = fineractProperties;
+        this.schemas = new TenantScopedCache<>(this::isEnabled,
+                () -> this.fineractProperties.getDatatable().getSchemaCache().getTimeToLiveSeconds(), TenantSchema::new);
+    }
+
+    /**
+     * Returns the column headers of the datatable, the loader is only invoked (and may throw) on a cache miss.
+     */
+    public List<ResultsetColumnHeaderData> getColumnHeaders(final String tableName,
+            final Function<String, List<ResultsetColumnHeaderData>> loader) {
+        if (!this.schemas.isActive()) {
+            return loader.apply(tableName);
+        }
+        return this.schemas.get().columnHeaders.computeIfAbsent(tableName, name -> List.copyOf(loader.apply(name)));
+    }
+
+    /**
+     * Returns the index details of the datatable, the loader is only invoked (and may throw) on a cache miss.
+     */
+    public List<IndexDetail> getIndexes(final String tableName, final Function<String, List<IndexDetail>> loader) {
+        if (!this.schemas.isActive()) {
+            return loader.apply(tableName);
+        }
+        return this.schemas.get().indexes.computeIfAbsent(tableName, name -> List.copyOf(loader.apply(name)));
+    }
+
+    public void evict(final String tableName) {
+        this.schemas.evict(schema -> {
+            schema.columnHeaders.remove(tableName);
+            schema.indexes.remove(tableName);
+        });
+    }
+
+    /**
+     * Evicts every datatable of the current tenant, used when code values shown by code lookup columns change.
+     */
+    public void evictAll() {
+        this.schemas.evict();
+    }
+
+    private boolean isEnabled() {
+        final FineractProperties.FineractDatatableProperties datatable = this.fineractProperties.getDatatable();
+        return datatable != null && datatable.getSchemaCache() != null && datatable.getSchemaCache().isEnabled();
+    }
+
+    private static final class TenantSchema {
+
+        private final Map<String, List<ResultsetColumnHeaderData>> columnHeaders = new ConcurrentHashMap<>();
+        private final Map<String, List<IndexDetail>> indexes = new ConcurrentHashMap<>();
+    }
+}
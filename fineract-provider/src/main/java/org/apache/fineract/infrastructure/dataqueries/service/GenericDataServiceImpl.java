@@ -65,6 +65,7 @@ public class GenericDataServiceImpl implements GenericDataService {
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
     private final DatatableKeywordGenerator datatableKeywordGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
+    private final DatatableSchemaRegistry datatableSchemaRegistry;
 
     @Override
     public GenericResultsetData fillGenericResultSet(final String sql) {
@@ -94,6 +95,10 @@ public class GenericDataServiceImpl implements GenericDataService {
 
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
+        return new ArrayList<>(datatableSchemaRegistry.getColumnHeaders(tableName, this::retrieveResultsetColumnHeaders));
+    }
+
+    private List<ResultsetColumnHeaderData> retrieveResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
         final List<IndexDetail> indexDefinitions = getDatatableIndexData(tableName);
 
@@ -291,8 +296,12 @@ public class GenericDataServiceImpl implements GenericDataService {
         return false;
     }
 
-    @SuppressWarnings("AvoidHidingCauseException")
     private List<IndexDetail> getDatatableIndexData(String tableName) {
+        return datatableSchemaRegistry.getIndexes(tableName, this::retrieveDatatableIndexData);
+    }
+
+    @SuppressWarnings("AvoidHidingCauseException")
+    private List<IndexDetail> retrieveDatatableIndexData(String tableName) {
         try {
             return databaseIndependentQueryService.getTableIndexes(dataSource, tableName);
         } catch (IllegalArgumentException e) {
@@ -300,9 +309,6 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
-    /*
-     * Candidate for using caching there to get allowed 'column values' from code/codevalue tables
-     */
     private List<ResultsetColumnValueData> retrieveCodeValues(final String codeName) {
         final String sql = "select v.id, v.code_score, v.code_value from m_code m join m_code_value v on v.code_id = m.id where m.code_name = ? order by v.order_position, v.id";
         final SqlRowSet rsValues = this.jdbcTemplate.queryForRowSet(sql, codeName); // NOSONAR
@@ -23,6 +23,7 @@ import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterData;
@@ -51,6 +52,15 @@ public interface ReadReportingService {
     // needed for smsCampaign and emailCampaign jobs where securityContext is null
     GenericResultsetData retrieveGenericResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams);
 
+    /**
+     * Streams the rows of a campaign report with an id greater than fromId, ordered by id, to the consumer instead of
+     * collecting them. Every row is a column name to value map shaped like the JSON of
+     * {@link #retrieveGenericResultSetForSmsEmailCampaign(String, String, Map)}: whole numbers as Integer or Long,
+     * decimals as Double, dates as "d-M-yyyy" and everything else as String.
+     */
+    void retrieveResultSetForSmsEmailCampaign(String name, String type, Map<String, String> extractedQueryParams, Long fromId,
+            int fetchSize, Consumer<Map<String, Object>> consumer);
+
     // TODO kill this when tackling https://issues.apache.org/jira/browse/FINERACT-1264
     ByteArrayOutputStream generatePentahoReportAsOutputStream(String reportName, String outputTypeParam, Map<String, String> queryParams,
             Locale locale, AppUser runReportAsUser, StringBuilder errorLog);
@@ -29,14 +29,24 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
@@ -61,6 +71,7 @@ import org.apache.fineract.useradministration.domain.AppUser;
 import org.owasp.esapi.ESAPI;
 import org.owasp.esapi.codecs.UnixCodec;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.stereotype.Service;
@@ -441,6 +452,62 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         return result;
     }
 
+    @Override
+    public void retrieveResultSetForSmsEmailCampaign(final String name, final String type, final Map<String, String> queryParams,
+            final Long fromId, final int fetchSize, final Consumer<Map<String, Object>> consumer) {
+        final long startTime = System.currentTimeMillis();
+        log.debug("STARTING REPORT STREAM: {}   Type: {}", name, type);
+
+        final String sql = sqlToRunForSmsEmailCampaign(name, type, queryParams) + " where x.id > ? order by x.id";
+        this.jdbcTemplate.query(connection -> {
+            // forward only with a fetch size, so the driver hands over the rows in batches instead of loading them all
+            final PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, // NOSONAR
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, fromId == null ? 0L : fromId);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            final ResultSetMetaData metaData = rs.getMetaData();
+            final Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                row.put(metaData.getColumnLabel(i), toCampaignValue(rs.getObject(i)));
+            }
+            consumer.accept(row);
+        });
+
+        final long elapsed = System.currentTimeMillis() - startTime;
+        log.debug("FINISHING Report Stream Name: {} - {}     Elapsed Time: {}", name, type, elapsed);
+    }
+
+    private static Object toCampaignValue(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Date || value instanceof LocalDate) {
+            final LocalDate date = value instanceof Date ? ((Date) value).toLocalDate() : (LocalDate) value;
+            return date.getDayOfMonth() + "-" + date.getMonthValue() + "-" + date.getYear();
+        }
+        if (value instanceof Timestamp || value instanceof LocalDateTime) {
+            final LocalDateTime dateTime = value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime() : (LocalDateTime) value;
+            return List.of(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                    dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano());
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof Long || value instanceof BigInteger) {
+            final long number = ((Number) value).longValue();
+            return number == (int) number ? Integer.valueOf((int) number) : Long.valueOf(number);
+        }
+        if (value instanceof BigDecimal decimal) {
+            if (decimal.scale() != 0) {
+                return decimal.doubleValue();
+            }
+            return toCampaignValue(decimal.toBigInteger());
+        }
+        return String.valueOf(value);
+    }
+
     private String sqlToRunForSmsEmailCampaign(final String name, final String type, final Map<String, String> queryParams) {
         String sql = getSql(name, type);
 
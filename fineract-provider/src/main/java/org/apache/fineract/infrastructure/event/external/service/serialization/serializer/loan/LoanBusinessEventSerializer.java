@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.event.external.service.serialization.serializer.loan;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -30,12 +31,13 @@ import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.loan.LoanBusinessEvent;
 import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.loan.LoanAccountDataMapper;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSnapshotCache;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanChargeData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanSummaryData;
-import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.service.LoanChargeReadPlatformService;
 import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
 import org.springframework.stereotype.Component;
@@ -49,6 +51,7 @@ public class LoanBusinessEventSerializer implements BusinessEventSerializer {
     private final LoanChargeReadPlatformService loanChargeReadPlatformService;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
     private final LoanInstallmentLevelDelinquencyEventProducer installmentLevelDelinquencyEventProducer;
+    private final BusinessEventSnapshotCache snapshotCache;
 
     @Override
     public <T> boolean canSerialize(BusinessEvent<T> event) {
@@ -58,7 +61,16 @@ public class LoanBusinessEventSerializer implements BusinessEventSerializer {
     @Override
     public <T> ByteBufferSerializable toAvroDTO(BusinessEvent<T> rawEvent) {
         LoanBusinessEvent event = (LoanBusinessEvent) rawEvent;
-        Long loanId = event.get().getId();
+        Loan loan = event.get();
+        LoanSnapshot snapshot = snapshotCache.get(new LoanSnapshotKey(loan.getId()), () -> createSnapshot(loan));
+
+        LoanAccountDataV1 result = mapper.map(snapshot.data());
+        result.getDelinquent().setInstallmentDelinquencyBuckets(new ArrayList<>(snapshot.installmentsDelinquencyData()));
+        return result;
+    }
+
+    private LoanSnapshot createSnapshot(Loan loan) {
+        Long loanId = loan.getId();
         LoanAccountData data = service.retrieveOne(loanId);
 
         data = service.fetchRepaymentScheduleData(data);
@@ -72,22 +84,24 @@ public class LoanBusinessEventSerializer implements BusinessEventSerializer {
         data.setDelinquent(delinquentData);
 
         if (data.getSummary() != null) {
-            final Collection<LoanTransactionData> currentLoanTransactions = service.retrieveLoanTransactions(loanId);
-            data.setSummary(LoanSummaryData.withTransactionAmountsSummary(data.getSummary(), currentLoanTransactions));
+            data.setSummary(LoanSummaryData.withTransactionAmountsSummary(data.getSummary(), loan));
         } else {
             data.setSummary(LoanSummaryData.withOnlyCurrencyData(data.getCurrency()));
         }
 
         List<LoanInstallmentDelinquencyBucketDataV1> installmentsDelinquencyData = installmentLevelDelinquencyEventProducer
-                .calculateInstallmentLevelDelinquencyData(event.get(), data.getCurrency());
-
-        LoanAccountDataV1 result = mapper.map(data);
-        result.getDelinquent().setInstallmentDelinquencyBuckets(installmentsDelinquencyData);
-        return result;
+                .calculateInstallmentLevelDelinquencyData(loan, data.getCurrency());
+        return new LoanSnapshot(data, installmentsDelinquencyData);
     }
 
     @Override
     public Class<? extends GenericContainer> getSupportedSchema() {
         return LoanAccountDataV1.class;
     }
+
+    private record LoanSnapshotKey(Long loanId) {
+    }
+
+    private record LoanSnapshot(LoanAccountData data, List<LoanInstallmentDelinquencyBucketDataV1> installmentsDelinquencyData) {
+    }
 }
@@ -18,6 +18,8 @@
  */
 package org.apache.fineract.infrastructure.gcm.domain;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -31,4 +33,7 @@ public interface DeviceRegistrationRepository
     @Query(FIND_DEVICE_REGISTRATION_BY_CLIENT)
     DeviceRegistration findDeviceRegistrationByClientId(@Param("clientId") Long clientId);
 
+    @Query("select dr.client.id from DeviceRegistration dr where dr.client.id in :clientIds")
+    List<Long> findClientIdsWithDeviceRegistration(@Param("clientIds") Collection<Long> clientIds);
+
 }
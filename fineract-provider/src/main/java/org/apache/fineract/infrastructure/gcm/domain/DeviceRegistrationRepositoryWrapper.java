@@ -18,6 +18,9 @@
  */
 package org.apache.fineract.infrastructure.gcm.domain;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import org.apache.fineract.infrastructure.gcm.exception.DeviceRegistrationNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -52,4 +55,8 @@ public class DeviceRegistrationRepositoryWrapper {
     public DeviceRegistration findDeviceRegistrationByClientId(Long clientId) {
         return this.repository.findDeviceRegistrationByClientId(clientId);
     }
+
+    public Set<Long> findClientIdsWithDeviceRegistration(final Collection<Long> clientIds) {
+        return clientIds.isEmpty() ? Set.of() : new HashSet<>(this.repository.findClientIdsWithDeviceRegistration(clientIds));
+    }
 }
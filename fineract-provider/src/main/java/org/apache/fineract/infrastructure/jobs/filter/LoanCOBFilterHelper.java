@@ -25,29 +25,21 @@ import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.batch.domain.BatchRequest;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
-import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
-import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
-import org.apache.fineract.cob.service.LoanAccountLockService;
-import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
-import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
-import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.jobs.exception.LoanIdsHardLockedException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.portfolio.loanaccount.domain.GLIMAccountInfoRepository;
@@ -66,12 +58,10 @@ import org.springframework.stereotype.Component;
 public class LoanCOBFilterHelper implements InitializingBean {
 
     private final GLIMAccountInfoRepository glimAccountInfoRepository;
-    private final LoanAccountLockService loanAccountLockService;
     private final PlatformSecurityContext context;
     private final InlineLoanCOBExecutorServiceImpl inlineLoanCOBExecutorService;
     private final LoanRepository loanRepository;
-    private final FineractProperties fineractProperties;
-    private final RetrieveLoanIdService retrieveLoanIdService;
+    private final LoanCOBStateCache loanCOBStateCache;
 
     private final LoanRescheduleRequestRepository loanRescheduleRequestRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -86,6 +76,7 @@ public class LoanCOBFilterHelper implements InitializingBean {
             || LOAN_GLIMACCOUNT_PATH_PATTERN.matcher(s).find();
 
     private static final String JOB_NAME = "INLINE_LOAN_COB";
+    private static final String BATCH_REQUESTS_ATTRIBUTE = LoanCOBFilterHelper.class.getName() + ".batchRequests";
 
     private Long getLoanId(boolean isGlim, String pathInfo) {
         if (!isGlim) {
@@ -137,8 +128,16 @@ public class LoanCOBFilterHelper implements InitializingBean {
         return false;
     }
 
+    /**
+     * The batch requests of the body, parsed once per request and shared by the matching and the loan id lookup.
+     */
+    @SuppressWarnings("unchecked")
     private List<BatchRequest> getBatchRequests(HttpServletRequest request) throws IOException {
-        List<BatchRequest> batchRequests = objectMapper.readValue(request.getInputStream(), new TypeReference<>() {});
+        List<BatchRequest> batchRequests = (List<BatchRequest>) request.getAttribute(BATCH_REQUESTS_ATTRIBUTE);
+        if (batchRequests != null) {
+            return batchRequests;
+        }
+        batchRequests = objectMapper.readValue(request.getInputStream(), new TypeReference<>() {});
         for (BatchRequest batchRequest : batchRequests) {
             String pathInfo = "/" + batchRequest.getRelativeUrl();
             if (!isRelativeUrlVersioned(batchRequest.getRelativeUrl())) {
@@ -146,6 +145,7 @@ public class LoanCOBFilterHelper implements InitializingBean {
             }
             batchRequest.setRelativeUrl(pathInfo);
         }
+        request.setAttribute(BATCH_REQUESTS_ATTRIBUTE, batchRequests);
         return batchRequests;
     }
 
@@ -176,29 +176,25 @@ public class LoanCOBFilterHelper implements InitializingBean {
         }
     }
 
-    private boolean isLoanHardLocked(Long... loanIds) {
-        return isLoanHardLocked(Arrays.asList(loanIds));
-    }
-
-    private boolean isLoanHardLocked(List<Long> loanIds) {
-        return loanIds.stream().anyMatch(loanAccountLockService::isLoanHardLocked);
+    private void validateLoansNotHardLocked(List<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return;
+        }
+        Long lockedLoanId = loanCOBStateCache.findFirstHardLockedLoanId(loanIds);
+        if (lockedLoanId != null) {
+            throw new LoanIdsHardLockedException(lockedLoanId);
+        }
     }
 
     public boolean isLoanBehind(List<Long> loanIds) {
-        List<LoanIdAndLastClosedBusinessDate> loanIdAndLastClosedBusinessDates = new ArrayList<>();
-        List<List<Long>> partitions = Lists.partition(loanIds, fineractProperties.getQuery().getInClauseParameterSizeLimit());
-        partitions.forEach(partition -> loanIdAndLastClosedBusinessDates.addAll(retrieveLoanIdService
-                .retrieveLoanIdsBehindDate(ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE), partition)));
-        return CollectionUtils.isNotEmpty(loanIdAndLastClosedBusinessDates);
+        return loanCOBStateCache.isAnyLoanBehind(loanIds);
     }
 
     public List<Long> calculateRelevantLoanIds(HttpServletRequest request) throws IOException {
         String pathInfo = request.getPathInfo();
-        if (isBatchApi(pathInfo)) {
-            return getLoanIdsFromBatchApi(request);
-        } else {
-            return getLoanIdsFromApi(pathInfo);
-        }
+        List<Long> loanIds = isBatchApi(pathInfo) ? getLoanIdsFromBatchApi(request) : getLoanIdList(pathInfo);
+        validateLoansNotHardLocked(loanIds);
+        return loanIds;
     }
 
     private List<Long> getLoanIdsFromBatchApi(HttpServletRequest request) throws IOException {
@@ -209,17 +205,13 @@ public class LoanCOBFilterHelper implements InitializingBean {
             if (!relativeUrl.contains("$.resourceId")) {
                 // if resourceId reference is used, we simply don't know the resourceId without executing the requests
                 // first, so skipping it
-                loanIds.addAll(getLoanIdsFromApi(relativeUrl));
+                loanIds.addAll(getLoanIdList(relativeUrl));
             }
 
             // check the body for Loan ID
             Long loanId = getTopLevelLoanIdFromBatchRequest(batchRequest);
             if (loanId != null) {
-                if (isLoanHardLocked(loanId)) {
-                    throw new LoanIdsHardLockedException(loanId);
-                } else {
-                    loanIds.add(loanId);
-                }
+                loanIds.add(loanId);
             }
         }
         return loanIds;
@@ -236,15 +228,6 @@ public class LoanCOBFilterHelper implements InitializingBean {
         return null;
     }
 
-    private List<Long> getLoanIdsFromApi(String pathInfo) {
-        List<Long> loanIds = getLoanIdList(pathInfo);
-        if (isLoanHardLocked(loanIds)) {
-            throw new LoanIdsHardLockedException(loanIds.get(0));
-        } else {
-            return loanIds;
-        }
-    }
-
     private List<Long> getLoanIdList(String pathInfo) {
         boolean isGlim = isGlim(pathInfo);
         Long loanIdFromRequest = getLoanId(isGlim, pathInfo);
@@ -129,7 +129,7 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
                     }
                     final FineractPlatformTenant tenant = basicAuthTenantDetailsService.loadTenantById(tenantIdentifier, isReportRequest);
                     ThreadLocalContextUtil.setTenant(tenant);
-                    HashMap<BusinessDateType, LocalDate> businessDates = businessDateReadPlatformService.getBusinessDates();
+                    HashMap<BusinessDateType, LocalDate> businessDates = businessDateReadPlatformService.getBusinessDatesSnapshot();
                     ThreadLocalContextUtil.setBusinessDates(businessDates);
                     String authToken = request.getHeader("Authorization");
 
@@ -162,8 +162,10 @@ public class TenantAwareBasicAuthenticationFilter extends BasicAuthenticationFil
         } finally {
             ThreadLocalContextUtil.reset();
             task.stop();
-            final PlatformRequestLog msg = PlatformRequestLog.from(task, request);
-            log.debug("{}", toApiJsonSerializer.serialize(msg));
+            if (log.isDebugEnabled()) {
+                final PlatformRequestLog msg = PlatformRequestLog.from(task, request);
+                log.debug("{}", toApiJsonSerializer.serialize(msg));
+            }
         }
     }
 
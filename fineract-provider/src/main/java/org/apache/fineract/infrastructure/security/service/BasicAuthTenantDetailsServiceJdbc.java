@@ -18,7 +18,11 @@
  */
 package org.apache.fineract.infrastructure.security.service;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.tenant.TenantMapper;
 import org.apache.fineract.infrastructure.security.exception.InvalidTenantIdentifierException;
@@ -31,22 +35,46 @@ import org.springframework.stereotype.Service;
 
 /**
  * A JDBC implementation of {@link BasicAuthTenantDetailsService} for loading a tenants details by a
- * <code>tenantIdentifier</code>.
+ * <code>tenantIdentifier</code>. When the request context cache is enabled, loaded tenants are kept in memory for the
+ * configured time to live, so the authentication filter does not need to query the tenant store on every request.
  */
 @Service
 public class BasicAuthTenantDetailsServiceJdbc implements BasicAuthTenantDetailsService {
 
     private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<Map<Boolean, FineractPlatformTenant>> tenantSnapshots;
 
     @Autowired
-    public BasicAuthTenantDetailsServiceJdbc(@Qualifier("hikariTenantDataSource") final DataSource dataSource) {
+    public BasicAuthTenantDetailsServiceJdbc(@Qualifier("hikariTenantDataSource") final DataSource dataSource,
+            final FineractProperties fineractProperties) {
         this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.fineractProperties = fineractProperties;
+        this.tenantSnapshots = new TenantScopedCache<>(this::isSnapshotEnabled,
+                () -> this.fineractProperties.getRequestContextCache().getTimeToLiveSeconds(), ConcurrentHashMap::new);
     }
 
     @Override
     @Cacheable(value = "tenantsById")
     public FineractPlatformTenant loadTenantById(final String tenantIdentifier, final boolean isReport) {
+        if (!tenantSnapshots.isEnabled()) {
+            return queryTenantById(tenantIdentifier, isReport);
+        }
+        try {
+            return tenantSnapshots.get(tenantIdentifier).computeIfAbsent(isReport, report -> queryTenantById(tenantIdentifier, report));
+        } catch (final InvalidTenantIdentifierException e) {
+            // unknown identifiers must not leave an entry behind
+            tenantSnapshots.evict(tenantIdentifier);
+            throw e;
+        }
+    }
+
+    private boolean isSnapshotEnabled() {
+        final FineractProperties.FineractRequestContextCacheProperties cacheProperties = fineractProperties.getRequestContextCache();
+        return cacheProperties != null && cacheProperties.isEnabled();
+    }
 
+    private FineractPlatformTenant queryTenantById(final String tenantIdentifier, final boolean isReport) {
         try {
             final TenantMapper rm = new TenantMapper(isReport);
             final String sql = "select  " + rm.schema() + " where t.identifier = ?";
@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link DaoAuthenticationProvider} which skips the password encoder check for credentials found in the
+ * {@link VerifiedCredentialCache}.
+ *
+ * The user details are still loaded and the account status checks (enabled, locked, expired) are still performed on
+ * every request by the parent class, only the expensive password hash comparison is short-circuited.
+ */
+@Slf4j
+public class CredentialCachingDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    public CredentialCachingDaoAuthenticationProvider(VerifiedCredentialCache verifiedCredentialCache) {
+        this.verifiedCredentialCache = verifiedCredentialCache;
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails, UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        if (tenant == null || authentication.getCredentials() == null || !verifiedCredentialCache.isEnabled()) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+
+        String tenantIdentifier = tenant.getTenantIdentifier();
+        String presentedPassword = authentication.getCredentials().toString();
+        if (verifiedCredentialCache.isVerified(tenantIdentifier, userDetails.getUsername(), presentedPassword, userDetails.getPassword())) {
+            log.trace("Verified credential cache hit for user {}", userDetails.getUsername());
+            return;
+        }
+
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        verifiedCredentialCache.markVerified(tenantIdentifier, userDetails.getUsername(), presentedPassword, userDetails.getPassword());
+    }
+}
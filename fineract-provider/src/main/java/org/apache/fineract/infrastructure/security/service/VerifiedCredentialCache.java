@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.cache.CacheConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers credentials which were recently verified against the stored password hash, so repeated HTTP Basic
+ * requests with the same credentials do not pay for a full password encoder (bcrypt) check every time.
+ *
+ * Entries are keyed by an HMAC-SHA256 of tenant, username, raw password and the currently stored password hash. The
+ * HMAC key is random and never leaves the JVM, so the raw password can not be recovered from the cache. As the stored
+ * hash is part of the key, a password change makes old entries unreachable immediately; user updates and deletions
+ * evict the whole cache.
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char SEPARATOR = '\u0000';
+
+    private final FineractProperties fineractProperties;
+    private final Cache cache;
+    private final SecretKeySpec secretKey;
+
+    public VerifiedCredentialCache(FineractProperties fineractProperties, @Qualifier("ehCacheManager") CacheManager ehCacheManager) {
+        this.fineractProperties = fineractProperties;
+        this.cache = ehCacheManager.getCache(CacheConfig.VERIFIED_CREDENTIALS_CACHE_NAME);
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.secretKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        FineractProperties.FineractSecurityBasicAuthCredentialCache properties = fineractProperties.getSecurity().getBasicauth()
+                .getCredentialCache();
+        return cache != null && properties != null && properties.isEnabled() && properties.getTimeToLiveSeconds() > 0;
+    }
+
+    public boolean isVerified(String tenantIdentifier, String username, String rawPassword, String encodedPassword) {
+        if (!isEnabled()) {
+            return false;
+        }
+        String key = key(tenantIdentifier, username, rawPassword, encodedPassword);
+        Long verifiedAt = cache.get(key, Long.class);
+        if (verifiedAt == null) {
+            return false;
+        }
+        long ttlMillis = fineractProperties.getSecurity().getBasicauth().getCredentialCache().getTimeToLiveSeconds() * 1000L;
+        if (System.currentTimeMillis() - verifiedAt > ttlMillis) {
+            cache.evict(key);
+            return false;
+        }
+        return true;
+    }
+
+    public void markVerified(String tenantIdentifier, String username, String rawPassword, String encodedPassword) {
+        if (!isEnabled()) {
+            return;
+        }
+        cache.put(key(tenantIdentifier, username, rawPassword, encodedPassword), System.currentTimeMillis());
+    }
+
+    private String key(String tenantIdentifier, String username, String rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            String material = tenantIdentifier + SEPARATOR + username + SEPARATOR + rawPassword + SEPARATOR + encodedPassword;
+            return Base64.getEncoder().encodeToString(mac.doFinal(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Unable to compute verified credential key", e);
+        }
+    }
+}
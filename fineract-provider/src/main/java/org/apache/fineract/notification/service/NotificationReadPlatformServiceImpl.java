@@ -20,9 +20,11 @@ package org.apache.fineract.notification.service;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
@@ -39,7 +41,7 @@ import org.springframework.jdbc.core.RowMapper;
 @RequiredArgsConstructor
 public class NotificationReadPlatformServiceImpl implements NotificationReadPlatformService {
 
-    private HashMap<Long, HashMap<Long, CacheNotificationResponseHeader>> tenantNotificationResponseHeaderCache = new HashMap<>();
+    private final Map<Long, Map<Long, CacheNotificationResponseHeader>> tenantNotificationResponseHeaderCache = new ConcurrentHashMap<>();
 
     private final NotificationDataRow notificationDataRow = new NotificationDataRow();
     private final NotificationMapperRow notificationMapperRow = new NotificationMapperRow();
@@ -49,17 +51,18 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
     private final ColumnValidator columnValidator;
     private final PaginationHelper paginationHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public boolean hasUnreadNotifications(Long appUserId) {
         Long tenantId = ThreadLocalContextUtil.getTenant().getId();
         Long now = System.currentTimeMillis() / 1000L;
         if (this.tenantNotificationResponseHeaderCache.containsKey(tenantId)) {
-            HashMap<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = this.tenantNotificationResponseHeaderCache
+            Map<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = this.tenantNotificationResponseHeaderCache
                     .get(tenantId);
             if (notificationResponseHeaderCache.containsKey(appUserId)) {
                 Long lastFetch = notificationResponseHeaderCache.get(appUserId).getLastFetch();
-                if ((now - lastFetch) > 1) {
+                if ((now - lastFetch) >= getUnreadCacheTimeToLiveSeconds()) {
                     return this.createUpdateCacheValue(appUserId, now, notificationResponseHeaderCache);
                 } else {
                     return notificationResponseHeaderCache.get(appUserId).hasNotifications();
@@ -73,14 +76,18 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
         }
     }
 
+    private long getUnreadCacheTimeToLiveSeconds() {
+        return fineractProperties.getNotification().getUserNotificationSystem().getUnreadCacheTimeToLiveSeconds();
+    }
+
     private boolean initializeTenantNotificationResponseHeaderCache(Long tenantId, Long now, Long appUserId) {
-        HashMap<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = new HashMap<>();
+        Map<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = new ConcurrentHashMap<>();
         this.tenantNotificationResponseHeaderCache.put(tenantId, notificationResponseHeaderCache);
         return this.createUpdateCacheValue(appUserId, now, notificationResponseHeaderCache);
     }
 
     private boolean createUpdateCacheValue(Long appUserId, Long now,
-            HashMap<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache) {
+            Map<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache) {
         boolean hasNotifications;
         Long tenantId = ThreadLocalContextUtil.getTenant().getId();
         CacheNotificationResponseHeader cacheNotificationResponseHeader;
@@ -103,6 +110,11 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
         final Long appUserId = context.authenticatedUser().getId();
         String sql = "UPDATE notification_mapper SET is_read = true WHERE is_read = false and user_id = ?";
         this.jdbcTemplate.update(sql, appUserId);
+        Map<Long, CacheNotificationResponseHeader> notificationResponseHeaderCache = this.tenantNotificationResponseHeaderCache
+                .get(ThreadLocalContextUtil.getTenant().getId());
+        if (notificationResponseHeaderCache != null) {
+            notificationResponseHeaderCache.remove(appUserId);
+        }
     }
 
     @Override
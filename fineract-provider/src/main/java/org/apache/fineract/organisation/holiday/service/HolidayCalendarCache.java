@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepository;
+import org.apache.fineract.organisation.holiday.domain.HolidayStatusType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepository;
+import org.apache.fineract.organisation.workingdays.exception.WorkingDaysNotFoundException;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant scoped index of the {@link HolidayCalendar} of every office, shared by schedule generation and transaction
+ * date validation. The cached calendars hold detached snapshots of the active holidays and the working days, they are
+ * only meant to be read. Holiday and working day changes evict the tenant's calendars.
+ */
+@Component
+public class HolidayCalendarCache {
+
+    private final HolidayRepository holidayRepository;
+    private final WorkingDaysRepository workingDaysRepository;
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<TenantCalendars> calendars;
+
+    public HolidayCalendarCache(final HolidayRepository holidayRepository, final WorkingDaysRepository workingDaysRepository,
+            final FineractProperties fineractProperties) {
+        this.holidayRepository = holidayRepository;
+        this.workingDaysRepository = workingDaysRepository;
+        this.fineractProperties = fineractProperties;
+        this.calendars = new TenantScopedCache<>(this::isEnabled,
+                () -> this.fineractProperties.getHoliday().getCalendarCache().getTimeToLiveSeconds(), TenantCalendars::new);
+    }
+
+    /**
+     * Returns the calendar of the office with the holidays which start or end on or after the given date.
+     */
+    public HolidayCalendar getCalendar(final Long officeId, final LocalDate date) {
+        if (!this.calendars.isActive()) {
+            return new HolidayCalendar(this.holidayRepository.findByOfficeIdAndGreaterThanDate(officeId, date,
+                    HolidayStatusType.ACTIVE.getValue()), findWorkingDays());
+        }
+        final TenantCalendars tenantCalendars = this.calendars.get();
+        return tenantCalendars.calendarByOffice.computeIfAbsent(officeId, id -> loadCalendar(id, tenantCalendars)).from(date);
+    }
+
+    public WorkingDays getWorkingDays() {
+        if (!this.calendars.isActive()) {
+            return findWorkingDays();
+        }
+        return workingDaysCalendarOf(this.calendars.get()).getWorkingDays();
+    }
+
+    public boolean isHoliday(final Long officeId, final LocalDate date) {
+        return getCalendar(officeId, date).isHoliday(date);
+    }
+
+    public boolean isWorkingDay(final LocalDate date) {
+        if (!this.calendars.isActive()) {
+            return WorkingDaysUtil.isWorkingDay(findWorkingDays(), date);
+        }
+        return workingDaysCalendarOf(this.calendars.get()).isWorkingDay(date);
+    }
+
+    public void evictAll() {
+        this.calendars.evict();
+    }
+
+    private HolidayCalendar loadCalendar(final Long officeId, final TenantCalendars tenantCalendars) {
+        final List<Holiday> holidays = this.holidayRepository.findByOfficeIdAndStatus(officeId, HolidayStatusType.ACTIVE.getValue())
+                .stream().map(HolidayCalendarCache::snapshotOf).toList();
+        return workingDaysCalendarOf(tenantCalendars).withHolidays(holidays);
+    }
+
+    private HolidayCalendar workingDaysCalendarOf(final TenantCalendars tenantCalendars) {
+        HolidayCalendar workingDaysCalendar = tenantCalendars.workingDaysCalendar;
+        if (workingDaysCalendar == null) {
+            final WorkingDays workingDays = findWorkingDays();
+            workingDaysCalendar = new HolidayCalendar(List.of(), new WorkingDays(workingDays.getRecurrence(),
+                    workingDays.getRepaymentReschedulingType(), workingDays.getExtendTermForDailyRepayments(),
+                    workingDays.getExtendTermForRepaymentsOnHolidays()));
+            tenantCalendars.workingDaysCalendar = workingDaysCalendar;
+        }
+        return workingDaysCalendar;
+    }
+
+    private WorkingDays findWorkingDays() {
+        final List<WorkingDays> workingDaysList = this.workingDaysRepository.findAll();
+        if (workingDaysList == null || workingDaysList.isEmpty()) {
+            throw new WorkingDaysNotFoundException();
+        }
+        return workingDaysList.get(0);
+    }
+
+    private static Holiday snapshotOf(final Holiday holiday) {
+        return new Holiday().setName(holiday.getName()).setFromDate(holiday.getFromDate()).setToDate(holiday.getToDate())
+                .setRepaymentsRescheduledTo(holiday.getRepaymentsRescheduledTo()).setReschedulingType(holiday.getReschedulingType())
+                .setStatus(holiday.getStatus()).setProcessed(holiday.isProcessed()).setDescription(holiday.getDescription());
+    }
+
+    private boolean isEnabled() {
+        final FineractProperties.FineractHolidayProperties holiday = this.fineractProperties.getHoliday();
+        return holiday != null && holiday.getCalendarCache() != null && holiday.getCalendarCache().isEnabled();
+    }
+
+    private static final class TenantCalendars {
+
+        private final Map<Long, HolidayCalendar> calendarByOffice = new ConcurrentHashMap<>();
+        private volatile HolidayCalendar workingDaysCalendar;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * The overdue amounts of a loan as stored in `m_loan_arrears_aging`.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class LoanArrearsAgeingData {
+
+    private final Long loanId;
+    private final BigDecimal principalOverdue;
+    private final BigDecimal interestOverdue;
+    private final BigDecimal feeChargesOverdue;
+    private final BigDecimal penaltyChargesOverdue;
+    private final LocalDate overdueSinceDate;
+
+    public BigDecimal getTotalOverdue() {
+        return this.principalOverdue.add(this.interestOverdue).add(this.feeChargesOverdue).add(this.penaltyChargesOverdue);
+    }
+
+    /**
+     * Amounts are compared by value, so the scale the database returns them with does not matter.
+     */
+    public boolean isSameAgeing(final LoanArrearsAgeingData other) {
+        return other != null && this.principalOverdue.compareTo(other.principalOverdue) == 0
+                && this.interestOverdue.compareTo(other.interestOverdue) == 0
+                && this.feeChargesOverdue.compareTo(other.feeChargesOverdue) == 0
+                && this.penaltyChargesOverdue.compareTo(other.penaltyChargesOverdue) == 0
+                && Objects.equals(this.overdueSinceDate, other.overdueSinceDate);
+    }
+}
@@ -21,10 +21,12 @@ package org.apache.fineract.portfolio.loanaccount.data;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 import lombok.Builder;
 import lombok.Data;
 import lombok.experimental.Accessors;
 import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
 import org.springframework.util.CollectionUtils;
 
@@ -96,6 +98,29 @@ public class LoanSummaryData {
 
     public static LoanSummaryData withTransactionAmountsSummary(final LoanSummaryData defaultSummaryData,
             final Collection<LoanTransactionData> loanTransactions) {
+        final List<TransactionAmount> transactionAmounts = loanTransactions == null ? List.of()
+                : loanTransactions.stream().map(transaction -> new TransactionAmount(transaction.getType().getCode(),
+                        transaction.getReversedOnDate(), transaction.getAmount())).toList();
+        return withTransactionAmounts(defaultSummaryData, transactionAmounts);
+    }
+
+    /**
+     * Same as {@link #withTransactionAmountsSummary(LoanSummaryData, Collection)} but takes the transactions from the
+     * loaded loan instead of the loan transaction read model.
+     */
+    public static LoanSummaryData withTransactionAmountsSummary(final LoanSummaryData defaultSummaryData, final Loan loan) {
+        final List<TransactionAmount> transactionAmounts = loan
+                .getLoanTransactions(transaction -> transaction.getTypeOf() != LoanTransactionType.INVALID
+                        && transaction.getTypeOf() != LoanTransactionType.CONTRA
+                        && (transaction.isNotReversed() || transaction.isManuallyAdjustedOrReversed()))
+                .stream().map(transaction -> new TransactionAmount(transaction.getTypeOf().getCode(), transaction.getReversedOnDate(),
+                        transaction.getAmount()))
+                .toList();
+        return withTransactionAmounts(defaultSummaryData, transactionAmounts);
+    }
+
+    private static LoanSummaryData withTransactionAmounts(final LoanSummaryData defaultSummaryData,
+            final List<TransactionAmount> loanTransactions) {
 
         BigDecimal totalMerchantRefund = BigDecimal.ZERO;
         BigDecimal totalMerchantRefundReversed = BigDecimal.ZERO;
@@ -171,24 +196,27 @@ public class LoanSummaryData {
     }
 
     private static BigDecimal computeTotalAmountForReversedTransactions(LoanTransactionType transactionType,
-            Collection<LoanTransactionData> loanTransactions) {
-        return loanTransactions.stream().filter(
-                transaction -> transaction.getType().getCode().equals(transactionType.getCode()) && transaction.getReversedOnDate() != null)
-                .map(txn -> txn.getAmount()).reduce(BigDecimal.ZERO, BigDecimal::add);
+            List<TransactionAmount> loanTransactions) {
+        return loanTransactions.stream()
+                .filter(transaction -> transaction.typeCode().equals(transactionType.getCode()) && transaction.reversedOnDate() != null)
+                .map(TransactionAmount::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
     private static BigDecimal computeTotalAmountForNonReversedTransactions(LoanTransactionType transactionType,
-            Collection<LoanTransactionData> loanTransactions) {
-        return loanTransactions.stream().filter(
-                transaction -> transaction.getType().getCode().equals(transactionType.getCode()) && transaction.getReversedOnDate() == null)
-                .map(txn -> txn.getAmount()).reduce(BigDecimal.ZERO, BigDecimal::add);
+            List<TransactionAmount> loanTransactions) {
+        return loanTransactions.stream()
+                .filter(transaction -> transaction.typeCode().equals(transactionType.getCode()) && transaction.reversedOnDate() == null)
+                .map(TransactionAmount::amount).reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    private static BigDecimal computeTotalRepaymentTransactionAmount(Collection<LoanTransactionData> loanTransactions) {
+    private static BigDecimal computeTotalRepaymentTransactionAmount(List<TransactionAmount> loanTransactions) {
         BigDecimal totalRepaymentTransaction = computeTotalAmountForNonReversedTransactions(LoanTransactionType.REPAYMENT,
                 loanTransactions);
         BigDecimal totalDownPaymentTransaction = computeTotalAmountForNonReversedTransactions(LoanTransactionType.DOWN_PAYMENT,
                 loanTransactions);
         return totalRepaymentTransaction.add(totalDownPaymentTransaction);
     }
+
+    private record TransactionAmount(String typeCode, LocalDate reversedOnDate, BigDecimal amount) {
+    }
 }
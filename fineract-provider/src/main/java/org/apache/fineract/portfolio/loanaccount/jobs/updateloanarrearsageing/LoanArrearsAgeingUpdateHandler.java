@@ -18,10 +18,13 @@
  */
 package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
 
+import static org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingServiceImpl.DELETE_AGEING_SQL;
+import static org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingServiceImpl.INSERT_AGEING_SQL;
+import static org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingServiceImpl.UPDATE_AGEING_SQL;
+
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Types;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgeingData;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
 import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
 import org.springframework.dao.DataAccessException;
@@ -41,76 +45,96 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Component;
 
+/**
+ * Maintains `m_loan_arrears_aging` in place: the ageing of the affected loans is calculated, compared with the stored
+ * rows and only the differences are written with parameterized batches. Readers never see the table emptied, and loans
+ * whose ageing did not change are not written at all.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LoanArrearsAgeingUpdateHandler {
 
+    private static final int BATCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final LoanArrearsAgingService loanArrearsAgingService;
 
-    private void truncateLoanArrearsAgingDetails() {
-        jdbcTemplate.execute("truncate table m_loan_arrears_aging");
-    }
-
-    private void deleteLoanArrearsAgingDetails(List<Long> loanIds) {
-        // delete existing record for loan from m_loan_arrears_aging table
-        for (Long loanId : loanIds) {
-            jdbcTemplate.update("delete from m_loan_arrears_aging where loan_id=?", loanId);
-        }
-    }
-
     public void updateLoanArrearsAgeingDetailsForAllLoans() {
-        truncateLoanArrearsAgingDetails();
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.TRUE);
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans();
-        insertStatements.add(0, insertSQLStatement);
-        final int[] records = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
-        if (log.isDebugEnabled()) {
-            int result = 0;
-            for (int record : records) {
-                result += record;
+        final int deleted = this.jdbcTemplate.update("DELETE FROM m_loan_arrears_aging WHERE NOT EXISTS (select 1 from m_loan ml "
+                + "INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id WHERE ml.id = m_loan_arrears_aging.loan_id and "
+                + overdueLoanCondition() + ")");
+        int result = deleted;
+        long lastLoanId = 0L;
+        List<Long> loanIds;
+        do {
+            loanIds = this.jdbcTemplate.queryForList("select ml.id from m_loan ml where ml.id > ? and exists (select 1 from "
+                    + "m_loan_repayment_schedule mr where mr.loan_id = ml.id and " + overdueLoanCondition() + ") order by ml.id "
+                    + this.sqlGenerator.limit(BATCH_SIZE), Long.class, lastLoanId);
+            if (!loanIds.isEmpty()) {
+                result += updateLoanArrearsAgeing(loanIds);
+                lastLoanId = loanIds.get(loanIds.size() - 1);
             }
-            log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
-        }
+        } while (loanIds.size() == BATCH_SIZE);
+        log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
     }
 
     public void updateLoanArrearsAgeingDetails(List<Long> loanIdsForUpdate) {
+        int result = 0;
+        for (int from = 0; from < loanIdsForUpdate.size(); from += BATCH_SIZE) {
+            result += updateLoanArrearsAgeing(loanIdsForUpdate.subList(from, Math.min(from + BATCH_SIZE, loanIdsForUpdate.size())));
+        }
+        log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
+    }
+
+    private int updateLoanArrearsAgeing(final List<Long> loanIds) {
+        final Map<Long, LoanArrearsAgeingData> calculated = new HashMap<>(retrieveAgeingDetails(loanIds));
+        calculated.putAll(calculateAgeingDetailsWithOriginalSchedule(loanIds));
+        final Map<Long, LoanArrearsAgeingData> stored = retrieveStoredAgeingDetails(loanIds);
 
-        deleteLoanArrearsAgingDetails(loanIdsForUpdate);
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.FALSE);
-        List<Object[]> batch = new ArrayList<Object[]>();
-        if (!loanIdsForUpdate.isEmpty()) {
-            for (Long loanId : loanIdsForUpdate) {
-                Object[] values = new Object[] { loanId };
-                batch.add(values);
+        final List<Object[]> inserts = new ArrayList<>();
+        final List<Object[]> updates = new ArrayList<>();
+        final List<Object[]> deletes = new ArrayList<>();
+        for (Long loanId : loanIds) {
+            final LoanArrearsAgeingData ageing = calculated.get(loanId);
+            final LoanArrearsAgeingData storedAgeing = stored.get(loanId);
+            if (ageing == null) {
+                if (storedAgeing != null) {
+                    deletes.add(new Object[] { loanId });
+                }
+            } else if (storedAgeing == null) {
+                inserts.add(toParameters(ageing));
+            } else if (!ageing.isSameAgeing(storedAgeing)) {
+                updates.add(toParameters(ageing));
             }
         }
-        final int[] recordsUpdatedWithoutOriginalSchedule = this.jdbcTemplate.batchUpdate(insertSQLStatement, batch);
-        int[] recordsUpdatedWithOriginalSchedule = new int[0];
-        List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalSchedule(loanIdsForUpdate);
-        if (!insertStatements.isEmpty()) {
-            recordsUpdatedWithOriginalSchedule = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
+        return batchUpdate(DELETE_AGEING_SQL, deletes) + batchUpdate(UPDATE_AGEING_SQL, updates) + batchUpdate(INSERT_AGEING_SQL, inserts);
+    }
 
+    private int batchUpdate(final String sql, final List<Object[]> parameters) {
+        if (parameters.isEmpty()) {
+            return 0;
         }
-        if (log.isDebugEnabled()) {
-            int result = 0;
-            for (int recordWithoutOriginalSchedule : recordsUpdatedWithoutOriginalSchedule) {
-                result += recordWithoutOriginalSchedule;
-            }
-            if (recordsUpdatedWithOriginalSchedule.length > 0) {
-                for (int recordWithOriginalSchedule : recordsUpdatedWithOriginalSchedule) {
-                    result += recordWithOriginalSchedule;
-                }
-            }
-            log.debug("Records affected by updateLoanArrearsAgeingDetails: {}", result);
+        int result = 0;
+        for (int records : this.jdbcTemplate.batchUpdate(sql, parameters)) {
+            result += Math.max(records, 0);
         }
+        return result;
+    }
+
+    private static Object[] toParameters(final LoanArrearsAgeingData ageing) {
+        return new Object[] { ageing.getPrincipalOverdue(), ageing.getInterestOverdue(), ageing.getFeeChargesOverdue(),
+                ageing.getPenaltyChargesOverdue(), ageing.getTotalOverdue(), ageing.getOverdueSinceDate(), ageing.getLoanId() };
+    }
 
+    private String overdueLoanCondition() {
+        return "ml.loan_status_id = 300 and mr.completed_derived is false and mr.duedate < "
+                + this.sqlGenerator.subDate(this.sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day");
     }
 
-    private String buildQueryForInsertAgeingDetails(boolean isForAllLoans) {
-        final StringBuilder insertSqlStatementBuilder = new StringBuilder(900);
+    private Map<Long, LoanArrearsAgeingData> retrieveAgeingDetails(final List<Long> loanIds) {
         final String principalOverdueCalculationSql = "SUM(COALESCE(mr.principal_amount, 0) - coalesce(mr.principal_completed_derived, 0) - coalesce(mr.principal_writtenoff_derived, 0))";
         final String interestOverdueCalculationSql = "SUM(COALESCE(mr.interest_amount, 0) - coalesce(mr.interest_writtenoff_derived, 0) - coalesce(mr.interest_waived_derived, 0) - "
                 + "coalesce(mr.interest_completed_derived, 0))";
@@ -119,80 +143,63 @@ public class LoanArrearsAgeingUpdateHandler {
         final String penaltyChargesOverdueCalculationSql = "SUM(COALESCE(mr.penalty_charges_amount, 0) - coalesce(mr.penalty_charges_writtenoff_derived, 0) - "
                 + "coalesce(mr.penalty_charges_waived_derived, 0) - coalesce(mr.penalty_charges_completed_derived, 0))";
 
-        insertSqlStatementBuilder.append(
-                "INSERT INTO m_loan_arrears_aging(loan_id,principal_overdue_derived,interest_overdue_derived,fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived)");
-        insertSqlStatementBuilder.append("select ml.id as loanId,");
-        insertSqlStatementBuilder.append(principalOverdueCalculationSql + " as principal_overdue_derived,");
-        insertSqlStatementBuilder.append(interestOverdueCalculationSql + " as interest_overdue_derived,");
-        insertSqlStatementBuilder.append(feeChargesOverdueCalculationSql + " as fee_charges_overdue_derived,");
-        insertSqlStatementBuilder.append(penaltyChargesOverdueCalculationSql + " as penalty_charges_overdue_derived,");
-        insertSqlStatementBuilder.append(principalOverdueCalculationSql + "+" + interestOverdueCalculationSql + "+");
-        insertSqlStatementBuilder
-                .append(feeChargesOverdueCalculationSql + "+" + penaltyChargesOverdueCalculationSql + " as total_overdue_derived,");
-        insertSqlStatementBuilder.append("MIN(mr.duedate) as overdue_since_date_derived ");
-        insertSqlStatementBuilder.append(" FROM m_loan ml ");
-        insertSqlStatementBuilder.append(" INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
-        insertSqlStatementBuilder.append(" left join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id ");
-        insertSqlStatementBuilder.append(" WHERE ml.loan_status_id = 300 ");// active
-        if (!isForAllLoans) {
-            insertSqlStatementBuilder.append(" and ml.id IN (?)");
-        }
-        insertSqlStatementBuilder.append(" and mr.completed_derived is false ");
-        insertSqlStatementBuilder.append(" and mr.duedate < ")
-                .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
-                .append(" ");
-        insertSqlStatementBuilder
-                .append(" and (prd.arrears_based_on_original_schedule = false or prd.arrears_based_on_original_schedule is null) ");
-        insertSqlStatementBuilder.append(" GROUP BY ml.id");
-        return insertSqlStatementBuilder.toString();
+        final StringBuilder sqlBuilder = new StringBuilder(900);
+        sqlBuilder.append("select ml.id as loanId,");
+        sqlBuilder.append(principalOverdueCalculationSql + " as principalOverdue,");
+        sqlBuilder.append(interestOverdueCalculationSql + " as interestOverdue,");
+        sqlBuilder.append(feeChargesOverdueCalculationSql + " as feeChargesOverdue,");
+        sqlBuilder.append(penaltyChargesOverdueCalculationSql + " as penaltyChargesOverdue,");
+        sqlBuilder.append("MIN(mr.duedate) as overdueSinceDate ");
+        sqlBuilder.append(" FROM m_loan ml ");
+        sqlBuilder.append(" INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
+        sqlBuilder.append(" left join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id ");
+        sqlBuilder.append(" WHERE ml.id IN (:loanIds) and ").append(overdueLoanCondition());
+        sqlBuilder.append(" and (prd.arrears_based_on_original_schedule = false or prd.arrears_based_on_original_schedule is null) ");
+        sqlBuilder.append(" GROUP BY ml.id");
+        return queryAgeingDetails(sqlBuilder.toString(), loanIds);
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
-        List<String> insertStatement = new ArrayList<>();
-        String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.FALSE);
-        List<Object> loanIdsForQuery = new ArrayList<>();
-        for (Long loanId : loanIdsForUpdate) {
-            loanIdsForQuery.add(loanId);
-        }
-        List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, loanIdsForQuery.toArray(), new int[] { Types.BIGINT },
-                Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
-        }
+    private Map<Long, LoanArrearsAgeingData> retrieveStoredAgeingDetails(final List<Long> loanIds) {
+        return queryAgeingDetails("select loan_id as loanId, principal_overdue_derived as principalOverdue, "
+                + "interest_overdue_derived as interestOverdue, fee_charges_overdue_derived as feeChargesOverdue, "
+                + "penalty_charges_overdue_derived as penaltyChargesOverdue, overdue_since_date_derived as overdueSinceDate "
+                + "from m_loan_arrears_aging where loan_id IN (:loanIds)", loanIds);
+    }
 
-        return insertStatement;
+    private Map<Long, LoanArrearsAgeingData> queryAgeingDetails(final String sql, final List<Long> loanIds) {
+        final Map<Long, LoanArrearsAgeingData> ageingByLoanId = new HashMap<>();
+        this.namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("loanIds", loanIds), (ResultSet rs) -> {
+            final Long loanId = rs.getLong("loanId");
+            ageingByLoanId.put(loanId,
+                    new LoanArrearsAgeingData(loanId, JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalOverdue"),
+                            JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestOverdue"),
+                            JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesOverdue"),
+                            JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesOverdue"),
+                            JdbcSupport.getLocalDate(rs, "overdueSinceDate")));
+        });
+        return ageingByLoanId;
     }
 
-    private List<String> updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans() {
-        List<String> insertStatement = new ArrayList<>();
-        String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.TRUE);
-        List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
+    private Map<Long, LoanArrearsAgeingData> calculateAgeingDetailsWithOriginalSchedule(final List<Long> loanIdsForUpdate) {
+        final List<Long> loanIds = this.namedParameterJdbcTemplate.queryForList(buildQueryForLoanIdentifiersWithOriginalSchedule(),
+                new MapSqlParameterSource("loanIds", loanIdsForUpdate), Long.class);
+        if (loanIds.isEmpty()) {
+            return Map.of();
         }
-
-        return insertStatement;
+        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
+        List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
+        loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
+        return loanArrearsAgingService.calculateArrearsAgeing(scheduleDate);
     }
 
-    private String buildQueryForLoanIdentifiersWithOriginalSchedule(boolean isForAllLoans) {
+    private String buildQueryForLoanIdentifiersWithOriginalSchedule() {
         final StringBuilder loanIdentifier = new StringBuilder();
         loanIdentifier.append("select ml.id as loanId FROM m_loan ml  ");
         loanIdentifier.append("INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
         loanIdentifier.append(
                 "inner join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id and prd.arrears_based_on_original_schedule = true  ");
-        loanIdentifier.append("WHERE ml.loan_status_id = 300 ");
-        if (!isForAllLoans) {
-            loanIdentifier.append(" and ml.id IN (?)");
-        }
-        loanIdentifier.append(" and mr.completed_derived is false  and mr.duedate < ")
-                .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
-                .append(" group by ml.id");
+        loanIdentifier.append("WHERE ml.id IN (:loanIds) and ").append(overdueLoanCondition());
+        loanIdentifier.append(" group by ml.id");
         return loanIdentifier.toString();
     }
 
@@ -208,17 +215,15 @@ public class LoanArrearsAgeingUpdateHandler {
         transactionsSql.append("from m_loan ml ");
         transactionsSql.append("where ml.id IN (:loanIds)").append(" order by ml.id");
 
-        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
         SqlParameterSource parameters = new MapSqlParameterSource("loanIds", loanIds);
-        List<Map<String, Object>> loanSummary = namedJdbcTemplate.queryForList(transactionsSql.toString(), parameters);
+        List<Map<String, Object>> loanSummary = namedParameterJdbcTemplate.queryForList(transactionsSql.toString(), parameters);
         return loanSummary;
     }
 
     private Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(List<Long> loanIds) {
         LoanOriginalScheduleExtractor loanOriginalScheduleExtractor = new LoanOriginalScheduleExtractor(sqlGenerator);
-        final NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
         SqlParameterSource parameters = new MapSqlParameterSource("loanIds", loanIds);
-        return namedJdbcTemplate.query(loanOriginalScheduleExtractor.schema, parameters, loanOriginalScheduleExtractor);
+        return namedParameterJdbcTemplate.query(loanOriginalScheduleExtractor.schema, parameters, loanOriginalScheduleExtractor);
     }
 
     private static final class LoanOriginalScheduleExtractor implements ResultSetExtractor<Map<Long, List<LoanSchedulePeriodData>>> {
@@ -106,6 +106,14 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             LoanApiConstants.DISALLOW_EXPECTED_DISBURSEMENTS, LoanApiConstants.FRAUD_ATTRIBUTE_NAME,
             LoanProductConstants.LOAN_SCHEDULE_PROCESSING_TYPE, LoanProductConstants.FIXED_LENGTH,
             LoanProductConstants.ENABLE_INSTALLMENT_LEVEL_DELINQUENCY));
+    private static final Set<String> SUPPORTED_CHARGE_PARAMETERS = Set.of(LoanApiConstants.idParameterName,
+            LoanApiConstants.chargeIdParameterName, LoanApiConstants.amountParameterName, LoanApiConstants.chargeTimeTypeParameterName,
+            LoanApiConstants.chargeCalculationTypeParameterName, LoanApiConstants.dueDateParamName);
+    private static final Set<String> SUPPORTED_COLLATERAL_PARAMETERS = Set.of(LoanApiConstants.clientCollateralIdParameterName,
+            LoanApiConstants.quantityParameterName);
+    private static final Set<String> SUPPORTED_MODIFY_COLLATERAL_PARAMETERS = Set.of(LoanApiConstants.idParameterName,
+            LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName);
+    private static final Set<String> SUPPORTED_UNDO_PARAMETERS = Set.of(LoanApiConstants.noteParamName);
     public static final String LOANAPPLICATION_UNDO = "loanapplication.undo";
 
     private final FromJsonHelper fromApiJsonHelper;
@@ -431,21 +439,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
 
             if (topLevelJsonElement.get(LoanApiConstants.chargesParameterName).isJsonArray()) {
-                final Type arrayObjectParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                }.getType();
-                final Set<String> supportedParameters = new HashSet<>(
-                        Arrays.asList(LoanApiConstants.idParameterName, LoanApiConstants.chargeIdParameterName,
-                                LoanApiConstants.amountParameterName, LoanApiConstants.chargeTimeTypeParameterName,
-                                LoanApiConstants.chargeCalculationTypeParameterName, LoanApiConstants.dueDateParamName));
-
                 final JsonArray array = topLevelJsonElement.get(LoanApiConstants.chargesParameterName).getAsJsonArray();
                 for (int i = 1; i <= array.size(); i++) {
 
                     final JsonObject loanChargeElement = array.get(i - 1).getAsJsonObject();
-                    final String arrayObjectJson = this.fromApiJsonHelper.toJson(loanChargeElement);
-                    this.fromApiJsonHelper.checkForUnsupportedParameters(arrayObjectParameterTypeOfMap, arrayObjectJson,
-                            supportedParameters);
+                    this.fromApiJsonHelper.checkForUnsupportedParameters(loanChargeElement, SUPPORTED_CHARGE_PARAMETERS);
 
                     final Long chargeId = this.fromApiJsonHelper.extractLongNamed(LoanApiConstants.chargeIdParameterName,
                             loanChargeElement);
@@ -478,18 +476,10 @@ public final class LoanApplicationCommandFromApiJsonHelper {
                 final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
                 if (topLevelJsonElement.get(LoanApiConstants.collateralParameterName).isJsonArray()) {
 
-                    final Type collateralParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                    }.getType();
-                    final Set<String> supportedParameters = new HashSet<>(
-                            Arrays.asList(LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName));
                     final JsonArray array = topLevelJsonElement.get(LoanApiConstants.collateralParameterName).getAsJsonArray();
                     for (int i = 1; i <= array.size(); i++) {
                         final JsonObject collateralItemElement = array.get(i - 1).getAsJsonObject();
-
-                        final String collateralJson = this.fromApiJsonHelper.toJson(collateralItemElement);
-                        this.fromApiJsonHelper.checkForUnsupportedParameters(collateralParameterTypeOfMap, collateralJson,
-                                supportedParameters);
+                        this.fromApiJsonHelper.checkForUnsupportedParameters(collateralItemElement, SUPPORTED_COLLATERAL_PARAMETERS);
 
                         final Long clientCollateralId = this.fromApiJsonHelper
                                 .extractLongNamed(LoanApiConstants.clientCollateralIdParameterName, collateralItemElement);
@@ -950,21 +940,11 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             final Locale locale = this.fromApiJsonHelper.extractLocaleParameter(topLevelJsonElement);
 
             if (topLevelJsonElement.get(LoanApiConstants.chargesParameterName).isJsonArray()) {
-                final Type arrayObjectParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
-
-                }.getType();
-                final Set<String> supportedParameters = new HashSet<>(
-                        Arrays.asList(LoanApiConstants.idParameterName, LoanApiConstants.chargeIdParameterName,
-                                LoanApiConstants.amountParameterName, LoanApiConstants.chargeTimeTypeParameterName,
-                                LoanApiConstants.chargeCalculationTypeParameterName, LoanApiConstants.dueDateParamName));
-
                 final JsonArray array = topLevelJsonElement.get(LoanApiConstants.chargesParameterName).getAsJsonArray();
                 for (int i = 1; i <= array.size(); i++) {
 
                     final JsonObject loanChargeElement = array.get(i - 1).getAsJsonObject();
-                    final String arrayObjectJson = this.fromApiJsonHelper.toJson(loanChargeElement);
-                    this.fromApiJsonHelper.checkForUnsupportedParameters(arrayObjectParameterTypeOfMap, arrayObjectJson,
-                            supportedParameters);
+                    this.fromApiJsonHelper.checkForUnsupportedParameters(loanChargeElement, SUPPORTED_CHARGE_PARAMETERS);
 
                     final Long chargeId = this.fromApiJsonHelper.extractLongNamed(LoanApiConstants.chargeIdParameterName,
                             loanChargeElement);
@@ -1004,8 +984,6 @@ public final class LoanApplicationCommandFromApiJsonHelper {
                         final Type collateralParameterTypeOfMap = new TypeToken<Map<String, Object>>() {
 
                         }.getType();
-                        final Set<String> supportedParameters = new HashSet<>(Arrays.asList(LoanApiConstants.idParameterName,
-                                LoanApiConstants.clientCollateralIdParameterName, LoanApiConstants.quantityParameterName));
                         final JsonArray array = topLevelJsonElement.get(LoanApiConstants.collateralParameterName).getAsJsonArray();
                         if (array.size() > 0) {
                             BigDecimal totalAmount = BigDecimal.ZERO;
@@ -1014,7 +992,7 @@ public final class LoanApplicationCommandFromApiJsonHelper {
 
                                 final String collateralJson = this.fromApiJsonHelper.toJson(collateralItemElement);
                                 this.fromApiJsonHelper.checkForUnsupportedParameters(collateralParameterTypeOfMap, collateralJson,
-                                        supportedParameters);
+                                        SUPPORTED_MODIFY_COLLATERAL_PARAMETERS);
 
                                 final Long id = this.fromApiJsonHelper.extractLongNamed(LoanApiConstants.idParameterName,
                                         collateralItemElement);
@@ -1159,11 +1137,10 @@ public final class LoanApplicationCommandFromApiJsonHelper {
             throw new InvalidJsonException();
         }
 
-        final Set<String> undoSupportedParameters = new HashSet<>(List.of(LoanApiConstants.noteParamName));
         final Type typeOfMap = new TypeToken<Map<String, Object>>() {
 
         }.getType();
-        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, undoSupportedParameters);
+        this.fromApiJsonHelper.checkForUnsupportedParameters(typeOfMap, json, SUPPORTED_UNDO_PARAMETERS);
 
         final List<ApiParameterError> dataValidationErrors = new ArrayList<>();
         final DataValidatorBuilder baseDataValidator = new DataValidatorBuilder(dataValidationErrors).resource(LOANAPPLICATION_UNDO);
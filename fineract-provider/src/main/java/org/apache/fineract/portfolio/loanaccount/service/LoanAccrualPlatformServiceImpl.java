@@ -18,24 +18,37 @@
  */
 package org.apache.fineract.portfolio.loanaccount.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
 
 @Slf4j
 @RequiredArgsConstructor
 public class LoanAccrualPlatformServiceImpl implements LoanAccrualPlatformService {
 
+    private static final String ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE = "submitted-date";
+
     private final LoanReadPlatformService loanReadPlatformService;
     private final LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+    private final ApplicationCurrencyRepositoryWrapper applicationCurrencyRepository;
 
     @Override
     public void addPeriodicAccruals(final LocalDate tillDate) throws JobExecutionException {
@@ -46,9 +59,7 @@ public class LoanAccrualPlatformServiceImpl implements LoanAccrualPlatformServic
 
     @Override
     public void addPeriodicAccruals(final LocalDate tillDate, Loan loan) throws JobExecutionException {
-        Collection<LoanScheduleAccrualData> loanScheduleAccrualDataList = this.loanReadPlatformService.retrievePeriodicAccrualData(tillDate,
-                loan);
-        addPeriodicAccruals(tillDate, loanScheduleAccrualDataList);
+        addPeriodicAccruals(tillDate, retrievePeriodicAccrualData(tillDate, loan));
     }
 
     @Override
@@ -78,4 +89,68 @@ public class LoanAccrualPlatformServiceImpl implements LoanAccrualPlatformServic
             throw new JobExecutionException(errors);
         }
     }
+
+    /**
+     * Derives the same accrual data as {@link LoanReadPlatformService#retrievePeriodicAccrualData(LocalDate, Loan)} from
+     * the already loaded loan aggregate instead of querying the repayment schedule again.
+     */
+    Collection<LoanScheduleAccrualData> retrievePeriodicAccrualData(final LocalDate tillDate, final Loan loan) {
+        final List<LoanScheduleAccrualData> accrualData = new ArrayList<>();
+        if (!isPeriodicAccrualApplicable(tillDate, loan)) {
+            return accrualData;
+        }
+        final boolean accrueOnSubmittedDate = ACCRUAL_ON_CHARGE_SUBMITTED_ON_DATE
+                .equalsIgnoreCase(this.configurationDomainService.getAccrualDateConfigForCharge());
+        final LocalDate organisationStartDate = this.configurationDomainService.retrieveOrganisationStartDate();
+        final MonetaryCurrency currency = loan.getCurrency();
+        CurrencyData currencyData = null;
+
+        final List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>(loan.getRepaymentScheduleInstallments());
+        installments.sort(Comparator.comparing(LoanRepaymentScheduleInstallment::getDueDate));
+        for (final LoanRepaymentScheduleInstallment installment : installments) {
+            if (installment.getId() == null || !hasUnaccruedIncome(installment, currency)
+                    || (!accrueOnSubmittedDate && !isDueForAccrual(installment, tillDate))
+                    || (organisationStartDate != null && !DateUtils.isAfter(installment.getDueDate(), organisationStartDate))) {
+                continue;
+            }
+            if (currencyData == null) {
+                currencyData = this.applicationCurrencyRepository.findOneWithNotFoundDetection(currency)
+                        .toData(currency.getDigitsAfterDecimal(), currency.getCurrencyInMultiplesOf());
+            }
+            accrualData.add(new LoanScheduleAccrualData(loan.getId(), loan.getOfficeId(), installment.getInstallmentNumber(),
+                    loan.getAccruedTill(), loan.getLoanRepaymentScheduleDetail().getRepaymentPeriodFrequencyType(),
+                    loan.getLoanRepaymentScheduleDetail().getRepayEvery(), installment.getDueDate(), installment.getFromDate(),
+                    installment.getId(), loan.productId(), nullIfZero(installment.getInterestCharged(currency)),
+                    nullIfZero(installment.getFeeChargesCharged(currency)), nullIfZero(installment.getPenaltyChargesCharged(currency)),
+                    nullIfZero(installment.getInterestAccrued(currency)), nullIfZero(installment.getFeeAccrued(currency)),
+                    nullIfZero(installment.getPenaltyAccrued(currency)), currencyData, loan.getInterestChargedFromDate(),
+                    nullIfZero(installment.getInterestWaived(currency)), nullIfZero(installment.getCreditedFee(currency)),
+                    nullIfZero(installment.getCreditedPenalty(currency))));
+        }
+        return accrualData;
+    }
+
+    private static boolean isPeriodicAccrualApplicable(final LocalDate tillDate, final Loan loan) {
+        final boolean compoundingPostedAsTransaction = loan.getLoanInterestRecalculationDetails() != null
+                && loan.getLoanInterestRecalculationDetails().isCompoundingToBePostedAsTransaction();
+        return !compoundingPostedAsTransaction && loan.getStatus().isActive() && loan.isPeriodicAccrualAccountingEnabledOnLoanProduct()
+                && (loan.getClosedOnDate() == null || !DateUtils.isAfter(loan.getClosedOnDate(), tillDate)) && !loan.isNpa()
+                && !loan.isChargedOff();
+    }
+
+    private static boolean hasUnaccruedIncome(final LoanRepaymentScheduleInstallment installment, final MonetaryCurrency currency) {
+        return !installment.getFeeChargesCharged(currency).isEqualTo(installment.getFeeAccrued(currency))
+                || !installment.getPenaltyChargesCharged(currency).isEqualTo(installment.getPenaltyAccrued(currency))
+                || !installment.getInterestCharged(currency).isEqualTo(installment.getInterestAccrued(currency));
+    }
+
+    private static boolean isDueForAccrual(final LoanRepaymentScheduleInstallment installment, final LocalDate tillDate) {
+        final LocalDate fromDate = installment.getFromDate();
+        return !DateUtils.isAfter(installment.getDueDate(), tillDate) || (fromDate != null && DateUtils.isBefore(fromDate, tillDate))
+                || (installment.getInstallmentNumber() == 1 && DateUtils.isEqual(fromDate, tillDate));
+    }
+
+    private static BigDecimal nullIfZero(final Money money) {
+        return money.isZero() ? null : money.getAmount();
+    }
 }
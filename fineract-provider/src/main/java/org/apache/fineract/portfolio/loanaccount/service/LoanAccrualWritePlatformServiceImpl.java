@@ -290,10 +290,14 @@ public class LoanAccrualWritePlatformServiceImpl implements LoanAccrualWritePlat
 
         Map<LoanChargeData, BigDecimal> applicableCharges = scheduleAccrualData.getApplicableCharges();
         String chargesPaidSql = "INSERT INTO m_loan_charge_paid_by (loan_transaction_id, loan_charge_id, amount,installment_number) VALUES (?,?,?,?)";
+        List<Object[]> chargesPaidParams = new ArrayList<>(applicableCharges.size());
         for (Map.Entry<LoanChargeData, BigDecimal> entry : applicableCharges.entrySet()) {
             LoanChargeData chargeData = entry.getKey();
-            this.jdbcTemplate.update(chargesPaidSql, loanTransaction.getId(), chargeData.getId(), entry.getValue(),
-                    scheduleAccrualData.getInstallmentNumber());
+            chargesPaidParams.add(new Object[] { loanTransaction.getId(), chargeData.getId(), entry.getValue(),
+                    scheduleAccrualData.getInstallmentNumber() });
+        }
+        if (!chargesPaidParams.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(chargesPaidSql, chargesPaidParams);
         }
 
         Map<String, Object> transactionMap = toMapData(loanTransaction.getId(), amount, interestPortion, feePortion, penaltyPortion,
@@ -145,6 +145,8 @@ import org.apache.fineract.portfolio.savings.data.GroupSavingsIndividualMonitori
 import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
 import org.apache.fineract.portfolio.savings.service.GSIMReadPlatformService;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.service.SearchIndexWritePlatformService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.jpa.JpaSystemException;
@@ -197,6 +199,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
     private final GSIMReadPlatformService gsimReadPlatformService;
     private final LoanLifecycleStateMachine defaultLoanLifecycleStateMachine;
     private final LoanProductDataValidator loanProductDataValidator;
+    private final SearchIndexWritePlatformService searchIndexWritePlatformService;
 
     @Transactional
     @Override
@@ -1173,6 +1176,7 @@ public class LoanApplicationWritePlatformServiceJpaRepositoryImpl implements Loa
             // pointer exception after saveAndFlush
             // http://stackoverflow.com/questions/17151757/hibernate-cascade-update-gives-null-pointer/17334374#17334374
             this.loanRepositoryWrapper.saveAndFlush(existingLoanApplication);
+            this.searchIndexWritePlatformService.index(SearchIndexEntityType.LOAN, loanId);
 
             if (productRelatedDetail.isInterestRecalculationEnabled()) {
                 this.fromApiJsonDeserializer.validateLoanForInterestRecalculation(existingLoanApplication);
@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 
 import java.util.List;
 import java.util.Map;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgeingData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePeriodData;
 
@@ -27,12 +28,15 @@ public interface LoanArrearsAgingService {
 
     void updateLoanArrearsAgeingDetailsWithOriginalSchedule(Loan loan);
 
-    Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(String loanId);
+    Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(Long loanId);
 
     void updateLoanArrearsAgeingDetails(Loan loan);
 
-    void createInsertStatements(List<String> insertStatement, Map<Long, List<LoanSchedulePeriodData>> scheduleDate,
-            boolean isInsertStatement);
+    /**
+     * Calculates the overdue amounts of loans whose arrears are based on the original schedule, loans without overdue
+     * principal are missing from the result.
+     */
+    Map<Long, LoanArrearsAgeingData> calculateArrearsAgeing(Map<Long, List<LoanSchedulePeriodData>> scheduleDate);
 
     void updateScheduleWithPaidDetail(Map<Long, List<LoanSchedulePeriodData>> scheduleDate, List<Map<String, Object>> loanSummary);
 }
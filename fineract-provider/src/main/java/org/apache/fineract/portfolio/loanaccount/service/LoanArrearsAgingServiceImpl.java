@@ -23,7 +23,6 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -50,6 +49,7 @@ import org.apache.fineract.infrastructure.event.business.domain.loan.transaction
 import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanUndoWrittenOffBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.loan.transaction.LoanWaiveInterestBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanArrearsAgeingData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanCharge;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
@@ -64,7 +64,13 @@ import org.springframework.jdbc.core.ResultSetExtractor;
 @RequiredArgsConstructor
 public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    public static final String INSERT_AGEING_SQL = "INSERT INTO m_loan_arrears_aging(principal_overdue_derived,interest_overdue_derived,"
+            + "fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived,loan_id) "
+            + "VALUES (?,?,?,?,?,?,?)";
+    public static final String UPDATE_AGEING_SQL = "UPDATE m_loan_arrears_aging SET principal_overdue_derived=?, "
+            + "interest_overdue_derived=?, fee_charges_overdue_derived=?, penalty_charges_overdue_derived=?, total_overdue_derived=?, "
+            + "overdue_since_date_derived=? WHERE loan_id=?";
+    public static final String DELETE_AGEING_SQL = "DELETE FROM m_loan_arrears_aging WHERE loan_id=?";
 
     private final JdbcTemplate jdbcTemplate;
     private final BusinessEventNotifierService businessEventNotifierService;
@@ -98,48 +104,41 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
     @Override
     public void updateLoanArrearsAgeingDetailsWithOriginalSchedule(final Loan loan) {
-        int count = this.jdbcTemplate.queryForObject("select count(mla.loan_id) from m_loan_arrears_aging mla where mla.loan_id =?",
-                Integer.class, loan.getId());
-        List<String> updateStatement = new ArrayList<>();
-        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(loan.getId().toString(), sqlGenerator);
-        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = this.jdbcTemplate.query(originalScheduleExtractor.schema,
-                originalScheduleExtractor);
+        Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loan.getId());
         if (scheduleDate.size() > 0) {
             List<Map<String, Object>> transactions = getLoanSummary(loan.getId(), loan.getLoanSummary());
             updateScheduleWithPaidDetail(scheduleDate, transactions);
-            createInsertStatements(updateStatement, scheduleDate, count == 0);
-            if (updateStatement.size() == 1) {
-                this.jdbcTemplate.update(updateStatement.get(0));
-            } else {
-                String deletestatement = "DELETE FROM m_loan_arrears_aging WHERE  loan_id=?";
-                this.jdbcTemplate.update(deletestatement, loan.getId()); // NOSONAR
-            }
+            saveArrearsAgeing(loan.getId(), calculateArrearsAgeing(scheduleDate).get(loan.getId()));
         }
     }
 
     @Override
-    public Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(String loanId) {
-        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(loanId, sqlGenerator);
-        return this.jdbcTemplate.query(originalScheduleExtractor.schema, originalScheduleExtractor);
+    public Map<Long, List<LoanSchedulePeriodData>> getScheduleDate(final Long loanId) {
+        OriginalScheduleExtractor originalScheduleExtractor = new OriginalScheduleExtractor(sqlGenerator);
+        return this.jdbcTemplate.query(originalScheduleExtractor.schema, originalScheduleExtractor, loanId);
     }
 
     @Override
     public void updateLoanArrearsAgeingDetails(final Loan loan) {
         if (loan != null) {
-            int count = this.jdbcTemplate.queryForObject("select count(mla.loan_id) from m_loan_arrears_aging mla where mla.loan_id =?",
-                    Integer.class, loan.getId());
-            String updateStatement = constructUpdateStatement(loan, count == 0);
-            if (updateStatement == null) {
-                String deletestatement = "DELETE FROM m_loan_arrears_aging WHERE  loan_id=?";
-                this.jdbcTemplate.update(deletestatement, loan.getId()); // NOSONAR
-            } else {
-                this.jdbcTemplate.update(updateStatement);
-            }
+            saveArrearsAgeing(loan.getId(), calculateArrearsAgeing(loan));
         }
     }
 
-    private String constructUpdateStatement(final Loan loan, boolean isInsertStatement) {
-        String updateSql = null;
+    private void saveArrearsAgeing(final Long loanId, final LoanArrearsAgeingData ageing) {
+        if (ageing == null) {
+            this.jdbcTemplate.update(DELETE_AGEING_SQL, loanId);
+            return;
+        }
+        final Object[] parameters = new Object[] { ageing.getPrincipalOverdue(), ageing.getInterestOverdue(),
+                ageing.getFeeChargesOverdue(), ageing.getPenaltyChargesOverdue(), ageing.getTotalOverdue(), ageing.getOverdueSinceDate(),
+                loanId };
+        if (this.jdbcTemplate.update(UPDATE_AGEING_SQL, parameters) == 0) {
+            this.jdbcTemplate.update(INSERT_AGEING_SQL, parameters);
+        }
+    }
+
+    private LoanArrearsAgeingData calculateArrearsAgeing(final Loan loan) {
         List<LoanRepaymentScheduleInstallment> installments = loan.getRepaymentScheduleInstallments();
         BigDecimal principalOverdue = BigDecimal.ZERO;
         BigDecimal interestOverdue = BigDecimal.ZERO;
@@ -160,16 +159,10 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
         }
 
         BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        if (totalOverDue.compareTo(BigDecimal.ZERO) > 0) {
-            if (isInsertStatement) {
-                updateSql = constructInsertStatement(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                        overDueSince);
-            } else {
-                updateSql = constructUpdateStatement(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                        overDueSince);
-            }
+        if (totalOverDue.compareTo(BigDecimal.ZERO) <= 0) {
+            return null;
         }
-        return updateSql;
+        return new LoanArrearsAgeingData(loan.getId(), principalOverdue, interestOverdue, feeOverdue, penaltyOverdue, overDueSince);
     }
 
     private List<Map<String, Object>> getLoanSummary(final Long loanId, final LoanSummary loanSummary) {
@@ -191,8 +184,8 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
     }
 
     @Override
-    public void createInsertStatements(List<String> insertStatement, Map<Long, List<LoanSchedulePeriodData>> scheduleDate,
-            boolean isInsertStatement) {
+    public Map<Long, LoanArrearsAgeingData> calculateArrearsAgeing(Map<Long, List<LoanSchedulePeriodData>> scheduleDate) {
+        Map<Long, LoanArrearsAgeingData> ageingByLoanId = new HashMap<>();
         for (Map.Entry<Long, List<LoanSchedulePeriodData>> entry : scheduleDate.entrySet()) {
             final Long loanId = entry.getKey();
             BigDecimal principalOverdue = BigDecimal.ZERO;
@@ -218,49 +211,12 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
                 }
             }
             if (principalOverdue.compareTo(BigDecimal.ZERO) > 0) {
-                String sqlStatement = null;
-                if (isInsertStatement) {
-                    sqlStatement = constructInsertStatement(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                            overDueSince);
-                } else {
-                    sqlStatement = constructUpdateStatement(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue,
-                            overDueSince);
-                }
-                insertStatement.add(sqlStatement);
+                ageingByLoanId.put(loanId,
+                        new LoanArrearsAgeingData(loanId, principalOverdue, interestOverdue, feeOverdue, penaltyOverdue, overDueSince));
             }
 
         }
-    }
-
-    private String constructInsertStatement(final Long loanId, BigDecimal principalOverdue, BigDecimal interestOverdue,
-            BigDecimal feeOverdue, BigDecimal penaltyOverdue, LocalDate overDueSince) {
-        final StringBuilder insertStatementBuilder = new StringBuilder(900);
-        insertStatementBuilder.append("INSERT INTO m_loan_arrears_aging(loan_id,principal_overdue_derived,interest_overdue_derived,")
-                .append("fee_charges_overdue_derived,penalty_charges_overdue_derived,total_overdue_derived,overdue_since_date_derived) VALUES(");
-        insertStatementBuilder.append(loanId).append(",");
-        insertStatementBuilder.append(principalOverdue).append(",");
-        insertStatementBuilder.append(interestOverdue).append(",");
-        insertStatementBuilder.append(feeOverdue).append(",");
-        insertStatementBuilder.append(penaltyOverdue).append(",");
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        insertStatementBuilder.append(totalOverDue).append(",'");
-        insertStatementBuilder.append(this.formatter.format(overDueSince)).append("')");
-        return insertStatementBuilder.toString();
-    }
-
-    private String constructUpdateStatement(final Long loanId, BigDecimal principalOverdue, BigDecimal interestOverdue,
-            BigDecimal feeOverdue, BigDecimal penaltyOverdue, LocalDate overDueSince) {
-        final StringBuilder insertStatementBuilder = new StringBuilder(900);
-        insertStatementBuilder.append("UPDATE m_loan_arrears_aging SET principal_overdue_derived=");
-        insertStatementBuilder.append(principalOverdue).append(", interest_overdue_derived=");
-        insertStatementBuilder.append(interestOverdue).append(", fee_charges_overdue_derived=");
-        insertStatementBuilder.append(feeOverdue).append(", penalty_charges_overdue_derived=");
-        insertStatementBuilder.append(penaltyOverdue).append(", total_overdue_derived=");
-        BigDecimal totalOverDue = principalOverdue.add(interestOverdue).add(feeOverdue).add(penaltyOverdue);
-        insertStatementBuilder.append(totalOverDue).append(",overdue_since_date_derived= '");
-        insertStatementBuilder.append(this.formatter.format(overDueSince)).append("' ");
-        insertStatementBuilder.append("WHERE  loan_id=").append(loanId);
-        return insertStatementBuilder.toString();
+        return ageingByLoanId;
     }
 
     @Override
@@ -339,7 +295,7 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
 
         private final String schema;
 
-        OriginalScheduleExtractor(final String loanIdsAsString, DatabaseSpecificSQLGenerator sqlGenerator) {
+        OriginalScheduleExtractor(DatabaseSpecificSQLGenerator sqlGenerator) {
             final StringBuilder scheduleDetail = new StringBuilder();
             scheduleDetail.append("select ml.id as loanId, mr.duedate as dueDate, mr.principal_amount as principalAmount, ");
             scheduleDetail.append(
@@ -347,7 +303,7 @@ public class LoanArrearsAgingServiceImpl implements LoanArrearsAgingService {
             scheduleDetail.append("from m_loan ml  INNER JOIN m_loan_repayment_schedule_history mr on mr.loan_id = ml.id ");
             scheduleDetail.append("where mr.duedate  < "
                     + sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day") + " and ");
-            scheduleDetail.append("ml.id IN(").append(loanIdsAsString).append(") and  mr.version = (");
+            scheduleDetail.append("ml.id = ? and  mr.version = (");
             scheduleDetail.append("select max(lrs.version) from m_loan_repayment_schedule_history lrs where mr.loan_id = lrs.loan_id");
             scheduleDetail.append(") order by ml.id,mr.duedate");
             this.schema = scheduleDetail.toString();
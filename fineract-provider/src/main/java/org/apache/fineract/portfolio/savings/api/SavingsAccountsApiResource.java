@@ -515,6 +515,13 @@ public class SavingsAccountsApiResource {
             return toApiJsonSerializer.serialize(result);
         }
 
+        if (is(commandParam, "updateHotAccount")) {
+            final CommandWrapper commandRequest = new CommandWrapperBuilder().withJson(apiRequestBodyAsJson).updateHotAccount(accountId)
+                    .build();
+            final CommandProcessingResult result = commandsSourceWritePlatformService.logCommandSource(commandRequest);
+            return toApiJsonSerializer.serialize(result);
+        }
+
         final CommandWrapper commandRequest = new CommandWrapperBuilder().updateSavingsAccount(accountId).withJson(apiRequestBodyAsJson)
                 .build();
 
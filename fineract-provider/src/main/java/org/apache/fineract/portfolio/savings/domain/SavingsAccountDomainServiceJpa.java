@@ -38,6 +38,8 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
 import org.apache.fineract.organisation.monetary.domain.Money;
 import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.note.domain.Note;
+import org.apache.fineract.portfolio.note.domain.NoteRepository;
 import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetail;
 import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
 import org.apache.fineract.portfolio.savings.SavingsTransactionBooleanValues;
@@ -58,6 +60,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
     private final ConfigurationDomainService configurationDomainService;
     private final DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+    private final NoteRepository noteRepository;
 
     @Autowired
     public SavingsAccountDomainServiceJpa(final SavingsAccountRepositoryWrapper savingsAccountRepository,
@@ -66,7 +70,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             final JournalEntryWritePlatformService journalEntryWritePlatformService,
             final ConfigurationDomainService configurationDomainService, final PlatformSecurityContext context,
             final DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository,
-            final BusinessEventNotifierService businessEventNotifierService) {
+            final BusinessEventNotifierService businessEventNotifierService,
+            final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository, final NoteRepository noteRepository) {
         this.savingsAccountRepository = savingsAccountRepository;
         this.savingsAccountTransactionRepository = savingsAccountTransactionRepository;
         this.applicationCurrencyRepositoryWrapper = applicationCurrencyRepositoryWrapper;
@@ -75,6 +80,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         this.context = context;
         this.depositAccountOnHoldTransactionRepository = depositAccountOnHoldTransactionRepository;
         this.businessEventNotifierService = businessEventNotifierService;
+        this.savingsAccountPendingCreditRepository = savingsAccountPendingCreditRepository;
+        this.noteRepository = noteRepository;
     }
 
     @Transactional
@@ -85,6 +92,8 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         context.authenticatedUser();
         account.validateForAccountBlock();
         account.validateForDebitBlock();
+        // the balance check below has to see the credits already accepted for the account
+        handlePendingCredits(account, backdatedTxnsAllowedTill);
         final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
                 .isSavingsInterestPostingAtCurrentPeriodEnd();
         final Long relaxingDaysConfigForPivotDate = this.configurationDomainService.retrieveRelaxingDaysConfigForPivotDate();
@@ -117,7 +126,7 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             account.postInterest(mc, today, transactionBooleanValues.isInterestTransfer(), isSavingsInterestPostingAtCurrentPeriodEnd,
                     financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
         } else {
-            account.calculateInterestUsing(mc, today, transactionBooleanValues.isInterestTransfer(),
+            account.calculateInterestIncrementally(mc, today, transactionBooleanValues.isInterestTransfer(),
                     isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill,
                     postReversals);
         }
@@ -196,7 +205,7 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
             account.postInterest(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth,
                     postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
         } else {
-            account.calculateInterestUsing(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
+            account.calculateInterestIncrementally(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
                     financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
         }
 
@@ -214,6 +223,84 @@ public class SavingsAccountDomainServiceJpa implements SavingsAccountDomainServi
         return deposit;
     }
 
+    @Transactional
+    @Override
+    public List<SavingsAccountTransaction> handlePendingCredits(final SavingsAccount account, final boolean backdatedTxnsAllowedTill) {
+        // credits accepted while the account was hot are posted even after the flag was switched off, the index-only
+        // existence check keeps debits of accounts without pending credits from reading the pending credits
+        if (!this.savingsAccountPendingCreditRepository.existsBySavingsAccountId(account.getId())) {
+            return List.of();
+        }
+        final List<SavingsAccountPendingCredit> pendingCredits = new ArrayList<>();
+        for (SavingsAccountPendingCredit pendingCredit : this.savingsAccountPendingCreditRepository
+                .findBySavingsAccountIdOrderByIdAsc(account.getId())) {
+            if (this.savingsAccountPendingCreditRepository.deletePendingCredit(pendingCredit.getId()) == 1) {
+                pendingCredits.add(pendingCredit);
+            }
+        }
+        if (pendingCredits.isEmpty()) {
+            return List.of();
+        }
+        context.authenticatedUser();
+        account.validateForAccountBlock();
+
+        final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
+                .isSavingsInterestPostingAtCurrentPeriodEnd();
+        final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
+        final Long relaxingDaysConfigForPivotDate = this.configurationDomainService.retrieveRelaxingDaysConfigForPivotDate();
+        final boolean postReversals = this.configurationDomainService.isReversalTransactionAllowed();
+        final Set<Long> existingTransactionIds = new HashSet<>();
+        final Set<Long> existingReversedTransactionIds = new HashSet<>();
+
+        if (backdatedTxnsAllowedTill) {
+            updateTransactionDetailsWithPivotConfig(account, existingTransactionIds, existingReversedTransactionIds);
+        } else {
+            updateExistingTransactionsDetails(account, existingTransactionIds, existingReversedTransactionIds);
+        }
+
+        // all credits are added before the interest is recalculated once for the earliest of them
+        final List<SavingsAccountTransaction> deposits = new ArrayList<>(pendingCredits.size());
+        LocalDate earliestTransactionDate = null;
+        for (SavingsAccountPendingCredit pendingCredit : pendingCredits) {
+            final SavingsAccountTransactionDTO transactionDTO = new SavingsAccountTransactionDTO(DateUtils.DEFAULT_DATE_FORMATTER,
+                    pendingCredit.getTransactionDate(), pendingCredit.getAmount(), pendingCredit.getPaymentDetail(), null, null);
+            deposits.add(account.deposit(transactionDTO, SavingsAccountTransactionType.DEPOSIT, backdatedTxnsAllowedTill,
+                    relaxingDaysConfigForPivotDate, UUID.randomUUID().toString()));
+            if (earliestTransactionDate == null || DateUtils.isBefore(pendingCredit.getTransactionDate(), earliestTransactionDate)) {
+                earliestTransactionDate = pendingCredit.getTransactionDate();
+            }
+        }
+
+        final LocalDate postInterestOnDate = null;
+        final MathContext mc = MathContext.DECIMAL64;
+        final LocalDate today = DateUtils.getBusinessLocalDate();
+        final boolean isInterestTransfer = false;
+        if (account.isBeforeLastPostingPeriod(earliestTransactionDate, backdatedTxnsAllowedTill)) {
+            account.postInterest(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth,
+                    postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+        } else {
+            account.calculateInterestIncrementally(mc, today, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
+                    financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+        }
+
+        this.savingsAccountTransactionRepository.saveAll(deposits);
+        if (backdatedTxnsAllowedTill) {
+            saveUpdatedTransactionsOfSavingsAccount(account.getSavingsAccountTransactionsWithPivotConfig());
+        }
+        this.savingsAccountRepository.saveAndFlush(account);
+
+        final boolean isAccountTransfer = false;
+        postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, isAccountTransfer, backdatedTxnsAllowedTill);
+        for (int i = 0; i < deposits.size(); i++) {
+            final String noteText = pendingCredits.get(i).getNote();
+            if (noteText != null) {
+                this.noteRepository.save(Note.savingsTransactionNote(account, deposits.get(i), noteText));
+            }
+            businessEventNotifierService.notifyPostBusinessEvent(new SavingsDepositBusinessEvent(deposits.get(i)));
+        }
+        return deposits;
+    }
+
     @Transactional
     @Override
     public SavingsAccountTransaction handleHold(final SavingsAccount account, BigDecimal amount, LocalDate transactionDate,
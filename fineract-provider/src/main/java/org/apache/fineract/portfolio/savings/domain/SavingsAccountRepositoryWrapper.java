@@ -21,6 +21,7 @@ package org.apache.fineract.portfolio.savings.domain;
 import java.time.LocalDate;
 import java.util.List;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.portfolio.savings.DepositAccountType;
 import org.apache.fineract.portfolio.savings.exception.SavingsAccountNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,13 +49,16 @@ public class SavingsAccountRepositoryWrapper {
     private final SavingsAccountRepository repository;
     private final SavingsAccountTransactionRepository savingsAccountTransactionRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
 
     @Autowired
     public SavingsAccountRepositoryWrapper(final SavingsAccountRepository repository,
-            final SavingsAccountTransactionRepository savingsAccountTransactionRepository, final JdbcTemplate jdbcTemplate) {
+            final SavingsAccountTransactionRepository savingsAccountTransactionRepository, final JdbcTemplate jdbcTemplate,
+            final DatabaseSpecificSQLGenerator sqlGenerator) {
         this.repository = repository;
         this.savingsAccountTransactionRepository = savingsAccountTransactionRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
     }
 
     @Transactional(readOnly = true)
@@ -65,6 +69,39 @@ public class SavingsAccountRepositoryWrapper {
         return account;
     }
 
+    /**
+     * Loads the account without loading its transactions, charges and officer history.
+     */
+    public SavingsAccount findOneWithoutTransactions(final Long savingsId) {
+        return this.repository.findById(savingsId).orElseThrow(() -> new SavingsAccountNotFoundException(savingsId));
+    }
+
+    /**
+     * Locks the account row in share mode until the end of the surrounding transaction and returns the committed hot
+     * account flag. Share locks of concurrent deposits do not wait for each other, only for the exclusive lock taken by
+     * {@link #findOneLockedWithoutTransactions(Long)}.
+     */
+    public boolean isHotAccountShareLocked(final Long savingsId) {
+        final List<Boolean> hotAccount = this.jdbcTemplate.queryForList(
+                "SELECT is_hot_account FROM m_savings_account WHERE id = ? " + this.sqlGenerator.forShare(), Boolean.class, savingsId);
+        if (hotAccount.isEmpty()) {
+            throw new SavingsAccountNotFoundException(savingsId);
+        }
+        return Boolean.TRUE.equals(hotAccount.get(0));
+    }
+
+    /**
+     * Loads the account with its row locked until the end of the surrounding transaction, without loading its
+     * transactions, charges and officer history.
+     */
+    public SavingsAccount findOneLockedWithoutTransactions(final Long savingsId) {
+        final SavingsAccount account = this.repository.findOneLocked(savingsId);
+        if (account == null) {
+            throw new SavingsAccountNotFoundException(savingsId);
+        }
+        return account;
+    }
+
     @Transactional
     public SavingsAccount findSavingsWithNotFoundDetection(final Long savingsId, final boolean backdatedTxnsAllowedTill) {
         SavingsAccount account = null;
@@ -23,6 +23,7 @@ import static org.apache.fineract.portfolio.savings.SavingsApiConstants.SAVINGS_
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.amountParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.chargeIdParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.dueAsOfDateParamName;
+import static org.apache.fineract.portfolio.savings.SavingsApiConstants.hotAccountParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.lienAllowedParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.transactionAmountParamName;
 import static org.apache.fineract.portfolio.savings.SavingsApiConstants.transactionDateParamName;
@@ -114,10 +115,13 @@ import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountCharge;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountChargeRepositoryWrapper;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountDomainService;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCredit;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountPendingCreditRepository;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepositoryWrapper;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransactionRepository;
+import org.apache.fineract.portfolio.savings.exception.DepositAccountTransactionNotAllowedException;
 import org.apache.fineract.portfolio.savings.exception.PostInterestAsOnDateException;
 import org.apache.fineract.portfolio.savings.exception.PostInterestAsOnDateException.PostInterestAsOnExceptionType;
 import org.apache.fineract.portfolio.savings.exception.PostInterestClosingDateException;
@@ -132,6 +136,7 @@ import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
@@ -166,6 +171,7 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
     private final GSIMRepositoy gsimRepository;
     private final SavingsAccountInterestPostingService savingsAccountInterestPostingService;
     private final ErrorHandler errorHandler;
+    private final SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
 
     @Transactional
     @Override
@@ -284,6 +290,14 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
 
         final boolean backdatedTxnsAllowedTill = this.savingAccountAssembler.getPivotConfigStatus();
 
+        final SavingsAccount hotAccount = this.savingAccountRepositoryWrapper.findOneWithoutTransactions(savingsId);
+        if (hotAccount.isHotAccount() && !backdatedTxnsAllowedTill && hotAccount.getGsim() == null) {
+            // the share lock lets hot deposits run side by side, but orders them against a switch-off or closing of the account
+            if (this.savingAccountRepositoryWrapper.isHotAccountShareLocked(savingsId)) {
+                return depositToHotAccount(hotAccount, command);
+            }
+        }
+
         final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, backdatedTxnsAllowedTill);
 
         if (account.getGsim() != null) {
@@ -339,6 +353,45 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
                 .build();
     }
 
+    /**
+     * Accepts a deposit to a hot account as a pending credit. The account is validated like for a regular deposit but its
+     * transactions are not loaded and its row is not written, the credit is posted later by
+     * {@link SavingsAccountDomainService#handlePendingCredits(SavingsAccount, boolean)}.
+     */
+    private CommandProcessingResult depositToHotAccount(final SavingsAccount account, final JsonCommand command) {
+        checkClientOrGroupActive(account);
+        account.validateForAccountBlock();
+        account.validateForCreditBlock();
+        if (!account.allowDeposit()) {
+            throw new DepositAccountTransactionNotAllowedException(account.getId(), "deposit", account.depositAccountType());
+        }
+
+        final Locale locale = command.extractLocale();
+        final DateTimeFormatter fmt = DateTimeFormatter.ofPattern(command.dateFormat()).withLocale(locale);
+        final LocalDate transactionDate = command.localDateValueOfParameterNamed("transactionDate");
+        final BigDecimal transactionAmount = command.bigDecimalValueOfParameterNamed("transactionAmount");
+
+        final Map<String, Object> changes = new LinkedHashMap<>();
+        final PaymentDetail paymentDetail = this.paymentDetailWritePlatformService.createAndPersistPaymentDetail(command, changes);
+        final boolean backdatedTxnsAllowedTill = false;
+        account.validateDeposit(new SavingsAccountTransactionDTO(fmt, transactionDate, transactionAmount, paymentDetail, null, null),
+                backdatedTxnsAllowedTill, null);
+
+        final SavingsAccountPendingCredit pendingCredit = SavingsAccountPendingCredit.instance(account.getId(), transactionDate,
+                transactionAmount, paymentDetail, StringUtils.trimToNull(command.stringValueOfParameterNamed("note")));
+        this.savingsAccountPendingCreditRepository.saveAndFlush(pendingCredit);
+        changes.put("pendingCreditId", pendingCredit.getId());
+
+        return new CommandProcessingResultBuilder() //
+                .withEntityId(account.getId()) //
+                .withOfficeId(account.officeId()) //
+                .withClientId(account.clientId()) //
+                .withGroupId(account.groupId()) //
+                .withSavingsId(account.getId()) //
+                .with(changes) //
+                .build();
+    }
+
     private Long saveTransactionToGenerateTransactionId(final SavingsAccountTransaction transaction) {
         this.savingsAccountTransactionRepository.saveAndFlush(transaction);
         return transaction.getId();
@@ -893,7 +946,10 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
     public CommandProcessingResult close(final Long savingsId, final JsonCommand command) {
         final AppUser user = this.context.authenticatedUser();
 
+        // no credit can be accepted for the account between posting the pending credits and closing it
+        this.savingAccountRepositoryWrapper.findOneLockedWithoutTransactions(savingsId);
         final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, false);
+        this.savingsAccountDomainService.handlePendingCredits(account, false);
         this.savingsAccountTransactionDataValidator.validateClosing(command, account);
 
         final boolean isLinkedWithAnyActiveLoan = this.accountAssociationsReadPlatformService.isLinkedWithAnyActiveAccount(savingsId);
@@ -1388,6 +1444,8 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         // Get Savings account from savings charge
         final SavingsAccount account = savingsAccountCharge.savingsAccount();
         this.savingAccountAssembler.assignSavingAccountHelpers(account);
+        // the charge is checked against the balance including the credits already accepted for the account
+        this.savingsAccountDomainService.handlePendingCredits(account, backdatedTxnsAllowedTill);
         final Set<Long> existingTransactionIds = new HashSet<>();
         final Set<Long> existingReversedTransactionIds = new HashSet<>();
         Pageable sortedByDateAndIdDesc = PageRequest.of(0, 1, Sort.by("dateOf", "id").descending());
@@ -1625,6 +1683,39 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
                 .build();
     }
 
+    @Override
+    public CommandProcessingResult modifyHotAccount(final Long savingsAccountId, final JsonCommand command) {
+        final Map<String, Object> actualChanges = new HashMap<>(1);
+        // no credit can be accepted as pending once the pending credits were posted and the flag is switched off
+        this.savingAccountRepositoryWrapper.findOneLockedWithoutTransactions(savingsAccountId);
+        final SavingsAccount savingsForUpdate = this.savingAccountAssembler.assembleFrom(savingsAccountId, false);
+        if (command.isChangeInBooleanParameterNamed(hotAccountParamName, savingsForUpdate.isHotAccount())) {
+            final boolean newValue = command.booleanPrimitiveValueOfParameterNamed(hotAccountParamName);
+            actualChanges.put(hotAccountParamName, newValue);
+            if (!newValue) {
+                // credits accepted while the account was hot are posted before it goes back to regular deposits
+                this.savingsAccountDomainService.handlePendingCredits(savingsForUpdate, false);
+            }
+            savingsForUpdate.setHotAccount(newValue);
+            this.savingAccountRepositoryWrapper.saveAndFlush(savingsForUpdate);
+        }
+
+        return new CommandProcessingResultBuilder() //
+                .withCommandId(command.commandId()) //
+                .withEntityId(savingsAccountId) //
+                .withSavingsId(savingsAccountId) //
+                .with(actualChanges) //
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Override
+    public void postPendingCredits(final Long savingsId) {
+        this.savingAccountRepositoryWrapper.findOneLockedWithoutTransactions(savingsId);
+        final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, false);
+        this.savingsAccountDomainService.handlePendingCredits(account, false);
+    }
+
     @Override
     public void setSubStatusInactive(Long savingsId) {
         final SavingsAccount account = this.savingAccountAssembler.assembleFrom(savingsId, false);
@@ -1737,6 +1828,8 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         final boolean lienAllowed = command.booleanPrimitiveValueOfParameterNamed(lienAllowedParamName);
 
         checkClientOrGroupActive(account);
+        // the hold is checked against the balance including the credits already accepted for the account
+        this.savingsAccountDomainService.handlePendingCredits(account, backdatedTxnsAllowedTill);
 
         final BigDecimal amount = command.bigDecimalValueOfParameterNamed(transactionAmountParamName);
 
@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.domain;
+
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * The entities covered by the search index, with the table and the columns the global search matches against, and the
+ * column holding the last modification time of a row, if the table has one.
+ */
+@Getter
+public enum SearchIndexEntityType {
+
+    CLIENT("m_client", List.of("account_no", "display_name", "external_id", "mobile_no"), "last_modified_on_utc"), //
+    LOAN("m_loan", List.of("account_no", "external_id"), "last_modified_on_utc"), //
+    SAVING("m_savings_account", List.of("account_no", "external_id"), "last_modified_on_utc"), //
+    SHARE("m_share_account", List.of("account_no", "external_id"), "lastmodified_date"), //
+    CLIENTIDENTIFIER("m_client_identifier", List.of("document_key"), "last_modified_on_utc"), //
+    GROUP("m_group", List.of("account_no", "display_name", "external_id"), null);
+
+    private final String tableName;
+    private final List<String> columnNames;
+    private final String modifiedColumnName;
+
+    SearchIndexEntityType(final String tableName, final List<String> columnNames, final String modifiedColumnName) {
+        this.tableName = tableName;
+        this.columnNames = columnNames;
+        this.modifiedColumnName = modifiedColumnName;
+    }
+}
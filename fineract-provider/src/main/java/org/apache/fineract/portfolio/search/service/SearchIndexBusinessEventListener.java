@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.CentersCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.share.ShareAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the entities created through the platform to the search index.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexBusinessEventListener {
+
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final SearchIndexWritePlatformService searchIndexWritePlatformService;
+
+    @PostConstruct
+    public void addListeners() {
+        businessEventNotifierService.addPostBusinessEventListener(ClientCreateBusinessEvent.class,
+                event -> searchIndexWritePlatformService.index(SearchIndexEntityType.CLIENT, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(LoanCreatedBusinessEvent.class,
+                event -> searchIndexWritePlatformService.index(SearchIndexEntityType.LOAN, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(SavingsCreateBusinessEvent.class,
+                event -> searchIndexWritePlatformService.index(SearchIndexEntityType.SAVING, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(ShareAccountCreateBusinessEvent.class,
+                event -> searchIndexWritePlatformService.index(SearchIndexEntityType.SHARE, event.get().getId()));
+        businessEventNotifierService.addPostBusinessEventListener(GroupsCreateBusinessEvent.class,
+                event -> searchIndexWritePlatformService.index(SearchIndexEntityType.GROUP, event.get().getResourceId()));
+        businessEventNotifierService.addPostBusinessEventListener(CentersCreateBusinessEvent.class,
+                event -> searchIndexWritePlatformService.index(SearchIndexEntityType.GROUP, event.get().getResourceId()));
+    }
+}
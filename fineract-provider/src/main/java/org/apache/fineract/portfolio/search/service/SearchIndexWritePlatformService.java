@@ -0,0 +1,39 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+
+public interface SearchIndexWritePlatformService {
+
+    boolean isEnabled();
+
+    /**
+     * Refreshes the index entries of an entity once the current transaction has committed, or right away when there
+     * is no transaction.
+     */
+    void index(SearchIndexEntityType entityType, Long entityId);
+
+    /**
+     * Indexes the entities created or modified since the previous rebuild and drops the tokens of deleted entities. The
+     * first rebuild indexes every entity. It also runs while the index is disabled, so the index can be built before it
+     * is enabled.
+     */
+    void rebuild();
+}
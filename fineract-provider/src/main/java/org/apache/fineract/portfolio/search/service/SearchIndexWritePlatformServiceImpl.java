@@ -0,0 +1,250 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains the trigram tokens of {@link SearchIndexEntityType searchable entities} in `m_search_index_token`.
+ *
+ * Entities changed in a transaction are collected and indexed in a separate transaction after the commit, so the index
+ * reads committed values and a failure to index never rolls back the business operation.
+ *
+ * The rebuild is incremental: `m_search_index_state` keeps the highest id and the start of the previous rebuild per
+ * entity type, and only rows with a higher id or, where the table tracks it, a later modification time are indexed
+ * again.
+ */
+@Slf4j
+@Service
+public class SearchIndexWritePlatformServiceImpl implements SearchIndexWritePlatformService {
+
+    private static final int BATCH_SIZE = 1000;
+    // modification times are not stored in UTC by every table, the overlap covers any tenant time zone
+    private static final Duration MODIFIED_OVERLAP = Duration.ofDays(1);
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public SearchIndexWritePlatformServiceImpl(final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            final DatabaseSpecificSQLGenerator sqlGenerator, final FineractProperties fineractProperties,
+            final PlatformTransactionManager transactionManager) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+        this.fineractProperties = fineractProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        final FineractProperties.FineractSearchProperties search = this.fineractProperties.getSearch();
+        return search != null && search.getIndex() != null && search.getIndex().isEnabled();
+    }
+
+    @Override
+    public void index(final SearchIndexEntityType entityType, final Long entityId) {
+        if (!isEnabled() || entityId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reindex(entityType, List.of(entityId));
+            return;
+        }
+        PendingEntities pending = (PendingEntities) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEntities();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new IndexAfterCommit(pending));
+        }
+        pending.entityIds.computeIfAbsent(entityType, type -> new LinkedHashSet<>()).add(entityId);
+    }
+
+    @Override
+    public void rebuild() {
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            final LocalDateTime startedOn = DateUtils.getAuditLocalDateTime();
+            final RebuildState previous = findRebuildState(entityType);
+            final LocalDateTime modifiedSince = previous == null || entityType.getModifiedColumnName() == null ? null
+                    : previous.startedOn().minus(MODIFIED_OVERLAP);
+            final long lastEntityId = previous == null ? 0L : previous.lastEntityId();
+            long maxEntityId = lastEntityId;
+            long lastId = 0L;
+            int indexed = 0;
+            List<Long> entityIds;
+            do {
+                final long fromId = lastId;
+                entityIds = this.transactionTemplate.execute(status -> indexPage(entityType, fromId, lastEntityId, modifiedSince));
+                if (!entityIds.isEmpty()) {
+                    lastId = entityIds.get(entityIds.size() - 1);
+                    maxEntityId = Math.max(maxEntityId, lastId);
+                    indexed += entityIds.size();
+                }
+            } while (entityIds.size() == BATCH_SIZE);
+            final long indexedUntilId = maxEntityId;
+            this.transactionTemplate.executeWithoutResult(status -> {
+                deleteOrphanTokens(entityType);
+                saveRebuildState(entityType, new RebuildState(indexedUntilId, startedOn), previous == null);
+            });
+            log.info("Search index rebuilt for {} {} entities{}", indexed, entityType, previous == null ? "" : " created or modified");
+        }
+    }
+
+    private void reindex(final SearchIndexEntityType entityType, final Collection<Long> entityIds) {
+        final List<Long> ids = new ArrayList<>(entityIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            final List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            final Map<Long, Set<String>> tokens = new LinkedHashMap<>();
+            batch.forEach(id -> tokens.put(id, Set.of()));
+            this.namedParameterJdbcTemplate.query(selectSql(entityType) + " where id in (:entityIds)",
+                    new MapSqlParameterSource("entityIds", batch), (ResultSet rs) -> {
+                        tokens.put(rs.getLong("id"), tokenize(entityType, rs));
+                    });
+            writeTokens(entityType, tokens);
+        }
+    }
+
+    private List<Long> indexPage(final SearchIndexEntityType entityType, final long fromId, final long lastEntityId,
+            final LocalDateTime modifiedSince) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("fromId", fromId).addValue("lastEntityId", lastEntityId);
+        String changed = "id > :lastEntityId";
+        if (modifiedSince != null) {
+            changed += " or " + entityType.getModifiedColumnName() + " >= :modifiedSince";
+            parameters.addValue("modifiedSince", modifiedSince);
+        }
+        final Map<Long, Set<String>> tokens = new LinkedHashMap<>();
+        this.namedParameterJdbcTemplate.query(selectSql(entityType) + " where id > :fromId and (" + changed + ") order by id "
+                + this.sqlGenerator.limit(BATCH_SIZE), parameters, (ResultSet rs) -> {
+                    tokens.put(rs.getLong("id"), tokenize(entityType, rs));
+                });
+        writeTokens(entityType, tokens);
+        return new ArrayList<>(tokens.keySet());
+    }
+
+    private RebuildState findRebuildState(final SearchIndexEntityType entityType) {
+        final List<RebuildState> states = this.namedParameterJdbcTemplate.query(
+                "select last_entity_id, started_on_utc from m_search_index_state where entity_type = :entityType",
+                new MapSqlParameterSource("entityType", entityType.name()),
+                (rs, rowNum) -> new RebuildState(rs.getLong("last_entity_id"), rs.getObject("started_on_utc", LocalDateTime.class)));
+        return states.isEmpty() ? null : states.get(0);
+    }
+
+    private void saveRebuildState(final SearchIndexEntityType entityType, final RebuildState state, final boolean firstRebuild) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource("entityType", entityType.name())
+                .addValue("lastEntityId", state.lastEntityId()).addValue("startedOn", state.startedOn());
+        if (firstRebuild) {
+            this.namedParameterJdbcTemplate.update("insert into m_search_index_state (entity_type, last_entity_id, started_on_utc) "
+                    + "values (:entityType, :lastEntityId, :startedOn)", parameters);
+        } else {
+            this.namedParameterJdbcTemplate.update("update m_search_index_state set last_entity_id = :lastEntityId, "
+                    + "started_on_utc = :startedOn where entity_type = :entityType", parameters);
+        }
+    }
+
+    private void writeTokens(final SearchIndexEntityType entityType, final Map<Long, Set<String>> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        this.namedParameterJdbcTemplate.update(
+                "delete from m_search_index_token where entity_type = :entityType and entity_id in (:entityIds)",
+                new MapSqlParameterSource("entityType", entityType.name()).addValue("entityIds", tokens.keySet()));
+        final List<Object[]> rows = new ArrayList<>();
+        tokens.forEach((entityId, entityTokens) -> entityTokens
+                .forEach(token -> rows.add(new Object[] { entityType.name(), entityId, token })));
+        if (!rows.isEmpty()) {
+            this.namedParameterJdbcTemplate.getJdbcOperations()
+                    .batchUpdate("insert into m_search_index_token (entity_type, entity_id, token) values (?, ?, ?)", rows);
+        }
+    }
+
+    private void deleteOrphanTokens(final SearchIndexEntityType entityType) {
+        this.namedParameterJdbcTemplate.update("delete from m_search_index_token where entity_type = :entityType and not exists "
+                + "(select 1 from " + entityType.getTableName() + " e where e.id = m_search_index_token.entity_id)",
+                new MapSqlParameterSource("entityType", entityType.name()));
+    }
+
+    private static String selectSql(final SearchIndexEntityType entityType) {
+        return "select id, " + String.join(", ", entityType.getColumnNames()) + " from " + entityType.getTableName();
+    }
+
+    private static Set<String> tokenize(final SearchIndexEntityType entityType, final ResultSet rs) throws SQLException {
+        final Set<String> tokens = new LinkedHashSet<>();
+        for (String columnName : entityType.getColumnNames()) {
+            tokens.addAll(SearchTokenizer.tokenize(rs.getString(columnName)));
+        }
+        return tokens;
+    }
+
+    private record RebuildState(long lastEntityId, LocalDateTime startedOn) {
+    }
+
+    private static final class PendingEntities {
+
+        private final Map<SearchIndexEntityType, Set<Long>> entityIds = new EnumMap<>(SearchIndexEntityType.class);
+    }
+
+    private final class IndexAfterCommit implements TransactionSynchronization {
+
+        private final PendingEntities pending;
+
+        private IndexAfterCommit(final PendingEntities pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void afterCommit() {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> this.pending.entityIds.forEach((entityType, entityIds) -> reindex(entityType, entityIds)));
+            } catch (RuntimeException e) {
+                log.warn("Search index could not be updated, it is refreshed by the next rebuild", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexWritePlatformServiceImpl.this);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
@@ -43,6 +44,7 @@ import org.apache.fineract.portfolio.search.data.AdHocQuerySearchConditions;
 import org.apache.fineract.portfolio.search.data.AdHocSearchQueryData;
 import org.apache.fineract.portfolio.search.data.SearchConditions;
 import org.apache.fineract.portfolio.search.data.SearchData;
+import org.apache.fineract.portfolio.search.domain.SearchIndexEntityType;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -56,6 +58,7 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final SearchIndexWritePlatformService searchIndexWritePlatformService;
 
     @Override
     public Collection<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
@@ -71,42 +74,52 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         } else {
             params.addValue("search", "%" + searchConditions.getSearchQuery() + "%");
         }
+        if (isIndexSearch(searchConditions)) {
+            final Set<String> searchTokens = SearchTokenizer.tokenize(searchConditions.getSearchQuery());
+            params.addValue("searchTokens", searchTokens);
+            params.addValue("searchTokenCount", searchTokens.size());
+        }
         return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
     }
 
     public String searchSchema(final SearchConditions searchConditions) {
 
+        final boolean indexSearch = isIndexSearch(searchConditions);
         final String union = " union ";
         final String clientMatchSql = "( (select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
                 + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
+                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)"
+                + indexCandidates(indexSearch, "c", SearchIndexEntityType.CLIENT) + ") "
                 + " order by c.id desc)";
 
         final String loanMatchSql = "( (select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
+                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)"
+                + indexCandidates(indexSearch, "l", SearchIndexEntityType.LOAN) + ") "
                 + " order by l.id desc)";
 
         final String savingMatchSql = "( (select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
                 + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
-                + " order by s.id desc)";
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)"
+                + indexCandidates(indexSearch, "s", SearchIndexEntityType.SAVING) + ") " + " order by s.id desc)";
 
         final String shareMatchSql = "( (select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , c.id as parentId, c.display_name as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType "
                 + " from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id left join m_share_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
-                + " order by s.id desc)";
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)"
+                + indexCandidates(indexSearch, "s", SearchIndexEntityType.SHARE) + ") " + " order by s.id desc)";
 
         final String clientIdentifierMatchSql = "( (select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, "
                 + " null as entityExternalId, null as entityAccountNo, c.id as parentId, c.display_name as parentName,null as entityMobileNo, c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
                 + " from m_client_identifier ci join m_client c on ci.client_id=c.id join m_office o on o.id = c.office_id "
-                + " where o.hierarchy like :hierarchy and ci.document_key like :search ) " + " order by ci.id desc)";
+                + " where o.hierarchy like :hierarchy and ci.document_key like :search "
+                + indexCandidates(indexSearch, "ci", SearchIndexEntityType.CLIENTIDENTIFIER) + ") " + " order by ci.id desc)";
 
         final String groupMatchSql = "( (select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
                 + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
+                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )"
+                + indexCandidates(indexSearch, "g", SearchIndexEntityType.GROUP) + ") "
                 + " order by g.id desc)";
 
         final StringBuilder sql = new StringBuilder();
@@ -143,6 +156,23 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         return sql.toString();
     }
 
+    private boolean isIndexSearch(final SearchConditions searchConditions) {
+        return !searchConditions.getExactMatch() && this.searchIndexWritePlatformService.isEnabled()
+                && SearchTokenizer.isIndexable(searchConditions.getSearchQuery());
+    }
+
+    /**
+     * Restricts the rows an entity query has to match with LIKE to those whose index tokens contain every trigram of
+     * the search query.
+     */
+    private static String indexCandidates(final boolean indexSearch, final String alias, final SearchIndexEntityType entityType) {
+        if (!indexSearch) {
+            return "";
+        }
+        return " and " + alias + ".id in (select t.entity_id from m_search_index_token t where t.entity_type = '" + entityType.name()
+                + "' and t.token in (:searchTokens) group by t.entity_id having count(distinct t.token) = :searchTokenCount)";
+    }
+
     private static final class SearchMapper implements RowMapper<SearchData> {
 
         @Override
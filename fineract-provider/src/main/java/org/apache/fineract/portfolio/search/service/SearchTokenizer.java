@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits values into the folded trigrams stored in the search index.
+ *
+ * Every value containing a query contains all trigrams of the query, so the trigrams of a query select a superset of the
+ * rows a LIKE search on the same query would find. Values and queries are folded the same way: accents are stripped
+ * (NFD decomposition without combining marks) and lower casing is done code point by code point, so "Öztürk" and
+ * "ozturk" share their tokens, as they do under the accent insensitive collations the LIKE conditions may run with.
+ */
+public final class SearchTokenizer {
+
+    public static final int TOKEN_LENGTH = 3;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchTokenizer() {}
+
+    public static Set<String> tokenize(final String value) {
+        final Set<String> tokens = new LinkedHashSet<>();
+        if (value == null) {
+            return tokens;
+        }
+        final int[] codePoints = fold(value).codePoints().map(Character::toLowerCase).toArray();
+        for (int i = 0; i + TOKEN_LENGTH <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, TOKEN_LENGTH));
+        }
+        return tokens;
+    }
+
+    /**
+     * A query can be answered with the index when it is long enough to have a trigram and is matched literally, which
+     * does not hold for queries containing LIKE wildcards or escapes.
+     */
+    public static boolean isIndexable(final String query) {
+        if (query == null || query.indexOf('%') >= 0 || query.indexOf('_') >= 0 || query.indexOf('\\') >= 0) {
+            return false;
+        }
+        final String folded = fold(query);
+        return folded.codePointCount(0, folded.length()) >= TOKEN_LENGTH;
+    }
+
+    private static String fold(final String value) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
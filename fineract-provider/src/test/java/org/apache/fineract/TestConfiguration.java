@@ -34,9 +34,11 @@ import org.apache.fineract.infrastructure.core.service.database.DatabasePassword
 import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
 import org.apache.fineract.infrastructure.core.service.migration.ExtendedSpringLiquibaseFactory;
+import org.apache.fineract.infrastructure.core.service.migration.TenantChangelogFingerprintCalculator;
 import org.apache.fineract.infrastructure.core.service.migration.TenantDataSourceFactory;
 import org.apache.fineract.infrastructure.core.service.migration.TenantDatabaseStateVerifier;
 import org.apache.fineract.infrastructure.core.service.migration.TenantDatabaseUpgradeService;
+import org.apache.fineract.infrastructure.core.service.migration.TenantSchemaFingerprintRepository;
 import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
 import org.apache.fineract.infrastructure.dataqueries.service.GenericDataService;
 import org.apache.fineract.infrastructure.jobs.ScheduledJobRunnerConfig;
@@ -158,7 +160,8 @@ public class TestConfiguration {
             FineractProperties fineractProperties, Environment environment,
             List<CustomTaskChange> customTaskChangesForDependencyInjection) {
         return new TenantDatabaseUpgradeService(tenantDetailsService, tenantDataSource, fineractProperties, tenantDatabaseStateVerifier,
-                liquibaseFactory, tenantDataSourceFactory, environment, customTaskChangesForDependencyInjection);
+                liquibaseFactory, tenantDataSourceFactory, environment, mock(TenantChangelogFingerprintCalculator.class),
+                mock(TenantSchemaFingerprintRepository.class), customTaskChangesForDependencyInjection);
     }
 
     /**
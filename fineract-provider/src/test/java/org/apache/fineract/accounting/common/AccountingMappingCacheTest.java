@@ -0,0 +1,145 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.common;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.apache.fineract.accounting.closure.domain.GLClosure;
+import org.apache.fineract.accounting.closure.domain.GLClosureRepository;
+import org.apache.fineract.accounting.financialactivityaccount.domain.FinancialActivityAccountRepositoryWrapper;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMapping;
+import org.apache.fineract.accounting.producttoaccountmapping.domain.ProductToGLAccountMappingRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AccountingMappingCacheTest {
+
+    @Mock
+    private ProductToGLAccountMappingRepository accountMappingRepository;
+    @Mock
+    private FinancialActivityAccountRepositoryWrapper financialActivityAccountRepository;
+    @Mock
+    private GLAccountRepository glAccountRepository;
+    @Mock
+    private GLClosureRepository closureRepository;
+
+    private FineractProperties.FineractAccountingMappingCacheProperties mappingCacheProperties;
+
+    private AccountingMappingCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        mappingCacheProperties = new FineractProperties.FineractAccountingMappingCacheProperties();
+        mappingCacheProperties.setEnabled(true);
+        mappingCacheProperties.setTimeToLiveSeconds(60);
+        FineractProperties.FineractAccountingProperties accounting = new FineractProperties.FineractAccountingProperties();
+        accounting.setMappingCache(mappingCacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setAccounting(accounting);
+
+        underTest = new AccountingMappingCache(accountMappingRepository, financialActivityAccountRepository, glAccountRepository,
+                closureRepository, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testMappingIsLoadedOnceAndAccountResolvedById() {
+        // given
+        GLAccount account = mock(GLAccount.class);
+        when(account.getId()).thenReturn(10L);
+        ProductToGLAccountMapping mapping = mock(ProductToGLAccountMapping.class);
+        when(mapping.getGlAccount()).thenReturn(account);
+        when(accountMappingRepository.findCoreProductToFinAccountMapping(1L, 1, 2)).thenReturn(mapping);
+        when(glAccountRepository.findById(10L)).thenReturn(Optional.of(account));
+
+        // when
+        underTest.getCoreProductAccount(1L, 1, 2);
+        GLAccount result = underTest.getCoreProductAccount(1L, 1, 2);
+
+        // then
+        assertSame(account, result);
+        verify(accountMappingRepository, times(1)).findCoreProductToFinAccountMapping(1L, 1, 2);
+        verify(glAccountRepository, times(1)).findById(10L);
+    }
+
+    @Test
+    void testMissingMappingIsCachedAndEvictReloads() {
+        // when
+        assertNull(underTest.getPaymentTypeSpecificProductAccount(1L, 1, 2, null));
+        assertNull(underTest.getPaymentTypeSpecificProductAccount(1L, 1, 2, null));
+        underTest.evict();
+        underTest.getPaymentTypeSpecificProductAccount(1L, 1, 2, null);
+
+        // then
+        verify(accountMappingRepository, times(2)).findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(1L, 1, 2, null);
+    }
+
+    @Test
+    void testClosureIdIsCachedAndClosureResolvedPerLookup() {
+        // given
+        GLClosure closure = mock(GLClosure.class);
+        when(closure.getId()).thenReturn(5L);
+        GLClosure managedClosure = mock(GLClosure.class);
+        when(closureRepository.getLatestGLClosureByBranch(1L)).thenReturn(closure);
+        when(closureRepository.findById(5L)).thenReturn(Optional.of(managedClosure));
+
+        // when
+        underTest.getLatestClosureByBranch(1L);
+        GLClosure result = underTest.getLatestClosureByBranch(1L);
+
+        // then
+        assertSame(managedClosure, result);
+        verify(closureRepository, times(1)).getLatestGLClosureByBranch(1L);
+        verify(closureRepository, times(1)).findById(5L);
+    }
+
+    @Test
+    void testNothingIsCachedWhenDisabled() {
+        // given
+        mappingCacheProperties.setEnabled(false);
+
+        // when
+        underTest.getLatestClosureByBranch(1L);
+        underTest.getLatestClosureByBranch(1L);
+
+        // then
+        verify(closureRepository, times(2)).getLatestGLClosureByBranch(1L);
+    }
+}
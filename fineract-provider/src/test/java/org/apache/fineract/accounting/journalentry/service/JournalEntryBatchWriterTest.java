@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.infrastructure.event.business.domain.journalentry.LoanJournalEntryCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JournalEntryBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private AuditorAware<Long> auditorAware;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+
+    private JournalEntryBatchWriter underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new JournalEntryBatchWriter(jdbcTemplate, auditorAware, businessEventNotifierService);
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testEntriesAreNotQueuedWithoutTransaction() {
+        // when
+        underTest.start();
+
+        // then
+        assertFalse(underTest.isActive());
+        assertFalse(underTest.add(journalEntry(null)));
+    }
+
+    @Test
+    void testQueuedEntriesAreInsertedInOneBatch() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        doAnswer(invocation -> {
+            KeyHolder keyHolder = invocation.getArgument(2);
+            keyHolder.getKeyList().add(Map.of("id", 11L));
+            keyHolder.getKeyList().add(Map.of("id", 12L));
+            return new int[] { 1, 1 };
+        }).when(jdbcTemplate).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+        JournalEntry debit = journalEntry(5L);
+        JournalEntry credit = journalEntry(5L);
+
+        // when
+        underTest.start();
+        assertTrue(underTest.add(debit));
+        assertTrue(underTest.add(credit));
+        underTest.flush();
+        underTest.flush();
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+        verify(debit).setId(11L);
+        verify(credit).setId(12L);
+        verify(businessEventNotifierService, times(2)).notifyPostBusinessEvent(any(LoanJournalEntryCreatedBusinessEvent.class));
+    }
+
+    @Test
+    void testManualEntriesAreNotQueued() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        JournalEntry manualEntry = journalEntry(5L);
+        when(manualEntry.isManualEntry()).thenReturn(true);
+
+        // when
+        underTest.start();
+
+        // then
+        assertFalse(underTest.add(manualEntry));
+        underTest.flush();
+        verify(jdbcTemplate, never()).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+    }
+
+    private JournalEntry journalEntry(Long loanTransactionId) {
+        Office office = mock(Office.class);
+        when(office.getId()).thenReturn(1L);
+        GLAccount account = mock(GLAccount.class);
+        when(account.getId()).thenReturn(2L);
+        JournalEntry journalEntry = mock(JournalEntry.class);
+        when(journalEntry.isNew()).thenReturn(true);
+        when(journalEntry.getOffice()).thenReturn(office);
+        when(journalEntry.getGlAccount()).thenReturn(account);
+        when(journalEntry.getLoanTransactionId()).thenReturn(loanTransactionId);
+        return journalEntry;
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.provisioning.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountRepository;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
+import org.apache.fineract.accounting.provisioning.data.LoanProductProvisioningEntryData;
+import org.apache.fineract.accounting.provisioning.domain.LoanProductProvisioningEntry;
+import org.apache.fineract.accounting.provisioning.domain.ProvisioningEntry;
+import org.apache.fineract.accounting.provisioning.domain.ProvisioningEntryRepository;
+import org.apache.fineract.accounting.provisioning.serialization.ProvisioningEntriesDefinitionJsonDeserializer;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.organisation.provisioning.domain.ProvisioningCategory;
+import org.apache.fineract.organisation.provisioning.domain.ProvisioningCategoryRepository;
+import org.apache.fineract.organisation.provisioning.service.ProvisioningCriteriaReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRepository;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProvisioningEntriesWritePlatformServiceJpaRepositoryImplTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 31);
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+
+    @Mock
+    private ProvisioningEntriesReadPlatformService provisioningEntriesReadPlatformService;
+    @Mock
+    private ProvisioningCriteriaReadPlatformService provisioningCriteriaReadPlatformService;
+    @Mock
+    private LoanProductRepository loanProductRepository;
+    @Mock
+    private GLAccountRepository glAccountRepository;
+    @Mock
+    private OfficeRepositoryWrapper officeRepositoryWrapper;
+    @Mock
+    private ProvisioningCategoryRepository provisioningCategoryRepository;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+    @Mock
+    private ProvisioningEntryRepository provisioningEntryRepository;
+    @Mock
+    private JournalEntryWritePlatformService journalEntryWritePlatformService;
+    @Mock
+    private ProvisioningEntriesDefinitionJsonDeserializer fromApiJsonDeserializer;
+    @Mock
+    private FromJsonHelper fromApiJsonHelper;
+    @Mock
+    private JournalEntryBatchWriter journalEntryBatchWriter;
+
+    private final MockedStatic<MoneyHelper> moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+
+    private ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(new MathContext(12, RoundingMode.HALF_EVEN));
+        underTest = new ProvisioningEntriesWritePlatformServiceJpaRepositoryImpl(provisioningEntriesReadPlatformService,
+                provisioningCriteriaReadPlatformService, loanProductRepository, glAccountRepository, officeRepositoryWrapper,
+                provisioningCategoryRepository, platformSecurityContext, provisioningEntryRepository, journalEntryWritePlatformService,
+                fromApiJsonDeserializer, fromApiJsonHelper, journalEntryBatchWriter);
+        when(platformSecurityContext.authenticatedUser()).thenReturn(mock(AppUser.class));
+        Money principal = mock(Money.class);
+        when(principal.getCurrency()).thenReturn(CURRENCY);
+        LoanProduct loanProduct = mock(LoanProduct.class);
+        when(loanProduct.getPrincipalAmount()).thenReturn(principal);
+        when(loanProductRepository.findById(anyLong())).thenReturn(Optional.of(loanProduct));
+        when(officeRepositoryWrapper.findOneWithNotFoundDetection(anyLong())).thenAnswer(invocation -> office(invocation.getArgument(0)));
+        when(provisioningCategoryRepository.findById(anyLong())).thenReturn(Optional.of(mock(ProvisioningCategory.class)));
+        when(glAccountRepository.findById(anyLong())).thenReturn(Optional.of(mock(GLAccount.class)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        moneyHelper.close();
+    }
+
+    @Test
+    void testReservedAmountsAreAggregatedAcrossLoanPartitions() {
+        // given
+        when(provisioningEntriesReadPlatformService.retrieveMaxActiveLoanId()).thenReturn(15000L);
+        streamProvisioningData(0L, 10000L, provisioningData(1L, "1000"), provisioningData(1L, "500"), provisioningData(2L, "200"));
+        streamProvisioningData(10000L, 20000L, provisioningData(1L, "300"));
+
+        // when
+        ProvisioningEntry entry = underTest.createProvisioningEntry(DATE, false);
+
+        // then
+        List<LoanProductProvisioningEntry> entries = entry.getLoanProductProvisioningEntries().stream()
+                .sorted(Comparator.comparing(e -> e.getOffice().getId())).toList();
+        assertEquals(2, entries.size());
+        assertEquals(0, new BigDecimal("90.00").compareTo(entries.get(0).getReservedAmount()));
+        assertEquals(0, new BigDecimal("10.00").compareTo(entries.get(1).getReservedAmount()));
+        verify(provisioningEntriesReadPlatformService, times(2)).retrieveLoanProductsProvisioningData(eq(DATE), anyLong(), anyLong(),
+                any());
+        verify(loanProductRepository, times(3)).findById(7L);
+        verify(provisioningEntryRepository).saveAndFlush(entry);
+    }
+
+    @Test
+    void testNoActiveLoansCreatesEmptyEntry() {
+        // given
+        when(provisioningEntriesReadPlatformService.retrieveMaxActiveLoanId()).thenReturn(null);
+
+        // when
+        ProvisioningEntry entry = underTest.createProvisioningEntry(DATE, false);
+
+        // then
+        assertEquals(0, entry.getLoanProductProvisioningEntries().size());
+        verify(provisioningEntriesReadPlatformService, never()).retrieveLoanProductsProvisioningData(any(LocalDate.class), anyLong(),
+                anyLong(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamProvisioningData(Long fromLoanId, Long toLoanId, LoanProductProvisioningEntryData... rows) {
+        doAnswer(invocation -> {
+            Consumer<LoanProductProvisioningEntryData> consumer = invocation.getArgument(3);
+            List.of(rows).forEach(consumer);
+            return null;
+        }).when(provisioningEntriesReadPlatformService).retrieveLoanProductsProvisioningData(eq(DATE), eq(fromLoanId), eq(toLoanId),
+                any(Consumer.class));
+    }
+
+    private LoanProductProvisioningEntryData provisioningData(Long officeId, String balance) {
+        return new LoanProductProvisioningEntryData().setOfficeId(officeId).setProductId(7L).setCurrencyCode("USD").setCategoryId(2L)
+                .setOverdueInDays(45L).setPercentage(new BigDecimal("5")).setBalance(new BigDecimal(balance)).setLiablityAccount(3L)
+                .setExpenseAccount(4L).setCriteriaId(1L);
+    }
+
+    private Office office(Long id) {
+        Office office = mock(Office.class);
+        when(office.getId()).thenReturn(id);
+        return office;
+    }
+}
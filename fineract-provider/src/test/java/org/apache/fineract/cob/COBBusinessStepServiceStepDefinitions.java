@@ -32,6 +32,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeMap;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.domain.BatchBusinessStep;
 import org.apache.fineract.cob.domain.BatchBusinessStepRepository;
@@ -39,6 +40,7 @@ import org.apache.fineract.cob.exceptions.BusinessStepException;
 import org.apache.fineract.cob.loan.LoanCOBBusinessStep;
 import org.apache.fineract.cob.service.ReloaderService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.diagnostics.performance.PerformanceInstrumentation;
 import org.apache.fineract.infrastructure.core.domain.AbstractAuditableCustom;
 import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -58,6 +60,8 @@ public class COBBusinessStepServiceStepDefinitions implements En {
     private ConfigurationDomainService configurationDomainService = mock(ConfigurationDomainService.class);
 
     private ReloaderService reloaderService = mock(ReloaderService.class);
+    private PerformanceInstrumentation performanceInstrumentation = mock(PerformanceInstrumentation.class);
+    private JournalEntryBatchWriter journalEntryBatchWriter = mock(JournalEntryBatchWriter.class);
     private final COBBusinessStepServiceImpl businessStepService;
 
     private COBBusinessStep cobBusinessStep = mock(COBBusinessStep.class);
@@ -75,7 +79,8 @@ public class COBBusinessStepServiceStepDefinitions implements En {
     @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW")
     public COBBusinessStepServiceStepDefinitions() throws Exception {
         businessStepService = new COBBusinessStepServiceImpl(batchBusinessStepRepository, applicationContext, beanFactory,
-                businessEventNotifierService, configurationDomainService, reloaderService);
+                businessEventNotifierService, configurationDomainService, reloaderService, performanceInstrumentation,
+                journalEntryBatchWriter);
 
         Given("/^The COBBusinessStepService.run method with executeMap (.*)$/", (String executionMap) -> {
             if ("null".equals(executionMap)) {
@@ -147,6 +152,7 @@ public class COBBusinessStepServiceStepDefinitions implements En {
 
         Then("The COBBusinessStepService.run result should match", () -> {
             assertEquals(outputItem, resultItem);
+            verify(journalEntryBatchWriter, Mockito.times(1)).flush();
             assertEquals(ActionContext.COB, ThreadLocalContextUtil.getActionContext());
             ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         });
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import io.cucumber.java8.En;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryBatchWriter;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.mockito.Mockito;
@@ -33,7 +34,9 @@ public class LoanItemWriterStepDefinitions implements En {
     private final LoanLockingService loanLockingService = mock(LoanLockingService.class);
     private final LoanRepository loanRepository = mock(LoanRepository.class);
 
-    private final LoanItemWriter loanItemWriter = new LoanItemWriter(loanLockingService);
+    private final JournalEntryBatchWriter journalEntryBatchWriter = mock(JournalEntryBatchWriter.class);
+
+    private final LoanItemWriter loanItemWriter = new LoanItemWriter(loanLockingService, journalEntryBatchWriter);
 
     private Chunk<Loan> items;
 
@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
+import org.apache.fineract.cob.loan.RetrieveLoanIdService;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanCOBStateCacheTest {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 3, 14);
+
+    @Mock
+    private LoanAccountLockService loanAccountLockService;
+    @Mock
+    private RetrieveLoanIdService retrieveLoanIdService;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private FineractProperties.FineractQueryProperties queryProperties;
+
+    private LoanCOBStateCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        setCobDate(COB_DATE);
+        when(fineractProperties.getQuery()).thenReturn(queryProperties);
+        when(queryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+        underTest = new LoanCOBStateCache(loanAccountLockService, retrieveLoanIdService, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testLoansClosedForCobDateAreAnsweredFromMemory() {
+        // given
+        List<LoanIdAndLastClosedBusinessDate> loans = List.of(loan(1L, COB_DATE), loan(2L, COB_DATE.minusDays(1)));
+        when(retrieveLoanIdService.retrieveLoanIdsBehindOrUpToDate(COB_DATE, List.of(1L, 2L))).thenReturn(loans);
+
+        // when
+        boolean behind = underTest.isAnyLoanBehind(List.of(1L, 2L));
+        boolean behindAgain = underTest.isAnyLoanBehind(List.of(1L));
+        Long lockedLoanId = underTest.findFirstHardLockedLoanId(List.of(1L));
+
+        // then
+        assertTrue(behind);
+        assertFalse(behindAgain);
+        assertNull(lockedLoanId);
+        verify(retrieveLoanIdService, times(1)).retrieveLoanIdsBehindOrUpToDate(any(), anyList());
+        verify(loanAccountLockService, never()).findHardLockedLoanIds(anyList());
+    }
+
+    @Test
+    void testLoansAreCheckedAgainWhenCobDateMovesOn() {
+        // given
+        List<LoanIdAndLastClosedBusinessDate> loans = List.of(loan(1L, COB_DATE));
+        when(retrieveLoanIdService.retrieveLoanIdsBehindOrUpToDate(any(), anyList())).thenReturn(loans);
+        underTest.isAnyLoanBehind(List.of(1L));
+        setCobDate(COB_DATE.plusDays(1));
+        when(loanAccountLockService.findHardLockedLoanIds(List.of(1L))).thenReturn(List.of(1L));
+
+        // when
+        boolean behind = underTest.isAnyLoanBehind(List.of(1L));
+        Long lockedLoanId = underTest.findFirstHardLockedLoanId(List.of(1L));
+
+        // then
+        assertTrue(behind);
+        assertEquals(1L, lockedLoanId);
+    }
+
+    @Test
+    void testEvictedLoanIsCheckedAgain() {
+        // given
+        List<LoanIdAndLastClosedBusinessDate> loans = List.of(loan(1L, COB_DATE));
+        when(retrieveLoanIdService.retrieveLoanIdsBehindOrUpToDate(COB_DATE, List.of(1L))).thenReturn(loans);
+        underTest.isAnyLoanBehind(List.of(1L));
+
+        // when
+        underTest.evict(1L);
+        underTest.isAnyLoanBehind(List.of(1L));
+
+        // then
+        verify(retrieveLoanIdService, times(2)).retrieveLoanIdsBehindOrUpToDate(COB_DATE, List.of(1L));
+    }
+
+    @Test
+    void testFirstHardLockedLoanIsReturnedInRequestOrder() {
+        // given
+        when(loanAccountLockService.findHardLockedLoanIds(List.of(3L, 4L, 5L))).thenReturn(List.of(5L, 4L));
+
+        // when
+        Long lockedLoanId = underTest.findFirstHardLockedLoanId(List.of(3L, 4L, 5L));
+
+        // then
+        assertEquals(4L, lockedLoanId);
+    }
+
+    private static void setCobDate(LocalDate cobDate) {
+        ThreadLocalContextUtil.setBusinessDates(
+                new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, cobDate.plusDays(1), BusinessDateType.COB_DATE, cobDate)));
+    }
+
+    private static LoanIdAndLastClosedBusinessDate loan(Long id, LocalDate lastClosedBusinessDate) {
+        LoanIdAndLastClosedBusinessDate loan = mock(LoanIdAndLastClosedBusinessDate.class);
+        when(loan.getId()).thenReturn(id);
+        when(loan.getLastClosedBusinessDate()).thenReturn(lastClosedBusinessDate);
+        return loan;
+    }
+}
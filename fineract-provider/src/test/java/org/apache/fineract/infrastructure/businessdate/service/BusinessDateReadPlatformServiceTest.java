@@ -24,13 +24,21 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.apache.fineract.infrastructure.businessdate.data.BusinessDateData;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDate;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateRepository;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.businessdate.exception.BusinessDateNotFoundException;
 import org.apache.fineract.infrastructure.businessdate.mapper.BusinessDateMapper;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractRequestContextCacheProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -53,6 +61,14 @@ public class BusinessDateReadPlatformServiceTest {
     @Mock
     private BusinessDateMapper mapper;
 
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
     @Test
     public void notFoundByTypeNonexistentType() {
         BusinessDateNotFoundException businessDateNotFoundException = assertThrows(BusinessDateNotFoundException.class,
@@ -93,4 +109,59 @@ public class BusinessDateReadPlatformServiceTest {
         verify(repository, times(1)).findByType(BusinessDateType.BUSINESS_DATE);
         verify(mapper, times(1)).map(result.get());
     }
+
+    @Test
+    public void businessDatesSnapshotIsReusedUntilEvicted() {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        BusinessDateReadPlatformServiceImpl underTest = new BusinessDateReadPlatformServiceImpl(repository, mapper,
+                configurationDomainService, snapshotProperties(true));
+        List<BusinessDate> storedDates = List.of(Mockito.mock(BusinessDate.class));
+        given(configurationDomainService.isBusinessDateEnabled()).willReturn(true);
+        given(repository.findAll()).willReturn(storedDates);
+        given(mapper.map(storedDates)).willReturn(List.of(businessDate(LocalDate.of(2024, 1, 1))),
+                List.of(businessDate(LocalDate.of(2024, 1, 2))));
+        // when
+        LocalDate first = underTest.getBusinessDatesSnapshot().get(BusinessDateType.BUSINESS_DATE);
+        LocalDate reused = underTest.getBusinessDatesSnapshot().get(BusinessDateType.BUSINESS_DATE);
+        underTest.evictBusinessDatesSnapshot();
+        LocalDate reloaded = underTest.getBusinessDatesSnapshot().get(BusinessDateType.BUSINESS_DATE);
+        // then
+        assertEquals(LocalDate.of(2024, 1, 1), first);
+        assertEquals(LocalDate.of(2024, 1, 1), reused);
+        assertEquals(LocalDate.of(2024, 1, 2), reloaded);
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    public void businessDatesSnapshotIsNotKeptWhenDisabled() {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        BusinessDateReadPlatformServiceImpl underTest = new BusinessDateReadPlatformServiceImpl(repository, mapper,
+                configurationDomainService, snapshotProperties(false));
+        List<BusinessDate> storedDates = List.of(Mockito.mock(BusinessDate.class));
+        given(configurationDomainService.isBusinessDateEnabled()).willReturn(true);
+        given(repository.findAll()).willReturn(storedDates);
+        given(mapper.map(storedDates)).willReturn(List.of(businessDate(LocalDate.of(2024, 1, 1))),
+                List.of(businessDate(LocalDate.of(2024, 1, 2))));
+        // when
+        LocalDate first = underTest.getBusinessDatesSnapshot().get(BusinessDateType.BUSINESS_DATE);
+        LocalDate second = underTest.getBusinessDatesSnapshot().get(BusinessDateType.BUSINESS_DATE);
+        // then
+        assertEquals(LocalDate.of(2024, 1, 1), first);
+        assertEquals(LocalDate.of(2024, 1, 2), second);
+    }
+
+    private FineractProperties snapshotProperties(boolean enabled) {
+        FineractRequestContextCacheProperties cacheProperties = new FineractRequestContextCacheProperties();
+        cacheProperties.setEnabled(enabled);
+        cacheProperties.setTimeToLiveSeconds(60);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setRequestContextCache(cacheProperties);
+        return fineractProperties;
+    }
+
+    private BusinessDateData businessDate(LocalDate date) {
+        return BusinessDateData.instance(BusinessDateType.BUSINESS_DATE, date);
+    }
 }
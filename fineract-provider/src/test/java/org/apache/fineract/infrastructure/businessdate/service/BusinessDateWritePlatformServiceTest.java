@@ -72,6 +72,9 @@ public class BusinessDateWritePlatformServiceTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
 
+    @Mock
+    private BusinessDateReadPlatformService businessDateReadPlatformService;
+
     @Captor
     private ArgumentCaptor<BusinessDate> businessDateArgumentCaptor;
 
@@ -175,6 +178,7 @@ public class BusinessDateWritePlatformServiceTest {
         verify(businessDateRepository, times(1)).save(businessDateArgumentCaptor.capture());
         assertEquals(LocalDate.of(2022, 6, 13), businessDateArgumentCaptor.getValue().getDate());
         assertEquals(BusinessDateType.BUSINESS_DATE, businessDateArgumentCaptor.getValue().getType());
+        verify(businessDateReadPlatformService, times(1)).evictBusinessDatesSnapshot();
     }
 
     @Test
@@ -192,6 +196,7 @@ public class BusinessDateWritePlatformServiceTest {
         verify(configurationDomainService, times(1)).isCOBDateAdjustmentEnabled();
         verify(businessDateRepository, times(1)).findByType(BusinessDateType.BUSINESS_DATE);
         verify(businessDateRepository, times(0)).save(businessDateArgumentCaptor.capture());
+        verify(businessDateReadPlatformService, times(0)).evictBusinessDatesSnapshot();
     }
 
     @Test
@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCampaignProperties;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CampaignReportRunnerTest {
+
+    private static final LocalDateTime TRIGGER_DATE = LocalDateTime.of(2024, 3, 15, 8, 0);
+
+    @Mock
+    private ReadReportingService readReportingService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CampaignReportRunner underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractCampaignProperties campaignProperties = new FineractCampaignProperties();
+        campaignProperties.setScheduledChunkSize(2);
+        campaignProperties.setScheduledFetchSize(100);
+        when(fineractProperties.getCampaign()).thenReturn(campaignProperties);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        underTest = new CampaignReportRunner(readReportingService, jdbcTemplate, fineractProperties, transactionManager);
+    }
+
+    @Test
+    void testRowsOfOneRecipientStayInOneChunk() {
+        // given
+        reportReturns(row(1), row(2), row(2), row(3), row(4));
+        List<List<Long>> chunks = new ArrayList<>();
+
+        // when
+        int rows = underTest.run("Active Clients", Map.of(), chunk -> chunks.add(recipientIds(chunk)));
+
+        // then
+        assertEquals(5, rows);
+        assertEquals(List.of(List.of(1L, 2L, 2L), List.of(3L, 4L)), chunks);
+        verify(readReportingService).retrieveResultSetForSmsEmailCampaign(eq("Active Clients"), eq("report"), anyMap(), eq(0L), eq(100),
+                any());
+    }
+
+    @Test
+    void testScheduledRunResumesAfterCheckpointOfSameTriggerDate() {
+        // given
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(CampaignReportRunner.SMS), eq(7L))).thenReturn(List.of(12L));
+        reportReturns(row(13), row(14), row(15));
+        List<List<Long>> chunks = new ArrayList<>();
+
+        // when
+        int rows = underTest.runScheduled(CampaignReportRunner.SMS, 7L, TRIGGER_DATE, "Active Clients", Map.of(),
+                chunk -> chunks.add(recipientIds(chunk)));
+
+        // then
+        assertEquals(3, rows);
+        assertEquals(List.of(List.of(13L, 14L), List.of(15L)), chunks);
+        verify(readReportingService).retrieveResultSetForSmsEmailCampaign(eq("Active Clients"), eq("report"), anyMap(), eq(12L), anyInt(),
+                any());
+        verify(jdbcTemplate).update(anyString(), eq(CampaignReportRunner.SMS), eq(7L), eq(TRIGGER_DATE), eq(14L));
+        verify(jdbcTemplate).update(anyString(), eq(CampaignReportRunner.SMS), eq(7L), eq(TRIGGER_DATE), eq(15L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @SafeVarargs
+    private void reportReturns(Map<String, Object>... rows) {
+        doAnswer(invocation -> {
+            Consumer<Map<String, Object>> consumer = invocation.getArgument(5);
+            for (Map<String, Object> row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(readReportingService).retrieveResultSetForSmsEmailCampaign(anyString(), anyString(), anyMap(), any(), anyInt(), any());
+    }
+
+    private static Map<String, Object> row(int id) {
+        return Map.of("id", id, "mobileNo", "555" + id);
+    }
+
+    private static List<Long> recipientIds(List<Map<String, Object>> chunk) {
+        return chunk.stream().map(CampaignReportRunner::recipientId).toList();
+    }
+}
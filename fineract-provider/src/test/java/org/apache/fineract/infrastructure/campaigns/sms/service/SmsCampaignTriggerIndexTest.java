@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.campaigns.sms.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.campaigns.sms.constants.SmsCampaignStatus;
+import org.apache.fineract.infrastructure.campaigns.sms.constants.SmsCampaignTriggerType;
+import org.apache.fineract.infrastructure.campaigns.sms.data.TriggeredSmsCampaign;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaign;
+import org.apache.fineract.infrastructure.campaigns.sms.domain.SmsCampaignRepository;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSmsCampaignProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSmsCampaignTriggerCacheProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SmsCampaignTriggerIndexTest {
+
+    @Mock
+    private SmsCampaignRepository smsCampaignRepository;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+
+    private SmsCampaignTriggerIndex underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractSmsCampaignTriggerCacheProperties triggerCache = new FineractSmsCampaignTriggerCacheProperties();
+        triggerCache.setEnabled(true);
+        triggerCache.setTimeToLiveSeconds(300);
+        FineractSmsCampaignProperties smsCampaign = new FineractSmsCampaignProperties();
+        smsCampaign.setTriggerCache(triggerCache);
+        fineractProperties.setSmsCampaign(smsCampaign);
+        underTest = new SmsCampaignTriggerIndex(smsCampaignRepository, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testCampaignsAreLoadedOnceAndIndexedByTrigger() {
+        // given
+        SmsCampaign repayment = campaign(1L, "{\"reportName\":\"Loan Repayment\",\"officeId\":\"1\"}", "Paid {{repaymentAmount}}");
+        SmsCampaign deposit = campaign(2L, "{\"reportName\":\"Savings Deposit\",\"officeId\":\"-1\"}", "Deposited");
+        when(smsCampaignRepository.findByTriggerTypeAndStatus(SmsCampaignTriggerType.TRIGGERED.getValue(),
+                SmsCampaignStatus.ACTIVE.getValue())).thenReturn(List.of(repayment, deposit));
+
+        // when
+        List<TriggeredSmsCampaign> repaymentCampaigns = underTest.getCampaigns("Loan Repayment");
+        List<TriggeredSmsCampaign> depositCampaigns = underTest.getCampaigns("Savings Deposit");
+        List<TriggeredSmsCampaign> withdrawalCampaigns = underTest.getCampaigns("Savings Withdrawal");
+
+        // then
+        assertEquals(1, repaymentCampaigns.size());
+        TriggeredSmsCampaign campaign = repaymentCampaigns.get(0);
+        assertEquals(1L, campaign.getCampaignId());
+        assertEquals("1", campaign.getParams().get("officeId"));
+        assertEquals("Paid 10", campaign.render(Map.of("repaymentAmount", 10)));
+        assertEquals(2L, depositCampaigns.get(0).getCampaignId());
+        assertTrue(withdrawalCampaigns.isEmpty());
+        verify(smsCampaignRepository, times(1)).findByTriggerTypeAndStatus(anyInt(), anyInt());
+    }
+
+    @Test
+    void testEvictReloadsCampaigns() {
+        // given
+        when(smsCampaignRepository.findByTriggerTypeAndStatus(anyInt(), anyInt())).thenReturn(List.of())
+                .thenReturn(List.of(campaign(3L, "{\"reportName\":\"Loan Repayment\"}", "Paid")));
+
+        // when
+        List<TriggeredSmsCampaign> before = underTest.getCampaigns("Loan Repayment");
+        underTest.evictAll();
+        List<TriggeredSmsCampaign> after = underTest.getCampaigns("Loan Repayment");
+
+        // then
+        assertTrue(before.isEmpty());
+        assertEquals(3L, after.get(0).getCampaignId());
+    }
+
+    @Test
+    void testCampaignWithInvalidParamsIsSkipped() {
+        // given
+        when(smsCampaignRepository.findByTriggerTypeAndStatus(anyInt(), anyInt()))
+                .thenReturn(List.of(campaign(4L, "Loan Repayment", "Paid"), campaign(5L, "{\"reportName\":\"Loan Repayment\"}", "Paid")));
+
+        // when
+        List<TriggeredSmsCampaign> campaigns = underTest.getCampaigns("Loan Repayment");
+
+        // then
+        assertEquals(1, campaigns.size());
+        assertEquals(5L, campaigns.get(0).getCampaignId());
+    }
+
+    @Test
+    void testDisabledIndexQueriesRepository() {
+        // given
+        fineractProperties.getSmsCampaign().getTriggerCache().setEnabled(false);
+        when(smsCampaignRepository.findActiveSmsCampaigns("%Loan Repayment%", SmsCampaignTriggerType.TRIGGERED.getValue()))
+                .thenReturn(List.of(campaign(6L, "{\"reportName\":\"Loan Repayment\"}", "Paid")));
+
+        // when
+        List<TriggeredSmsCampaign> campaigns = underTest.getCampaigns("Loan Repayment");
+
+        // then
+        assertEquals(6L, campaigns.get(0).getCampaignId());
+        verify(smsCampaignRepository, never()).findByTriggerTypeAndStatus(anyInt(), anyInt());
+        verify(smsCampaignRepository, times(1)).findActiveSmsCampaigns(anyString(), anyInt());
+    }
+
+    private SmsCampaign campaign(Long id, String paramValue, String message) {
+        SmsCampaign campaign = mock(SmsCampaign.class);
+        when(campaign.getId()).thenReturn(id);
+        when(campaign.getCampaignName()).thenReturn("campaign " + id);
+        when(campaign.getParamValue()).thenReturn(paramValue);
+        when(campaign.getMessage()).thenReturn(message);
+        return campaign;
+    }
+}
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -30,16 +31,24 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import io.cucumber.java8.En;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.sql.DataSource;
+import liquibase.Scope;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.migration.ExtendedSpringLiquibase;
 import org.apache.fineract.infrastructure.core.service.migration.ExtendedSpringLiquibaseFactory;
 import org.apache.fineract.infrastructure.core.service.migration.SchemaUpgradeNeededException;
+import org.apache.fineract.infrastructure.core.service.migration.TenantChangelogFingerprintCalculator;
 import org.apache.fineract.infrastructure.core.service.migration.TenantDataSourceFactory;
 import org.apache.fineract.infrastructure.core.service.migration.TenantDatabaseStateVerifier;
 import org.apache.fineract.infrastructure.core.service.migration.TenantDatabaseUpgradeService;
 import org.apache.fineract.infrastructure.core.service.migration.TenantPasswordEncryptionTask;
+import org.apache.fineract.infrastructure.core.service.migration.TenantSchemaFingerprintRepository;
 import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -65,6 +74,8 @@ public class LiquibaseStepDefinitions implements En {
     private SchemaUpgradeNeededException executionException;
     private DataSource defaultTenantDataSource;
     private Environment environment;
+    private TenantChangelogFingerprintCalculator changelogFingerprintCalculator;
+    private TenantSchemaFingerprintRepository schemaFingerprintRepository;
 
     public LiquibaseStepDefinitions() {
         Given("Liquibase is disabled with a default tenant", () -> {
@@ -95,6 +106,33 @@ public class LiquibaseStepDefinitions implements En {
             given(databaseStateVerifier.isFlywayPresent(defaultTenantDataSource)).willReturn(true);
             given(databaseStateVerifier.isTenantOnLatestUpgradableVersion(defaultTenantDataSource)).willReturn(false);
         });
+        Given("The default tenant was upgraded with the current changelogs", () -> {
+            fineractProperties.getTenant().getUpgrade().setSkipIfCurrent(true);
+            given(changelogFingerprintCalculator.calculate()).willReturn("current");
+            given(changelogFingerprintCalculator.calculate("current", defaultTenant, defaultTenantDataSource))
+                    .willReturn("current-default");
+            given(schemaFingerprintRepository.findFingerprint("defaultTenant")).willReturn(Optional.of("current-default"));
+        });
+        Given("The default tenant was upgraded with older changelogs", () -> {
+            fineractProperties.getTenant().getUpgrade().setSkipIfCurrent(true);
+            given(changelogFingerprintCalculator.calculate()).willReturn("current");
+            given(changelogFingerprintCalculator.calculate("current", defaultTenant, defaultTenantDataSource))
+                    .willReturn("current-default");
+            given(schemaFingerprintRepository.findFingerprint("defaultTenant")).willReturn(Optional.of("older"));
+        });
+        Given("A tenant failing the upgrade is upgraded in parallel with the default tenant", () -> {
+            FineractPlatformTenant failingTenant = mock(FineractPlatformTenant.class);
+            given(failingTenant.getTenantIdentifier()).willReturn("failingTenant");
+            DataSource failingTenantDataSource = mock(DataSource.class);
+            given(tenantDataSourceFactory.create(failingTenant)).willReturn(failingTenantDataSource);
+            given(databaseStateVerifier.isFirstLiquibaseMigration(failingTenantDataSource)).willReturn(true);
+            given(databaseStateVerifier.isFlywayPresent(failingTenantDataSource)).willReturn(true);
+            given(databaseStateVerifier.isTenantOnLatestUpgradableVersion(failingTenantDataSource)).willReturn(false);
+            given(liquibaseFactory.create(failingTenantDataSource, "tenant_db", "initial_switch", "failingTenant"))
+                    .willReturn(mock(ExtendedSpringLiquibase.class));
+            given(tenantDetailsService.findAllTenants()).willReturn(List.of(failingTenant, defaultTenant));
+            fineractProperties.getTenant().getUpgrade().setParallelism(2);
+        });
 
         When("The database migration process is executed", () -> {
             try {
@@ -141,6 +179,40 @@ public class LiquibaseStepDefinitions implements En {
             verify(tenantLiquibase).afterPropertiesSet();
         });
 
+        Then("The tenant store gets upgraded and the default tenant is skipped", () -> {
+            verify(tenantStoreLiquibase).afterPropertiesSet();
+            verifyNoInteractions(initialTenantLiquibase, tenantLiquibase, customChangeLogLiquibase);
+            verify(schemaFingerprintRepository, never()).saveFingerprint(anyString(), anyString());
+        });
+
+        Then("The tenant store and the default tenant gets upgraded and the fingerprint is stored", () -> {
+            verify(tenantStoreLiquibase).afterPropertiesSet();
+            verify(tenantLiquibase).afterPropertiesSet();
+            verify(customChangeLogLiquibase).afterPropertiesSet();
+            verify(schemaFingerprintRepository).saveFingerprint("defaultTenant", "current-default");
+        });
+
+        Then("The default tenant gets upgraded and the failure of the other tenant is rethrown", () -> {
+            assertThat(executionException).isNotNull();
+            verify(tenantStoreLiquibase).afterPropertiesSet();
+            verify(tenantLiquibase).afterPropertiesSet();
+            verify(customChangeLogLiquibase).afterPropertiesSet();
+        });
+
+        Then("Liquibase scopes are kept per thread", () -> {
+            ExecutorService reader = Executors.newSingleThreadExecutor();
+            try {
+                // the reader thread is started before the scope is entered, so it cannot inherit the scope
+                reader.submit(() -> {}).get();
+                AtomicReference<String> valueSeenByAnotherThread = new AtomicReference<>("unset");
+                Scope.child(Map.<String, Object>of("tenantUpgradeProbe", "set"), () -> reader
+                        .submit(() -> valueSeenByAnotherThread.set(Scope.getCurrentScope().get("tenantUpgradeProbe", String.class))).get());
+                assertThat(valueSeenByAnotherThread.get()).isNull();
+            } finally {
+                reader.shutdownNow();
+            }
+        });
+
         Then("The tenant store and the default tenant gets synced and then upgraded", () -> {
             verify(initialTenantStoreLiquibase).changeLogSync();
             verify(tenantStoreLiquibase).afterPropertiesSet();
@@ -154,6 +226,9 @@ public class LiquibaseStepDefinitions implements En {
         tenantDetailsService = mock(TenantDetailsService.class);
         databaseStateVerifier = mock(TenantDatabaseStateVerifier.class);
         environment = new MockEnvironment();
+        changelogFingerprintCalculator = mock(TenantChangelogFingerprintCalculator.class);
+        schemaFingerprintRepository = mock(TenantSchemaFingerprintRepository.class);
+        fineractProperties.getTenant().setUpgrade(new FineractProperties.FineractTenantUpgradeProperties());
 
         liquibaseFactory = mock(ExtendedSpringLiquibaseFactory.class);
 
@@ -187,6 +262,7 @@ public class LiquibaseStepDefinitions implements En {
                 .willReturn(customChangeLogLiquibase);
 
         tenantDatabaseUpgradeService = new TenantDatabaseUpgradeService(tenantDetailsService, tenantStoreDataSource, fineractProperties,
-                databaseStateVerifier, liquibaseFactory, tenantDataSourceFactory, environment, Arrays.asList(tenantPasswordEncryptor));
+                databaseStateVerifier, liquibaseFactory, tenantDataSourceFactory, environment, changelogFingerprintCalculator,
+                schemaFingerprintRepository, Arrays.asList(tenantPasswordEncryptor));
     }
 }
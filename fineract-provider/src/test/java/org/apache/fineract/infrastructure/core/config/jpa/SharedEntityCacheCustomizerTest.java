@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.spi.PersistenceProvider;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractJpaSharedCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SharedEntityCacheCustomizerTest {
+
+    @Mock
+    private PersistenceProvider persistenceProvider;
+
+    private final FineractJpaSharedCacheProperties sharedCache = new FineractJpaSharedCacheProperties();
+
+    private SharedEntityCacheCustomizer underTest;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache.setEnabled(true);
+        FineractProperties.FineractJpaProperties jpa = new FineractProperties.FineractJpaProperties();
+        jpa.setSharedCache(sharedCache);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setJpa(jpa);
+        underTest = new SharedEntityCacheCustomizer(fineractProperties);
+    }
+
+    @Test
+    void testConfiguredEntitiesAreSharedWithinTenantSessions() {
+        // given
+        sharedCache.setEntities(List.of("Office", "CodeValue"));
+
+        // when
+        Map<String, Object> vendorProperties = underTest.additionalVendorProperties();
+        PersistenceProvider decorated = underTest.decoratePersistenceProvider(persistenceProvider);
+
+        // then
+        assertTrue(underTest.isActive());
+        assertEquals(Map.of("eclipselink.cache.shared.Office", "true", "eclipselink.cache.shared.CodeValue", "true"), vendorProperties);
+        assertInstanceOf(TenantSessionPersistenceProvider.class, decorated);
+    }
+
+    @Test
+    void testNothingIsSharedWithoutEntities() {
+        // given
+        sharedCache.setEntities(List.of());
+
+        // when
+        Map<String, Object> vendorProperties = underTest.additionalVendorProperties();
+        PersistenceProvider decorated = underTest.decoratePersistenceProvider(persistenceProvider);
+
+        // then
+        assertFalse(underTest.isActive());
+        assertTrue(vendorProperties.isEmpty());
+        assertSame(persistenceProvider, decorated);
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.sessions.IdentityMapAccessor;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SharedEntityCacheInvalidatorTest {
+
+    private static final FineractPlatformTenant TENANT = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SharedEntityCacheCustomizer sharedEntityCacheCustomizer;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private ClassDescriptor officeDescriptor;
+
+    @Mock
+    private IdentityMapAccessor identityMapAccessor;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rowsCaptor;
+
+    private SharedEntityCacheInvalidator underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new SharedEntityCacheInvalidator(entityManagerFactory, sharedEntityCacheCustomizer, new FineractProperties(),
+                jdbcTemplate, transactionManager);
+        when(session.getDescriptorForAlias("Office")).thenReturn(officeDescriptor);
+        when(session.getIdentityMapAccessor()).thenReturn(identityMapAccessor);
+        doReturn(String.class).when(officeDescriptor).getJavaClass();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testChangesArePublishedOnceAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.recordChange("Office", 1L);
+        underTest.recordChange("Office", 1L);
+        underTest.recordChange("Office", 2L);
+
+        // when
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rowsCaptor.capture());
+        List<Object[]> rows = rowsCaptor.getValue();
+        assertEquals(2, rows.size());
+        assertArrayEquals(new Object[] { "Office", 1L, underTest.getOrigin() }, Arrays.copyOf(rows.get(0), 3));
+        assertArrayEquals(new Object[] { "Office", 2L, underTest.getOrigin() }, Arrays.copyOf(rows.get(1), 3));
+        assertNull(TransactionSynchronizationManager.getResource(underTest));
+    }
+
+    @Test
+    void testChangesOfRolledBackTransactionsAreNotPublished() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.recordChange("Office", 1L);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        assertNull(TransactionSynchronizationManager.getResource(underTest));
+    }
+
+    @Test
+    void testChangesOfOtherNodesAreInvalidated() {
+        // given
+        List<Object[]> invalidations = new ArrayList<>();
+        invalidations.add(new Object[] { 11L, "Office", 1L, "other-node" });
+        invalidations.add(new Object[] { 12L, "Office", 2L, underTest.getOrigin() });
+        invalidations.add(new Object[] { 13L, "Unknown", 3L, "other-node" });
+        givenInvalidationsAfter(5L, invalidations);
+        SharedEntityCacheInvalidator.PollState state = new SharedEntityCacheInvalidator.PollState(TENANT, 5L, 10L,
+                System.currentTimeMillis());
+
+        // when
+        SharedEntityCacheInvalidator.PollState next = underTest.invalidateChangesOfOtherNodes(state, session);
+
+        // then
+        verify(identityMapAccessor, times(1)).invalidateObject(1L, String.class);
+        verify(identityMapAccessor, never()).invalidateObject(eq(2L), any(Class.class));
+        verify(identityMapAccessor, never()).invalidateObject(eq(3L), any(Class.class));
+        assertEquals(10L, next.readFromId());
+        assertEquals(13L, next.highestId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenInvalidationsAfter(long id, List<Object[]> invalidations) {
+        List<Object> mapped = new ArrayList<>();
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(id))).thenAnswer(invocation -> {
+            RowMapper<Object> rowMapper = invocation.getArgument(1);
+            for (Object[] invalidation : invalidations) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("id")).thenReturn((Long) invalidation[0]);
+                when(rs.getString("entity_name")).thenReturn((String) invalidation[1]);
+                when(rs.getLong("entity_id")).thenReturn((Long) invalidation[2]);
+                when(rs.getString("origin")).thenReturn((String) invalidation[3]);
+                mapped.add(rowMapper.mapRow(rs, mapped.size()));
+            }
+            return mapped;
+        });
+    }
+}
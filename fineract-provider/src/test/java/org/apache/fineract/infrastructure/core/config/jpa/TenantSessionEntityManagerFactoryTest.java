@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantSessionEntityManagerFactoryTest {
+
+    private final EntityManagerFactory defaultFactory = mock(EntityManagerFactory.class);
+    private final Map<String, EntityManagerFactory> tenantFactories = new HashMap<>();
+    private final List<String> builtTenants = new ArrayList<>();
+
+    private TenantSessionEntityManagerFactory underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new TenantSessionEntityManagerFactory(defaultFactory, tenantIdentifier -> {
+            builtTenants.add(tenantIdentifier);
+            return tenantFactories.get(tenantIdentifier);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testEachTenantUsesItsOwnFactory() {
+        // given
+        EntityManager defaultEntityManager = entityManagerOf(tenantFactory("default"));
+        EntityManager otherEntityManager = entityManagerOf(tenantFactory("other"));
+
+        // when
+        EntityManager first = createEntityManagerFor("default");
+        EntityManager other = createEntityManagerFor("other");
+        EntityManager second = createEntityManagerFor("default");
+
+        // then
+        assertSame(defaultEntityManager, first);
+        assertSame(otherEntityManager, other);
+        assertSame(defaultEntityManager, second);
+        assertEquals(List.of("default", "other"), builtTenants);
+        assertEquals(Set.of("default", "other"), underTest.getTenantIdentifiers());
+    }
+
+    @Test
+    void testWorkWithoutTenantUsesTheDefaultFactory() {
+        // given
+        EntityManager entityManager = entityManagerOf(defaultFactory);
+
+        // when
+        EntityManager result = underTest.createEntityManager();
+
+        // then
+        assertSame(entityManager, result);
+        assertEquals(List.of(), builtTenants);
+    }
+
+    @Test
+    void testSessionInitializersRunOncePerTenant() {
+        // given
+        EntityManagerFactory tenantFactory = tenantFactory("default");
+        Session session = mock(Session.class);
+        when(tenantFactory.unwrap(Session.class)).thenReturn(session);
+        Map<String, Session> initializedSessions = new HashMap<>();
+        underTest.addSessionInitializer(initializedSessions::put);
+
+        // when
+        createEntityManagerFor("default");
+        createEntityManagerFor("default");
+
+        // then
+        assertEquals(Map.of("default", session), initializedSessions);
+        assertSame(session, underTest.getSession("default"));
+        assertNull(underTest.getSession("other"));
+        verify(tenantFactory, times(2)).createEntityManager();
+    }
+
+    @Test
+    void testCloseClosesTheFactoriesOfAllTenants() {
+        // given
+        EntityManagerFactory tenantFactory = tenantFactory("default");
+        createEntityManagerFor("default");
+
+        // when
+        underTest.close();
+
+        // then
+        verify(tenantFactory, times(1)).close();
+        verify(defaultFactory, times(1)).close();
+        assertEquals(Set.of(), underTest.getTenantIdentifiers());
+    }
+
+    private EntityManagerFactory tenantFactory(String tenantIdentifier) {
+        EntityManagerFactory factory = mock(EntityManagerFactory.class);
+        tenantFactories.put(tenantIdentifier, factory);
+        return factory;
+    }
+
+    private EntityManager entityManagerOf(EntityManagerFactory factory) {
+        EntityManager entityManager = mock(EntityManager.class);
+        when(factory.createEntityManager()).thenReturn(entityManager);
+        return entityManager;
+    }
+
+    private EntityManager createEntityManagerFor(String tenantIdentifier) {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, tenantIdentifier, tenantIdentifier, "Asia/Kolkata", null));
+        try {
+            return underTest.createEntityManager();
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+}
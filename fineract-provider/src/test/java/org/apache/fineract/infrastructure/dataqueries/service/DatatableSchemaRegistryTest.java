@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DatatableSchemaRegistryTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, List<ResultsetColumnHeaderData>> loader = tableName -> {
+        loads.incrementAndGet();
+        return List.of(ResultsetColumnHeaderData.detailed("id", "bigint", 20L, false, true, emptyList(), null, true, true,
+                DatabaseType.POSTGRESQL));
+    };
+
+    private FineractProperties.FineractDatatableSchemaCacheProperties schemaCacheProperties;
+
+    private DatatableSchemaRegistry underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        schemaCacheProperties = new FineractProperties.FineractDatatableSchemaCacheProperties();
+        schemaCacheProperties.setEnabled(true);
+        schemaCacheProperties.setTimeToLiveSeconds(300);
+        FineractProperties.FineractDatatableProperties datatable = new FineractProperties.FineractDatatableProperties();
+        datatable.setSchemaCache(schemaCacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setDatatable(datatable);
+
+        underTest = new DatatableSchemaRegistry(fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testColumnHeadersAreLoadedOncePerTable() {
+        // when
+        underTest.getColumnHeaders("dt_client", loader);
+        List<ResultsetColumnHeaderData> columnHeaders = underTest.getColumnHeaders("dt_client", loader);
+        underTest.getColumnHeaders("dt_loan", loader);
+
+        // then
+        assertEquals(1, columnHeaders.size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testEvictedTableIsLoadedAgain() {
+        // given
+        underTest.getColumnHeaders("dt_client", loader);
+        underTest.getColumnHeaders("dt_loan", loader);
+
+        // when
+        underTest.evict("dt_client");
+        underTest.getColumnHeaders("dt_client", loader);
+        underTest.getColumnHeaders("dt_loan", loader);
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testEvictAllReloadsEveryTable() {
+        // given
+        underTest.getColumnHeaders("dt_client", loader);
+        underTest.getColumnHeaders("dt_loan", loader);
+
+        // when
+        underTest.evictAll();
+        underTest.getColumnHeaders("dt_client", loader);
+        underTest.getColumnHeaders("dt_loan", loader);
+
+        // then
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testTablesAreCachedPerTenant() {
+        // given
+        underTest.getColumnHeaders("dt_client", loader);
+
+        // when
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        underTest.getColumnHeaders("dt_client", loader);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testMissingTableIsNotRemembered() {
+        // given
+        Function<String, List<ResultsetColumnHeaderData>> missing = tableName -> {
+            loads.incrementAndGet();
+            throw new DatatableNotFoundException(tableName);
+        };
+
+        // when
+        assertThrows(DatatableNotFoundException.class, () -> underTest.getColumnHeaders("dt_missing", missing));
+        assertThrows(DatatableNotFoundException.class, () -> underTest.getColumnHeaders("dt_missing", missing));
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testDisabledRegistryAlwaysLoads() {
+        // given
+        schemaCacheProperties.setEnabled(false);
+
+        // when
+        underTest.getColumnHeaders("dt_client", loader);
+        underTest.getColumnHeaders("dt_client", loader);
+
+        // then
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.io.ByteSource;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.fineract.infrastructure.documentmanagement.data.FileData;
+import org.junit.jupiter.api.Test;
+
+class ContentResourcesTest {
+
+    private final FileData fileData = new FileData(ByteSource.wrap("0123456789".getBytes(StandardCharsets.UTF_8)), "file.txt",
+            "text/plain", () -> "documents/file.txt:1");
+
+    @Test
+    void testFullContentIsStreamedWithETag() throws IOException {
+        // when
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", null, null);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", body(response));
+        assertEquals("bytes", response.getHeaderString("Accept-Ranges"));
+        assertEquals(ContentResources.eTag(fileData, ""), response.getHeaderString("ETag"));
+    }
+
+    @Test
+    void testSingleRangeIsAnsweredWithPartialContent() throws IOException {
+        // when
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", "bytes=2-4", null);
+        Response suffix = ContentResources.fileDataToResponse(fileData, "attachment", "bytes=-3", null);
+
+        // then
+        assertEquals(206, response.getStatus());
+        assertEquals("234", body(response));
+        assertEquals("bytes 2-4/10", response.getHeaderString("Content-Range"));
+        assertEquals("3", response.getHeaderString("Content-Length"));
+        assertEquals("789", body(suffix));
+    }
+
+    @Test
+    void testUnsatisfiableRangeIsRejected() {
+        // when
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", "bytes=10-", null);
+
+        // then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeaderString("Content-Range"));
+    }
+
+    @Test
+    void testMultipleRangesAreIgnored() throws IOException {
+        // when
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", "bytes=0-1,4-5", null);
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", body(response));
+    }
+
+    @Test
+    void testMatchingETagIsNotModified() {
+        // given
+        String eTag = ContentResources.eTag(fileData, "");
+
+        // when
+        Response response = ContentResources.fileDataToResponse(fileData, "attachment", null, "\"other\", " + eTag);
+
+        // then
+        assertEquals(304, response.getStatus());
+        assertNull(response.getEntity());
+    }
+
+    @Test
+    void testNoETagWithoutVersion() {
+        // given
+        FileData unversioned = new FileData(ByteSource.wrap(new byte[] { 1 }), "file.bin", "application/octet-stream");
+
+        // when
+        Response response = ContentResources.fileDataToResponse(unversioned, "attachment", null, "*");
+
+        // then
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeaderString("ETag"));
+    }
+
+    @Test
+    void testUnreadableContentIsNotFound() {
+        // given
+        FileData missing = new FileData(ByteSource.empty(), "missing.txt", "text/plain", () -> "documents/missing.txt:0", () -> false);
+
+        // when
+        Response response = ContentResources.fileDataToResponse(missing, "attachment", null, "*");
+
+        // then
+        assertEquals(404, response.getStatus());
+        assertNull(response.getEntity());
+    }
+
+    private static String body(Response response) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.documentmanagement.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.io.ByteSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentImageRenditionCacheProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractContentProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImageRenditionCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private ImageResizer imageResizer;
+
+    private ImageRenditionCache imageRenditionCache;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        FineractContentImageRenditionCacheProperties renditionCacheProperties = new FineractContentImageRenditionCacheProperties();
+        renditionCacheProperties.setEnabled(true);
+        renditionCacheProperties.setDirectory(directory.toString());
+        renditionCacheProperties.setMaxAgeHours(168);
+        FineractContentProperties contentProperties = new FineractContentProperties();
+        contentProperties.setImageRenditionCache(renditionCacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setContent(contentProperties);
+        imageRenditionCache = new ImageRenditionCache(imageResizer, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testRenditionIsKeyedByTenantVersionAndSize() throws IOException {
+        // given
+        resizerReturnsSize();
+
+        // when
+        FileData first = imageRenditionCache.resize(image("v1"), 100, 50);
+        FileData again = imageRenditionCache.resize(image("v1"), 100, 50);
+        FileData otherSize = imageRenditionCache.resize(image("v1"), 200, 50);
+        FileData otherVersion = imageRenditionCache.resize(image("v2"), 100, 50);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        FileData otherTenant = imageRenditionCache.resize(image("v1"), 100, 50);
+
+        // then
+        assertEquals(first.version(), again.version());
+        assertEquals("100x50", first.getByteSource().asCharSource(StandardCharsets.UTF_8).read());
+        assertEquals("200x50", otherSize.getByteSource().asCharSource(StandardCharsets.UTF_8).read());
+        assertNotEquals(first.version(), otherSize.version());
+        assertNotEquals(first.version(), otherVersion.version());
+        assertNotEquals(first.version(), otherTenant.version());
+        assertEquals(4, renditionCount());
+        verify(imageResizer, times(4)).resize(any(), any(), any());
+    }
+
+    @Test
+    void testReadingARenditionTouchesIt() throws IOException {
+        // given
+        resizerReturnsSize();
+        FileData stored = imageRenditionCache.resize(image("v1"), 100, 50);
+        Path rendition = directory.resolve(stored.version());
+        Files.setLastModifiedTime(rendition, hoursAgo(100));
+
+        // when
+        FileData read = imageRenditionCache.resize(image("v1"), 100, 50);
+
+        // then
+        assertEquals(stored.version(), read.version());
+        assertTrue(Files.getLastModifiedTime(rendition).toMillis() > hoursAgo(1).toMillis());
+        verify(imageResizer, times(1)).resize(any(), any(), any());
+    }
+
+    @Test
+    void testStoringARenditionSweepsExpiredOnes() throws IOException {
+        // given
+        resizerReturnsSize();
+        Path expired = Files.writeString(directory.resolve("expired"), "old");
+        Files.setLastModifiedTime(expired, hoursAgo(169));
+        Path recent = Files.writeString(directory.resolve("recent"), "recent");
+        Files.setLastModifiedTime(recent, hoursAgo(167));
+
+        // when
+        FileData stored = imageRenditionCache.resize(image("v1"), 100, 50);
+
+        // then
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(directory.resolve(stored.version())));
+    }
+
+    @Test
+    void testImagesWithoutVersionAreResizedEveryTime() {
+        // given
+        resizerReturnsSize();
+        FileData unversioned = new FileData(ByteSource.wrap(new byte[] { 1 }), "image.png", "image/png");
+
+        // when
+        imageRenditionCache.resize(unversioned, 100, 50);
+        imageRenditionCache.resize(unversioned, 100, 50);
+
+        // then
+        verify(imageResizer, times(2)).resize(any(), any(), any());
+    }
+
+    private void resizerReturnsSize() {
+        when(imageResizer.resize(any(), any(), any())).thenAnswer(invocation -> new FileData(
+                ByteSource.wrap((invocation.getArgument(1) + "x" + invocation.getArgument(2)).getBytes(StandardCharsets.UTF_8)),
+                "image.png", "image/jpeg"));
+    }
+
+    private static FileData image(String version) {
+        return new FileData(ByteSource.wrap(new byte[] { 1 }), "image.png", "image/png", () -> version);
+    }
+
+    private long renditionCount() throws IOException {
+        try (Stream<Path> renditions = Files.list(directory)) {
+            return renditions.count();
+        }
+    }
+
+    private static FileTime hoursAgo(long hours) {
+        return FileTime.fromMillis(System.currentTimeMillis() - Duration.ofHours(hours).toMillis());
+    }
+}
@@ -53,6 +53,7 @@ import org.apache.fineract.infrastructure.event.external.service.idempotency.Ext
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSnapshotCache;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
 import org.apache.fineract.investor.enricher.LoanAccountDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanTransactionAdjustmentDataV1Enricher;
@@ -103,7 +104,7 @@ class ExternalEventServiceTest {
         DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(
                 Optional.of(List.of(loanAccountDataV1Enricher, loanTransactionAdjustmentDataV1Enricher, loanTransactionDataV1Enricher)));
         underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, byteBufferConverter,
-                bulkMessageItemFactory, dataEnricherProcessor);
+                bulkMessageItemFactory, dataEnricherProcessor, new BusinessEventSnapshotCache());
         underTest.setEntityManager(entityManager);
         FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
         ThreadLocalContextUtil.setTenant(tenant);
@@ -184,7 +185,7 @@ class ExternalEventServiceTest {
         BulkBusinessEvent bulkEvent = new BulkBusinessEvent(List.of(event));
         byte[] data = new byte[0];
 
-        given(bulkMessageItemFactory.createBulkMessageItem(1, event)).willReturn(messageItem);
+        given(bulkMessageItemFactory.createBulkMessageItems(List.of(event))).willReturn(List.of(messageItem));
         given(idempotencyKeyGenerator.generate(bulkEvent)).willReturn(idempotencyKey);
         given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
         // when
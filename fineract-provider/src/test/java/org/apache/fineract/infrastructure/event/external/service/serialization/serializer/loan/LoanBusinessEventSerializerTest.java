@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.serialization.serializer.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanBalanceChangedBusinessEvent;
+import org.apache.fineract.infrastructure.event.external.service.serialization.mapper.loan.LoanAccountDataMapper;
+import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSnapshotCache;
+import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanSummaryData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionType;
+import org.apache.fineract.portfolio.loanaccount.service.LoanChargeReadPlatformService;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanBusinessEventSerializerTest {
+
+    @Mock
+    private LoanReadPlatformService loanReadPlatformService;
+    @Mock
+    private LoanAccountDataMapper mapper;
+    @Mock
+    private LoanChargeReadPlatformService loanChargeReadPlatformService;
+    @Mock
+    private DelinquencyReadPlatformService delinquencyReadPlatformService;
+    @Mock
+    private LoanInstallmentLevelDelinquencyEventProducer installmentLevelDelinquencyEventProducer;
+
+    private final BusinessEventSnapshotCache snapshotCache = new BusinessEventSnapshotCache();
+
+    private LoanBusinessEventSerializer underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil
+                .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
+        underTest = new LoanBusinessEventSerializer(loanReadPlatformService, mapper, loanChargeReadPlatformService,
+                delinquencyReadPlatformService, installmentLevelDelinquencyEventProducer, snapshotCache);
+        when(mapper.map(any(LoanAccountData.class))).thenAnswer(invocation -> mock(LoanAccountDataV1.class, RETURNS_DEEP_STUBS));
+        when(installmentLevelDelinquencyEventProducer.calculateInstallmentLevelDelinquencyData(any(), any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotCache.close();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testSnapshotIsBuiltOncePerLoanWithinBulkSerialization() {
+        // given
+        Loan loan = loan();
+        LoanAccountData data = mock(LoanAccountData.class);
+        when(loanReadPlatformService.retrieveOne(1L)).thenReturn(data);
+        when(loanReadPlatformService.fetchRepaymentScheduleData(data)).thenReturn(data);
+
+        // when
+        snapshotCache.open();
+        underTest.toAvroDTO(new LoanBalanceChangedBusinessEvent(loan));
+        underTest.toAvroDTO(new LoanBalanceChangedBusinessEvent(loan));
+        snapshotCache.close();
+        underTest.toAvroDTO(new LoanBalanceChangedBusinessEvent(loan));
+
+        // then
+        verify(loanReadPlatformService, times(2)).retrieveOne(1L);
+        verify(delinquencyReadPlatformService, times(2)).calculateLoanCollectionData(1L);
+        verify(mapper, times(3)).map(data);
+    }
+
+    @Test
+    void testTransactionAmountsSummaryIsTakenFromLoadedLoan() {
+        // given
+        Loan loan = loan();
+        LoanTransaction repayment = mock(LoanTransaction.class);
+        when(repayment.getTypeOf()).thenReturn(LoanTransactionType.REPAYMENT);
+        when(repayment.isNotReversed()).thenReturn(true);
+        when(repayment.getAmount()).thenReturn(BigDecimal.TEN);
+        when(loan.getLoanTransactions(any())).thenReturn(List.of(repayment));
+        LoanAccountData data = mock(LoanAccountData.class);
+        when(data.getSummary()).thenReturn(LoanSummaryData.builder().build());
+        when(loanReadPlatformService.retrieveOne(1L)).thenReturn(data);
+        when(loanReadPlatformService.fetchRepaymentScheduleData(data)).thenReturn(data);
+
+        // when
+        underTest.toAvroDTO(new LoanBalanceChangedBusinessEvent(loan));
+
+        // then
+        ArgumentCaptor<LoanSummaryData> summary = ArgumentCaptor.forClass(LoanSummaryData.class);
+        verify(data).setSummary(summary.capture());
+        assertEquals(0, BigDecimal.TEN.compareTo(summary.getValue().getTotalRepaymentTransaction()));
+        verify(loanReadPlatformService, never()).retrieveLoanTransactions(anyLong());
+    }
+
+    private Loan loan() {
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(1L);
+        return loan;
+    }
+}
@@ -21,12 +21,12 @@ package org.apache.fineract.infrastructure.jobs.filter;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
-import org.apache.fineract.cob.service.LoanAccountLockService;
-import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.cob.service.LoanCOBStateCache;
 import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.infrastructure.jobs.exception.LoanIdsHardLockedException;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.portfolio.loanaccount.domain.GLIMAccountInfoRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
@@ -39,6 +39,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 @ExtendWith(MockitoExtension.class)
 public class LoanCOBFilterHelperTest {
@@ -46,17 +47,13 @@ public class LoanCOBFilterHelperTest {
     @Mock
     private GLIMAccountInfoRepository glimAccountInfoRepository;
     @Mock
-    private LoanAccountLockService loanAccountLockService;
-    @Mock
     private PlatformSecurityContext context;
     @Mock
     private InlineLoanCOBExecutorServiceImpl inlineLoanCOBExecutorService;
     @Mock
     private LoanRepository loanRepository;
     @Mock
-    private FineractProperties fineractProperties;
-    @Mock
-    private RetrieveLoanIdService retrieveLoanIdService;
+    private LoanCOBStateCache loanCOBStateCache;
 
     @Mock
     private LoanRescheduleRequestRepository loanRescheduleRequestRepository;
@@ -125,4 +122,47 @@ public class LoanCOBFilterHelperTest {
         Assertions.assertEquals(0, loanIds.size());
     }
 
+    @Test
+    public void testBatchBodyIsParsedOnce() throws IOException {
+        String json = """
+                [
+                    {
+                        "requestId": 1,
+                        "relativeUrl": "loans/5/transactions?command=repayment",
+                        "method": "POST",
+                        "body": "{\\"transactionAmount\\": 10}"
+                    },
+                    {
+                        "requestId": 2,
+                        "relativeUrl": "loans/6/charges",
+                        "method": "POST",
+                        "body": "{\\"loanId\\": 7}"
+                    }
+                ]
+                """;
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/batches");
+        request.setPathInfo("/v1/batches");
+        request.setContent(json.getBytes(StandardCharsets.UTF_8));
+
+        Assertions.assertTrue(helper.isOnApiList(request));
+        request.setContent(new byte[0]);
+        List<Long> loanIds = helper.calculateRelevantLoanIds(request);
+
+        Assertions.assertEquals(List.of(5L, 6L, 7L), loanIds);
+        Mockito.verify(loanCOBStateCache).findFirstHardLockedLoanId(List.of(5L, 6L, 7L));
+    }
+
+    @Test
+    public void testHardLockedLoanIsRejected() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/loans/5/transactions");
+        request.setPathInfo("/v1/loans/5/transactions");
+        Mockito.when(loanCOBStateCache.findFirstHardLockedLoanId(List.of(5L))).thenReturn(5L);
+
+        LoanIdsHardLockedException exception = Assertions.assertThrows(LoanIdsHardLockedException.class,
+                () -> helper.calculateRelevantLoanIds(request));
+
+        Assertions.assertEquals(5L, exception.getLoanIdFromRequest());
+    }
+
 }
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.security.exception.InvalidTenantIdentifierException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class BasicAuthTenantDetailsServiceJdbcTest {
+
+    private FineractProperties.FineractRequestContextCacheProperties cacheProperties;
+    private MockedConstruction<JdbcTemplate> jdbcTemplates;
+    private JdbcTemplate jdbcTemplate;
+
+    private BasicAuthTenantDetailsServiceJdbc underTest;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new FineractProperties.FineractRequestContextCacheProperties();
+        cacheProperties.setEnabled(true);
+        cacheProperties.setTimeToLiveSeconds(10);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setRequestContextCache(cacheProperties);
+
+        jdbcTemplates = mockConstruction(JdbcTemplate.class, (template, context) -> {
+            when(template.queryForObject(anyString(), any(RowMapper.class), eq("default")))
+                    .thenAnswer(invocation -> new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+            when(template.queryForObject(anyString(), any(RowMapper.class), eq("unknown")))
+                    .thenThrow(new EmptyResultDataAccessException(1));
+        });
+        underTest = new BasicAuthTenantDetailsServiceJdbc(mock(DataSource.class), fineractProperties);
+        jdbcTemplate = jdbcTemplates.constructed().get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplates.close();
+    }
+
+    @Test
+    void testTenantIsLoadedOnceWithinTimeToLive() {
+        // when
+        FineractPlatformTenant first = underTest.loadTenantById("default", false);
+        FineractPlatformTenant second = underTest.loadTenantById("default", false);
+
+        // then
+        assertSame(first, second);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(RowMapper.class), eq("default"));
+    }
+
+    @Test
+    void testReportTenantIsKeptSeparately() {
+        // when
+        FineractPlatformTenant tenant = underTest.loadTenantById("default", false);
+        FineractPlatformTenant reportTenant = underTest.loadTenantById("default", true);
+        underTest.loadTenantById("default", true);
+
+        // then
+        assertNotSame(tenant, reportTenant);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), eq("default"));
+    }
+
+    @Test
+    void testTenantIsLoadedAgainAfterTimeToLive() {
+        // given
+        cacheProperties.setTimeToLiveSeconds(0);
+
+        // when
+        FineractPlatformTenant first = underTest.loadTenantById("default", false);
+        FineractPlatformTenant second = underTest.loadTenantById("default", false);
+
+        // then
+        assertNotSame(first, second);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), eq("default"));
+    }
+
+    @Test
+    void testUnknownTenantIsNotRemembered() {
+        // when
+        assertThrows(InvalidTenantIdentifierException.class, () -> underTest.loadTenantById("unknown", false));
+        assertThrows(InvalidTenantIdentifierException.class, () -> underTest.loadTenantById("unknown", false));
+
+        // then
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), eq("unknown"));
+    }
+
+    @Test
+    void testEveryLookupQueriesWhenDisabled() {
+        // given
+        cacheProperties.setEnabled(false);
+
+        // when
+        underTest.loadTenantById("default", false);
+        FineractPlatformTenant tenant = underTest.loadTenantById("default", false);
+
+        // then
+        assertEquals("default", tenant.getTenantIdentifier());
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), eq("default"));
+    }
+}
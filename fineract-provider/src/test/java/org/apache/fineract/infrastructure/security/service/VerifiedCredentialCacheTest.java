@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.cache.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class VerifiedCredentialCacheTest {
+
+    private FineractProperties.FineractSecurityBasicAuthCredentialCache credentialCacheProperties;
+
+    private VerifiedCredentialCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        credentialCacheProperties = new FineractProperties.FineractSecurityBasicAuthCredentialCache();
+        credentialCacheProperties.setEnabled(true);
+        credentialCacheProperties.setTimeToLiveSeconds(300);
+        FineractProperties.FineractSecurityBasicAuth basicAuth = new FineractProperties.FineractSecurityBasicAuth();
+        basicAuth.setCredentialCache(credentialCacheProperties);
+        FineractProperties.FineractSecurityProperties security = new FineractProperties.FineractSecurityProperties();
+        security.setBasicauth(basicAuth);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSecurity(security);
+
+        underTest = new VerifiedCredentialCache(fineractProperties,
+                new ConcurrentMapCacheManager(CacheConfig.VERIFIED_CREDENTIALS_CACHE_NAME));
+    }
+
+    @Test
+    public void testVerifiedCredentialIsRemembered() {
+        // given
+        underTest.markVerified("default", "mifos", "password", "{bcrypt}hash");
+
+        // then
+        assertTrue(underTest.isVerified("default", "mifos", "password", "{bcrypt}hash"));
+    }
+
+    @Test
+    public void testDifferentPasswordTenantOrStoredHashIsNotVerified() {
+        // given
+        underTest.markVerified("default", "mifos", "password", "{bcrypt}hash");
+
+        // then
+        assertFalse(underTest.isVerified("default", "mifos", "wrong", "{bcrypt}hash"));
+        assertFalse(underTest.isVerified("other", "mifos", "password", "{bcrypt}hash"));
+        assertFalse(underTest.isVerified("default", "mifos", "password", "{bcrypt}changedHash"));
+    }
+
+    @Test
+    public void testNothingIsRememberedWhenDisabled() {
+        // given
+        credentialCacheProperties.setEnabled(false);
+        underTest.markVerified("default", "mifos", "password", "{bcrypt}hash");
+        credentialCacheProperties.setEnabled(true);
+
+        // then
+        assertFalse(underTest.isVerified("default", "mifos", "password", "{bcrypt}hash"));
+    }
+}
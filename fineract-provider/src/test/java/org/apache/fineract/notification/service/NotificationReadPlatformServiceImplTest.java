@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractNotificationProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.UserNotificationSystemProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.PaginationHelper;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
+import org.apache.fineract.notification.data.NotificationMapperData;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class NotificationReadPlatformServiceImplTest {
+
+    private static final Long APP_USER_ID = 1L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformSecurityContext context;
+
+    @Mock
+    private ColumnValidator columnValidator;
+
+    @Mock
+    private PaginationHelper paginationHelper;
+
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @Mock
+    private AppUser appUser;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        given(context.authenticatedUser()).willReturn(appUser);
+        given(appUser.getId()).willReturn(APP_USER_ID);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void unreadFlagIsReusedWithinTimeToLive() {
+        // given
+        NotificationReadPlatformServiceImpl underTest = service(60);
+        givenUnreadNotifications(List.of(new NotificationMapperData()), List.of());
+        // when
+        boolean first = underTest.hasUnreadNotifications(APP_USER_ID);
+        boolean second = underTest.hasUnreadNotifications(APP_USER_ID);
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        verifyUnreadNotificationsQueried(1);
+    }
+
+    @Test
+    public void unreadFlagIsQueriedEveryTimeWithoutTimeToLive() {
+        // given
+        NotificationReadPlatformServiceImpl underTest = service(0);
+        givenUnreadNotifications(List.of(new NotificationMapperData()), List.of());
+        // when
+        boolean first = underTest.hasUnreadNotifications(APP_USER_ID);
+        boolean second = underTest.hasUnreadNotifications(APP_USER_ID);
+        // then
+        assertTrue(first);
+        assertFalse(second);
+        verifyUnreadNotificationsQueried(2);
+    }
+
+    @Test
+    public void unreadFlagIsEvictedWhenNotificationsAreRead() {
+        // given
+        NotificationReadPlatformServiceImpl underTest = service(60);
+        givenUnreadNotifications(List.of(new NotificationMapperData()), List.of());
+        // when
+        boolean beforeRead = underTest.hasUnreadNotifications(APP_USER_ID);
+        underTest.updateNotificationReadStatus();
+        boolean afterRead = underTest.hasUnreadNotifications(APP_USER_ID);
+        // then
+        assertTrue(beforeRead);
+        assertFalse(afterRead);
+        verifyUnreadNotificationsQueried(2);
+    }
+
+    private NotificationReadPlatformServiceImpl service(int unreadCacheTimeToLiveSeconds) {
+        UserNotificationSystemProperties userNotificationSystem = new UserNotificationSystemProperties();
+        userNotificationSystem.setEnabled(true);
+        userNotificationSystem.setUnreadCacheTimeToLiveSeconds(unreadCacheTimeToLiveSeconds);
+        FineractNotificationProperties notification = new FineractNotificationProperties();
+        notification.setUserNotificationSystem(userNotificationSystem);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setNotification(notification);
+        return new NotificationReadPlatformServiceImpl(jdbcTemplate, context, columnValidator, paginationHelper, sqlGenerator,
+                fineractProperties);
+    }
+
+    private void givenUnreadNotifications(List<NotificationMapperData> first, List<NotificationMapperData> next) {
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(APP_USER_ID))).willReturn(first, next);
+    }
+
+    private void verifyUnreadNotificationsQueried(int count) {
+        verify(jdbcTemplate, times(count)).query(anyString(), any(RowMapper.class), eq(APP_USER_ID));
+    }
+}
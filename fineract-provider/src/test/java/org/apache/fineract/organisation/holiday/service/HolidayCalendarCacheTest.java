@@ -0,0 +1,168 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepository;
+import org.apache.fineract.organisation.holiday.domain.HolidayStatusType;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HolidayCalendarCacheTest {
+
+    private static final Integer ACTIVE = HolidayStatusType.ACTIVE.getValue();
+
+    @Mock
+    private HolidayRepository holidayRepository;
+    @Mock
+    private WorkingDaysRepository workingDaysRepository;
+
+    private final Holiday easter = new Holiday().setName("Easter").setFromDate(LocalDate.of(2024, 3, 29))
+            .setToDate(LocalDate.of(2024, 4, 1)).setStatus(ACTIVE);
+
+    private FineractProperties.FineractHolidayCalendarCacheProperties calendarCacheProperties;
+
+    private HolidayCalendarCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        calendarCacheProperties = new FineractProperties.FineractHolidayCalendarCacheProperties();
+        calendarCacheProperties.setEnabled(true);
+        calendarCacheProperties.setTimeToLiveSeconds(300);
+        FineractProperties.FineractHolidayProperties holiday = new FineractProperties.FineractHolidayProperties();
+        holiday.setCalendarCache(calendarCacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setHoliday(holiday);
+
+        when(workingDaysRepository.findAll()).thenReturn(List.of(new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR",
+                RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false)));
+        when(holidayRepository.findByOfficeIdAndStatus(1L, ACTIVE)).thenReturn(List.of(easter));
+        when(holidayRepository.findByOfficeIdAndGreaterThanDate(1L, LocalDate.of(2024, 3, 1), ACTIVE)).thenReturn(List.of(easter));
+
+        underTest = new HolidayCalendarCache(holidayRepository, workingDaysRepository, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testCalendarIsLoadedOncePerOffice() {
+        // when
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+        boolean holiday = underTest.isHoliday(1L, LocalDate.of(2024, 3, 30));
+        boolean workingDay = underTest.isWorkingDay(LocalDate.of(2024, 4, 6));
+
+        // then
+        assertTrue(holiday);
+        assertFalse(workingDay);
+        verify(holidayRepository, times(1)).findByOfficeIdAndStatus(1L, ACTIVE);
+        verify(workingDaysRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testCalendarIsRestrictedToHolidaysFromTheDate() {
+        // when
+        HolidayCalendar before = underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+        HolidayCalendar after = underTest.getCalendar(1L, LocalDate.of(2024, 4, 2));
+
+        // then
+        assertEquals(1, before.getHolidays().size());
+        assertTrue(after.getHolidays().isEmpty());
+    }
+
+    @Test
+    void testCachedHolidaysAreDetachedSnapshots() {
+        // when
+        Holiday cached = underTest.getCalendar(1L, LocalDate.of(2024, 3, 1)).getHolidays().get(0);
+
+        // then
+        assertNotSame(easter, cached);
+        assertEquals(easter.getName(), cached.getName());
+        assertEquals(easter.getFromDate(), cached.getFromDate());
+        assertEquals(easter.getToDate(), cached.getToDate());
+    }
+
+    @Test
+    void testEvictAllReloadsTheCalendars() {
+        // given
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+
+        // when
+        underTest.evictAll();
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+
+        // then
+        verify(holidayRepository, times(2)).findByOfficeIdAndStatus(1L, ACTIVE);
+        verify(workingDaysRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testCalendarsAreCachedPerTenant() {
+        // given
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+
+        // when
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+
+        // then
+        verify(holidayRepository, times(2)).findByOfficeIdAndStatus(1L, ACTIVE);
+    }
+
+    @Test
+    void testDisabledCacheQueriesTheRepositories() {
+        // given
+        calendarCacheProperties.setEnabled(false);
+
+        // when
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+        underTest.getCalendar(1L, LocalDate.of(2024, 3, 1));
+
+        // then
+        verify(holidayRepository, times(2)).findByOfficeIdAndGreaterThanDate(1L, LocalDate.of(2024, 3, 1), ACTIVE);
+        verify(workingDaysRepository, times(2)).findAll();
+    }
+}
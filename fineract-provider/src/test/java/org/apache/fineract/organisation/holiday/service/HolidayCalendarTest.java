@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.holiday.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HolidayCalendarTest {
+
+    private static final String WEEKDAYS = "FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR";
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testWorkingDaysMatchWorkingDaysUtil() {
+        // given
+        WorkingDays workingDays = workingDays(RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY);
+        HolidayCalendar calendar = new HolidayCalendar(List.of(), workingDays);
+
+        // then
+        for (int i = 0; i < 14; i++) {
+            LocalDate date = LocalDate.of(2024, 3, 1).plusDays(i);
+            assertEquals(WorkingDaysUtil.isWorkingDay(workingDays, date), calendar.isWorkingDay(date), date.toString());
+        }
+    }
+
+    @Test
+    void testApplicableHolidayAmongOverlappingHolidays() {
+        // given
+        Holiday easter = holiday(LocalDate.of(2024, 3, 29), LocalDate.of(2024, 4, 1));
+        Holiday spring = holiday(LocalDate.of(2024, 3, 20), LocalDate.of(2024, 4, 10));
+        Holiday newYear = holiday(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1));
+        HolidayCalendar calendar = new HolidayCalendar(List.of(easter, spring, newYear),
+                workingDays(RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY));
+
+        // then
+        assertSame(newYear, calendar.getApplicableHoliday(LocalDate.of(2024, 1, 1)));
+        assertSame(spring, calendar.getApplicableHoliday(LocalDate.of(2024, 3, 25)));
+        assertSame(easter, calendar.getApplicableHoliday(LocalDate.of(2024, 3, 30)));
+        assertSame(spring, calendar.getApplicableHoliday(LocalDate.of(2024, 4, 5)));
+        assertNull(calendar.getApplicableHoliday(LocalDate.of(2024, 4, 11)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2024, 1, 2)));
+    }
+
+    @Test
+    void testFromKeepsHolidaysEndingOnOrAfterDate() {
+        // given
+        Holiday past = holiday(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+        Holiday running = holiday(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 10));
+        Holiday future = holiday(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+        HolidayCalendar calendar = new HolidayCalendar(List.of(past, running, future),
+                workingDays(RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY));
+
+        // when
+        HolidayCalendar fromFebruary = calendar.from(LocalDate.of(2024, 2, 5));
+
+        // then
+        assertEquals(List.of(running, future), fromFebruary.getHolidays());
+        assertSame(calendar, calendar.from(LocalDate.of(2023, 12, 1)));
+        assertTrue(fromFebruary.isWorkingDay(LocalDate.of(2024, 2, 5)));
+    }
+
+    @Test
+    void testNextWorkingDaySkipsHolidaysAndWeekends() {
+        // given
+        Holiday holiday = holiday(LocalDate.of(2024, 3, 29), LocalDate.of(2024, 4, 1));
+        HolidayCalendar calendar = new HolidayCalendar(List.of(holiday), workingDays(RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY));
+
+        // then
+        assertEquals(LocalDate.of(2024, 4, 2), calendar.getNextWorkingDay(LocalDate.of(2024, 3, 29)));
+        assertEquals(LocalDate.of(2024, 4, 8), calendar.getNextWorkingDay(LocalDate.of(2024, 4, 6)));
+        assertEquals(LocalDate.of(2024, 4, 3), calendar.getNextWorkingDay(LocalDate.of(2024, 4, 3)));
+    }
+
+    @Test
+    void testOffSetDateMatchesWorkingDaysUtil() {
+        // given
+        LocalDate saturday = LocalDate.of(2024, 4, 6);
+        LocalDate nextMeetingDate = LocalDate.of(2024, 4, 13);
+
+        // then
+        for (RepaymentRescheduleType type : List.of(RepaymentRescheduleType.SAME_DAY, RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY,
+                RepaymentRescheduleType.MOVE_TO_NEXT_REPAYMENT_MEETING_DAY, RepaymentRescheduleType.MOVE_TO_PREVIOUS_WORKING_DAY)) {
+            WorkingDays workingDays = workingDays(type);
+            HolidayCalendar calendar = new HolidayCalendar(List.of(), workingDays);
+            assertEquals(WorkingDaysUtil.getOffSetDateIfNonWorkingDay(saturday, nextMeetingDate, workingDays),
+                    calendar.getOffSetDateIfNonWorkingDay(saturday, nextMeetingDate), type.name());
+        }
+    }
+
+    private WorkingDays workingDays(RepaymentRescheduleType type) {
+        return new WorkingDays(WEEKDAYS, type.getValue(), false, false);
+    }
+
+    private Holiday holiday(LocalDate fromDate, LocalDate toDate) {
+        return new Holiday().setFromDate(fromDate).setToDate(toDate);
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
 
@@ -1068,4 +1069,23 @@ public class DuePenFeeIntPriInAdvancePriPenFeeIntLoanRepaymentScheduleTransactio
         // Principal 2, interest 2, fee 2, penalty 4
         Mockito.verify(loanTransaction, Mockito.times(1)).updateComponents(refEq(two), refEq(two), refEq(two), refEq(four));
     }
+
+    @Test
+    public void repaymentDoesNotVisitInstallmentsAfterTheAmountIsAllocated() {
+        Mockito.when(charges.stream()).thenAnswer(invocation -> Stream.empty());
+        LoanRepaymentScheduleInstallment firstInstallment = Mockito
+                .spy(new LoanRepaymentScheduleInstallment(loan, 1, firstInstallmentToDate, firstInstallmentDueDate, BigDecimal.valueOf(10L),
+                        BigDecimal.valueOf(0L), BigDecimal.valueOf(0L), BigDecimal.valueOf(0L), false, null, BigDecimal.ZERO));
+        LoanRepaymentScheduleInstallment secondInstallment = Mockito.spy(new LoanRepaymentScheduleInstallment(loan, 2,
+                firstInstallmentDueDate, firstInstallmentDueDate.plusMonths(1), BigDecimal.valueOf(10L), BigDecimal.valueOf(0L),
+                BigDecimal.valueOf(0L), BigDecimal.valueOf(0L), false, null, BigDecimal.ZERO));
+        LoanTransaction loanTransaction = LoanTransaction.repayment(office, five, null, transactionDate, ExternalId.empty());
+
+        Money unprocessed = underTest.handleRepaymentSchedule(List.of(loanTransaction), MONETARY_CURRENCY,
+                List.of(firstInstallment, secondInstallment), charges);
+
+        assertTrue(unprocessed.isZero());
+        Mockito.verify(firstInstallment, Mockito.atLeastOnce()).payPrincipalComponent(eq(transactionDate), refEq(five));
+        Mockito.verify(secondInstallment, Mockito.never()).isNotFullyPaidOff();
+    }
 }
@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanArrearsAgeingUpdateHandlerTest {
+
+    private static final LocalDate OVERDUE_SINCE = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private LoanArrearsAgingService loanArrearsAgingService;
+
+    private LoanArrearsAgeingUpdateHandler underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new LoanArrearsAgeingUpdateHandler(jdbcTemplate, namedParameterJdbcTemplate, sqlGenerator, loanArrearsAgingService);
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(Long.class))).thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> new int[invocation.<List<?>>getArgument(1).size()]);
+    }
+
+    @Test
+    void testOnlyChangedAgeingIsWritten() throws SQLException {
+        // given
+        ResultSet unchanged = ageing(1L, "10.00", OVERDUE_SINCE);
+        ResultSet changed = ageing(2L, "20.00", OVERDUE_SINCE);
+        ResultSet added = ageing(3L, "30.00", OVERDUE_SINCE);
+        ResultSet storedUnchanged = ageing(1L, "10.000000", OVERDUE_SINCE);
+        ResultSet storedChanged = ageing(2L, "15.000000", OVERDUE_SINCE);
+        ResultSet storedRemoved = ageing(4L, "40.000000", OVERDUE_SINCE);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (ResultSet rs : List.of(unchanged, changed, added)) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(namedParameterJdbcTemplate).query(contains("FROM m_loan ml"), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (ResultSet rs : List.of(storedUnchanged, storedChanged, storedRemoved)) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(namedParameterJdbcTemplate).query(contains("from m_loan_arrears_aging"), any(SqlParameterSource.class),
+                any(RowCallbackHandler.class));
+
+        // when
+        underTest.updateLoanArrearsAgeingDetails(List.of(1L, 2L, 3L, 4L));
+
+        // then
+        assertEquals(List.of(3L), writtenLoanIds("INSERT"));
+        assertEquals(List.of(2L), writtenLoanIds("UPDATE"));
+        assertEquals(List.of(4L), writtenLoanIds("DELETE"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> writtenLoanIds(String statement) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(statement), captor.capture());
+        return captor.getValue().stream().map(parameters -> (Long) parameters[parameters.length - 1]).toList();
+    }
+
+    private ResultSet ageing(Long loanId, String principalOverdue, LocalDate overdueSince) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("loanId")).thenReturn(loanId);
+        when(rs.getBigDecimal("principalOverdue")).thenReturn(new BigDecimal(principalOverdue));
+        when(rs.getDate("overdueSinceDate")).thenReturn(Date.valueOf(overdueSince));
+        return rs;
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrency;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleAccrualData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanAccrualPlatformServiceImplTest {
+
+    private static final LocalDate TILL_DATE = LocalDate.of(2024, 3, 15);
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+
+    @Mock
+    private LoanReadPlatformService loanReadPlatformService;
+    @Mock
+    private LoanAccrualWritePlatformService loanAccrualWritePlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private ApplicationCurrencyRepositoryWrapper applicationCurrencyRepository;
+
+    private LoanAccrualPlatformServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new LoanAccrualPlatformServiceImpl(loanReadPlatformService, loanAccrualWritePlatformService, configurationDomainService,
+                applicationCurrencyRepository);
+        when(configurationDomainService.getAccrualDateConfigForCharge()).thenReturn("due-date");
+        when(applicationCurrencyRepository.findOneWithNotFoundDetection(CURRENCY))
+                .thenReturn(new ApplicationCurrency("USD", "US Dollar", 2, null, "currency.USD", "$"));
+    }
+
+    @Test
+    void testAccrualDataIsDerivedFromLoanWithoutQuery() throws Exception {
+        // given
+        LoanRepaymentScheduleInstallment due = installment(11L, 1, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15), "10.00", "0");
+        LoanRepaymentScheduleInstallment current = installment(12L, 2, LocalDate.of(2024, 2, 15), LocalDate.of(2024, 3, 20), "10.00",
+                "4.00");
+        LoanRepaymentScheduleInstallment future = installment(13L, 3, LocalDate.of(2024, 3, 20), LocalDate.of(2024, 4, 20), "10.00", "0");
+        LoanRepaymentScheduleInstallment accrued = installment(10L, 4, LocalDate.of(2023, 12, 15), LocalDate.of(2024, 1, 15), "10.00",
+                "10.00");
+        Loan loan = activeLoan(List.of(current, due, future, accrued));
+
+        // when
+        underTest.addPeriodicAccruals(TILL_DATE, loan);
+
+        // then
+        List<LoanScheduleAccrualData> accrualData = captureAccrualData();
+        assertEquals(2, accrualData.size());
+        LoanScheduleAccrualData first = accrualData.get(0);
+        assertEquals(11L, first.getRepaymentScheduleId());
+        assertEquals(1L, first.getLoanId());
+        assertEquals(2L, first.getOfficeId());
+        assertEquals(3L, first.getLoanProductId());
+        assertEquals(PeriodFrequencyType.MONTHS, first.getRepaymentFrequency());
+        assertEquals(0, new BigDecimal("10.00").compareTo(first.getInterestIncome()));
+        assertNull(first.getAccruedInterestIncome());
+        assertNull(first.getFeeIncome());
+        assertEquals("US Dollar", first.getCurrencyData().getName());
+        assertEquals(12L, accrualData.get(1).getRepaymentScheduleId());
+        assertEquals(0, new BigDecimal("4.00").compareTo(accrualData.get(1).getAccruedInterestIncome()));
+        verifyNoInteractions(loanReadPlatformService);
+    }
+
+    @Test
+    void testInstallmentsBeforeOrganisationStartDateAreSkipped() throws Exception {
+        // given
+        when(configurationDomainService.retrieveOrganisationStartDate()).thenReturn(LocalDate.of(2024, 2, 15));
+        LoanRepaymentScheduleInstallment due = installment(11L, 1, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15), "10.00", "0");
+        LoanRepaymentScheduleInstallment current = installment(12L, 2, LocalDate.of(2024, 2, 15), LocalDate.of(2024, 3, 20), "10.00",
+                "0");
+        Loan loan = activeLoan(List.of(due, current));
+
+        // when
+        underTest.addPeriodicAccruals(TILL_DATE, loan);
+
+        // then
+        List<LoanScheduleAccrualData> accrualData = captureAccrualData();
+        assertEquals(1, accrualData.size());
+        assertEquals(12L, accrualData.get(0).getRepaymentScheduleId());
+    }
+
+    @Test
+    void testFutureInstallmentsAreIncludedWhenChargesAccrueOnSubmittedDate() {
+        // given
+        when(configurationDomainService.getAccrualDateConfigForCharge()).thenReturn("submitted-date");
+        LoanRepaymentScheduleInstallment future = installment(13L, 3, LocalDate.of(2024, 3, 20), LocalDate.of(2024, 4, 20), "10.00", "0");
+        Loan loan = activeLoan(List.of(future));
+
+        // when
+        Collection<LoanScheduleAccrualData> accrualData = underTest.retrievePeriodicAccrualData(TILL_DATE, loan);
+
+        // then
+        assertEquals(1, accrualData.size());
+    }
+
+    @Test
+    void testNpaLoanHasNothingToAccrue() throws Exception {
+        // given
+        LoanRepaymentScheduleInstallment due = installment(11L, 1, LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15), "10.00", "0");
+        Loan loan = activeLoan(List.of(due));
+        when(loan.isNpa()).thenReturn(true);
+
+        // when
+        underTest.addPeriodicAccruals(TILL_DATE, loan);
+
+        // then
+        assertTrue(underTest.retrievePeriodicAccrualData(TILL_DATE, loan).isEmpty());
+        verify(loanAccrualWritePlatformService, never()).addPeriodicAccruals(any(LocalDate.class), anyLong(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LoanScheduleAccrualData> captureAccrualData() {
+        ArgumentCaptor<Collection<LoanScheduleAccrualData>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(loanAccrualWritePlatformService).addPeriodicAccruals(eq(TILL_DATE), eq(1L), captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    private Loan activeLoan(List<LoanRepaymentScheduleInstallment> installments) {
+        LoanProductRelatedDetail detail = mock(LoanProductRelatedDetail.class);
+        when(detail.getRepaymentPeriodFrequencyType()).thenReturn(PeriodFrequencyType.MONTHS);
+        when(detail.getRepayEvery()).thenReturn(1);
+        Loan loan = mock(Loan.class);
+        when(loan.getId()).thenReturn(1L);
+        when(loan.getOfficeId()).thenReturn(2L);
+        when(loan.productId()).thenReturn(3L);
+        when(loan.getStatus()).thenReturn(LoanStatus.ACTIVE);
+        when(loan.isPeriodicAccrualAccountingEnabledOnLoanProduct()).thenReturn(true);
+        when(loan.getCurrency()).thenReturn(CURRENCY);
+        when(loan.getLoanRepaymentScheduleDetail()).thenReturn(detail);
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(installments);
+        return loan;
+    }
+
+    private LoanRepaymentScheduleInstallment installment(Long id, int number, LocalDate fromDate, LocalDate dueDate, String interest,
+            String accruedInterest) {
+        LoanRepaymentScheduleInstallment installment = mock(LoanRepaymentScheduleInstallment.class);
+        when(installment.getId()).thenReturn(id);
+        when(installment.getInstallmentNumber()).thenReturn(number);
+        when(installment.getFromDate()).thenReturn(fromDate);
+        when(installment.getDueDate()).thenReturn(dueDate);
+        when(installment.getInterestCharged(CURRENCY)).thenReturn(Money.of(CURRENCY, new BigDecimal(interest)));
+        when(installment.getInterestAccrued(CURRENCY)).thenReturn(Money.of(CURRENCY, new BigDecimal(accruedInterest)));
+        when(installment.getInterestWaived(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        when(installment.getFeeChargesCharged(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        when(installment.getFeeAccrued(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        when(installment.getPenaltyChargesCharged(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        when(installment.getPenaltyAccrued(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        when(installment.getCreditedFee(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        when(installment.getCreditedPenalty(CURRENCY)).thenReturn(Money.zero(CURRENCY));
+        return installment;
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.accounting.journalentry.service.JournalEntryWritePlatformService;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.domain.savings.transaction.SavingsDepositBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.monetary.domain.ApplicationCurrencyRepositoryWrapper;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.portfolio.note.domain.Note;
+import org.apache.fineract.portfolio.note.domain.NoteRepository;
+import org.apache.fineract.portfolio.savings.SavingsAccountTransactionType;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SavingsAccountDomainServiceJpaTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepositoryWrapper savingsAccountRepository;
+    @Mock
+    private SavingsAccountTransactionRepository savingsAccountTransactionRepository;
+    @Mock
+    private ApplicationCurrencyRepositoryWrapper applicationCurrencyRepositoryWrapper;
+    @Mock
+    private JournalEntryWritePlatformService journalEntryWritePlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private DepositAccountOnHoldTransactionRepository depositAccountOnHoldTransactionRepository;
+    @Mock
+    private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private SavingsAccountPendingCreditRepository savingsAccountPendingCreditRepository;
+    @Mock
+    private NoteRepository noteRepository;
+
+    private SavingsAccountDomainServiceJpa underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        underTest = new SavingsAccountDomainServiceJpa(savingsAccountRepository, savingsAccountTransactionRepository,
+                applicationCurrencyRepositoryWrapper, journalEntryWritePlatformService, configurationDomainService, context,
+                depositAccountOnHoldTransactionRepository, businessEventNotifierService, savingsAccountPendingCreditRepository,
+                noteRepository);
+        when(configurationDomainService.retrieveRelaxingDaysConfigForPivotDate()).thenReturn(0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testPendingCreditsArePostedWithOneInterestCalculation() {
+        // given
+        SavingsAccount account = hotAccount();
+        SavingsAccountPendingCredit first = pendingCredit(11L, LocalDate.of(2024, 3, 14), "note");
+        SavingsAccountPendingCredit second = pendingCredit(12L, LocalDate.of(2024, 3, 12), null);
+        when(savingsAccountPendingCreditRepository.existsBySavingsAccountId(1L)).thenReturn(true);
+        when(savingsAccountPendingCreditRepository.findBySavingsAccountIdOrderByIdAsc(1L)).thenReturn(List.of(first, second));
+        when(savingsAccountPendingCreditRepository.deletePendingCredit(any())).thenReturn(1);
+
+        // when
+        List<SavingsAccountTransaction> deposits = underTest.handlePendingCredits(account, false);
+
+        // then
+        assertEquals(2, deposits.size());
+        ArgumentCaptor<SavingsAccountTransactionDTO> transactions = ArgumentCaptor.forClass(SavingsAccountTransactionDTO.class);
+        verify(account, times(2)).deposit(transactions.capture(), eq(SavingsAccountTransactionType.DEPOSIT), eq(false), eq(0L),
+                anyString());
+        assertEquals(LocalDate.of(2024, 3, 14), transactions.getAllValues().get(0).getTransactionDate());
+        assertEquals(0, BigDecimal.TEN.compareTo(transactions.getAllValues().get(1).getTransactionAmount()));
+        verify(account).isBeforeLastPostingPeriod(LocalDate.of(2024, 3, 12), false);
+        verify(account, times(1)).calculateInterestIncrementally(any(), eq(BUSINESS_DATE), eq(false), anyBoolean(), any(), any(),
+                eq(false), anyBoolean());
+        verify(savingsAccountRepository, times(1)).saveAndFlush(account);
+        verify(noteRepository, times(1)).save(any(Note.class));
+        verify(businessEventNotifierService, times(2)).notifyPostBusinessEvent(any(SavingsDepositBusinessEvent.class));
+    }
+
+    @Test
+    void testCreditClaimedByAnotherTransactionIsNotPostedAgain() {
+        // given
+        SavingsAccount account = hotAccount();
+        SavingsAccountPendingCredit claimed = pendingCredit(11L, LocalDate.of(2024, 3, 14), null);
+        SavingsAccountPendingCredit pending = pendingCredit(12L, LocalDate.of(2024, 3, 14), null);
+        when(savingsAccountPendingCreditRepository.existsBySavingsAccountId(1L)).thenReturn(true);
+        when(savingsAccountPendingCreditRepository.findBySavingsAccountIdOrderByIdAsc(1L)).thenReturn(List.of(claimed, pending));
+        when(savingsAccountPendingCreditRepository.deletePendingCredit(11L)).thenReturn(0);
+        when(savingsAccountPendingCreditRepository.deletePendingCredit(12L)).thenReturn(1);
+
+        // when
+        List<SavingsAccountTransaction> deposits = underTest.handlePendingCredits(account, false);
+
+        // then
+        assertEquals(1, deposits.size());
+        verify(account, times(1)).deposit(any(SavingsAccountTransactionDTO.class), eq(SavingsAccountTransactionType.DEPOSIT),
+                anyBoolean(), any(), anyString());
+    }
+
+    @Test
+    void testNothingIsPostedWithoutPendingCredits() {
+        // given
+        SavingsAccount account = hotAccount();
+        when(savingsAccountPendingCreditRepository.existsBySavingsAccountId(1L)).thenReturn(false);
+
+        // when
+        List<SavingsAccountTransaction> deposits = underTest.handlePendingCredits(account, false);
+
+        // then
+        assertTrue(deposits.isEmpty());
+        verify(savingsAccountPendingCreditRepository, never()).findBySavingsAccountIdOrderByIdAsc(any());
+        verify(savingsAccountRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(journalEntryWritePlatformService);
+    }
+
+    @Test
+    void testPendingCreditsArePostedAfterHotFlagIsSwitchedOff() {
+        // given
+        SavingsAccount account = hotAccount();
+        when(account.isHotAccount()).thenReturn(false);
+        SavingsAccountPendingCredit pending = pendingCredit(11L, LocalDate.of(2024, 3, 14), null);
+        when(savingsAccountPendingCreditRepository.existsBySavingsAccountId(1L)).thenReturn(true);
+        when(savingsAccountPendingCreditRepository.findBySavingsAccountIdOrderByIdAsc(1L)).thenReturn(List.of(pending));
+        when(savingsAccountPendingCreditRepository.deletePendingCredit(11L)).thenReturn(1);
+
+        // when
+        List<SavingsAccountTransaction> deposits = underTest.handlePendingCredits(account, false);
+
+        // then
+        assertEquals(1, deposits.size());
+        verify(savingsAccountRepository, times(1)).saveAndFlush(account);
+    }
+
+    private SavingsAccount hotAccount() {
+        SavingsAccount account = mock(SavingsAccount.class);
+        when(account.getId()).thenReturn(1L);
+        when(account.isHotAccount()).thenReturn(true);
+        when(account.getCurrency()).thenReturn(new MonetaryCurrency("USD", 2, null));
+        when(account.deposit(any(SavingsAccountTransactionDTO.class), any(SavingsAccountTransactionType.class), anyBoolean(), any(),
+                anyString())).thenAnswer(invocation -> mock(SavingsAccountTransaction.class));
+        return account;
+    }
+
+    private SavingsAccountPendingCredit pendingCredit(Long id, LocalDate transactionDate, String note) {
+        SavingsAccountPendingCredit pendingCredit = mock(SavingsAccountPendingCredit.class);
+        when(pendingCredit.getId()).thenReturn(id);
+        when(pendingCredit.getSavingsAccountId()).thenReturn(1L);
+        when(pendingCredit.getTransactionDate()).thenReturn(transactionDate);
+        when(pendingCredit.getAmount()).thenReturn(BigDecimal.TEN);
+        when(pendingCredit.getNote()).thenReturn(note);
+        return pendingCredit;
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.account.service.AccountTransfersReadPlatformService;
+import org.apache.fineract.portfolio.accountdetails.domain.AccountType;
+import org.apache.fineract.portfolio.savings.SavingsCompoundingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationDaysInYearType;
+import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
+import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SavingsAccountIncrementalInterestTest {
+
+    private static final LocalDate ACTIVATION_DATE = LocalDate.of(2024, 1, 1);
+    private static final MonetaryCurrency CURRENCY = new MonetaryCurrency("USD", 2, null);
+    private static final MathContext MC = MathContext.DECIMAL64;
+
+    private final AtomicLong transactionIds = new AtomicLong();
+    private MockedStatic<MoneyHelper> moneyHelper;
+    private SavingsHelper incrementalHelper;
+    private SavingsAccount incremental;
+    private SavingsAccount full;
+
+    @BeforeEach
+    void setUp() {
+        moneyHelper = Mockito.mockStatic(MoneyHelper.class);
+        moneyHelper.when(MoneyHelper::getRoundingMode).thenReturn(RoundingMode.HALF_EVEN);
+        moneyHelper.when(MoneyHelper::getMathContext).thenReturn(new MathContext(12, RoundingMode.HALF_EVEN));
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        AccountTransfersReadPlatformService accountTransfersReadPlatformService = mock(AccountTransfersReadPlatformService.class);
+        when(accountTransfersReadPlatformService.fetchPostInterestTransactionIds(any())).thenReturn(List.of());
+        incrementalHelper = spy(new SavingsHelper(accountTransfersReadPlatformService));
+        incremental = account(incrementalHelper);
+        full = account(new SavingsHelper(accountTransfersReadPlatformService));
+    }
+
+    @AfterEach
+    void tearDown() {
+        moneyHelper.close();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testIncrementalCalculationMatchesFullRecalculation() {
+        // given
+        deposit(LocalDate.of(2024, 1, 1), "1000");
+        deposit(LocalDate.of(2024, 1, 20), "250.55");
+        withdraw(LocalDate.of(2024, 2, 14), "120");
+        deposit(LocalDate.of(2024, 3, 31), "3000");
+        deposit(LocalDate.of(2024, 4, 2), "17.3");
+        withdraw(LocalDate.of(2024, 5, 9), "900");
+        deposit(LocalDate.of(2024, 6, 30), "45");
+
+        // when
+        deposit(LocalDate.of(2024, 7, 15), "400");
+        withdraw(LocalDate.of(2024, 8, 3), "75.25");
+
+        // then
+        verify(incrementalHelper, atLeastOnce()).determineInterestPostingPeriods(eq(LocalDate.of(2024, 4, 1)), any(), any(), any(),
+                anyList());
+        verify(incrementalHelper, atLeastOnce()).determineInterestPostingPeriods(eq(LocalDate.of(2024, 7, 1)), any(), any(), any(),
+                anyList());
+        assertEquals(LocalDate.of(2024, 7, 1), incremental.getSummary().getInterestStatePeriodStartDate());
+    }
+
+    @Test
+    void testBackdatedTransactionIsCalculatedFromTheStart() {
+        // given
+        deposit(LocalDate.of(2024, 1, 1), "1000");
+        deposit(LocalDate.of(2024, 5, 2), "500");
+        deposit(LocalDate.of(2024, 7, 10), "200");
+
+        // when
+        deposit(LocalDate.of(2024, 2, 10), LocalDate.of(2024, 7, 12), "300");
+
+        // then
+        verify(incrementalHelper, atLeastOnce()).determineInterestPostingPeriods(eq(ACTIVATION_DATE), eq(LocalDate.of(2024, 7, 12)), any(),
+                any(), anyList());
+        assertEquals(LocalDate.of(2024, 7, 1), incremental.getSummary().getInterestStatePeriodStartDate());
+    }
+
+    private void deposit(LocalDate transactionDate, String amount) {
+        deposit(transactionDate, transactionDate, amount);
+    }
+
+    private void deposit(LocalDate transactionDate, LocalDate businessDate, String amount) {
+        setBusinessDate(businessDate);
+        incremental.deposit(transaction(transactionDate, amount), false, null, null);
+        full.deposit(transaction(transactionDate, amount), false, null, null);
+        calculateAndCompare(businessDate);
+    }
+
+    private void withdraw(LocalDate transactionDate, String amount) {
+        setBusinessDate(transactionDate);
+        incremental.withdraw(transaction(transactionDate, amount), false, false, null, null);
+        full.withdraw(transaction(transactionDate, amount), false, false, null, null);
+        calculateAndCompare(transactionDate);
+    }
+
+    private void calculateAndCompare(LocalDate today) {
+        incremental.calculateInterestIncrementally(MC, today, false, false, 1, null, false, false);
+        full.calculateInterestUsing(MC, today, false, false, 1, null, false, false);
+        assignTransactionIds(incremental);
+        assignTransactionIds(full);
+
+        SavingsAccountSummary expected = full.getSummary();
+        SavingsAccountSummary actual = incremental.getSummary();
+        assertNotNull(actual.getTotalInterestEarned());
+        assertEquals(0, expected.getTotalInterestEarned().compareTo(actual.getTotalInterestEarned()));
+        assertEquals(0, expected.getAccountBalance().compareTo(actual.getAccountBalance()));
+        assertEquals(expected.getInterestStatePeriodStartDate(), actual.getInterestStatePeriodStartDate());
+        assertTrue(expected.getInterestStateEarned(CURRENCY).isEqualTo(actual.getInterestStateEarned(CURRENCY)));
+        assertTrue(expected.getInterestStateOpeningBalance(CURRENCY).isEqualTo(actual.getInterestStateOpeningBalance(CURRENCY)));
+    }
+
+    private void assignTransactionIds(SavingsAccount account) {
+        account.getTransactions().stream().filter(transaction -> transaction.getId() == null)
+                .forEach(transaction -> transaction.setId(transactionIds.incrementAndGet()));
+    }
+
+    private SavingsAccountTransactionDTO transaction(LocalDate transactionDate, String amount) {
+        return new SavingsAccountTransactionDTO(DateTimeFormatter.ISO_LOCAL_DATE, transactionDate, new BigDecimal(amount), null, null,
+                null);
+    }
+
+    private void setBusinessDate(LocalDate businessDate) {
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate)));
+    }
+
+    private SavingsAccount account(SavingsHelper savingsHelper) {
+        SavingsProduct product = mock(SavingsProduct.class);
+        when(product.currency()).thenReturn(CURRENCY);
+        SavingsAccount account = SavingsAccount.createNewApplicationForSubmittal(null, null, product, null, "000000001",
+                ExternalId.empty(), AccountType.INDIVIDUAL, ACTIVATION_DATE, null, new BigDecimal("6.5"),
+                SavingsCompoundingInterestPeriodType.MONTHLY, SavingsPostingInterestPeriodType.QUATERLY,
+                SavingsInterestCalculationType.DAILY_BALANCE, SavingsInterestCalculationDaysInYearType.DAYS_365, null, null, null, false,
+                null, false, null, false, null, null, false, null, null, false);
+        // set by the database for persisted accounts
+        ReflectionTestUtils.setField(account, "depositType", 100);
+        account.setHelpers(new SavingsAccountTransactionSummaryWrapper(), savingsHelper);
+        account.approveAndActivateApplication(ACTIVATION_DATE, null);
+        return account;
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SearchReadPlatformServiceImplTest {
+
+    private static final String INDEX_PREDICATE = "m_search_index_token";
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private LoanProductReadPlatformService loanProductReadPlatformService;
+    @Mock
+    private OfficeReadPlatformService officeReadPlatformService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private SearchIndexWritePlatformService searchIndexWritePlatformService;
+
+    private SearchReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
+                officeReadPlatformService, sqlGenerator, searchIndexWritePlatformService);
+        when(sqlGenerator.limit(anyInt(), anyInt())).thenReturn("LIMIT 0,50");
+        when(searchIndexWritePlatformService.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void testEveryEntityQueryIsRestrictedToIndexCandidates() {
+        // when
+        String sql = underTest.searchSchema(new SearchConditions("smith", null, false));
+
+        // then
+        assertEquals(6, sql.split(INDEX_PREDICATE, -1).length - 1);
+        assertEquals(sql.chars().filter(c -> c == '(').count(), sql.chars().filter(c -> c == ')').count());
+    }
+
+    @Test
+    void testIndexIsNotUsedForExactOrWildcardSearches() {
+        assertFalse(underTest.searchSchema(new SearchConditions("smith", null, true)).contains(INDEX_PREDICATE));
+        assertFalse(underTest.searchSchema(new SearchConditions("sm%th", null, false)).contains(INDEX_PREDICATE));
+        assertFalse(underTest.searchSchema(new SearchConditions("sm", null, false)).contains(INDEX_PREDICATE));
+    }
+
+    @Test
+    void testIndexIsNotUsedWhenDisabled() {
+        // given
+        when(searchIndexWritePlatformService.isEnabled()).thenReturn(false);
+
+        // when
+        String sql = underTest.searchSchema(new SearchConditions("smith", null, false));
+
+        // then
+        assertFalse(sql.contains(INDEX_PREDICATE));
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SearchTokenizerTest {
+
+    @Test
+    void testValueIsSplitIntoLowerCasedTrigrams() {
+        // when
+        Set<String> tokens = SearchTokenizer.tokenize("AnnaA");
+
+        // then
+        assertEquals(Set.of("ann", "nna", "naa"), tokens);
+        assertTrue(SearchTokenizer.tokenize("An").isEmpty());
+        assertTrue(SearchTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    void testEveryTrigramOfASubstringIsATrigramOfTheValue() {
+        // given
+        Set<String> valueTokens = SearchTokenizer.tokenize("Jean-Pierre ÖZTÜRK");
+
+        // when
+        Set<String> queryTokens = SearchTokenizer.tokenize("pierre özt");
+
+        // then
+        assertTrue(valueTokens.containsAll(queryTokens));
+    }
+
+    @Test
+    void testAccentsAreFoldedForValuesAndQueries() {
+        // given
+        Set<String> valueTokens = SearchTokenizer.tokenize("José Öztürk-Müller");
+
+        // when
+        Set<String> unaccentedQueryTokens = SearchTokenizer.tokenize("ozturk");
+        Set<String> accentedQueryTokens = SearchTokenizer.tokenize("MÜLLER");
+
+        // then
+        assertEquals(Set.of("jos", "ose"), SearchTokenizer.tokenize("José"));
+        assertEquals(SearchTokenizer.tokenize("Jose\u0301"), SearchTokenizer.tokenize("Jos\u00e9"));
+        assertTrue(valueTokens.containsAll(unaccentedQueryTokens));
+        assertTrue(valueTokens.containsAll(accentedQueryTokens));
+        assertTrue(SearchTokenizer.tokenize("müller").containsAll(SearchTokenizer.tokenize("Muller")));
+    }
+
+    @Test
+    void testWildcardAndShortQueriesAreNotIndexable() {
+        assertTrue(SearchTokenizer.isIndexable("000123"));
+        assertFalse(SearchTokenizer.isIndexable("ab"));
+        assertFalse(SearchTokenizer.isIndexable("e\u0301e\u0301"));
+        assertFalse(SearchTokenizer.isIndexable("ab%cd"));
+        assertFalse(SearchTokenizer.isIndexable("ab_cd"));
+        assertFalse(SearchTokenizer.isIndexable(null));
+    }
+}
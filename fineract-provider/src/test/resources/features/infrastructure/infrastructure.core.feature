@@ -81,6 +81,34 @@ Feature: Core Infrastructure
     When The database migration process is executed
     Then The default tenant upgrade fails with a schema upgrade needed
 
+  @infrastructure
+  Scenario: Verify that schema migration skips a tenant already on the current changelogs
+    Given Set every Fineract instance type to false
+    Given Fineract instance is a write instance
+    Given Liquibase is enabled with a default tenant
+    Given The default tenant was upgraded with the current changelogs
+    When The database migration process is executed
+    Then The tenant store gets upgraded and the default tenant is skipped
+
+  @infrastructure
+  Scenario: Verify that schema migration upgrades a tenant on older changelogs and stores the fingerprint
+    Given Set every Fineract instance type to false
+    Given Fineract instance is a write instance
+    Given Liquibase is enabled with a default tenant
+    Given The default tenant was upgraded with older changelogs
+    When The database migration process is executed
+    Then The tenant store and the default tenant gets upgraded and the fingerprint is stored
+
+  @infrastructure
+  Scenario: Verify that parallel schema migration upgrades the other tenants when a tenant fails
+    Given Set every Fineract instance type to false
+    Given Fineract instance is a write instance
+    Given Liquibase is enabled with a default tenant
+    Given A tenant failing the upgrade is upgraded in parallel with the default tenant
+    When The database migration process is executed
+    Then The default tenant gets upgraded and the failure of the other tenant is rethrown
+    Then Liquibase scopes are kept per thread
+
   @infrastructure
   Scenario Outline: Verify empty multi exceptions
     Given A multi exception with exceptions <exception1> and <exception2>
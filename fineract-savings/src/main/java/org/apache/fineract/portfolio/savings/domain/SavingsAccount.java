@@ -107,6 +107,7 @@ import org.apache.fineract.portfolio.savings.SavingsInterestCalculationType;
 import org.apache.fineract.portfolio.savings.SavingsPeriodFrequencyType;
 import org.apache.fineract.portfolio.savings.SavingsPostingInterestPeriodType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionDTO;
+import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestValues;
 import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
 import org.apache.fineract.portfolio.savings.domain.interest.SavingsAccountTransactionDetailsForPostingPeriod;
 import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
@@ -333,6 +334,9 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
     @Column(name = "withhold_tax", nullable = false)
     protected boolean withHoldTax;
 
+    @Column(name = "is_hot_account", nullable = false)
+    private boolean hotAccount;
+
     @ManyToOne
     @JoinColumn(name = "tax_group_id")
     private TaxGroup taxGroup;
@@ -823,6 +827,42 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
         // update existing transactions so derived balance fields are correct.
         recalculateDailyBalances(openingAccountBalance, upToInterestCalculationDate, backdatedTxnsAllowedTill, postReversals);
 
+        return calculateInterestOfPostingPeriods(mc, upToInterestCalculationDate, isInterestTransfer,
+                isSavingsInterestPostingAtCurrentPeriodEnd, financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill,
+                false);
+    }
+
+    /**
+     * Same as {@link #calculateInterestUsing} for transactions which were just appended to the account.
+     *
+     * The posting periods before the last one of the previous calculation are taken from the state it persisted on the
+     * summary, only the periods from there on are calculated again. Backdated transactions, interest transfers, the
+     * pivot date configuration and deposit products fall back to the full calculation.
+     */
+    public void calculateInterestIncrementally(final MathContext mc, final LocalDate upToInterestCalculationDate,
+            boolean isInterestTransfer, final boolean isSavingsInterestPostingAtCurrentPeriodEnd, final Integer financialYearBeginningMonth,
+            final LocalDate postInterestOnDate, final boolean backdatedTxnsAllowedTill, final boolean postReversals) {
+        final LocalDate statePeriodStartDate = this.summary.getInterestStatePeriodStartDate();
+        if (backdatedTxnsAllowedTill || isInterestTransfer || postInterestOnDate != null || !depositAccountType().isSavingsDeposit()
+                || !this.summary.hasInterestCalculationState() || DateUtils.isBefore(upToInterestCalculationDate, statePeriodStartDate)
+                || DateUtils.isBefore(statePeriodStartDate, getStartInterestCalculationDate())) {
+            calculateInterestUsing(mc, upToInterestCalculationDate, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
+                    financialYearBeginningMonth, postInterestOnDate, backdatedTxnsAllowedTill, postReversals);
+            return;
+        }
+
+        recalculateDailyBalances(Money.zero(this.currency), upToInterestCalculationDate, false, postReversals);
+
+        // new transactions, including the ones re-created for changed overdraft amounts, must not touch the calculated periods
+        final boolean resumeFromState = this.transactions.stream().filter(transaction -> transaction.getId() == null)
+                .allMatch(transaction -> DateUtils.isAfter(transaction.getTransactionDate(), statePeriodStartDate));
+        calculateInterestOfPostingPeriods(mc, upToInterestCalculationDate, isInterestTransfer, isSavingsInterestPostingAtCurrentPeriodEnd,
+                financialYearBeginningMonth, postInterestOnDate, false, resumeFromState);
+    }
+
+    private List<PostingPeriod> calculateInterestOfPostingPeriods(final MathContext mc, final LocalDate upToInterestCalculationDate,
+            boolean isInterestTransfer, final boolean isSavingsInterestPostingAtCurrentPeriodEnd, final Integer financialYearBeginningMonth,
+            final LocalDate postInterestOnDate, final boolean backdatedTxnsAllowedTill, final boolean resumeFromState) {
         final List<PostingPeriod> allPostingPeriods = new ArrayList<>();
         if (hasInterestCalculation() || hasOverdraftInterestCalculation()) {
             // 1. default to calculate interest based on entire history OR
@@ -846,12 +886,20 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
             if (postInterestOnDate != null) {
                 postedAsOnDates.add(postInterestOnDate);
             }
-            final List<LocalDateInterval> postingPeriodIntervals = this.savingsHelper.determineInterestPostingPeriods(
-                    getStartInterestCalculationDate(), upToInterestCalculationDate, postingPeriodType, financialYearBeginningMonth,
-                    postedAsOnDates);
+            final LocalDate periodsStartDate = resumeFromState ? this.summary.getInterestStatePeriodStartDate()
+                    : getStartInterestCalculationDate();
+            final List<LocalDateInterval> postingPeriodIntervals = this.savingsHelper.determineInterestPostingPeriods(periodsStartDate,
+                    upToInterestCalculationDate, postingPeriodType, financialYearBeginningMonth, postedAsOnDates);
 
             Money periodStartingBalance;
-            if (this.startInterestCalculationDate != null && !this.getStartInterestCalculationDate().equals(this.getActivationDate())) {
+            Money interestEarnedBefore = Money.zero(this.currency);
+            CompoundInterestValues compoundInterestValues = new CompoundInterestValues(BigDecimal.ZERO, BigDecimal.ZERO);
+            if (resumeFromState) {
+                periodStartingBalance = this.summary.getInterestStateOpeningBalance(this.currency);
+                interestEarnedBefore = this.summary.getInterestStateEarned(this.currency);
+                compoundInterestValues = this.summary.getInterestStateCompoundInterestValues();
+            } else if (this.startInterestCalculationDate != null
+                    && !this.getStartInterestCalculationDate().equals(this.getActivationDate())) {
                 LocalDate startInterestCalculationDate = this.startInterestCalculationDate;
                 SavingsAccountTransaction transaction = null;
                 if (backdatedTxnsAllowedTill) {
@@ -877,6 +925,16 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
             final Money minBalanceForInterestCalculation = Money.of(getCurrency(), minBalanceForInterestCalculation());
             final Money minOverdraftForInterestCalculation = Money.of(getCurrency(), this.minOverdraftForInterestCalculation);
 
+            // the transactions are the same for every period, collect them once
+            List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = null;
+            if (backdatedTxnsAllowedTill) {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig();
+            } else {
+                orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions();
+            }
+            final List<SavingsAccountTransactionDetailsForPostingPeriod> savingsAccountTransactionDetailsForPostingPeriod = toSavingsAccountTransactionDetailsForPostingPeriodList(
+                    orderedNonInterestPostingTransactions);
+
             for (final LocalDateInterval periodInterval : postingPeriodIntervals) {
 
                 boolean isUserPosting = false;
@@ -884,18 +942,7 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
                     isUserPosting = true;
                 }
 
-                PostingPeriod postingPeriod = null;
-                List<SavingsAccountTransaction> orderedNonInterestPostingTransactions = null;
-                if (backdatedTxnsAllowedTill) {
-                    orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingSavingsTransactionsWithPivotConfig();
-                } else {
-                    orderedNonInterestPostingTransactions = retreiveOrderedNonInterestPostingTransactions();
-                }
-
-                List<SavingsAccountTransactionDetailsForPostingPeriod> savingsAccountTransactionDetailsForPostingPeriod = toSavingsAccountTransactionDetailsForPostingPeriodList(
-                        orderedNonInterestPostingTransactions);
-
-                postingPeriod = PostingPeriod.createFrom(periodInterval, periodStartingBalance,
+                final PostingPeriod postingPeriod = PostingPeriod.createFrom(periodInterval, periodStartingBalance,
                         savingsAccountTransactionDetailsForPostingPeriod, this.currency, compoundingPeriodType, interestCalculationType,
                         interestRateAsFraction, daysInYearType.getValue(), upToInterestCalculationDate, interestPostTransactions,
                         isInterestTransfer, minBalanceForInterestCalculation, isSavingsInterestPostingAtCurrentPeriodEnd,
@@ -906,10 +953,12 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
                 allPostingPeriods.add(postingPeriod);
             }
 
-            this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods, getLockedInUntilDate(),
-                    isTransferInterestToOtherAccount());
+            calculateInterestForAllPostingPeriods(allPostingPeriods, interestEarnedBefore, compoundInterestValues,
+                    !backdatedTxnsAllowedTill);
 
-            this.summary.updateFromInterestPeriodSummaries(this.currency, allPostingPeriods);
+            this.summary.updateFromInterestPeriodSummaries(this.currency, interestEarnedBefore, allPostingPeriods);
+        } else {
+            this.summary.resetInterestCalculationState();
         }
 
         if (backdatedTxnsAllowedTill) {
@@ -922,6 +971,29 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
         return allPostingPeriods;
     }
 
+    /**
+     * Calculates the interest of the posting periods and, when asked to, remembers the state at the start of the last
+     * one. The last period is still open, so later calculations can resume from there.
+     */
+    private void calculateInterestForAllPostingPeriods(final List<PostingPeriod> allPostingPeriods, final Money interestEarnedBefore,
+            final CompoundInterestValues compoundInterestValues, final boolean keepState) {
+        if (!keepState || allPostingPeriods.isEmpty()) {
+            this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods, getLockedInUntilDate(),
+                    isTransferInterestToOtherAccount(), compoundInterestValues);
+            this.summary.resetInterestCalculationState();
+            return;
+        }
+        final int lastIndex = allPostingPeriods.size() - 1;
+        final Money interestEarnedInClosedPeriods = this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency,
+                allPostingPeriods.subList(0, lastIndex), getLockedInUntilDate(), isTransferInterestToOtherAccount(),
+                compoundInterestValues);
+        final PostingPeriod lastPostingPeriod = allPostingPeriods.get(lastIndex);
+        this.summary.updateInterestCalculationState(lastPostingPeriod.getPeriodInterval().startDate(),
+                lastPostingPeriod.openingBalance(), interestEarnedBefore.plus(interestEarnedInClosedPeriods), compoundInterestValues);
+        this.savingsHelper.calculateInterestForAllPostingPeriods(this.currency, allPostingPeriods.subList(lastIndex, lastIndex + 1),
+                getLockedInUntilDate(), isTransferInterestToOtherAccount(), compoundInterestValues);
+    }
+
     private BigDecimal getEffectiveOverdraftInterestRateAsFraction(MathContext mc) {
         return this.nominalAnnualInterestRateOverdraft.divide(BigDecimal.valueOf(100L), mc);
     }
@@ -1108,6 +1180,38 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
     public SavingsAccountTransaction deposit(final SavingsAccountTransactionDTO transactionDTO,
             final SavingsAccountTransactionType savingsAccountTransactionType, final boolean backdatedTxnsAllowedTill,
             final Long relaxingDaysConfigForPivotDate, final String refNo) {
+        validateDeposit(transactionDTO, backdatedTxnsAllowedTill, relaxingDaysConfigForPivotDate);
+
+        final Money amount = Money.of(this.currency, transactionDTO.getTransactionAmount());
+
+        final SavingsAccountTransaction transaction = SavingsAccountTransaction.deposit(this, office(), transactionDTO.getPaymentDetail(),
+                transactionDTO.getTransactionDate(), amount, savingsAccountTransactionType, refNo);
+
+        if (backdatedTxnsAllowedTill) {
+            addTransactionToExisting(transaction);
+        } else {
+            addTransaction(transaction);
+        }
+
+        if (this.sub_status.equals(SavingsAccountSubStatusEnum.INACTIVE.getValue())
+                || this.sub_status.equals(SavingsAccountSubStatusEnum.DORMANT.getValue())) {
+            this.sub_status = SavingsAccountSubStatusEnum.NONE.getValue();
+        }
+
+        if (backdatedTxnsAllowedTill) {
+            this.summary.updateSummaryWithPivotConfig(this.currency, this.savingsAccountTransactionSummaryWrapper, transaction,
+                    this.savingsAccountTransactions);
+        }
+
+        return transaction;
+    }
+
+    /**
+     * Validates a deposit of the given transaction without adding it to the account, so deposits can be rejected up front
+     * when they are posted later.
+     */
+    public void validateDeposit(final SavingsAccountTransactionDTO transactionDTO, final boolean backdatedTxnsAllowedTill,
+            final Long relaxingDaysConfigForPivotDate) {
         final String resourceTypeName = depositAccountType().resourceName();
         if (isNotActive()) {
             final String defaultUserMessage = "Transaction is not allowed. Account is not active.";
@@ -1149,29 +1253,6 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
                 resourceTypeName);
 
         validateActivityNotBeforeClientOrGroupTransferDate(SavingsEvent.SAVINGS_DEPOSIT, transactionDTO.getTransactionDate());
-
-        final Money amount = Money.of(this.currency, transactionDTO.getTransactionAmount());
-
-        final SavingsAccountTransaction transaction = SavingsAccountTransaction.deposit(this, office(), transactionDTO.getPaymentDetail(),
-                transactionDTO.getTransactionDate(), amount, savingsAccountTransactionType, refNo);
-
-        if (backdatedTxnsAllowedTill) {
-            addTransactionToExisting(transaction);
-        } else {
-            addTransaction(transaction);
-        }
-
-        if (this.sub_status.equals(SavingsAccountSubStatusEnum.INACTIVE.getValue())
-                || this.sub_status.equals(SavingsAccountSubStatusEnum.DORMANT.getValue())) {
-            this.sub_status = SavingsAccountSubStatusEnum.NONE.getValue();
-        }
-
-        if (backdatedTxnsAllowedTill) {
-            this.summary.updateSummaryWithPivotConfig(this.currency, this.savingsAccountTransactionSummaryWrapper, transaction,
-                    this.savingsAccountTransactions);
-        }
-
-        return transaction;
     }
 
     public void validatePivotDateTransaction(LocalDate transactionDate, final boolean backdatedTxnsAllowedTill,
@@ -1223,6 +1304,7 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
 
     public void setStartInterestCalculationDate(LocalDate startInterestCalculationDate) {
         this.startInterestCalculationDate = startInterestCalculationDate;
+        this.summary.resetInterestCalculationState();
     }
 
     public SavingsAccountTransaction withdraw(final SavingsAccountTransactionDTO transactionDTO, final boolean applyWithdrawFee,
@@ -1965,6 +2047,7 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
     public void update(final SavingsProduct product) {
         this.product = product;
         this.minBalanceForInterestCalculation = product.minBalanceForInterestCalculation();
+        this.summary.resetInterestCalculationState();
     }
 
     public void update(final Staff savingsOfficer) {
@@ -3449,6 +3532,14 @@ public class SavingsAccount extends AbstractAuditableWithUTCDateTimeCustom {
         this.withHoldTax = withHoldTax;
     }
 
+    public boolean isHotAccount() {
+        return this.hotAccount;
+    }
+
+    public void setHotAccount(boolean hotAccount) {
+        this.hotAccount = hotAccount;
+    }
+
     protected boolean applyWithholdTaxForDepositAccounts(final LocalDate interestPostingUpToDate, boolean recalucateDailyBalance,
             final boolean backdatedTxnsAllowedTill) {
         final List<SavingsAccountTransaction> withholdTransactions = findWithHoldTransactions();
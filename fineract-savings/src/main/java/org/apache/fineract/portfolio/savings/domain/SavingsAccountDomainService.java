@@ -36,6 +36,12 @@ public interface SavingsAccountDomainService {
             BigDecimal transactionAmount, PaymentDetail paymentDetail, boolean isAccountTransfer, boolean isRegularTransaction,
             boolean backdatedTxnsAllowedTill);
 
+    /**
+     * Posts the pending credits of an account as deposit transactions and returns the posted deposits. Credits accepted while
+     * the account was hot are posted whether or not the account is still hot.
+     */
+    List<SavingsAccountTransaction> handlePendingCredits(SavingsAccount account, boolean backdatedTxnsAllowedTill);
+
     void postJournalEntries(SavingsAccount savingsAccount, Set<Long> existingTransactionIds, Set<Long> existingReversedTransactionIds,
             boolean backdatedTxnsAllowedTill);
 
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+import org.apache.fineract.portfolio.paymentdetail.domain.PaymentDetail;
+
+/**
+ * A deposit to a hot savings account which is not posted to the account yet.
+ *
+ * Pending credits only refer to the account by id and do not touch the account row, so concurrent deposits do not wait
+ * on each other. They are posted as regular deposit transactions before the account is debited and periodically by the
+ * Post Pending Savings Credits job.
+ */
+@Entity
+@Table(name = "m_savings_account_pending_credit")
+public class SavingsAccountPendingCredit extends AbstractPersistableCustom {
+
+    @Column(name = "savings_account_id", nullable = false)
+    private Long savingsAccountId;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(name = "amount", scale = 6, precision = 19, nullable = false)
+    private BigDecimal amount;
+
+    @ManyToOne
+    @JoinColumn(name = "payment_detail_id")
+    private PaymentDetail paymentDetail;
+
+    @Column(name = "note", length = 1000)
+    private String note;
+
+    protected SavingsAccountPendingCredit() {
+
+    }
+
+    public static SavingsAccountPendingCredit instance(final Long savingsAccountId, final LocalDate transactionDate,
+            final BigDecimal amount, final PaymentDetail paymentDetail, final String note) {
+        return new SavingsAccountPendingCredit(savingsAccountId, transactionDate, amount, paymentDetail, note);
+    }
+
+    private SavingsAccountPendingCredit(final Long savingsAccountId, final LocalDate transactionDate, final BigDecimal amount,
+            final PaymentDetail paymentDetail, final String note) {
+        this.savingsAccountId = savingsAccountId;
+        this.transactionDate = transactionDate;
+        this.amount = amount;
+        this.paymentDetail = paymentDetail;
+        this.note = note;
+    }
+
+    public Long getSavingsAccountId() {
+        return this.savingsAccountId;
+    }
+
+    public LocalDate getTransactionDate() {
+        return this.transactionDate;
+    }
+
+    public BigDecimal getAmount() {
+        return this.amount;
+    }
+
+    public PaymentDetail getPaymentDetail() {
+        return this.paymentDetail;
+    }
+
+    public String getNote() {
+        return this.note;
+    }
+}
@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.domain;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SavingsAccountPendingCreditRepository extends JpaRepository<SavingsAccountPendingCredit, Long> {
+
+    List<SavingsAccountPendingCredit> findBySavingsAccountIdOrderByIdAsc(Long savingsAccountId);
+
+    boolean existsBySavingsAccountId(Long savingsAccountId);
+
+    @Query("select distinct pc.savingsAccountId from SavingsAccountPendingCredit pc")
+    List<Long> findSavingsAccountIdsWithPendingCredits();
+
+    /**
+     * Deletes a pending credit and returns the number of deleted rows. A credit is posted only by the transaction which
+     * deleted it, so a credit picked up by two transactions at the same time is still posted once.
+     */
+    @Modifying
+    @Query("delete from SavingsAccountPendingCredit pc where pc.id = :id")
+    int deletePendingCredit(@Param("id") Long id);
+}
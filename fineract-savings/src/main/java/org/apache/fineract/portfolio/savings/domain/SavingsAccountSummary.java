@@ -28,6 +28,7 @@ import java.util.List;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.savings.domain.interest.CompoundInterestValues;
 import org.apache.fineract.portfolio.savings.domain.interest.PostingPeriod;
 
 /**
@@ -86,6 +87,23 @@ public final class SavingsAccountSummary {
     @Transient
     private BigDecimal runningBalanceOnInterestPostingTillDate = BigDecimal.ZERO;
 
+    // State of the last interest calculation at the start of its last (still open) posting period, lets a
+    // calculation for transactions appended to that period skip the periods before it
+    @Column(name = "interest_state_period_start_date")
+    private LocalDate interestStatePeriodStartDate;
+
+    @Column(name = "interest_state_opening_balance_derived", scale = 6, precision = 19)
+    private BigDecimal interestStateOpeningBalance;
+
+    @Column(name = "interest_state_earned_derived", scale = 6, precision = 19)
+    private BigDecimal interestStateEarned;
+
+    @Column(name = "interest_state_compounded_derived", scale = 20, precision = 38)
+    private BigDecimal interestStateCompounded;
+
+    @Column(name = "interest_state_uncompounded_derived", scale = 20, precision = 38)
+    private BigDecimal interestStateUncompounded;
+
     SavingsAccountSummary() {
         //
     }
@@ -252,7 +270,12 @@ public final class SavingsAccountSummary {
     }
 
     public void updateFromInterestPeriodSummaries(final MonetaryCurrency currency, final List<PostingPeriod> allPostingPeriods) {
-        Money totalEarned = Money.zero(currency);
+        updateFromInterestPeriodSummaries(currency, Money.zero(currency), allPostingPeriods);
+    }
+
+    public void updateFromInterestPeriodSummaries(final MonetaryCurrency currency, final Money interestEarnedBefore,
+            final List<PostingPeriod> allPostingPeriods) {
+        Money totalEarned = interestEarnedBefore;
         for (final PostingPeriod period : allPostingPeriods) {
             Money interestEarned = period.interest();
             interestEarned = interestEarned == null ? Money.zero(currency) : interestEarned;
@@ -262,6 +285,44 @@ public final class SavingsAccountSummary {
         this.totalInterestEarned = totalEarned.getAmount();
     }
 
+    public void updateInterestCalculationState(final LocalDate periodStartDate, final Money openingBalance,
+            final Money interestEarnedBefore, final CompoundInterestValues compoundInterestValues) {
+        this.interestStatePeriodStartDate = periodStartDate;
+        this.interestStateOpeningBalance = openingBalance.getAmount();
+        this.interestStateEarned = interestEarnedBefore.getAmount();
+        this.interestStateCompounded = compoundInterestValues.getcompoundedInterest();
+        this.interestStateUncompounded = compoundInterestValues.getuncompoundedInterest();
+    }
+
+    public void resetInterestCalculationState() {
+        this.interestStatePeriodStartDate = null;
+        this.interestStateOpeningBalance = null;
+        this.interestStateEarned = null;
+        this.interestStateCompounded = null;
+        this.interestStateUncompounded = null;
+    }
+
+    public boolean hasInterestCalculationState() {
+        return this.interestStatePeriodStartDate != null && this.interestStateOpeningBalance != null && this.interestStateEarned != null
+                && this.interestStateCompounded != null && this.interestStateUncompounded != null;
+    }
+
+    public LocalDate getInterestStatePeriodStartDate() {
+        return this.interestStatePeriodStartDate;
+    }
+
+    public Money getInterestStateOpeningBalance(final MonetaryCurrency currency) {
+        return Money.of(currency, this.interestStateOpeningBalance);
+    }
+
+    public Money getInterestStateEarned(final MonetaryCurrency currency) {
+        return Money.of(currency, this.interestStateEarned);
+    }
+
+    public CompoundInterestValues getInterestStateCompoundInterestValues() {
+        return new CompoundInterestValues(this.interestStateCompounded, this.interestStateUncompounded);
+    }
+
     public boolean isLessThanOrEqualToAccountBalance(final Money amount) {
         final Money accountBalance = getAccountBalance(amount.getCurrency());
         return accountBalance.isGreaterThanOrEqualTo(amount);
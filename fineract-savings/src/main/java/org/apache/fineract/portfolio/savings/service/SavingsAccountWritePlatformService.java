@@ -81,6 +81,10 @@ public interface SavingsAccountWritePlatformService {
 
     CommandProcessingResult modifyWithHoldTax(Long savingsAccountId, JsonCommand command);
 
+    CommandProcessingResult modifyHotAccount(Long savingsAccountId, JsonCommand command);
+
+    void postPendingCredits(Long savingsId);
+
     void setSubStatusInactive(Long savingsId);
 
     void setSubStatusDormant(Long savingsId);
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests;
+
+import static org.apache.http.HttpStatus.SC_CONFLICT;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.fineract.integrationtests.common.ClientHelper;
+import org.apache.fineract.integrationtests.common.SchedulerJobHelper;
+import org.apache.fineract.integrationtests.common.Utils;
+import org.apache.fineract.integrationtests.common.savings.SavingsAccountHelper;
+import org.apache.fineract.integrationtests.common.savings.SavingsProductHelper;
+import org.apache.fineract.integrationtests.common.savings.SavingsStatusChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deposits concurrently to a single regular and a single hot savings account and checks that the hot account accepts
+ * every deposit at least at the throughput of the regular one, then checks that debits and the Post Pending Savings
+ * Credits job see every pending credit of the hot account.
+ */
+@SuppressWarnings({ "rawtypes" })
+public class HotSavingsAccountIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HotSavingsAccountIntegrationTest.class);
+
+    private static final int DEPOSITS = 200;
+    private static final int THREADS = 20;
+    private static final String DEPOSIT_AMOUNT = "10";
+
+    private RequestSpecification requestSpec;
+    private ResponseSpecification responseSpec;
+    private SavingsAccountHelper savingsAccountHelper;
+    private SavingsAccountHelper concurrentSavingsAccountHelper;
+    private SchedulerJobHelper schedulerJobHelper;
+
+    @BeforeEach
+    public void setup() {
+        Utils.initializeRESTAssured();
+        this.requestSpec = new RequestSpecBuilder().setContentType(ContentType.JSON).build();
+        this.requestSpec.header("Authorization", "Basic " + Utils.loginIntoServerAndGetBase64EncodedAuthenticationKey());
+        this.responseSpec = new ResponseSpecBuilder().expectStatusCode(SC_OK).build();
+        this.savingsAccountHelper = new SavingsAccountHelper(this.requestSpec, this.responseSpec);
+        this.concurrentSavingsAccountHelper = new SavingsAccountHelper(this.requestSpec,
+                new ResponseSpecBuilder().expectStatusCode(anyOf(is(SC_OK), is(SC_CONFLICT))).build());
+        this.schedulerJobHelper = new SchedulerJobHelper(this.requestSpec);
+    }
+
+    @Test
+    public void testDepositThroughputOfSingleHotAccount() throws Exception {
+        final Integer regularSavingsId = createActiveSavingsAccount();
+        final Integer hotSavingsId = createActiveSavingsAccount();
+        this.savingsAccountHelper.updateSavingsAccountHotAccountStatus(hotSavingsId, true);
+
+        final DepositRun regular = depositConcurrently(regularSavingsId, "regular");
+        final DepositRun hot = depositConcurrently(hotSavingsId, "hot");
+        assertEquals(DEPOSITS, hot.accepted());
+        assertTrue(hot.depositsPerSecond() >= regular.depositsPerSecond(), "hot account accepted " + hot.depositsPerSecond()
+                + " deposits/s, fewer than the " + regular.depositsPerSecond() + " deposits/s of the regular account");
+
+        // a debit of every accepted credit passes the balance check only when the pending credits are posted before
+        final int hotTotal = hot.accepted() * Integer.parseInt(DEPOSIT_AMOUNT);
+        this.savingsAccountHelper.withdrawalFromSavingsAccount(hotSavingsId, String.valueOf(hotTotal),
+                SavingsAccountHelper.TRANSACTION_DATE, "resourceId");
+        HashMap summary = this.savingsAccountHelper.getSavingsSummary(hotSavingsId);
+        assertEquals(0.0f, amount(summary, "accountBalance"));
+        assertEquals((float) hotTotal, amount(summary, "totalDeposits"));
+
+        this.savingsAccountHelper.depositToSavingsAccount(hotSavingsId, DEPOSIT_AMOUNT, SavingsAccountHelper.TRANSACTION_DATE, "savingsId");
+        this.schedulerJobHelper.executeAndAwaitJob("Post Pending Savings Credits");
+        summary = this.savingsAccountHelper.getSavingsSummary(hotSavingsId);
+        assertEquals(Float.parseFloat(DEPOSIT_AMOUNT), amount(summary, "accountBalance"));
+
+        summary = this.savingsAccountHelper.getSavingsSummary(regularSavingsId);
+        assertEquals((float) regular.accepted() * Integer.parseInt(DEPOSIT_AMOUNT), amount(summary, "accountBalance"));
+    }
+
+    private DepositRun depositConcurrently(final Integer savingsId, final String label) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<Object>> results = new ArrayList<>(DEPOSITS);
+        final long start = System.nanoTime();
+        for (int i = 0; i < DEPOSITS; i++) {
+            results.add(executor.submit(() -> this.concurrentSavingsAccountHelper.depositToSavingsAccount(savingsId, DEPOSIT_AMOUNT,
+                    SavingsAccountHelper.TRANSACTION_DATE, "savingsId")));
+        }
+        int accepted = 0;
+        for (Future<Object> result : results) {
+            if (result.get() != null) {
+                accepted++;
+            }
+        }
+        final long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        executor.shutdown();
+        final DepositRun run = new DepositRun(accepted, accepted * 1000L / elapsedMillis);
+        log.info("{} account: {} of {} deposits accepted in {} ms, {} deposits/s", label, accepted, DEPOSITS, elapsedMillis,
+                run.depositsPerSecond());
+        return run;
+    }
+
+    private float amount(final HashMap summary, final String key) {
+        return ((Number) summary.get(key)).floatValue();
+    }
+
+    private record DepositRun(int accepted, long depositsPerSecond) {
+    }
+
+    private Integer createActiveSavingsAccount() {
+        final Integer clientId = ClientHelper.createClient(this.requestSpec, this.responseSpec);
+        final String savingsProductJSON = new SavingsProductHelper().withInterestCompoundingPeriodTypeAsDaily()
+                .withInterestPostingPeriodTypeAsDaily().withInterestCalculationPeriodTypeAsDailyBalance().build();
+        final Integer savingsProductId = SavingsProductHelper.createSavingsProduct(savingsProductJSON, this.requestSpec, this.responseSpec);
+        final Integer savingsId = this.savingsAccountHelper.applyForSavingsApplication(clientId, savingsProductId,
+                SavingsAccountHelper.ACCOUNT_TYPE_INDIVIDUAL);
+        assertNotNull(savingsId);
+        this.savingsAccountHelper.approveSavings(savingsId);
+        SavingsStatusChecker.verifySavingsIsActive(this.savingsAccountHelper.activateSavings(savingsId));
+        return savingsId;
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.integrationtests.common.BusinessDateHelper;
+import org.apache.fineract.integrationtests.common.ClientHelper;
+import org.apache.fineract.integrationtests.common.GlobalConfigurationHelper;
+import org.apache.fineract.integrationtests.common.SchedulerJobHelper;
+import org.apache.fineract.integrationtests.common.Utils;
+import org.apache.fineract.integrationtests.common.accounting.Account;
+import org.apache.fineract.integrationtests.common.accounting.AccountHelper;
+import org.apache.fineract.integrationtests.common.charges.ChargesHelper;
+import org.apache.fineract.integrationtests.common.loans.LoanApplicationTestBuilder;
+import org.apache.fineract.integrationtests.common.loans.LoanProductTestBuilder;
+import org.apache.fineract.integrationtests.common.loans.LoanTransactionHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the accruals of the "Add Periodic Accrual Transactions" job, which reads the accrual data with the periodic
+ * accrual SQL, with the accruals of the Loan COB accrual step, which derives the same data from the loaded loan, for
+ * identical loans with interest, fees and penalties spread over past, current and future installments.
+ */
+public class LoanPeriodicAccrualEquivalenceTest {
+
+    private static final LocalDate TILL_DATE = LocalDate.of(2023, 4, 10);
+
+    private ResponseSpecification responseSpec;
+    private RequestSpecification requestSpec;
+    private LoanTransactionHelper loanTransactionHelper;
+    private ClientHelper clientHelper;
+    private AccountHelper accountHelper;
+    private SchedulerJobHelper schedulerJobHelper;
+
+    @BeforeEach
+    public void setup() {
+        Utils.initializeRESTAssured();
+        this.requestSpec = new RequestSpecBuilder().setContentType(ContentType.JSON).build();
+        this.requestSpec.header("Authorization", "Basic " + Utils.loginIntoServerAndGetBase64EncodedAuthenticationKey());
+        this.requestSpec.header("Fineract-Platform-TenantId", "default");
+        this.responseSpec = new ResponseSpecBuilder().expectStatusCode(200).build();
+        this.loanTransactionHelper = new LoanTransactionHelper(this.requestSpec, this.responseSpec);
+        this.clientHelper = new ClientHelper(this.requestSpec, this.responseSpec);
+        this.accountHelper = new AccountHelper(this.requestSpec, this.responseSpec);
+        this.schedulerJobHelper = new SchedulerJobHelper(this.requestSpec);
+    }
+
+    @Test
+    public void testCobAccrualsMatchPeriodicAccrualJobForChargesAccruedOnDueDate() {
+        verifyCobAccrualsMatchPeriodicAccrualJob("due-date");
+    }
+
+    @Test
+    public void testCobAccrualsMatchPeriodicAccrualJobForChargesAccruedOnSubmittedDate() {
+        verifyCobAccrualsMatchPeriodicAccrualJob("submitted-date");
+    }
+
+    private void verifyCobAccrualsMatchPeriodicAccrualJob(final String chargeAccrualDateConfiguration) {
+        try {
+            GlobalConfigurationHelper.updateIsBusinessDateEnabled(requestSpec, responseSpec, Boolean.TRUE);
+            GlobalConfigurationHelper.updateChargeAccrualDateConfiguration(requestSpec, responseSpec, chargeAccrualDateConfiguration);
+            BusinessDateHelper.updateBusinessDate(requestSpec, responseSpec, BusinessDateType.BUSINESS_DATE, TILL_DATE);
+            final Integer loanProductId = createLoanProduct(this.accountHelper.createAssetAccount(),
+                    this.accountHelper.createIncomeAccount(), this.accountHelper.createExpenseAccount(),
+                    this.accountHelper.createLiabilityAccount());
+
+            // accrued by the periodic accrual job with the accrual data of the SQL query
+            final Integer jobLoanId = createLoanWithCharges(loanProductId);
+            this.schedulerJobHelper.executeAndAwaitJob("Add Periodic Accrual Transactions");
+
+            // accrued by the accrual step of the Loan COB with the accrual data derived from the loan
+            final Integer cobLoanId = createLoanWithCharges(loanProductId);
+            BusinessDateHelper.updateBusinessDate(requestSpec, responseSpec, BusinessDateType.BUSINESS_DATE, TILL_DATE.plusDays(1));
+            this.schedulerJobHelper.executeAndAwaitJob("Loan COB");
+
+            final List<String> jobAccruals = getAccruals(jobLoanId);
+            assertFalse(jobAccruals.isEmpty(), "No accruals were posted by the periodic accrual job");
+            assertEquals(jobAccruals, getAccruals(cobLoanId));
+        } finally {
+            GlobalConfigurationHelper.updateIsBusinessDateEnabled(requestSpec, responseSpec, Boolean.FALSE);
+            GlobalConfigurationHelper.updateChargeAccrualDateConfiguration(requestSpec, responseSpec, "due-date");
+        }
+    }
+
+    private Integer createLoanProduct(final Account... accounts) {
+        final String loanProductJSON = new LoanProductTestBuilder().withPrincipal("1200").withRepaymentAfterEvery("1")
+                .withNumberOfRepayments("3").withRepaymentTypeAsMonth().withinterestRatePerPeriod("2")
+                .withInterestRateFrequencyTypeAsMonths().withAmortizationTypeAsEqualPrincipalPayment().withInterestTypeAsFlat()
+                .withAccountingRulePeriodicAccrual(accounts).withDaysInMonth("30").withDaysInYear("365").withMoratorium("0", "0")
+                .build(null);
+        return this.loanTransactionHelper.getLoanProductId(loanProductJSON);
+    }
+
+    private Integer createLoanWithCharges(final Integer loanProductId) {
+        final Integer clientId = this.clientHelper.createClient(ClientHelper.defaultClientCreationRequest()).getClientId().intValue();
+        final String loanApplicationJSON = new LoanApplicationTestBuilder().withPrincipal("1200").withLoanTermFrequency("3")
+                .withLoanTermFrequencyAsMonths().withNumberOfRepayments("3").withRepaymentEveryAfter("1")
+                .withRepaymentFrequencyTypeAsMonths().withInterestRatePerPeriod("2").withInterestTypeAsFlatBalance()
+                .withAmortizationTypeAsEqualPrincipalPayments().withInterestCalculationPeriodTypeSameAsRepaymentPeriod()
+                .withExpectedDisbursementDate("01 March 2023").withSubmittedOnDate("01 March 2023").withLoanType("individual")
+                .withExternalId(UUID.randomUUID().toString()).build(clientId.toString(), loanProductId.toString(), null);
+        final Integer loanId = this.loanTransactionHelper.getLoanId(loanApplicationJSON);
+        this.loanTransactionHelper.approveLoan("01 March 2023", "1200", loanId, null);
+        this.loanTransactionHelper.disburseLoanWithNetDisbursalAmount("01 March 2023", loanId, "1200");
+
+        // a fee of the past installment, a penalty of the current one and a fee of a future one
+        addCharge(loanId, false, "15 March 2023", "10");
+        addCharge(loanId, true, "05 April 2023", "5");
+        addCharge(loanId, false, "20 May 2023", "7");
+        return loanId;
+    }
+
+    private void addCharge(final Integer loanId, final boolean penalty, final String dueDate, final String amount) {
+        final Integer chargeId = ChargesHelper.createCharges(requestSpec, responseSpec,
+                ChargesHelper.getLoanSpecifiedDueDateJSON(ChargesHelper.CHARGE_CALCULATION_TYPE_FLAT, amount, penalty));
+        this.loanTransactionHelper.addChargesForLoan(loanId,
+                LoanTransactionHelper.getSpecifiedDueDateChargesForLoanAsJSON(String.valueOf(chargeId), dueDate, amount));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private List<String> getAccruals(final Integer loanId) {
+        final ArrayList<HashMap> transactions = this.loanTransactionHelper.getLoanTransactions(this.requestSpec, this.responseSpec,
+                loanId);
+        final List<String> accruals = new ArrayList<>();
+        for (HashMap transaction : transactions) {
+            final HashMap type = (HashMap) transaction.get("type");
+            if (Boolean.TRUE.equals(type.get("accrual"))) {
+                accruals.add(transaction.get("date") + " interest=" + transaction.get("interestPortion") + " fee="
+                        + transaction.get("feeChargesPortion") + " penalty=" + transaction.get("penaltyChargesPortion"));
+            }
+        }
+        return accruals;
+    }
+}
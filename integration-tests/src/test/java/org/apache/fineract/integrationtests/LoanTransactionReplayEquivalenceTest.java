@@ -0,0 +1,216 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests;
+
+import static org.apache.fineract.integrationtests.common.loans.LoanApplicationTestBuilder.DUE_PENALTY_INTEREST_PRINCIPAL_FEE_IN_ADVANCE_PENALTY_INTEREST_PRINCIPAL_FEE_STRATEGY;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.apache.fineract.client.models.GetLoansLoanIdResponse;
+import org.apache.fineract.client.models.PostLoanProductsResponse;
+import org.apache.fineract.client.models.PostLoansLoanIdTransactionsTransactionIdRequest;
+import org.apache.fineract.integrationtests.common.ClientHelper;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.AdvancedPaymentScheduleTransactionProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Full replays (backdated repayment, manual reversal, chargeback) must allocate exactly like the same transactions booked
+ * in date order, where every repayment is processed on its own without reprocessing the loan.
+ */
+public class LoanTransactionReplayEquivalenceTest extends BaseLoanIntegrationTest {
+
+    // fixed seeds keep failures reproducible, the seed is part of every assertion message
+    private static final long[] SEEDS = { 7L, 42L, 1337L, 20230101L, 987654321L };
+    private static final LocalDate FIRST_REPAYMENT_DATE = LocalDate.of(2023, 1, 2);
+    private static final int REPAYMENT_DAYS = 82;
+
+    private static Stream<Arguments> processingStrategy() {
+        return Stream.of(
+                Arguments.of(Named.of("originalStrategy",
+                        DUE_PENALTY_INTEREST_PRINCIPAL_FEE_IN_ADVANCE_PENALTY_INTEREST_PRINCIPAL_FEE_STRATEGY)), //
+                Arguments.of(
+                        Named.of("advancedStrategy", AdvancedPaymentScheduleTransactionProcessor.ADVANCED_PAYMENT_ALLOCATION_STRATEGY)) //
+        );
+    }
+
+    private static Stream<Arguments> processingStrategyAndSeed() {
+        return processingStrategy().flatMap(strategy -> LongStream.of(SEEDS).mapToObj(seed -> Arguments.of(strategy.get()[0], seed)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("processingStrategy")
+    public void replayedLoanMatchesLoanBookedInDateOrder(String repaymentProcessor) {
+        runAt("25 March 2023", () -> {
+            Long clientId = clientHelper.createClient(ClientHelper.defaultClientCreationRequest()).getClientId();
+            PostLoanProductsResponse loanProduct = loanProductHelper
+                    .createLoanProduct(create4Period1MonthLongWithoutInterestProduct(repaymentProcessor));
+
+            // in date order: every repayment is the latest transaction, no replay is needed
+            Long chronologicalLoanId = createDisbursedLoanWithFee(clientId, loanProduct.getResourceId(), repaymentProcessor);
+            addRepaymentForLoan(chronologicalLoanId, 200.0, "15 January 2023");
+            addRepaymentForLoan(chronologicalLoanId, 300.0, "10 February 2023");
+            Long chronologicalRepaymentId = addRepaymentForLoan(chronologicalLoanId, 250.0, "20 March 2023");
+            addChargebackForLoan(chronologicalLoanId, chronologicalRepaymentId, 100.0);
+
+            // out of order: the backdated repayment and the reversal both replay every later transaction
+            Long replayedLoanId = createDisbursedLoanWithFee(clientId, loanProduct.getResourceId(), repaymentProcessor);
+            addRepaymentForLoan(replayedLoanId, 300.0, "10 February 2023");
+            addRepaymentForLoan(replayedLoanId, 250.0, "20 March 2023");
+            addRepaymentForLoan(replayedLoanId, 200.0, "15 January 2023");
+            Long reversedRepaymentId = addRepaymentForLoan(replayedLoanId, 150.0, "05 March 2023");
+            loanTransactionHelper.reverseLoanTransaction(replayedLoanId, reversedRepaymentId,
+                    new PostLoansLoanIdTransactionsTransactionIdRequest().dateFormat(DATETIME_PATTERN).transactionDate("05 March 2023")
+                            .transactionAmount(0.0).locale("en"));
+            addChargebackForLoan(replayedLoanId, activeRepaymentId(replayedLoanId, "20 March 2023"), 100.0);
+
+            GetLoansLoanIdResponse chronologicalLoan = loanTransactionHelper.getLoan(requestSpec, responseSpec,
+                    chronologicalLoanId.intValue());
+            GetLoansLoanIdResponse replayedLoan = loanTransactionHelper.getLoan(requestSpec, responseSpec, replayedLoanId.intValue());
+
+            Assertions.assertEquals(describeTransactions(chronologicalLoan), describeTransactions(replayedLoan));
+            Assertions.assertEquals(describeSchedule(chronologicalLoan), describeSchedule(replayedLoan));
+            Assertions.assertEquals(chronologicalLoan.getSummary().getTotalOutstanding(), replayedLoan.getSummary().getTotalOutstanding());
+        });
+    }
+
+    @ParameterizedTest(name = "{0} seed {1}")
+    @MethodSource("processingStrategyAndSeed")
+    public void generatedTransactionsReplayedMatchLoanBookedInDateOrder(String repaymentProcessor, long seed) {
+        Random random = new Random(seed);
+        List<Repayment> repayments = new ArrayList<>();
+        for (LocalDate date : randomDates(random, 4 + random.nextInt(4))) {
+            repayments.add(new Repayment(date, randomAmount(random)));
+        }
+        // one of the generated repayments is only booked on the replayed loan, and reversed there
+        Repayment reversedRepayment = repayments.remove(random.nextInt(repayments.size()));
+        List<Repayment> bookingOrder = new ArrayList<>(repayments);
+        Collections.shuffle(bookingOrder, random);
+        int reversalPosition = random.nextInt(bookingOrder.size() + 1);
+        Repayment chargedBackRepayment = repayments.get(random.nextInt(repayments.size()));
+        double chargebackAmount = Math.min(chargedBackRepayment.amount(), randomAmount(random));
+        String scenario = "seed " + seed + ", booked " + bookingOrder + ", reversed " + reversedRepayment + " at " + reversalPosition
+                + ", charged back " + chargebackAmount + " of " + chargedBackRepayment;
+
+        runAt("25 March 2023", () -> {
+            Long clientId = clientHelper.createClient(ClientHelper.defaultClientCreationRequest()).getClientId();
+            PostLoanProductsResponse loanProduct = loanProductHelper
+                    .createLoanProduct(create4Period1MonthLongWithoutInterestProduct(repaymentProcessor));
+
+            Long chronologicalLoanId = createDisbursedLoanWithFee(clientId, loanProduct.getResourceId(), repaymentProcessor);
+            for (Repayment repayment : repayments) {
+                addRepaymentForLoan(chronologicalLoanId, repayment.amount(), format(repayment.date()));
+            }
+            addChargebackForLoan(chronologicalLoanId, activeRepaymentId(chronologicalLoanId, format(chargedBackRepayment.date())),
+                    chargebackAmount);
+
+            Long replayedLoanId = createDisbursedLoanWithFee(clientId, loanProduct.getResourceId(), repaymentProcessor);
+            for (int i = 0; i <= bookingOrder.size(); i++) {
+                if (i == reversalPosition) {
+                    String reversalDate = format(reversedRepayment.date());
+                    Long reversedRepaymentId = addRepaymentForLoan(replayedLoanId, reversedRepayment.amount(), reversalDate);
+                    loanTransactionHelper.reverseLoanTransaction(replayedLoanId, reversedRepaymentId,
+                            new PostLoansLoanIdTransactionsTransactionIdRequest().dateFormat(DATETIME_PATTERN).transactionDate(reversalDate)
+                                    .transactionAmount(0.0).locale("en"));
+                }
+                if (i < bookingOrder.size()) {
+                    addRepaymentForLoan(replayedLoanId, bookingOrder.get(i).amount(), format(bookingOrder.get(i).date()));
+                }
+            }
+            addChargebackForLoan(replayedLoanId, activeRepaymentId(replayedLoanId, format(chargedBackRepayment.date())),
+                    chargebackAmount);
+
+            GetLoansLoanIdResponse chronologicalLoan = loanTransactionHelper.getLoan(requestSpec, responseSpec,
+                    chronologicalLoanId.intValue());
+            GetLoansLoanIdResponse replayedLoan = loanTransactionHelper.getLoan(requestSpec, responseSpec, replayedLoanId.intValue());
+
+            Assertions.assertEquals(describeTransactions(chronologicalLoan), describeTransactions(replayedLoan), scenario);
+            Assertions.assertEquals(describeSchedule(chronologicalLoan), describeSchedule(replayedLoan), scenario);
+            Assertions.assertEquals(chronologicalLoan.getSummary().getTotalOutstanding(), replayedLoan.getSummary().getTotalOutstanding(),
+                    scenario);
+        });
+    }
+
+    private static TreeSet<LocalDate> randomDates(Random random, int count) {
+        // distinct dates, the order of same day repayments depends on the booking order
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        while (dates.size() < count) {
+            dates.add(FIRST_REPAYMENT_DATE.plusDays(random.nextInt(REPAYMENT_DAYS)));
+        }
+        return dates;
+    }
+
+    private static double randomAmount(Random random) {
+        // at most 7 repayments of 130, the loan is not overpaid
+        return 10.0 * (1 + random.nextInt(13));
+    }
+
+    private String format(LocalDate date) {
+        return dateTimeFormatter.format(date);
+    }
+
+    private Long createDisbursedLoanWithFee(Long clientId, Long loanProductId, String repaymentProcessor) {
+        Long loanId = applyAndApproveLoan(clientId, loanProductId, "01 January 2023", 1000.0, 4,
+                postLoansRequest -> postLoansRequest.transactionProcessingStrategyCode(repaymentProcessor).repaymentEvery(1)
+                        .repaymentFrequencyType(2).loanTermFrequency(4).loanTermFrequencyType(2));
+        disburseLoan(loanId, BigDecimal.valueOf(1000.0), "01 January 2023");
+        addCharge(loanId, false, 50.0, "20 January 2023");
+        return loanId;
+    }
+
+    private Long activeRepaymentId(Long loanId, String date) {
+        GetLoansLoanIdResponse loan = loanTransactionHelper.getLoan(requestSpec, responseSpec, loanId.intValue());
+        return loan.getTransactions().stream()
+                .filter(tr -> !Boolean.TRUE.equals(tr.getManuallyReversed()) && Objects.equals(tr.getType().getValue(), "Repayment")
+                        && Objects.equals(tr.getDate(), LocalDate.parse(date, dateTimeFormatter)))
+                .findFirst().orElseThrow().getId();
+    }
+
+    private static List<String> describeTransactions(GetLoansLoanIdResponse loan) {
+        return loan.getTransactions().stream().filter(tr -> !Boolean.TRUE.equals(tr.getManuallyReversed()))
+                .map(tr -> String.join("|", tr.getType().getValue(), String.valueOf(tr.getDate()), String.valueOf(tr.getAmount()),
+                        String.valueOf(tr.getPrincipalPortion()), String.valueOf(tr.getInterestPortion()),
+                        String.valueOf(tr.getFeeChargesPortion()), String.valueOf(tr.getPenaltyChargesPortion()),
+                        String.valueOf(tr.getOverpaymentPortion()), String.valueOf(tr.getOutstandingLoanBalance())))
+                .toList();
+    }
+
+    private static List<String> describeSchedule(GetLoansLoanIdResponse loan) {
+        return loan.getRepaymentSchedule().getPeriods().stream()
+                .map(period -> String.join("|", String.valueOf(period.getDueDate()), String.valueOf(period.getPrincipalDue()),
+                        String.valueOf(period.getPrincipalPaid()), String.valueOf(period.getFeeChargesDue()),
+                        String.valueOf(period.getFeeChargesPaid()), String.valueOf(period.getPenaltyChargesDue()),
+                        String.valueOf(period.getTotalOutstandingForPeriod()), String.valueOf(period.getComplete())))
+                .toList();
+    }
+
+    private record Repayment(LocalDate date, double amount) {
+    }
+}
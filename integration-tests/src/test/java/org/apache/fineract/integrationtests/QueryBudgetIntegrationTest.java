@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests;
+
+import java.math.BigDecimal;
+import org.apache.fineract.client.models.PostLoanProductsResponse;
+import org.apache.fineract.client.models.PostLoansResponse;
+import org.apache.fineract.integrationtests.common.ClientHelper;
+import org.apache.fineract.integrationtests.common.QueryBudget;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Keeps the number of SQL statements of the key loan flows within their budgets, see {@link QueryBudget}. Each baseline
+ * is the count of its flow as logged by <code>Query budget of ...</code>; update it from that line whenever a change to
+ * the flow is expected to add or remove statements.
+ */
+public class QueryBudgetIntegrationTest extends BaseLoanIntegrationTest {
+
+    // TODO: the baselines below are estimates, not measured counts, so the budgets only log their result for now. Run this
+    // test against a server with fineract.instrumentation.enabled and response-header-enabled, replace the baselines with
+    // the logged counts and open the budgets with QueryBudget.withMargin so that they are enforced.
+    private static final long CREATE_LOAN_STATEMENTS = 180;
+    private static final long REPAYMENT_STATEMENTS = 150;
+    private static final long LOAN_COB_STATEMENTS = 260;
+    private static final long GET_LOAN_WITH_ALL_ASSOCIATIONS_STATEMENTS = 90;
+
+    @Test
+    public void loanLifecycleStaysWithinQueryBudgets() {
+        runAt("1 January 2024", () -> {
+            Long clientId = clientHelper.createClient(ClientHelper.defaultClientCreationRequest()).getClientId();
+            PostLoanProductsResponse loanProduct = loanProductHelper
+                    .createLoanProduct(createOnePeriod30DaysLongNoInterestPeriodicAccrualProduct());
+
+            PostLoansResponse loan;
+            try (QueryBudget budget = budget("create loan", CREATE_LOAN_STATEMENTS)) {
+                loan = loanTransactionHelper
+                        .applyLoan(applyLoanRequest(clientId, loanProduct.getResourceId(), "1 January 2024", 1000.0, 1));
+            }
+            Long loanId = loan.getLoanId();
+            loanTransactionHelper.approveLoan(loanId, approveLoanRequest(1000.0, "1 January 2024"));
+            disburseLoan(loanId, BigDecimal.valueOf(1000.0), "1 January 2024");
+
+            try (QueryBudget budget = budget("repayment", REPAYMENT_STATEMENTS)) {
+                addRepaymentForLoan(loanId, 100.0, "1 January 2024");
+            }
+
+            updateBusinessDate("2 January 2024");
+            try (QueryBudget budget = budget("COB of one loan", LOAN_COB_STATEMENTS)) {
+                executeInlineCOB(loanId);
+            }
+
+            try (QueryBudget budget = budget("GET loan with all associations", GET_LOAN_WITH_ALL_ASSOCIATIONS_STATEMENTS)) {
+                loanTransactionHelper.getLoanDetails(loanId);
+            }
+        });
+    }
+
+    private static QueryBudget budget(String flow, long baselineStatements) {
+        return QueryBudget.reporting(flow, baselineStatements);
+    }
+}
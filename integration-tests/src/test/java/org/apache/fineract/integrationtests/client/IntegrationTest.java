@@ -38,6 +38,7 @@ import java.util.Optional;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
 import org.apache.fineract.client.util.Calls;
 import org.apache.fineract.client.util.FineractClient;
+import org.apache.fineract.integrationtests.common.QueryBudget;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
@@ -72,6 +73,7 @@ public abstract class IntegrationTest {
         // insecure(true) should *ONLY* ever be used for https://localhost:8443, NOT in real clients!!
         FineractClient.Builder builder = FineractClient.builder().insecure(true).baseURL(url).tenant("default")
                 .basicAuth(username, password).logging(Level.NONE);
+        builder.getOkBuilder().addInterceptor(QueryBudget.OK_HTTP_INTERCEPTOR);
         customizeFineractClient(builder);
         return builder.build();
     }
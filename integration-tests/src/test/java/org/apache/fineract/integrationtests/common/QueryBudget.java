@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.integrationtests.common;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.restassured.filter.Filter;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+
+/**
+ * Declares how many SQL statements an API flow may need, e.g.
+ *
+ * <pre>
+ * try (QueryBudget budget = QueryBudget.open("repayment", 250)) {
+ *     addRepaymentForLoan(loanId, 100.0, "1 March 2024");
+ * }
+ * </pre>
+ *
+ * The statements are counted by the server for every request the current thread sends while the budget is open, and
+ * returned in the <code>Fineract-Sql-Statements</code> response header when the server runs with
+ * <code>fineract.instrumentation.enabled</code> and <code>fineract.instrumentation.response-header-enabled</code>.
+ * Exceeding the budget fails the test, or is only logged with <code>-Dfineract.it.query-budget.mode=report</code>. A
+ * budget the server reported no statements for can not be checked, which fails the test as well unless it runs in
+ * report mode.
+ *
+ * Budgets opened with {@link #withMargin(String, long)} are the statement count of the flow as logged by a previous run
+ * plus {@value #MARGIN_PERCENT}%, so small changes do not fail the build but a new query per row does. Budgets opened
+ * with {@link #reporting(String, long)} are always in report mode, for flows whose count has not been measured yet.
+ */
+@Slf4j
+public final class QueryBudget implements AutoCloseable {
+
+    public static final String SQL_STATEMENTS_HEADER = "Fineract-Sql-Statements";
+    public static final Filter REST_ASSURED_FILTER = (requestSpec, responseSpec, context) -> {
+        Response response = context.next(requestSpec, responseSpec);
+        record(response.getHeader(SQL_STATEMENTS_HEADER));
+        return response;
+    };
+    public static final Interceptor OK_HTTP_INTERCEPTOR = chain -> {
+        okhttp3.Response response = chain.proceed(chain.request());
+        record(response.header(SQL_STATEMENTS_HEADER));
+        return response;
+    };
+
+    public static final int MARGIN_PERCENT = 10;
+
+    private static final ThreadLocal<QueryBudget> CURRENT = new ThreadLocal<>();
+
+    private final String flow;
+    private final long maxStatements;
+    private final boolean reportOnly;
+    private long statements;
+    private int requests;
+    private int measuredRequests;
+
+    private QueryBudget(String flow, long maxStatements, boolean reportOnly) {
+        this.flow = flow;
+        this.maxStatements = maxStatements;
+        this.reportOnly = reportOnly;
+    }
+
+    public static QueryBudget open(String flow, long maxStatements) {
+        return open(flow, maxStatements, "report".equalsIgnoreCase(System.getProperty("fineract.it.query-budget.mode")));
+    }
+
+    public static QueryBudget withMargin(String flow, long baselineStatements) {
+        return open(flow, addMargin(baselineStatements));
+    }
+
+    public static QueryBudget reporting(String flow, long expectedStatements) {
+        return open(flow, addMargin(expectedStatements), true);
+    }
+
+    private static QueryBudget open(String flow, long maxStatements, boolean reportOnly) {
+        QueryBudget budget = new QueryBudget(flow, maxStatements, reportOnly);
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    private static long addMargin(long baselineStatements) {
+        return baselineStatements + (baselineStatements * MARGIN_PERCENT + 99) / 100;
+    }
+
+    private static void record(String statementsHeader) {
+        QueryBudget budget = CURRENT.get();
+        if (budget == null) {
+            return;
+        }
+        budget.requests++;
+        if (statementsHeader != null) {
+            budget.measuredRequests++;
+            budget.statements += Long.parseLong(statementsHeader);
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+        if (measuredRequests == 0) {
+            violated(String.format("Query budget of %s not checked, the server did not report SQL statements for its %d requests", flow,
+                    requests));
+            return;
+        }
+        log.info("Query budget of {}: {} SQL statements in {} requests, budget {}", flow, statements, requests, maxStatements);
+        if (statements > maxStatements) {
+            violated(String.format("%s executed %d SQL statements, more than its budget of %d", flow, statements, maxStatements));
+        }
+    }
+
+    private void violated(String message) {
+        if (reportOnly) {
+            log.warn(message);
+        } else {
+            fail(message);
+        }
+    }
+}
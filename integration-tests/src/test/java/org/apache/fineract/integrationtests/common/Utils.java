@@ -105,6 +105,9 @@ public final class Utils {
         RestAssured.port = 8443;
         RestAssured.keyStore("src/main/resources/keystore.jks", "openmf");
         RestAssured.useRelaxedHTTPSValidation();
+        if (!RestAssured.filters().contains(QueryBudget.REST_ASSURED_FILTER)) {
+            RestAssured.filters(QueryBudget.REST_ASSURED_FILTER);
+        }
     }
 
     public static RequestSpecification initializeDefaultRequestSpecification() {
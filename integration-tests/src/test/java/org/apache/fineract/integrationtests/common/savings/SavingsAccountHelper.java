@@ -72,6 +72,7 @@ public class SavingsAccountHelper extends IntegrationTest {
     private static final String POST_INTEREST_AS_ON_SAVINGS_COMMAND = "postInterestAsOn";
     private static final String CLOSE_SAVINGS_COMMAND = "close";
     private static final String UPDATE_WITHHOLD_TAX_STATUS = "updateWithHoldTax";
+    private static final String UPDATE_HOT_ACCOUNT_STATUS = "updateHotAccount";
 
     private static final String DEPOSIT_SAVINGS_COMMAND = "deposit";
     private static final String WITHDRAW_SAVINGS_COMMAND = "withdrawal";
@@ -221,6 +222,16 @@ public class SavingsAccountHelper extends IntegrationTest {
                 CommonConstants.RESPONSE_CHANGES);
     }
 
+    public HashMap updateSavingsAccountHotAccountStatus(final Integer savingsId, final boolean value) {
+        final HashMap<String, Object> map = new HashMap<>();
+        map.put("hotAccount", value);
+        String json = new Gson().toJson(map);
+
+        return Utils.performServerPut(this.requestSpec, this.responseSpec,
+                SAVINGS_ACCOUNT_URL + "/" + savingsId + "?command=" + UPDATE_HOT_ACCOUNT_STATUS + "&" + Utils.TENANT_IDENTIFIER, json,
+                CommonConstants.RESPONSE_CHANGES);
+    }
+
     public HashMap approveSavings(final Integer savingsID) {
         return approveSavingsOnDate(savingsID, null);
     }